@@ -3,6 +3,7 @@ plugins {
     id("org.springframework.boot") version "3.5.6"
     id("io.spring.dependency-management") version "1.1.7"
     id("org.asciidoctor.jvm.convert") version "3.3.2"
+    id("me.champeau.jmh") version "0.7.2" // 벤치마크: src/jmh/java, ./gradlew jmh
 }
 
 group = "com"
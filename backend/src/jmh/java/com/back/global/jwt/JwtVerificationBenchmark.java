@@ -0,0 +1,68 @@
+package com.back.global.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter 의 AccessToken 검증 단계 (jwtProvider.getClaims(token, true)) 비교.
+ *
+ * - before : 변경 전 – 요청마다 Keys.hmacShaKeyFor + 파서 생성 + 서명 검증/파싱
+ * - prebuiltParser : 미리 만든 키/파서, 검증 캐시 없음 (maxSize 0)
+ * - cached : 같은 Bearer 토큰 반복 요청 – 검증 캐시 적중
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class JwtVerificationBenchmark {
+
+    private static final String ACCESS_SECRET = "benchmark-access-secret-key-benchmark-access-secret-key";
+    private static final String REFRESH_SECRET = "benchmark-refresh-secret-key-benchmark-refresh-secret-key";
+
+    private JwtProvider cachedProvider;
+    private JwtProvider uncachedProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        cachedProvider = new JwtProvider(ACCESS_SECRET, 3600, REFRESH_SECRET, 86400, 10000, 60);
+        uncachedProvider = new JwtProvider(ACCESS_SECRET, 3600, REFRESH_SECRET, 86400, 0, 60);
+        token = cachedProvider.genAccessToken(Map.of(
+                "id", 1L,
+                "name", "benchmark",
+                "role", "FREELANCER",
+                "status", "ACTIVE",
+                "profileImgUrl", "https://example.com/profile.png"
+        ));
+    }
+
+    @Benchmark
+    public Claims before() {
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(ACCESS_SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    @Benchmark
+    public Claims prebuiltParser() {
+        return uncachedProvider.getClaims(token, true);
+    }
+
+    @Benchmark
+    public Claims cached() {
+        return cachedProvider.getClaims(token, true);
+    }
+}
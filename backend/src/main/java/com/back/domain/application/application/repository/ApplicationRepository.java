@@ -37,4 +37,7 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
     Optional<Application> findByIdWithDetail(long id);
 
     Optional<Application> findByFreelancerAndProject(Freelancer freelancer, Project project);
+
+    // 프리랜서가 해당 클라이언트의 프로젝트에 지원한 적이 있는지 (client.id == member.id)
+    boolean existsByFreelancer_IdAndProject_Client_Id(Long freelancerId, Long clientId);
 }
@@ -6,8 +6,11 @@ import com.back.domain.application.application.entity.Application;
 import com.back.domain.application.application.repository.ApplicationRepository;
 import com.back.domain.freelancer.freelancer.entity.Freelancer;
 import com.back.domain.project.project.entity.Project;
+import com.back.domain.recommendations.recommendations.event.MatchingInteractionAddedEvent;
+import com.back.domain.recommendations.recommendations.event.MatchingInteractionChangedEvent;
 import com.back.global.exception.ServiceException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -19,6 +22,7 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class ApplicationService {
     private final ApplicationRepository applicationRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public long count() {
         return applicationRepository.count();
@@ -30,6 +34,9 @@ public class ApplicationService {
             throw new ServiceException("409-2", "이미 해당 프로젝트에 지원한 상태입니다.");
         }
         Application application = new Application(reqBody, freelancer, project);
+        publishInteractionChanged(application);
+        // 함께 지원 행렬 증분 갱신 (커밋 후 처리)
+        eventPublisher.publishEvent(new MatchingInteractionAddedEvent(freelancer.getId(), project.getId()));
 
         return applicationRepository.save(application);
     }
@@ -46,10 +53,18 @@ public class ApplicationService {
 
     public void update(Application application, ApplicationStatus status) {
         application.modifyStatus(status);
+        publishInteractionChanged(application);
     }
 
     public void delete(Application application) {
         applicationRepository.delete(application);
+        publishInteractionChanged(application);
+    }
+
+    // 추천 제외 집합 무효화 (커밋 후 처리)
+    private void publishInteractionChanged(Application application) {
+        eventPublisher.publishEvent(new MatchingInteractionChangedEvent(
+                application.getFreelancer().getId(), application.getProject().getId()));
     }
 
     public List<Application> findAllByProject(Project project) {
@@ -60,6 +75,10 @@ public class ApplicationService {
         return applicationRepository.findAllByProject(project, pageable);
     }
 
+    public boolean existsByFreelancerAndClient(Long freelancerId, Long clientId) {
+        return applicationRepository.existsByFreelancer_IdAndProject_Client_Id(freelancerId, clientId);
+    }
+
     public List<Application> findAllByFreeLancer(Freelancer freelancer) {
         return applicationRepository.findAllByFreelancer(freelancer);
     }
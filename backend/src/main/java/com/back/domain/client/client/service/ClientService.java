@@ -2,8 +2,10 @@ package com.back.domain.client.client.service;
 
 import com.back.domain.client.client.entity.Client;
 import com.back.domain.client.client.repository.ClientRepository;
+import com.back.domain.member.member.event.ProfileChangedEvent;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -12,6 +14,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class ClientService {
 
     private final ClientRepository clientRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Client findById(Long id) {
         return clientRepository.findById(id).orElseThrow(() -> new EntityNotFoundException("존재하지 않는 클라이언트입니다."));
@@ -22,6 +25,7 @@ public class ClientService {
                                String businessNo, String companyPhone, String companyEmail) {
         Client client = findById(id);
         client.update(companySize, companyDescription, representative, businessNo, companyPhone, companyEmail);
+        eventPublisher.publishEvent(new ProfileChangedEvent(client.getId()));
 
         return clientRepository.save(client);
     }
@@ -0,0 +1,6 @@
+package com.back.domain.common.catalog.constant;
+
+public enum CatalogType {
+    SKILL, // skill
+    INTEREST, // interest
+}
@@ -0,0 +1,108 @@
+package com.back.domain.common.catalog.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * 기준 데이터 한 종류의 불변 스냅샷.
+ * 이름은 id 를 인덱스로 하는 배열(id 는 IDENTITY 로 작고 촘촘함), 이름 → id 는 해시 맵으로 찾는다.
+ * 이름 → id 는 대소문자를 구분하지 않는다 (DB 의 findByName 이 ci 정렬 규칙으로 찾던 것과 같게, 키는 소문자).
+ * etag 는 (id, name) 내용에서 계산하므로 같은 데이터면 노드가 달라도 같은 값이 나온다.
+ */
+public class CatalogSnapshot<T> {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final List<T> items;
+    private final String[] names;
+    private final Map<String, Long> idsByName;
+    private final String etag;
+
+    private CatalogSnapshot(List<T> items, String[] names, Map<String, Long> idsByName, String etag) {
+        this.items = items;
+        this.names = names;
+        this.idsByName = idsByName;
+        this.etag = etag;
+    }
+
+    /** items 는 id 오름차순이어야 한다 */
+    public static <T> CatalogSnapshot<T> of(List<T> items, ToLongFunction<T> idOf, Function<T, String> nameOf) {
+        long maxId = 0;
+        for (T item : items) {
+            maxId = Math.max(maxId, idOf.applyAsLong(item));
+        }
+
+        String[] names = new String[Math.toIntExact(maxId + 1)];
+        Map<String, Long> idsByName = new HashMap<>(items.size() * 2);
+        long hash = FNV_OFFSET; // FNV-1a 64
+        for (T item : items) {
+            long id = idOf.applyAsLong(item);
+            String name = nameOf.apply(item);
+            names[(int) id] = name;
+            if (name != null) idsByName.putIfAbsent(nameKey(name), id);
+
+            hash = fnv(hash, Long.toString(id));
+            hash = fnv(hash, name == null ? "" : name);
+        }
+
+        return new CatalogSnapshot<>(List.copyOf(items), names, Map.copyOf(idsByName),
+                "\"" + Long.toHexString(hash) + "\"");
+    }
+
+    private static long fnv(long hash, String value) {
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash = (hash ^ (b & 0xff)) * FNV_PRIME;
+        }
+        return (hash ^ 0x1f) * FNV_PRIME; // 필드 구분자
+    }
+
+    public List<T> items() {
+        return items;
+    }
+
+    public String etag() {
+        return etag;
+    }
+
+    public boolean contains(long id) {
+        return id > 0 && id < names.length && names[(int) id] != null;
+    }
+
+    /** 이름에 해당하는 id (대소문자 무시), 없으면 null */
+    public Long idOf(String name) {
+        return name == null ? null : idsByName.get(nameKey(name));
+    }
+
+    private static String nameKey(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 모든 id 가 존재하고 중복이 없는지.
+     * 기존 findAllById 결과 크기 비교와 같은 판정이다 (중복 id 도 불일치로 본다).
+     */
+    public boolean containsAll(Collection<Long> ids) {
+        Set<Long> seen = new HashSet<>(ids.size() * 2);
+        for (Long id : ids) {
+            if (id == null || !contains(id) || !seen.add(id)) return false;
+        }
+        return true;
+    }
+
+    /** 존재하는 id 만 (findAllById 처럼 없는 id 는 빠지고 중복은 한 번만) */
+    public List<Long> existing(Collection<Long> ids) {
+        return ids.stream()
+                .filter(id -> id != null && contains(id))
+                .distinct()
+                .toList();
+    }
+}
@@ -0,0 +1,10 @@
+package com.back.domain.common.catalog.event;
+
+import com.back.domain.common.catalog.constant.CatalogType;
+
+/**
+ * 기준 데이터(skill / interest) 변경 알림.
+ * 커밋 후 로컬 카탈로그를 비우고 다른 노드에도 Redis 채널로 알린다.
+ */
+public record CatalogChangedEvent(CatalogType type) {
+}
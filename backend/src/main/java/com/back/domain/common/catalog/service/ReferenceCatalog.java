@@ -0,0 +1,150 @@
+package com.back.domain.common.catalog.service;
+
+import com.back.domain.common.catalog.constant.CatalogType;
+import com.back.domain.common.catalog.dto.CatalogSnapshot;
+import com.back.domain.common.catalog.event.CatalogChangedEvent;
+import com.back.domain.common.interest.dto.InterestDto;
+import com.back.domain.common.interest.entity.Interest;
+import com.back.domain.common.interest.repository.InterestRepository;
+import com.back.domain.common.skill.dto.SkillDto;
+import com.back.domain.common.skill.entity.Skill;
+import com.back.domain.common.skill.repository.SkillRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 스킬/관심분야 기준 데이터 카탈로그 (read-through).
+ *
+ * - 처음 읽을 때 테이블 전체를 스냅샷으로 올리고, 이후 검증/이름 조회/목록 API 는 DB 를 보지 않는다.
+ * - 쓰기(create) 커밋 후 로컬 스냅샷을 비우고 Redis 채널로 다른 노드에 알린다. 다음 읽기에서 다시 적재.
+ * - 엔티티가 필요한 곳에는 검증한 id 의 참조 프록시를 준다 (연관관계 저장에 id 만 쓰이므로 조회 없음).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReferenceCatalog {
+
+    public static final String CHANNEL = "catalog:changed";
+
+    private final SkillRepository skillRepository;
+    private final InterestRepository interestRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    // 노드 간 무효화 알림 (Redis pub/sub) – 단일 노드/테스트에서는 끌 수 있음
+    @Value("${custom.catalog.broadcast.enabled:true}")
+    private boolean broadcast;
+
+    private final Slot<SkillDto> skills = new Slot<>();
+    private final Slot<InterestDto> interests = new Slot<>();
+
+    @PostConstruct
+    public void subscribe() {
+        if (!broadcast) return;
+
+        try {
+            redisMessageListenerContainer.addMessageListener(
+                    (message, pattern) -> onBroadcast(new String(message.getBody(), StandardCharsets.UTF_8)),
+                    new ChannelTopic(CHANNEL));
+        } catch (RuntimeException e) {
+            // 구독 실패 시에도 로컬 쓰기 무효화는 동작한다
+            log.warn("카탈로그 변경 채널 구독 실패 – 다른 노드의 변경은 반영되지 않습니다.", e);
+        }
+    }
+
+    public CatalogSnapshot<SkillDto> skills() {
+        return skills.get(() -> CatalogSnapshot.of(
+                skillRepository.findAll(Sort.by("id")).stream().map(SkillDto::new).toList(),
+                SkillDto::id, SkillDto::name));
+    }
+
+    public CatalogSnapshot<InterestDto> interests() {
+        return interests.get(() -> CatalogSnapshot.of(
+                interestRepository.findAll(Sort.by("id")).stream().map(InterestDto::new).toList(),
+                InterestDto::id, InterestDto::name));
+    }
+
+    /** 카탈로그로 검증한 스킬 id 의 참조 (DB 조회 없음) */
+    public List<Skill> skillReferences(Collection<Long> ids) {
+        return ids.stream().map(skillRepository::getReferenceById).toList();
+    }
+
+    /** 카탈로그로 검증한 관심분야 id 의 참조 (DB 조회 없음) */
+    public List<Interest> interestReferences(Collection<Long> ids) {
+        return ids.stream().map(interestRepository::getReferenceById).toList();
+    }
+
+    public void invalidate(CatalogType type) {
+        switch (type) {
+            case SKILL -> skills.invalidate();
+            case INTEREST -> interests.invalidate();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChanged(CatalogChangedEvent event) {
+        invalidate(event.type());
+        if (!broadcast) return;
+
+        try {
+            redisTemplate.convertAndSend(CHANNEL, event.type().name());
+        } catch (DataAccessException e) {
+            log.warn("카탈로그 변경 알림 발행 실패: {}", event.type(), e);
+        }
+    }
+
+    private void onBroadcast(String message) {
+        try {
+            invalidate(CatalogType.valueOf(message));
+        } catch (IllegalArgumentException e) {
+            log.warn("알 수 없는 카탈로그 변경 알림: {}", message);
+        }
+    }
+
+    /**
+     * 스냅샷 한 칸. 읽기는 volatile 필드 하나만 보고, 비어 있을 때만 잠금 안에서 적재한다.
+     * 적재 중에 무효화가 들어오면(세대 변경) 읽은 결과는 돌려주되 저장하지 않아 다음 읽기에서 다시 적재한다.
+     */
+    private static class Slot<T> {
+
+        private final AtomicLong generation = new AtomicLong();
+        private volatile CatalogSnapshot<T> snapshot;
+
+        CatalogSnapshot<T> get(Supplier<CatalogSnapshot<T>> loader) {
+            CatalogSnapshot<T> current = snapshot;
+            if (current != null) return current;
+
+            synchronized (this) {
+                current = snapshot;
+                if (current != null) return current;
+
+                long loadingGeneration = generation.get();
+                CatalogSnapshot<T> loaded = loader.get();
+                if (generation.get() == loadingGeneration) {
+                    snapshot = loaded;
+                }
+                return loaded;
+            }
+        }
+
+        void invalidate() {
+            generation.incrementAndGet();
+            snapshot = null;
+        }
+    }
+}
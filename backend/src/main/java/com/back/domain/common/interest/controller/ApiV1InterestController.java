@@ -1,15 +1,19 @@
 package com.back.domain.common.interest.controller;
 
+import com.back.domain.common.catalog.dto.CatalogSnapshot;
 import com.back.domain.common.interest.dto.InterestDto;
 import com.back.domain.common.interest.service.InterestService;
 import com.back.global.response.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -21,16 +25,21 @@ import java.util.List;
 public class ApiV1InterestController {
     private final InterestService interestService;
 
+    // 카탈로그 스냅샷에서 바로 응답 – If-None-Match 가 etag 와 같으면 본문 없이 304
     @GetMapping
-    @Transactional(readOnly=true)
-    public ApiResponse<List<InterestDto>> findAll() {
-        List<InterestDto> interestDtoList = interestService.findAll().stream()
-                .map(InterestDto::new)
-                .toList();
-        return new ApiResponse<>(
-                "200-1",
-                "관심 분야 전체 조회 완료",
-                interestDtoList
-        );
+    public ResponseEntity<ApiResponse<List<InterestDto>>> findAll(WebRequest request) {
+        CatalogSnapshot<InterestDto> catalog = interestService.catalog();
+        if (request.checkNotModified(catalog.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(catalog.etag()).build();
+        }
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(catalog.etag())
+                .body(new ApiResponse<>(
+                        "200-1",
+                        "관심 분야 전체 조회 완료",
+                        catalog.items()
+                ));
     }
 }
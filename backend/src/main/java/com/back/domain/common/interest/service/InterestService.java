@@ -1,10 +1,15 @@
 package com.back.domain.common.interest.service;
 
+import com.back.domain.common.catalog.constant.CatalogType;
+import com.back.domain.common.catalog.dto.CatalogSnapshot;
+import com.back.domain.common.catalog.event.CatalogChangedEvent;
+import com.back.domain.common.catalog.service.ReferenceCatalog;
 import com.back.domain.common.interest.dto.InterestDto;
 import com.back.domain.common.interest.entity.Interest;
 import com.back.domain.common.interest.repository.InterestRepository;
 import com.back.domain.project.project.repository.ProjectInterestRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -14,6 +19,8 @@ import java.util.List;
 public class InterestService {
     private final InterestRepository interestRepository;
     private final ProjectInterestRepository projectInterestRepository;
+    private final ReferenceCatalog referenceCatalog;
+    private final ApplicationEventPublisher eventPublisher;
 
     public long count() {
         return interestRepository.count();
@@ -29,10 +36,17 @@ public class InterestService {
     public void create(String name) {
         Interest interest = new Interest(name);
         interestRepository.save(interest);
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogType.INTEREST));
     }
 
+    // 카탈로그에 있는 id 만 참조로 (findAllById 처럼 없는 id 는 빠짐, DB 조회 없음)
     public List<Interest> findAllById(List<Long> interestsId) {
-        return interestRepository.findAllById(interestsId);
+        return referenceCatalog.interestReferences(referenceCatalog.interests().existing(interestsId));
+    }
+
+    // 전체 목록 (카탈로그 스냅샷, etag 포함)
+    public CatalogSnapshot<InterestDto> catalog() {
+        return referenceCatalog.interests();
     }
 
     public List<Interest> findAll() {
@@ -1,10 +1,15 @@
 package com.back.domain.common.skill.service;
 
+import com.back.domain.common.catalog.constant.CatalogType;
+import com.back.domain.common.catalog.dto.CatalogSnapshot;
+import com.back.domain.common.catalog.event.CatalogChangedEvent;
+import com.back.domain.common.catalog.service.ReferenceCatalog;
 import com.back.domain.common.skill.dto.SkillDto;
 import com.back.domain.common.skill.entity.Skill;
 import com.back.domain.common.skill.repository.SkillRepository;
 import com.back.domain.project.project.repository.ProjectSkillRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -14,6 +19,8 @@ import java.util.List;
 public class SkillService {
     private final SkillRepository skillRepository;
     private final ProjectSkillRepository projectSkillRepository;
+    private final ReferenceCatalog referenceCatalog;
+    private final ApplicationEventPublisher eventPublisher;
 
     public long count() {
         return skillRepository.count();
@@ -22,6 +29,7 @@ public class SkillService {
     public void create(String name) {
         Skill skill = new Skill(name);
         skillRepository.save(skill);
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogType.SKILL));
     }
 
     public List<SkillDto> findByProjectId(Long projectId) {
@@ -31,8 +39,14 @@ public class SkillService {
                 .toList();
     }
 
+    // 카탈로그에 있는 id 만 참조로 (findAllById 처럼 없는 id 는 빠짐, DB 조회 없음)
     public List<Skill> findAllById(List<Long> skillsId) {
-        return skillRepository.findAllById(skillsId);
+        return referenceCatalog.skillReferences(referenceCatalog.skills().existing(skillsId));
+    }
+
+    // 전체 목록 (카탈로그 스냅샷, etag 포함)
+    public CatalogSnapshot<SkillDto> catalog() {
+        return referenceCatalog.skills();
     }
 
     public List<Skill> findAll() {
@@ -14,11 +14,14 @@ import com.back.domain.freelancer.freelancer.entity.Freelancer;
 import com.back.domain.freelancer.freelancer.repository.FreelancerRepository;
 import com.back.domain.member.member.constant.Role;
 import com.back.domain.member.member.entity.Member;
+import com.back.domain.member.member.event.ProfileChangedEvent;
 import com.back.domain.member.member.repository.MemberRepository;
 import com.back.domain.project.project.entity.Project;
 import com.back.domain.project.project.repository.ProjectRepository;
+import com.back.domain.recommendations.recommendations.service.SearchIndexService;
 import com.back.global.exception.ServiceException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -37,6 +40,8 @@ public class EvaluationService {
     private final ProjectRepository projectRepository;
     private final ClientEvaluationRepository clientEvaluationRepository;
     private final FreelancerEvaluationRepository freelancerEvaluationRepository;
+    private final SearchIndexService searchIndexService;
+    private final ApplicationEventPublisher eventPublisher;
 
     private Freelancer findByFreelancerId(Long id) {
         return freelancerRepository.findById(id)
@@ -160,6 +165,8 @@ public class EvaluationService {
                 .orElseThrow(() -> new ServiceException("404", "평점 업데이트 중 프리랜서를 찾을 수 없습니다."));
 
         freelancer.updateRatingAvg(average);
+        searchIndexService.enqueueFreelancer(freelancerId);
+        eventPublisher.publishEvent(new ProfileChangedEvent(freelancerId));
     }
 
     //클라이언트 총 평점 계산
@@ -175,6 +182,7 @@ public class EvaluationService {
                 .orElseThrow(() -> new ServiceException("404", "평점 업데이트 중 클라이언트를 찾을 수 없습니다."));
 
         client.updateRatingAvg(average);
+        eventPublisher.publishEvent(new ProfileChangedEvent(clientId));
     }
 
     //자신이 받은 평가 리스트를 반환
@@ -6,8 +6,11 @@ import com.back.domain.freelancer.freelancer.dto.FreelancerUpdateForm;
 import com.back.domain.freelancer.freelancer.dto.FreelancerUpdateResponse;
 import com.back.domain.freelancer.freelancer.entity.Freelancer;
 import com.back.domain.freelancer.freelancer.service.FreelancerService;
+import com.back.domain.recommendations.recommendations.service.RecommendationService;
+import com.back.domain.recommendations.recommendations.view.FreelancerScoreView;
 import com.back.global.response.ApiResponse;
 import com.back.global.security.CustomUserDetails;
+import com.back.standard.facet.FacetedPage;
 import com.back.standard.converter.FreelancerSearchConditionConverter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -27,6 +30,8 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @Slf4j
 @RestController
 @RequiredArgsConstructor
@@ -36,6 +41,7 @@ public class ApiV1FreelancerController {
 
     private final FreelancerService freelancerService;
     private final FreelancerSearchConditionConverter converter;
+    private final RecommendationService recommendationService;
 
     @PutMapping("/{id}")
     @Operation(summary = "프리랜서 개인정보 수정")
@@ -80,6 +86,7 @@ public class ApiV1FreelancerController {
             @RequestParam(required = false) Float ratingAvg,
             @RequestParam(required = false) String skillIds,
             @RequestParam(required = false) String interestIds,
+            @RequestParam(defaultValue = "false") boolean facets,
             @PageableDefault(size = 20, sort = "ratingAvg", direction = Sort.Direction.DESC)
             Pageable pageable
     ) {
@@ -92,6 +99,9 @@ public class ApiV1FreelancerController {
         );
 
         Page<FreelancerSummary> result = freelancerService.findAll(condition, pageable);
+        if (facets) {
+            result = new FacetedPage<>(result, freelancerService.findFacets(condition));
+        }
 
         return new ApiResponse<>(
                 "200",
@@ -99,4 +109,17 @@ public class ApiV1FreelancerController {
                 result
         );
     }
+
+    @GetMapping("/{id}/similar")
+    @Operation(summary = "비슷한 프리랜서 조회")
+    public ApiResponse<List<FreelancerScoreView>> getSimilarFreelancers(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "5") int size
+    ) {
+        return new ApiResponse<>(
+                "200-1",
+                "비슷한 프리랜서 목록",
+                recommendationService.similarFreelancers(id, size)
+        );
+    }
 }
@@ -0,0 +1,10 @@
+package com.back.domain.freelancer.freelancer.dto;
+
+// 목록 검색에 쓰이는 프리랜서 스칼라 필드 (패싯 색인 적재 / 페이지 채우기)
+public record FreelancerFacetRow(
+        Long id,
+        String name,
+        Integer careerTotalYears,
+        double ratingAvg
+) {
+}
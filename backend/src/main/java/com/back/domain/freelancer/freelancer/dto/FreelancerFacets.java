@@ -0,0 +1,14 @@
+package com.back.domain.freelancer.freelancer.dto;
+
+import com.back.domain.freelancer.freelancer.constant.CareerLevel;
+import com.back.standard.facet.FacetCount;
+import java.util.List;
+import java.util.Map;
+
+// 프리랜서 목록 검색 패싯 (현재 검색 조건에 맞는 프리랜서 기준 건수)
+public record FreelancerFacets(
+        List<FacetCount> skills,
+        List<FacetCount> interests,
+        Map<CareerLevel, Integer> careerLevels
+) {
+}
@@ -0,0 +1,9 @@
+package com.back.domain.freelancer.freelancer.dto;
+
+// 프리랜서-스킬 / 프리랜서-관심분야 한 쌍 (id 와 이름)
+public record FreelancerTagRow(
+        Long freelancerId,
+        Long id,
+        String name
+) {
+}
@@ -1,6 +1,7 @@
 package com.back.domain.freelancer.freelancer.repository;
 
 import com.back.domain.freelancer.freelancer.entity.Freelancer;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -20,4 +21,22 @@ public interface FreelancerRepository extends JpaRepository<Freelancer, Long>, F
             WHERE f.id = :id
             """)
     Optional<Freelancer> findByIdWithSkills(Long id);
+
+    /**
+     * 프로필용 스킬/관심분야 이름을 한 번에 – [kind(0: 스킬, 1: 관심분야), id, name], 종류별 id 순.
+     * (연관 컬렉션 두 개를 fetch join 하면 MultipleBagFetchException 이라 UNION ALL 로 묶는다)
+     */
+    @Query(value = """
+            SELECT 0 AS kind, s.id, s.name
+            FROM freelancer_skill fs
+            JOIN skill s ON s.id = fs.skill_id
+            WHERE fs.freelancer_id = :id
+            UNION ALL
+            SELECT 1 AS kind, i.id, i.name
+            FROM freelancer_interest fi
+            JOIN interest i ON i.id = fi.interest_id
+            WHERE fi.freelancer_id = :id
+            ORDER BY kind, id
+            """, nativeQuery = true)
+    List<Object[]> findProfileTags(Long id);
 }
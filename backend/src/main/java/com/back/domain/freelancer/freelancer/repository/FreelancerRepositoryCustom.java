@@ -1,11 +1,30 @@
 package com.back.domain.freelancer.freelancer.repository;
 
+import com.back.domain.freelancer.freelancer.dto.FreelancerFacetRow;
 import com.back.domain.freelancer.freelancer.dto.FreelancerSearchCondition;
 import com.back.domain.freelancer.freelancer.dto.FreelancerSummary;
+import com.back.domain.freelancer.freelancer.dto.FreelancerTagRow;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 public interface FreelancerRepositoryCustom {
 
     public Page<FreelancerSummary> findAll(FreelancerSearchCondition condition, Pageable pageable);
+
+    // 검색 조건에 맞는 전체 id (패싯 건수용)
+    List<Long> findIds(FreelancerSearchCondition condition);
+
+    // 패싯 색인 적재/페이지 채우기용 (ids 가 null 이면 전체)
+    List<FreelancerFacetRow> findFacetRows(Collection<Long> ids);
+
+    List<FreelancerTagRow> findSkillTags();
+
+    List<FreelancerTagRow> findInterestTags();
+
+    // 패싯 색인 증분 반영용 – 바뀐 프리랜서의 태그만
+    List<FreelancerTagRow> findSkillTagsIn(Collection<Long> freelancerIds);
+
+    List<FreelancerTagRow> findInterestTagsIn(Collection<Long> freelancerIds);
 }
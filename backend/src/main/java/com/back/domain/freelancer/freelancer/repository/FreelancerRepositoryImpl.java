@@ -7,58 +7,79 @@ import static com.back.domain.freelancer.join.entity.QFreelancerSkill.freelancer
 import com.back.domain.common.interest.dto.InterestDto;
 import com.back.domain.common.skill.dto.SkillDto;
 import com.back.domain.freelancer.freelancer.constant.CareerLevel;
+import com.back.domain.freelancer.freelancer.dto.FreelancerFacetRow;
 import com.back.domain.freelancer.freelancer.dto.FreelancerSearchCondition;
 import com.back.domain.freelancer.freelancer.dto.FreelancerSummary;
+import com.back.domain.freelancer.freelancer.dto.FreelancerTagRow;
 import com.back.domain.freelancer.freelancer.entity.Freelancer;
+import com.back.domain.freelancer.freelancer.search.FreelancerKeywordSearch;
 import com.back.domain.freelancer.join.entity.QFreelancerInterest;
+import com.back.global.jpa.ParallelReadExecutor;
 import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.EntityPathBase;
 import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 @RequiredArgsConstructor
 public class FreelancerRepositoryImpl implements FreelancerRepositoryCustom {
 
     private final JPAQueryFactory queryFactory;
+    private final ParallelReadExecutor parallelReadExecutor;
+    private final FreelancerKeywordSearch keywordSearch;
+
+    // 페이지 외 질의(스킬/관심분야/총 개수)를 가상 스레드에서 각자 커넥션으로 동시에 실행
+    @Value("${custom.freelancerSearch.parallel.enabled:false}")
+    private boolean parallelEnabled;
 
     // 검색조건 : 경력, 평점, 스킬
     public Page<FreelancerSummary> findAll(FreelancerSearchCondition condition, Pageable pageable) {
-        long offset = pageable.getOffset();
-        int limit = pageable.getPageSize();
+        Predicate[] where = where(condition);
+        if (parallelEnabled) {
+            return findAllParallel(where, pageable);
+        }
 
-        List<Tuple> freelancers = queryFactory.select(
-                        freelancer.id,
-                        freelancer.member.name,
-                        freelancer.careerTotalYears,
-                        freelancer.ratingAvg
-                )
-                .distinct()
-                .where(
-                        findLiked(condition.searchKeyword()),
-                        ratingAvgGoe(condition.ratingAvg()),
-                        careerYearBetween(condition.careerLevel()),
-                        skillIn(condition.skillIds()),
-                        interestIn(condition.interestIds())
-                )
-                .from(freelancer)
-                .leftJoin(freelancer.skills, freelancerSkill)
-                .leftJoin(freelancer.interests, freelancerInterest)
-                .orderBy(getSort(pageable))
-                .offset(offset)
-                .limit(limit)
-                .fetch();
+        List<Tuple> freelancers = fetchPage(where, pageable);
+
+        List<Long> freelancerIds = freelancers.stream()
+                .map(tuple -> tuple.get(freelancer.id))
+                .toList();
+
+        // 검색결과가 없으면 빈 페이지 반환
+        if (freelancerIds.isEmpty()) {
+            return new PageImpl<>(Collections.emptyList(), pageable, 0);
+        }
+
+        List<Tuple> freelancersSkills = fetchSkills(freelancerIds);
+        List<Tuple> freelancersInterests = fetchInterests(freelancerIds);
+        long total = fetchCount(where);
+
+        return new PageImpl<>(assemble(freelancers, freelancersSkills, freelancersInterests), pageable, total);
+    }
+
+    // 총 개수는 페이지와 무관하니 처음부터, 스킬/관심분야는 페이지 id 가 나오면 동시에 조회
+    private Page<FreelancerSummary> findAllParallel(Predicate[] where, Pageable pageable) {
+        CompletableFuture<Long> total = parallelReadExecutor.submit(() -> fetchCount(where));
+
+        List<Tuple> freelancers = fetchPage(where, pageable);
 
         List<Long> freelancerIds = freelancers.stream()
                 .map(tuple -> tuple.get(freelancer.id))
@@ -69,8 +90,34 @@ public class FreelancerRepositoryImpl implements FreelancerRepositoryCustom {
             return new PageImpl<>(Collections.emptyList(), pageable, 0);
         }
 
-        // 프리랜서 ID가 포함된 모든 스킬 조회
-        List<Tuple> freelancersSkills = queryFactory.select(
+        CompletableFuture<List<Tuple>> freelancersSkills = parallelReadExecutor.submit(() -> fetchSkills(freelancerIds));
+        CompletableFuture<List<Tuple>> freelancersInterests = parallelReadExecutor.submit(() -> fetchInterests(freelancerIds));
+
+        return new PageImpl<>(
+                assemble(freelancers, ParallelReadExecutor.join(freelancersSkills), ParallelReadExecutor.join(freelancersInterests)),
+                pageable,
+                ParallelReadExecutor.join(total)
+        );
+    }
+
+    private List<Tuple> fetchPage(Predicate[] where, Pageable pageable) {
+        return queryFactory.select(
+                        freelancer.id,
+                        freelancer.member.name,
+                        freelancer.careerTotalYears,
+                        freelancer.ratingAvg
+                )
+                .where(where)
+                .from(freelancer)
+                .orderBy(getSort(pageable))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+    }
+
+    // 프리랜서 ID가 포함된 모든 스킬 조회
+    private List<Tuple> fetchSkills(List<Long> freelancerIds) {
+        return queryFactory.select(
                         freelancerSkill.freelancer.id,
                         freelancerSkill.skill.id,
                         freelancerSkill.skill.name
@@ -78,9 +125,11 @@ public class FreelancerRepositoryImpl implements FreelancerRepositoryCustom {
                 .from(freelancerSkill)
                 .where(freelancerSkill.freelancer.id.in(freelancerIds))
                 .fetch();
+    }
 
-        // 프리랜서 ID가 포함된 모든 관심사 조회
-        List<Tuple> freelancersInterests = queryFactory.select(
+    // 프리랜서 ID가 포함된 모든 관심사 조회
+    private List<Tuple> fetchInterests(List<Long> freelancerIds) {
+        return queryFactory.select(
                         freelancerInterest.freelancer.id,
                         freelancerInterest.interest.id,
                         freelancerInterest.interest.name
@@ -88,14 +137,26 @@ public class FreelancerRepositoryImpl implements FreelancerRepositoryCustom {
                 .from(freelancerInterest)
                 .where(freelancerInterest.freelancer.id.in(freelancerIds))
                 .fetch();
+    }
+
+    // 총 개수 쿼리 (스킬/관심분야는 세미조인이라 행이 불어나지 않음)
+    private long fetchCount(Predicate[] where) {
+        return queryFactory
+                .select(freelancer.count())
+                .from(freelancer)
+                .where(where)
+                .fetchOne();
+    }
 
+    private List<FreelancerSummary> assemble(List<Tuple> freelancers, List<Tuple> freelancersSkills,
+                                             List<Tuple> freelancersInterests) {
         // 프리랜서 - 스킬, 관심 분야를 조합하기 위해
         // FreelancerId를 키로, 해당 FreelancerId를 포함하는 스킬, 관심분야 칼럼들로 그룹화
         Map<Long, List<SkillDto>> freelancerIdToSkill = groupByFreelancerSkill(freelancersSkills);
         Map<Long, List<InterestDto>> freelancerIdToInterests = groupByFreelancerInterests(freelancersInterests);
 
         // 세 개의 쿼리 조합
-        List<FreelancerSummary> results = freelancers.stream()
+        return freelancers.stream()
                 .map(tuple -> new FreelancerSummary(
                         tuple.get(freelancer.id),
                         tuple.get(freelancer.member.name),
@@ -105,23 +166,78 @@ public class FreelancerRepositoryImpl implements FreelancerRepositoryCustom {
                         freelancerIdToInterests.get(tuple.get(freelancer.id))
                 ))
                 .toList();
+    }
 
-        // 총 개수 쿼리
-        long total = queryFactory
-                .select(freelancer.countDistinct())
+    @Override
+    public List<Long> findIds(FreelancerSearchCondition condition) {
+        return queryFactory.select(freelancer.id)
                 .from(freelancer)
-                .leftJoin(freelancer.skills, freelancerSkill)
-                .leftJoin(freelancer.interests, freelancerInterest)
-                .where(
-                        findLiked(condition.searchKeyword()),
-                        ratingAvgGoe(condition.ratingAvg()),
-                        careerYearBetween(condition.careerLevel()),
-                        skillIn(condition.skillIds()),
-                        interestIn(condition.interestIds())
-                )
-                .fetchOne();
+                .where(where(condition))
+                .fetch();
+    }
 
-        return new PageImpl<>(results, pageable, total);
+    @Override
+    public List<FreelancerFacetRow> findFacetRows(Collection<Long> ids) {
+        return queryFactory.select(Projections.constructor(FreelancerFacetRow.class,
+                        freelancer.id,
+                        freelancer.member.name,
+                        freelancer.careerTotalYears,
+                        freelancer.ratingAvg
+                ))
+                .from(freelancer)
+                .join(freelancer.member)
+                .where(ids == null ? null : freelancer.id.in(ids))
+                .fetch();
+    }
+
+    @Override
+    public List<FreelancerTagRow> findSkillTags() {
+        return queryFactory.select(Projections.constructor(FreelancerTagRow.class,
+                        freelancerSkill.freelancer.id,
+                        freelancerSkill.skill.id,
+                        freelancerSkill.skill.name
+                ))
+                .from(freelancerSkill)
+                .orderBy(freelancerSkill.freelancer.id.asc(), freelancerSkill.skill.id.asc())
+                .fetch();
+    }
+
+    @Override
+    public List<FreelancerTagRow> findInterestTags() {
+        return queryFactory.select(Projections.constructor(FreelancerTagRow.class,
+                        freelancerInterest.freelancer.id,
+                        freelancerInterest.interest.id,
+                        freelancerInterest.interest.name
+                ))
+                .from(freelancerInterest)
+                .orderBy(freelancerInterest.freelancer.id.asc(), freelancerInterest.interest.id.asc())
+                .fetch();
+    }
+
+    @Override
+    public List<FreelancerTagRow> findSkillTagsIn(Collection<Long> freelancerIds) {
+        return queryFactory.select(Projections.constructor(FreelancerTagRow.class,
+                        freelancerSkill.freelancer.id,
+                        freelancerSkill.skill.id,
+                        freelancerSkill.skill.name
+                ))
+                .from(freelancerSkill)
+                .where(freelancerSkill.freelancer.id.in(freelancerIds))
+                .orderBy(freelancerSkill.freelancer.id.asc(), freelancerSkill.skill.id.asc())
+                .fetch();
+    }
+
+    @Override
+    public List<FreelancerTagRow> findInterestTagsIn(Collection<Long> freelancerIds) {
+        return queryFactory.select(Projections.constructor(FreelancerTagRow.class,
+                        freelancerInterest.freelancer.id,
+                        freelancerInterest.interest.id,
+                        freelancerInterest.interest.name
+                ))
+                .from(freelancerInterest)
+                .where(freelancerInterest.freelancer.id.in(freelancerIds))
+                .orderBy(freelancerInterest.freelancer.id.asc(), freelancerInterest.interest.id.asc())
+                .fetch();
     }
 
     private OrderSpecifier<?>[] getSort(Pageable pageable) {
@@ -129,19 +245,46 @@ public class FreelancerRepositoryImpl implements FreelancerRepositoryCustom {
             return new OrderSpecifier[]{new OrderSpecifier<>(Order.DESC, freelancer.id)};
         }
 
-        return pageable.getSort().stream()
-                .map(order -> {
-                    Order direction = order.isAscending() ? Order.ASC : Order.DESC;
+        List<OrderSpecifier<?>> orders = new ArrayList<>();
+        Order tieBreak = null;
+        for (Sort.Order order : pageable.getSort()) {
+            Order direction = order.isAscending() ? Order.ASC : Order.DESC;
+            tieBreak = direction;
+
+            orders.add(switch (order.getProperty()) {
+                case "ratingAvg" -> new OrderSpecifier<>(direction, freelancer.ratingAvg);
+                case "careerTotalYears" -> new OrderSpecifier<>(direction, freelancer.careerTotalYears);
+                case "name" -> new OrderSpecifier<>(direction, freelancer.member.name);
+                default -> {
+                    // id 정렬(알 수 없는 키는 id 내림차순)이면 동점이 없다
+                    tieBreak = null;
+                    yield new OrderSpecifier<>(order.getProperty().equals("id") ? direction : Order.DESC, freelancer.id);
+                }
+            });
+        }
+        // 동점은 마지막 정렬 방향의 id 순 – 패싯 색인 정렬과 같은 순서, 페이지 사이 중복/누락 없음
+        if (tieBreak != null) orders.add(new OrderSpecifier<>(tieBreak, freelancer.id));
+        return orders.toArray(OrderSpecifier[]::new);
+    }
+
+    // 검색 조건 – 한 번 만들어 페이지/개수 질의에 같이 쓴다
+    private Predicate[] where(FreelancerSearchCondition condition) {
+        return new Predicate[]{
+                keywordMatch(condition.searchKeyword()),
+                ratingAvgGoe(condition.ratingAvg()),
+                careerYearBetween(condition.careerLevel()),
+                skillIn(condition.skillIds()),
+                interestIn(condition.interestIds())
+        };
+    }
 
-                    return switch (order.getProperty()) {
-                        case "ratingAvg" -> new OrderSpecifier<>(direction, freelancer.ratingAvg);
-                        case "careerTotalYears" -> new OrderSpecifier<>(direction, freelancer.careerTotalYears);
-                        case "name" -> new OrderSpecifier<>(direction, freelancer.member.name);
-                        case "id" -> new OrderSpecifier<>(direction, freelancer.id);
-                        default -> new OrderSpecifier<>(Order.DESC, freelancer.id);
-                    };
-                })
-                .toArray(OrderSpecifier[]::new);
+    // 키워드는 FT 인덱스 검색 테이블 서브쿼리로 거르고, FT 를 쓰지 않는 환경이면 LIKE
+    private BooleanExpression keywordMatch(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return null;
+        }
+        BooleanExpression fullText = keywordSearch.idCondition(keyword.trim());
+        return fullText != null ? fullText : findLiked(keyword);
     }
 
     private BooleanExpression findLiked(String keyword) {
@@ -168,18 +311,29 @@ public class FreelancerRepositoryImpl implements FreelancerRepositoryCustom {
         return freelancer.careerTotalYears.between(careerLevel.getMinYear(), careerLevel.getMaxYear());
     }
 
+    // 스킬 중 하나라도 가진 프리랜서 – id IN (서브쿼리) 세미조인
     private BooleanExpression skillIn(List<Long> skillIds) {
         if (skillIds == null || skillIds.isEmpty()) {
             return null;
         }
-        return freelancer.skills.any().skill.id.in(skillIds);
+        return freelancer.id.in(
+                JPAExpressions
+                        .select(freelancerSkill.freelancer.id)
+                        .from(freelancerSkill)
+                        .where(freelancerSkill.skill.id.in(skillIds))
+        );
     }
 
     private BooleanExpression interestIn(List<Long> interestIds) {
         if (interestIds == null || interestIds.isEmpty()) {
             return null;
         }
-        return freelancer.interests.any().interest.id.in(interestIds);
+        return freelancer.id.in(
+                JPAExpressions
+                        .select(freelancerInterest.freelancer.id)
+                        .from(freelancerInterest)
+                        .where(freelancerInterest.interest.id.in(interestIds))
+        );
     }
 
     private Map<Long, List<SkillDto>> groupByFreelancerSkill(List<Tuple> freelancersSkills) {
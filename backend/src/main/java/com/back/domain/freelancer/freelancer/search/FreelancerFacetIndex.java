@@ -0,0 +1,358 @@
+package com.back.domain.freelancer.freelancer.search;
+
+import com.back.domain.common.interest.dto.InterestDto;
+import com.back.domain.common.skill.dto.SkillDto;
+import com.back.domain.freelancer.freelancer.constant.CareerLevel;
+import com.back.domain.freelancer.freelancer.dto.FreelancerFacetRow;
+import com.back.domain.freelancer.freelancer.dto.FreelancerFacets;
+import com.back.domain.freelancer.freelancer.dto.FreelancerSearchCondition;
+import com.back.domain.freelancer.freelancer.dto.FreelancerTagRow;
+import com.back.domain.freelancer.freelancer.repository.FreelancerRepository;
+import com.back.domain.recommendations.recommendations.constant.SearchIndexTarget;
+import com.back.domain.recommendations.recommendations.event.SearchIndexChangedEvent;
+import com.back.standard.bitmap.IdBitmap;
+import com.back.standard.facet.AbstractFacetIndex;
+import com.back.standard.facet.FacetSource;
+import com.back.standard.facet.TagIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * 프리랜서 목록 검색용 패싯 색인.
+ * 스킬별 / 관심분야별 / 경력 구간별 문서 번호 비트맵과 정렬 키별 순열을 메모리에 두고,
+ * 필터(스킬 OR, 관심분야 OR, 평점 이상, 경력 구간)와 정렬·페이지 자르기를 DB 없이 처리한다.
+ * DB 는 잘라낸 한 페이지의 id 로 PK 조회 한 번만 한다.
+ *
+ * 키워드 조건은 FT 인덱스 일치 id 와 교집합으로 처리하고, FT 를 쓰지 않는 환경(LIKE)이거나
+ * 정렬 키가 2개 이상이면 색인으로 처리하지 않고 기존 SQL 경로를 쓴다.
+ * 목록 검색을 색인으로 처리하는 것은 search 설정으로 켜고, 패싯 건수는 색인이 적재되어 있으면 항상 색인으로 센다.
+ * 이름 정렬은 DB 기본 정렬 규칙(utf8mb4_0900_ai_ci – UCA, 대소문자/악센트 무시)과 같은 Collator(PRIMARY)로 하고,
+ * 동점은 id 순이다 (SQL 경로도 같은 id 보조 정렬).
+ *
+ * 프리랜서 변경은 검색 테이블 outbox 반영 이벤트(SearchIndexChangedEvent FREELANCER, 다른 노드 것 포함)로 들어와
+ * refreshDelayMs 주기마다 한 번에 반영된다 (AbstractFacetIndex). 재구성에는 태그 비트맵 외에 정렬 순열 3개와
+ * 이름 비교 키가 들어가므로, 반영 전까지(최대 refreshDelayMs) 목록/패싯은 직전 스냅샷을 본다.
+ */
+@Component
+@RequiredArgsConstructor
+public class FreelancerFacetIndex extends AbstractFacetIndex<FreelancerFacetIndex.Snapshot> {
+
+    /** 색인 검색 결과: 페이지 id (정렬 순서) + 전체 건수 + 페이지의 스킬/관심분야 */
+    public record Hits(List<Long> ids, long total,
+                       Map<Long, List<SkillDto>> skills, Map<Long, List<InterestDto>> interests) {
+    }
+
+    private final FreelancerRepository freelancerRepository;
+    private final FreelancerKeywordSearch keywordSearch;
+
+    @Value("${custom.freelancerSearch.facetIndex.enabled:true}")
+    private boolean enabled;
+
+    // 목록 검색(필터/정렬/페이지)까지 색인으로 처리할지
+    @Value("${custom.freelancerSearch.facetIndex.search:true}")
+    private boolean serveSearch;
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSearchIndexChanged(SearchIndexChangedEvent event) {
+        if (event.target() == SearchIndexTarget.FREELANCER) onChanged(event.isFullRebuild(), event.ids());
+    }
+
+    @Override
+    @Scheduled(initialDelayString = "${custom.freelancerSearch.facetIndex.reconcileIntervalMs:600000}",
+            fixedDelayString = "${custom.freelancerSearch.facetIndex.reconcileIntervalMs:600000}")
+    public void reconcile() {
+        super.reconcile();
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${custom.freelancerSearch.facetIndex.refreshDelayMs:2000}")
+    public void refresh() {
+        super.refresh();
+    }
+
+    @Override
+    protected String indexName() {
+        return "프리랜서 패싯 색인";
+    }
+
+    @Override
+    protected Snapshot load() {
+        return Snapshot.build(freelancerRepository.findFacetRows(null),
+                freelancerRepository.findSkillTags(), freelancerRepository.findInterestTags());
+    }
+
+    @Override
+    protected Snapshot applyChanges(Snapshot current, List<Long> ids) {
+        return current.withChanges(ids, freelancerRepository.findFacetRows(ids),
+                freelancerRepository.findSkillTagsIn(ids), freelancerRepository.findInterestTagsIn(ids));
+    }
+
+    @Override
+    protected int size(Snapshot snapshot) {
+        return snapshot.ids.length;
+    }
+
+    /** 색인으로 처리할 수 없는 조건(비활성, 미적재, LIKE 키워드 검색, 복합 정렬)이면 null → SQL 경로 */
+    public Hits search(FreelancerSearchCondition condition, Pageable pageable) {
+        Snapshot s = snapshot();
+        if (!enabled || !serveSearch || s == null) return null;
+
+        List<Sort.Order> orders = pageable.getSort().toList();
+        if (orders.size() > 1) return null;
+
+        BitSet filter = s.filter(condition);
+        if (hasKeyword(condition)) {
+            List<Long> keywordIds = keywordSearch.findIds(condition.searchKeyword().trim());
+            if (keywordIds == null) return null;
+            filter = Snapshot.and(filter, s.docsOf(keywordIds));
+        }
+        long total = filter == null ? s.ids.length : filter.cardinality();
+
+        int[] order;
+        boolean descending;
+        if (orders.isEmpty()) {
+            order = null;
+            descending = true;
+        } else {
+            Sort.Order o = orders.get(0);
+            order = switch (o.getProperty()) {
+                case "ratingAvg" -> s.byRating;
+                case "careerTotalYears" -> s.byCareer;
+                case "name" -> s.byName;
+                default -> null;
+            };
+            // 알 수 없는 정렬 키는 SQL 경로와 같이 id 내림차순
+            boolean known = order != null || o.getProperty().equals("id");
+            descending = !known || o.isDescending();
+        }
+
+        List<Integer> docs = s.page(filter, order, descending, pageable.getOffset(), pageable.getPageSize());
+
+        List<Long> ids = new ArrayList<>(docs.size());
+        Map<Long, List<SkillDto>> skills = new HashMap<>();
+        Map<Long, List<InterestDto>> interests = new HashMap<>();
+        for (int doc : docs) {
+            long id = s.ids[doc];
+            ids.add(id);
+            List<SkillDto> docSkills = s.skillsOf(doc);
+            List<InterestDto> docInterests = s.interestsOf(doc);
+            if (docSkills != null) skills.put(id, docSkills);
+            if (docInterests != null) interests.put(id, docInterests);
+        }
+        return new Hits(ids, total, skills, interests);
+    }
+
+    /**
+     * 현재 검색 조건에 맞는 프리랜서 집합의 스킬/관심분야/경력 구간별 건수. 색인이 없으면 null.
+     * 키워드 조건은 FT 일치 id 만 받아 나머지 조건의 비트맵과 교집합한다 (LIKE 환경이면 조건 전체를 SQL 로).
+     */
+    public FreelancerFacets facets(FreelancerSearchCondition condition) {
+        Snapshot s = snapshot();
+        if (!enabled || s == null) return null;
+
+        BitSet filter = s.filter(condition);
+        if (hasKeyword(condition)) {
+            List<Long> keywordIds = keywordSearch.findIds(condition.searchKeyword().trim());
+            filter = keywordIds == null
+                    ? s.docsOf(freelancerRepository.findIds(condition))
+                    : Snapshot.and(filter, s.docsOf(keywordIds));
+        }
+        return s.facets(filter);
+    }
+
+    private static boolean hasKeyword(FreelancerSearchCondition condition) {
+        return condition.searchKeyword() != null && !condition.searchKeyword().isBlank();
+    }
+
+    /** 불변 색인 – 문서 번호는 원본(FacetSource)의 id 오름차순 위치 */
+    static final class Snapshot {
+        private static final int NO_CAREER = -1;
+
+        final long[] ids;
+        final String[] names;
+        final int[] careerYears;
+        final double[] ratings;
+
+        private final FacetSource<FreelancerFacetRow, FreelancerTagRow> source;
+
+        final TagIndex skills;
+        final TagIndex interests;
+        final Map<CareerLevel, IdBitmap> byCareerLevel;
+
+        // 정렬 키별 오름차순 순열 (동점은 id 오름차순)
+        final int[] byRating;
+        final int[] byCareer;
+        final int[] byName;
+
+        private Snapshot(FacetSource<FreelancerFacetRow, FreelancerTagRow> source) {
+            this.source = source;
+
+            List<FreelancerFacetRow> rows = source.rows();
+            int n = rows.size();
+            this.ids = source.ids();
+            this.names = new String[n];
+            this.careerYears = new int[n];
+            this.ratings = new double[n];
+            for (int doc = 0; doc < n; doc++) {
+                FreelancerFacetRow row = rows.get(doc);
+                names[doc] = row.name() == null ? "" : row.name();
+                careerYears[doc] = row.careerTotalYears() == null ? NO_CAREER : row.careerTotalYears();
+                ratings[doc] = row.ratingAvg();
+            }
+
+            this.skills = TagIndex.build(ids, source.skillTags(),
+                    FreelancerTagRow::freelancerId, FreelancerTagRow::id, FreelancerTagRow::name);
+            this.interests = TagIndex.build(ids, source.interestTags(),
+                    FreelancerTagRow::freelancerId, FreelancerTagRow::id, FreelancerTagRow::name);
+
+            this.byRating = permutation(Comparator.comparingDouble(doc -> ratings[doc]));
+            this.byCareer = permutation(Comparator.comparingInt(doc -> careerYears[doc]));
+            CollationKey[] nameKeys = nameKeys(names);
+            this.byName = permutation(Comparator.comparing(doc -> nameKeys[doc]));
+
+            this.byCareerLevel = new EnumMap<>(CareerLevel.class);
+            for (CareerLevel level : CareerLevel.values()) {
+                if (level == CareerLevel.UNDEFINED) continue;
+                int[] docs = IntStream.range(0, ids.length)
+                        .filter(doc -> careerYears[doc] != NO_CAREER
+                                && level.getMinYear() <= careerYears[doc] && careerYears[doc] <= level.getMaxYear())
+                        .toArray();
+                byCareerLevel.put(level, IdBitmap.of(docs));
+            }
+        }
+
+        static Snapshot build(List<FreelancerFacetRow> rows, List<FreelancerTagRow> skillTags,
+                              List<FreelancerTagRow> interestTags) {
+            return new Snapshot(FacetSource.of(rows, skillTags, interestTags,
+                    FreelancerFacetRow::id, FreelancerTagRow::freelancerId));
+        }
+
+        /** changedIds 의 행/태그를 새로 읽은 값으로 바꾼 색인 (changedRows 에 없는 id 는 삭제) */
+        Snapshot withChanges(Collection<Long> changedIds, List<FreelancerFacetRow> changedRows,
+                             List<FreelancerTagRow> changedSkillTags, List<FreelancerTagRow> changedInterestTags) {
+            return new Snapshot(source.withChanges(changedIds, changedRows, changedSkillTags, changedInterestTags));
+        }
+
+        // DB 이름 정렬(UCA, 대소문자/악센트 무시)과 같은 순서의 비교 키
+        private static CollationKey[] nameKeys(String[] names) {
+            Collator collator = Collator.getInstance(Locale.ROOT);
+            collator.setStrength(Collator.PRIMARY);
+            CollationKey[] keys = new CollationKey[names.length];
+            for (int i = 0; i < names.length; i++) keys[i] = collator.getCollationKey(names[i]);
+            return keys;
+        }
+
+        /** 조건에 맞는 문서 집합. 필터가 하나도 없으면 null (전체) */
+        BitSet filter(FreelancerSearchCondition c) {
+            BitSet result = null;
+            if (c.skillIds() != null && !c.skillIds().isEmpty()) {
+                result = and(result, skills.anyOf(c.skillIds(), ids.length));
+            }
+            if (c.interestIds() != null && !c.interestIds().isEmpty()) {
+                result = and(result, interests.anyOf(c.interestIds(), ids.length));
+            }
+            if (c.careerLevel() != null && c.careerLevel() != CareerLevel.UNDEFINED) {
+                BitSet career = new BitSet(ids.length);
+                byCareerLevel.get(c.careerLevel()).forEach(career::set);
+                result = and(result, career);
+            }
+            if (c.ratingAvg() != null) {
+                result = and(result, ratingAtLeast(c.ratingAvg()));
+            }
+            return result;
+        }
+
+        /** SQL 로 받은 프리랜서 id 를 문서 집합으로 (색인 적재 이후 생긴 id 는 빠진다) */
+        BitSet docsOf(List<Long> freelancerIds) {
+            return source.docsOf(freelancerIds);
+        }
+
+        /** 순열 순서대로 filter 에 든 문서를 offset 부터 size 개. order 가 null 이면 id 순 */
+        List<Integer> page(BitSet filter, int[] order, boolean descending, long offset, int size) {
+            List<Integer> docs = new ArrayList<>(size);
+            long skipped = 0;
+            for (int i = 0; i < ids.length && docs.size() < size; i++) {
+                int pos = descending ? ids.length - 1 - i : i;
+                int doc = order == null ? pos : order[pos];
+                if (filter != null && !filter.get(doc)) continue;
+                if (skipped++ < offset) continue;
+                docs.add(doc);
+            }
+            return docs;
+        }
+
+        FreelancerFacets facets(BitSet filter) {
+            Map<CareerLevel, Integer> careerLevels = new EnumMap<>(CareerLevel.class);
+            byCareerLevel.forEach((level, docs) -> {
+                int count = 0;
+                if (filter == null) {
+                    count = docs.cardinality();
+                } else {
+                    for (int doc : docs.toArray()) {
+                        if (filter.get(doc)) count++;
+                    }
+                }
+                careerLevels.put(level, count);
+            });
+            return new FreelancerFacets(skills.count(filter), interests.count(filter), careerLevels);
+        }
+
+        List<SkillDto> skillsOf(int doc) {
+            return skills.tagsOf(doc, SkillDto::new);
+        }
+
+        List<InterestDto> interestsOf(int doc) {
+            return interests.tagsOf(doc, InterestDto::new);
+        }
+
+        // 평점 오름차순 순열에서 하한 이상인 구간 (SQL 과 같이 float 파라미터를 double 로 비교)
+        private BitSet ratingAtLeast(float min) {
+            int lo = 0;
+            int hi = byRating.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (ratings[byRating[mid]] < min) lo = mid + 1;
+                else hi = mid;
+            }
+            BitSet bits = new BitSet(ids.length);
+            for (int i = lo; i < byRating.length; i++) bits.set(byRating[i]);
+            return bits;
+        }
+
+        private static BitSet and(BitSet acc, BitSet next) {
+            if (acc == null) return next;
+            acc.and(next);
+            return acc;
+        }
+
+        private int[] permutation(Comparator<Integer> key) {
+            return IntStream.range(0, ids.length).boxed()
+                    .sorted(key.thenComparingInt(doc -> doc))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+        }
+    }
+}
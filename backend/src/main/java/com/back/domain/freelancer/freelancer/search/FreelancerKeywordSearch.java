@@ -0,0 +1,55 @@
+package com.back.domain.freelancer.freelancer.search;
+
+import com.back.domain.recommendations.recommendations.repository.FreelancersSearchRepository;
+import com.back.standard.fulltext.FullTextMatch;
+import com.back.standard.fulltext.FullTextPhrase;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+import static com.back.domain.freelancer.freelancer.entity.QFreelancer.freelancer;
+import static com.back.domain.recommendations.recommendations.entity.QFreelancersSearch.freelancersSearch;
+
+/**
+ * 프리랜서 목록 키워드 검색 – freelancer_search 의 (name, job, one_liner) FT 인덱스로 일치 id 를 찾는다.
+ * 구문(phrase) 검색이라 기존 '%키워드%' LIKE 와 같은 부분 문자열 일치가 된다.
+ * 검색 테이블은 outbox 로 반영되므로 원본 변경이 키워드 검색에 보이기까지 약간의 지연이 있다.
+ *
+ * 목록 질의에는 검색 테이블 서브쿼리(semi-join) 조건을 붙이고 (idCondition),
+ * 일치 id 목록(findIds)은 패싯 색인 비트맵과 교집합할 때만 쓴다.
+ */
+@Component
+@RequiredArgsConstructor
+public class FreelancerKeywordSearch {
+
+    private final FreelancersSearchRepository freelancersSearchRepository;
+
+    // H2 등 Mroonga 가 없는 환경에서는 false → 기존 LIKE 검색
+    @Value("${custom.freelancerSearch.keyword.fullText:true}")
+    private boolean fullText;
+
+    /** 키워드에 일치하는 프리랜서 id. FT 인덱스를 쓰지 않는 환경이면 null (호출자가 LIKE 로 처리) */
+    public List<Long> findIds(String keyword) {
+        if (!fullText) return null;
+
+        String phrase = FullTextPhrase.of(keyword);
+        if (phrase == null) return null;
+        return freelancersSearchRepository.findFreelancerIdsByKeyword(phrase);
+    }
+
+    /** freelancer.id 가 키워드에 일치하는 검색 테이블 행에 있는지 – freelancer_search 서브쿼리 조건. FT 를 쓰지 않으면 null */
+    public BooleanExpression idCondition(String keyword) {
+        if (!fullText) return null;
+
+        String phrase = FullTextPhrase.of(keyword);
+        if (phrase == null) return null;
+
+        return freelancer.id.in(JPAExpressions.select(freelancersSearch.freelancerId)
+                .from(freelancersSearch)
+                .where(FullTextMatch.matches(phrase, freelancersSearch.name, freelancersSearch.job, freelancersSearch.comment)));
+    }
+}
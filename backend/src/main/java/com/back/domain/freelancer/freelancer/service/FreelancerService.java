@@ -1,19 +1,26 @@
 package com.back.domain.freelancer.freelancer.service;
 
-import com.back.domain.common.interest.entity.Interest;
-import com.back.domain.common.interest.repository.InterestRepository;
-import com.back.domain.common.skill.entity.Skill;
-import com.back.domain.common.skill.repository.SkillRepository;
+import com.back.domain.common.catalog.service.ReferenceCatalog;
+import com.back.domain.freelancer.freelancer.dto.FreelancerFacetRow;
+import com.back.domain.freelancer.freelancer.dto.FreelancerFacets;
 import com.back.domain.freelancer.freelancer.dto.FreelancerSearchCondition;
 import com.back.domain.freelancer.freelancer.dto.FreelancerSummary;
 import com.back.domain.freelancer.freelancer.entity.Freelancer;
 import com.back.domain.freelancer.freelancer.repository.FreelancerRepository;
+import com.back.domain.freelancer.freelancer.search.FreelancerFacetIndex;
+import com.back.domain.member.member.event.ProfileChangedEvent;
+import com.back.domain.recommendations.recommendations.service.SearchIndexService;
 import jakarta.persistence.EntityNotFoundException;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,8 +31,10 @@ import org.springframework.transaction.annotation.Transactional;
 public class FreelancerService {
 
     private final FreelancerRepository freelancerRepository;
-    private final SkillRepository skillRepository;
-    private final InterestRepository interestRepository;
+    private final ReferenceCatalog referenceCatalog;
+    private final SearchIndexService searchIndexService;
+    private final FreelancerFacetIndex freelancerFacetIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public Freelancer findById(Long id) {
@@ -46,32 +55,63 @@ public class FreelancerService {
         updateFreelancerSkills(skillIds, freelancer);
         updateFreelancerInterests(interestIds, freelancer);
 
+        searchIndexService.enqueueFreelancer(freelancer.getId());
+        eventPublisher.publishEvent(new ProfileChangedEvent(freelancer.getId()));
+
         return freelancerRepository.save(freelancer);
     }
 
+    // id 검증은 카탈로그로, 연관관계에는 참조만 넣는다 (스킬/관심분야 테이블 조회 없음)
     private void updateFreelancerSkills(List<Long> skillIds, Freelancer freelancer) {
-        List<Skill> findSkills = skillRepository.findAllById(skillIds);
-
-        if (findSkills.size() != skillIds.size()) {
+        if (!referenceCatalog.skills().containsAll(skillIds)) {
             throw new EntityNotFoundException("존재하지 않는 스킬 ID가 포함되어 있습니다.");
         }
 
-        freelancer.updateSkills(findSkills);
+        freelancer.updateSkills(referenceCatalog.skillReferences(skillIds));
     }
 
     private void updateFreelancerInterests(List<Long> interestIds, Freelancer freelancer) {
-        List<Interest> findInterests = interestRepository.findAllById(interestIds);
-
-        if (findInterests.size() != interestIds.size()) {
+        if (!referenceCatalog.interests().containsAll(interestIds)) {
             throw new EntityNotFoundException("존재하지 않는 흥미분야 ID가 포함되어 있습니다.");
         }
 
-        freelancer.updateInterests(findInterests);
+        freelancer.updateInterests(referenceCatalog.interestReferences(interestIds));
     }
 
     @Transactional(readOnly = true)
     public Page<FreelancerSummary> findAll(FreelancerSearchCondition condition, Pageable page) {
-        return freelancerRepository.findAll(condition, page);
+        // 패싯 색인으로 처리 가능한 조건이면 한 페이지 id 만 PK 로 조회, 아니면 SQL 검색
+        FreelancerFacetIndex.Hits hits = freelancerFacetIndex.search(condition, page);
+        if (hits == null) {
+            return freelancerRepository.findAll(condition, page);
+        }
+        if (hits.ids().isEmpty()) {
+            return new PageImpl<>(List.of(), page, hits.total());
+        }
+
+        Map<Long, FreelancerFacetRow> rows = freelancerRepository.findFacetRows(hits.ids()).stream()
+                .collect(Collectors.toMap(FreelancerFacetRow::id, Function.identity()));
+
+        List<FreelancerSummary> content = hits.ids().stream()
+                .map(rows::get)
+                .filter(Objects::nonNull)
+                .map(row -> new FreelancerSummary(
+                        row.id(),
+                        row.name(),
+                        row.careerTotalYears(),
+                        row.ratingAvg(),
+                        hits.skills().get(row.id()),
+                        hits.interests().get(row.id())
+                ))
+                .toList();
+
+        return new PageImpl<>(content, page, hits.total());
+    }
+
+    // 검색 조건 기준 스킬/관심분야/경력 구간별 건수 (색인 미적재 시 null)
+    @Transactional(readOnly = true)
+    public FreelancerFacets findFacets(FreelancerSearchCondition condition) {
+        return freelancerFacetIndex.facets(condition);
     }
 
     @Transactional(readOnly = true)
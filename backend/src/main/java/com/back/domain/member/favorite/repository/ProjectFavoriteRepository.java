@@ -4,12 +4,25 @@ import com.back.domain.member.favorite.entity.ProjectFavorite;
 import com.back.domain.member.member.entity.Member;
 import com.back.domain.project.project.entity.Project;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
 
 public interface ProjectFavoriteRepository extends JpaRepository<ProjectFavorite, Long> {
     List<ProjectFavorite> findAllByMember(Member member);
+
+    // 즐겨찾기 목록 DTO 용 – 프로젝트와 작성자(client/member)를 한 번에
+    @Query("""
+            SELECT pf FROM ProjectFavorite pf
+            JOIN FETCH pf.project p
+            JOIN FETCH p.client c
+            JOIN FETCH c.member
+            WHERE pf.member = :member
+            ORDER BY pf.id
+            """)
+    List<ProjectFavorite> findAllWithProjectByMember(@Param("member") Member member);
     Optional<ProjectFavorite> findByMemberAndProject(Member member, Project project);
     void deleteByMemberAndProject(Member member, Project project);
 }
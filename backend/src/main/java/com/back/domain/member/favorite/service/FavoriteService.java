@@ -26,7 +26,7 @@ public class FavoriteService {
 
     @Transactional(readOnly = true)
     public List<ProjectFavorite> findProjectFavorites(Member member) {
-        return projectFavoriteRepository.findAllByMember(member);
+        return projectFavoriteRepository.findAllWithProjectByMember(member);
     }
 
     @Transactional
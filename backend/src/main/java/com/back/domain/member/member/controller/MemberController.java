@@ -3,8 +3,6 @@ package com.back.domain.member.member.controller;
 import com.back.domain.application.application.dto.ApplicationSummaryDto;
 import com.back.domain.application.application.entity.Application;
 import com.back.domain.application.application.service.ApplicationService;
-import com.back.domain.common.interest.service.InterestService;
-import com.back.domain.common.skill.service.SkillService;
 import com.back.domain.freelancer.freelancer.entity.Freelancer;
 import com.back.domain.member.favorite.dto.FavoriteFreelancerReq;
 import com.back.domain.member.favorite.dto.FavoriteProjectReq;
@@ -18,6 +16,7 @@ import com.back.domain.member.member.entity.MemberSocial;
 import com.back.domain.member.member.service.*;
 import com.back.domain.project.project.dto.ProjectSummaryDto;
 import com.back.domain.project.project.entity.Project;
+import com.back.domain.project.project.service.ProjectDtoAssembler;
 import com.back.domain.project.project.service.ProjectService;
 import com.back.global.exception.ServiceException;
 import com.back.global.response.ApiResponse;
@@ -46,8 +45,7 @@ public class MemberController {
     private final EmailService emailService;
     private final ObjectMapper objectMapper;
     private final ProjectService projectService;
-    private final SkillService skillService;
-    private final InterestService interestService;
+    private final ProjectDtoAssembler projectDtoAssembler;
     private final ApplicationService applicationService;
     private final HeaderHelper headerHelper;
     private final CookieHelper cookieHelper;
@@ -92,8 +90,8 @@ public class MemberController {
 
     @GetMapping("/me")
     public ApiResponse<ProfileResponseDto> getMyProfile(@AuthenticationPrincipal CustomUserDetails user) {
-        Member member = memberService.findById(user.getId());
-        return new ApiResponse<>("200-7", "프로필 조회 성공", ProfileResponseDto.of(member));
+        ProfileResponseDto profile = memberService.getProfile(user.getId(), user);
+        return new ApiResponse<>("200-7", "프로필 조회 성공", profile);
     }
 
     @GetMapping("/{userId}/profile")
@@ -101,8 +99,8 @@ public class MemberController {
             @PathVariable Long userId,
             @AuthenticationPrincipal CustomUserDetails user
     ) {
-        Member member = memberService.getProfile(userId, user);
-        return new ApiResponse<>("200-7", "프로필 조회 성공", ProfileResponseDto.of(member));
+        ProfileResponseDto profile = memberService.getProfile(userId, user);
+        return new ApiResponse<>("200-7", "프로필 조회 성공", profile);
     }
 
     @PatchMapping("/me/profile")
@@ -171,13 +169,7 @@ public class MemberController {
     @GetMapping("/me/projects")
     public ApiResponse<List<ProjectSummaryDto>> getMyProjects(@AuthenticationPrincipal CustomUserDetails user) {
         List<Project> projects = projectService.findAllByMemberId(user.getId());
-        List<ProjectSummaryDto> projectSummaries = projects.stream()
-                .map(project -> new ProjectSummaryDto(
-                        project,
-                        skillService.findByProjectId(project.getId()),
-                        interestService.findByProjectId(project.getId())
-                ))
-                .collect(Collectors.toList());
+        List<ProjectSummaryDto> projectSummaries = projectDtoAssembler.toSummaries(projects);
 
         return new ApiResponse<>("200-9", "내가 등록한 프로젝트 목록 조회 성공", projectSummaries);
     }
@@ -213,12 +205,10 @@ public class MemberController {
     @GetMapping("/me/favorites/projects")
     public ApiResponse<List<ProjectSummaryDto>> getMyFavoriteProjects(@AuthenticationPrincipal CustomUserDetails user) {
         Member member = memberService.findById(user.getId());
-        List<ProjectSummaryDto> favorites = favoriteService.findProjectFavorites(member).stream()
-                .map(pf -> {
-                    Project project = pf.getProject();
-                    return new ProjectSummaryDto(project, skillService.findByProjectId(project.getId()), interestService.findByProjectId(project.getId()));
-                })
-                .collect(Collectors.toList());
+        List<Project> projects = favoriteService.findProjectFavorites(member).stream()
+                .map(pf -> pf.getProject())
+                .toList();
+        List<ProjectSummaryDto> favorites = projectDtoAssembler.toSummaries(projects);
 
         return new ApiResponse<>("200-20", "즐겨찾기한 프로젝트 목록 조회 성공", favorites);
     }
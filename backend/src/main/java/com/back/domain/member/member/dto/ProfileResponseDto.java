@@ -3,8 +3,10 @@ package com.back.domain.member.member.dto;
 import com.back.domain.member.member.constant.Role;
 import com.back.domain.member.member.entity.Member;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.time.LocalDateTime;
@@ -15,6 +17,8 @@ import java.util.stream.Collectors;
 @Getter
 @Setter
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class ProfileResponseDto {
     // Common Member fields
@@ -45,6 +49,25 @@ public class ProfileResponseDto {
     private String companyEmail;
 
     public static ProfileResponseDto of(Member member) {
+        List<String> skills = null;
+        List<String> interests = null;
+        if (member.getRole() == Role.FREELANCER && member.getFreelancer() != null) {
+            if (member.getFreelancer().getSkills() != null) {
+                skills = member.getFreelancer().getSkills().stream()
+                        .map(fs -> fs.getSkill().getName())
+                        .collect(Collectors.toList());
+            }
+            if (member.getFreelancer().getInterests() != null) {
+                interests = member.getFreelancer().getInterests().stream()
+                        .map(fi -> fi.getInterest().getName())
+                        .collect(Collectors.toList());
+            }
+        }
+        return of(member, skills, interests);
+    }
+
+    // 스킬/관심분야 이름을 따로 읽어 온 경우 (비어 있으면 응답에서 생략)
+    public static ProfileResponseDto of(Member member, List<String> skills, List<String> interests) {
         ProfileResponseDtoBuilder builder = ProfileResponseDto.builder()
                 .id(member.getId())
                 .username(member.getUsername())
@@ -62,17 +85,13 @@ public class ProfileResponseDto {
                     .ratingAvg(member.getFreelancer().getRatingAvg());
 
             // skills
-            if (member.getFreelancer().getSkills() != null && !member.getFreelancer().getSkills().isEmpty()) {
-                builder.skills(member.getFreelancer().getSkills().stream()
-                        .map(fs -> fs.getSkill().getName())
-                        .collect(Collectors.toList()));
+            if (skills != null && !skills.isEmpty()) {
+                builder.skills(skills);
             }
 
             // interests
-            if (member.getFreelancer().getInterests() != null && !member.getFreelancer().getInterests().isEmpty()) {
-                builder.interests(member.getFreelancer().getInterests().stream()
-                        .map(fi -> fi.getInterest().getName())
-                        .collect(Collectors.toList()));
+            if (interests != null && !interests.isEmpty()) {
+                builder.interests(interests);
             }
 
         } else if (member.getRole() == Role.CLIENT && member.getClient() != null) {
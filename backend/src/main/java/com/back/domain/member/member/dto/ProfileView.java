@@ -0,0 +1,15 @@
+package com.back.domain.member.member.dto;
+
+import com.back.domain.member.member.constant.ProfileScope;
+
+/**
+ * 프로필 조회용 읽기 모델 (캐시 단위).
+ * 요청자와 무관한 값만 담고, 공개 범위 판단은 요청마다 따로 한다.
+ */
+public record ProfileView(
+        Long memberId,
+        ProfileScope profileScope,
+        boolean freelancer,
+        ProfileResponseDto profile
+) {
+}
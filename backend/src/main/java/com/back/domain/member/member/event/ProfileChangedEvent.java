@@ -0,0 +1,8 @@
+package com.back.domain.member.member.event;
+
+/**
+ * 프로필 조회 결과에 영향을 주는 변경 알림 (회원/프리랜서/클라이언트 정보, 스킬/관심분야, 평점, 탈퇴).
+ * 커밋 후 프로필 캐시 버전을 올린다.
+ */
+public record ProfileChangedEvent(Long memberId) {
+}
@@ -2,6 +2,7 @@ package com.back.domain.member.member.repository;
 
 import com.back.domain.member.member.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -9,4 +10,8 @@ import java.util.Optional;
 @Repository
 public interface MemberRepository extends JpaRepository<Member, Long> {
     Optional<Member> findByUsername(String username);
+
+    // 프로필 읽기 모델용 – 프리랜서/클라이언트를 한 번에
+    @Query("SELECT m FROM Member m LEFT JOIN FETCH m.freelancer LEFT JOIN FETCH m.client WHERE m.id = :id")
+    Optional<Member> findProfileById(Long id);
 }
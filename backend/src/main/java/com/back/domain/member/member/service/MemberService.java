@@ -4,27 +4,35 @@ import com.back.domain.application.application.constant.ApplicationStatus;
 import com.back.domain.application.application.entity.Application;
 import com.back.domain.application.application.service.ApplicationService;
 import com.back.domain.client.client.entity.Client;
+import com.back.domain.common.catalog.dto.CatalogSnapshot;
+import com.back.domain.common.catalog.service.ReferenceCatalog;
+import com.back.domain.common.skill.dto.SkillDto;
 import com.back.domain.freelancer.freelancer.entity.Freelancer;
+import com.back.domain.freelancer.freelancer.repository.FreelancerRepository;
 import com.back.domain.member.member.constant.ProfileScope;
 import com.back.domain.member.member.constant.Role;
 import com.back.domain.member.member.dto.ClientUpdateDto;
 import com.back.domain.member.member.dto.FreelancerUpdateDto;
+import com.back.domain.member.member.dto.ProfileResponseDto;
+import com.back.domain.member.member.dto.ProfileView;
 import com.back.domain.member.member.entity.Member;
+import com.back.domain.member.member.event.ProfileChangedEvent;
 import com.back.domain.member.member.repository.MemberRepository;
 import com.back.domain.project.project.constant.ProjectStatus;
 import com.back.domain.project.project.entity.Project;
 import com.back.domain.project.project.service.ProjectService;
 import com.back.domain.proposal.proposal.constant.ProposalStatus;
+import com.back.domain.recommendations.recommendations.service.SearchIndexService;
 import com.back.global.exception.ServiceException;
 import com.back.global.security.CustomUserDetails;
 import lombok.RequiredArgsConstructor;
-import com.back.domain.common.skill.entity.Skill;
-import com.back.domain.common.skill.repository.SkillRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.security.SecureRandom;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -37,7 +45,11 @@ public class MemberService {
     private final EmailService emailService;
     private final ApplicationService applicationService;
     private final ProjectService projectService;
-    private final SkillRepository skillRepository;
+    private final ReferenceCatalog referenceCatalog;
+    private final SearchIndexService searchIndexService;
+    private final FreelancerRepository freelancerRepository;
+    private final ProfileCache profileCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     private boolean initFlag = false;
 
@@ -88,7 +100,11 @@ public class MemberService {
         }
 
         //DB 반영 후 반환
-        return memberRepository.save(member);
+        Member savedMember = memberRepository.save(member);
+        if (savedMember.isFreelancer()) {
+            searchIndexService.enqueueFreelancer(savedMember.getId());
+        }
+        return savedMember;
     }
 
     @Transactional
@@ -104,24 +120,26 @@ public class MemberService {
 
         Freelancer freelancer = member.getFreelancer();
         freelancer.updateInfo(dto.getJob(), dto.getFreelancerEmail(), dto.getComment(), dto.getCareer());
-        // skills 업데이트: 우선순위 - skillIds > skills(이름)
+        // skills 업데이트: 우선순위 - skillIds > skills(이름). 검증/이름 조회는 카탈로그로 (스킬 테이블 조회 없음)
+        CatalogSnapshot<SkillDto> skillCatalog = referenceCatalog.skills();
         if (dto.getSkillIds() != null) {
             List<Long> ids = dto.getSkillIds();
-            List<Skill> findSkills = skillRepository.findAllById(ids);
-            if (findSkills.size() != ids.size()) {
+            if (!skillCatalog.containsAll(ids)) {
                 throw new ServiceException("400-6", "유효하지 않은 스킬 ID가 포함되어 있습니다.");
             }
-            freelancer.updateSkills(findSkills);
+            freelancer.updateSkills(referenceCatalog.skillReferences(ids));
         } else if (dto.getSkills() != null) {
-            // 이름 기반 처리: 이름으로 스킬 엔티티 조회
-            List<Skill> findSkills = dto.getSkills().stream()
-                    .map(name -> skillRepository.findByName(name)
+            // 이름 기반 처리: 이름 → id
+            List<Long> ids = dto.getSkills().stream()
+                    .map(name -> Optional.ofNullable(skillCatalog.idOf(name))
                             .orElseThrow(() -> new ServiceException("404-2", "스킬을 찾을 수 없습니다: " + name)))
                     .toList();
-            freelancer.updateSkills(findSkills);
+            freelancer.updateSkills(referenceCatalog.skillReferences(ids));
         }
 
         memberRepository.save(member);
+        searchIndexService.enqueueFreelancer(member.getId());
+        eventPublisher.publishEvent(new ProfileChangedEvent(member.getId()));
     }
 
     @Transactional
@@ -139,6 +157,7 @@ public class MemberService {
         client.update(dto.getCompanySize(), dto.getCompanyDescription(), dto.getRepresentative(), dto.getBusinessNo(), dto.getCompanyPhone(), dto.getCompanyEmail());
 
         memberRepository.save(member);
+        eventPublisher.publishEvent(new ProfileChangedEvent(member.getId()));
     }
 
     public Optional<Member> findByUsername(String username) {
@@ -151,6 +170,9 @@ public class MemberService {
 
     public Member changeStatus(Member member, String status) {
         member.changeStatus(status);
+        if (member.isFreelancer()) {
+            searchIndexService.enqueueFreelancer(member.getId());
+        }
         return member;
     }
 
@@ -261,121 +283,57 @@ public class MemberService {
         return tempPassword.toString();
     }
 
+    /**
+     * 프로필 조회. 읽기 모델은 (memberId, version) 캐시에서, 공개 범위 판단은 요청마다 한다.
+     */
     @Transactional(readOnly = true)
-    public Member getProfile(Long userId, CustomUserDetails user) {
-        Member member = findById(userId);
-
-        if (member.getProfileScope() == ProfileScope.PUBLIC) {
-            // initialize associations for DTO serialization outside transaction
-            if (member.isClient() && member.getClient() != null) {
-                member.getClient().getCompanyEmail();
-                member.getClient().getCompanyPhone();
-                member.getClient().getCompanySize();
-                member.getClient().getCompanyDescription();
-                member.getClient().getRepresentative();
-                member.getClient().getBusinessNo();
-                member.getClient().getProjects().size();
-            }
-            if (member.isFreelancer() && member.getFreelancer() != null) {
-                member.getFreelancer().getJob();
-                member.getFreelancer().getCareer();
-                member.getFreelancer().getFreelancerEmail();
-                member.getFreelancer().getComment();
-                member.getFreelancer().getRatingAvg();
-                if (member.getFreelancer().getSkills() != null) {
-                    member.getFreelancer().getSkills().forEach(fs -> {
-                        if (fs.getSkill() != null) fs.getSkill().getName();
-                    });
-                }
-                if (member.getFreelancer().getInterests() != null) {
-                    member.getFreelancer().getInterests().forEach(fi -> {
-                        if (fi.getInterest() != null) fi.getInterest().getName();
-                    });
-                }
-            }
-            return member;
-        }
+    public ProfileResponseDto getProfile(Long userId, CustomUserDetails user) {
+        ProfileView view = profileCache.get(userId, () -> loadProfileView(userId));
 
-        // 자신의 프로필은 항상 접근 가능
-        if (user != null && Objects.equals(user.getId(), member.getId())) {
-            // initialize associations similarly
-            if (member.isClient() && member.getClient() != null) {
-                member.getClient().getCompanyEmail();
-                member.getClient().getCompanyPhone();
-                member.getClient().getCompanySize();
-                member.getClient().getCompanyDescription();
-                member.getClient().getRepresentative();
-                member.getClient().getBusinessNo();
-                member.getClient().getProjects().size();
-            }
-            if (member.isFreelancer() && member.getFreelancer() != null) {
-                member.getFreelancer().getJob();
-                member.getFreelancer().getCareer();
-                member.getFreelancer().getFreelancerEmail();
-                member.getFreelancer().getComment();
-                member.getFreelancer().getRatingAvg();
-                if (member.getFreelancer().getSkills() != null) {
-                    member.getFreelancer().getSkills().forEach(fs -> {
-                        if (fs.getSkill() != null) fs.getSkill().getName();
-                    });
-                }
-                if (member.getFreelancer().getInterests() != null) {
-                    member.getFreelancer().getInterests().forEach(fi -> {
-                        if (fi.getInterest() != null) fi.getInterest().getName();
-                    });
-                }
-            }
-            return member;
+        // 공개 프로필, 자신의 프로필은 항상 접근 가능
+        if (view.profileScope() == ProfileScope.PUBLIC) {
+            return view.profile();
+        }
+        if (user != null && Objects.equals(user.getId(), view.memberId())) {
+            return view.profile();
         }
 
-        // 프리랜서의 비공개 프로필 접근 제어
-        if (member.isFreelancer()) {
+        // 프리랜서의 비공개 프로필 접근 제어 – 요청자(클라이언트)의 프로젝트에 지원한 적이 있어야 함
+        if (view.freelancer()) {
             if (user == null) {
                 throw new ServiceException("401-1", "로그인이 필요합니다.");
             }
-
-            Member requestMember = findById(user.getId());
-            if (requestMember.isClient()) {
-                List<Application> applications = applicationService.findAllByFreeLancer(member.getFreelancer());
-                boolean hasApplied = applications.stream()
-                        .anyMatch(app -> app.getProject().getClient().getMember().getId().equals(requestMember.getId()));
-
-                if (hasApplied) {
-                    // initialize associations before returning
-                    if (member.isClient() && member.getClient() != null) {
-                        member.getClient().getCompanyEmail();
-                        member.getClient().getCompanyPhone();
-                        member.getClient().getCompanySize();
-                        member.getClient().getCompanyDescription();
-                        member.getClient().getRepresentative();
-                        member.getClient().getBusinessNo();
-                        member.getClient().getProjects().size();
-                    }
-                    if (member.isFreelancer() && member.getFreelancer() != null) {
-                        member.getFreelancer().getJob();
-                        member.getFreelancer().getCareer();
-                        member.getFreelancer().getFreelancerEmail();
-                        member.getFreelancer().getComment();
-                        member.getFreelancer().getRatingAvg();
-                        if (member.getFreelancer().getSkills() != null) {
-                            member.getFreelancer().getSkills().forEach(fs -> {
-                                if (fs.getSkill() != null) fs.getSkill().getName();
-                            });
-                        }
-                        if (member.getFreelancer().getInterests() != null) {
-                            member.getFreelancer().getInterests().forEach(fi -> {
-                                if (fi.getInterest() != null) fi.getInterest().getName();
-                            });
-                        }
-                    }
-                    return member;
-                }
+            if (applicationService.existsByFreelancerAndClient(view.memberId(), user.getId())) {
+                return view.profile();
             }
         }
 
         throw new ServiceException("403-3", "프로필을 조회할 권한이 없습니다.");
     }
 
+    // 회원(+프리랜서/클라이언트) 1번, 스킬/관심분야 이름 1번
+    private ProfileView loadProfileView(Long memberId) {
+        Member member = memberRepository.findProfileById(memberId)
+                .orElseThrow(() -> new ServiceException("404-1", "해당 회원을 찾을 수 없습니다."));
+
+        List<String> skills = new ArrayList<>();
+        List<String> interests = new ArrayList<>();
+        if (member.isFreelancer() && member.getFreelancer() != null) {
+            for (Object[] row : freelancerRepository.findProfileTags(memberId)) {
+                String name = (String) row[2];
+                if (((Number) row[0]).intValue() == 0) skills.add(name);
+                else interests.add(name);
+            }
+        }
+
+        return new ProfileView(
+                member.getId(),
+                member.getProfileScope(),
+                member.isFreelancer(),
+                ProfileResponseDto.of(member, skills, interests)
+        );
+    }
+
     public void withdrawMember(Member member, String password) {
         //비밀번호 확인
         checkPassword(member, password);
@@ -421,6 +379,7 @@ public class MemberService {
             client.getProjects().forEach(project -> {
                 if(project.getStatus() == ProjectStatus.OPEN) {
                     project.updateStatus(ProjectStatus.CLOSED);
+                    searchIndexService.enqueueProject(project.getId());
                 }
             });
 
@@ -440,6 +399,10 @@ public class MemberService {
 
         //DB 저장
         memberRepository.save(member);
+        if (member.isFreelancer()) {
+            searchIndexService.enqueueFreelancer(member.getId());
+        }
+        eventPublisher.publishEvent(new ProfileChangedEvent(member.getId()));
     }
 
     //완료된 프로젝트의 협업 상대방 프로필 조회
@@ -0,0 +1,131 @@
+package com.back.domain.member.member.service;
+
+import com.back.domain.member.member.dto.ProfileView;
+import com.back.domain.member.member.event.ProfileChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 프로필 읽기 모델 2단 캐시 (로컬 LRU → Redis → DB), (memberId, version) 단위.
+ *
+ * - 버전은 Redis 카운터(profile:version:{id}) 하나. 프로필 쓰기 커밋 후 INCR 만 하면
+ *   모든 노드의 로컬/Redis 항목이 다음 조회에서 자연히 빗나간다 (지울 필요 없음, 옛 버전 키는 TTL 로 만료).
+ * - 조회마다 버전 키 하나만 읽고, 로컬에 같은 버전이 있으면 본문 전송/역직렬화 없이 돌려준다.
+ * - 적재 중에 쓰기가 끼어들면 옛 버전 키에 저장되므로 새 버전 조회에는 쓰이지 않는다.
+ * - Redis 장애 시에는 캐시 없이 DB 로 읽는다.
+ */
+@Slf4j
+@Component
+public class ProfileCache {
+
+    private static final String VERSION_KEY = "profile:version:";
+    private static final String VIEW_KEY = "profile:view:";
+
+    private record Entry(String version, ProfileView view) {
+    }
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final Duration ttl;
+    private final Map<Long, Entry> local;
+
+    public ProfileCache(
+            RedisTemplate<String, String> redisTemplate,
+            ObjectMapper objectMapper,
+            @Value("${custom.profileCache.enabled:true}") boolean enabled,
+            @Value("${custom.profileCache.localMaxSize:10000}") int localMaxSize,
+            @Value("${custom.profileCache.ttlMinutes:60}") long ttlMinutes
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+        this.local = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > localMaxSize;
+            }
+        };
+    }
+
+    public ProfileView get(Long memberId, Supplier<ProfileView> loader) {
+        if (!enabled) return loader.get();
+
+        String version;
+        try {
+            version = currentVersion(memberId);
+        } catch (DataAccessException e) {
+            log.warn("프로필 캐시 버전 조회 실패 – DB 로 조회합니다. memberId={}", memberId, e);
+            return loader.get();
+        }
+
+        synchronized (local) {
+            Entry entry = local.get(memberId);
+            if (entry != null && entry.version().equals(version)) return entry.view();
+        }
+
+        ProfileView view = readShared(memberId, version);
+        if (view == null) {
+            view = loader.get();
+            writeShared(memberId, version, view);
+        }
+
+        synchronized (local) {
+            local.put(memberId, new Entry(version, view));
+        }
+        return view;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProfileChanged(ProfileChangedEvent event) {
+        if (!enabled) return;
+
+        synchronized (local) {
+            local.remove(event.memberId());
+        }
+        try {
+            redisTemplate.opsForValue().increment(VERSION_KEY + event.memberId());
+        } catch (DataAccessException e) {
+            log.warn("프로필 캐시 버전 증가 실패 memberId={}", event.memberId(), e);
+        }
+    }
+
+    private String currentVersion(Long memberId) {
+        String version = redisTemplate.opsForValue().get(VERSION_KEY + memberId);
+        return version == null ? "0" : version;
+    }
+
+    private ProfileView readShared(Long memberId, String version) {
+        try {
+            String json = redisTemplate.opsForValue().get(viewKey(memberId, version));
+            return json == null ? null : objectMapper.readValue(json, ProfileView.class);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("프로필 캐시 읽기 실패 memberId={}", memberId, e);
+            return null;
+        }
+    }
+
+    private void writeShared(Long memberId, String version, ProfileView view) {
+        try {
+            redisTemplate.opsForValue().set(viewKey(memberId, version), objectMapper.writeValueAsString(view), ttl);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("프로필 캐시 저장 실패 memberId={}", memberId, e);
+        }
+    }
+
+    private static String viewKey(Long memberId, String version) {
+        return VIEW_KEY + memberId + ":" + version;
+    }
+}
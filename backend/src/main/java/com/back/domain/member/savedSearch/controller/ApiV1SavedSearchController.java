@@ -0,0 +1,55 @@
+package com.back.domain.member.savedSearch.controller;
+
+import com.back.domain.member.member.entity.Member;
+import com.back.domain.member.member.service.MemberService;
+import com.back.domain.member.savedSearch.dto.SavedSearchDto;
+import com.back.domain.member.savedSearch.dto.SavedSearchReq;
+import com.back.domain.member.savedSearch.service.SavedSearchService;
+import com.back.global.response.ApiResponse;
+import com.back.global.security.CustomUserDetails;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/members/me/saved-searches")
+@RequiredArgsConstructor
+public class ApiV1SavedSearchController {
+    private final SavedSearchService savedSearchService;
+    private final MemberService memberService;
+
+    @GetMapping
+    public ApiResponse<List<SavedSearchDto>> getMySavedSearches(@AuthenticationPrincipal CustomUserDetails user) {
+        Member member = memberService.findById(user.getId());
+        List<SavedSearchDto> savedSearches = savedSearchService.findMine(member).stream()
+                .map(SavedSearchDto::new)
+                .toList();
+        return new ApiResponse<>("200-1", "저장된 검색 조건 목록 조회 성공", savedSearches);
+    }
+
+    @PostMapping
+    public ApiResponse<SavedSearchDto> create(
+            @AuthenticationPrincipal CustomUserDetails user,
+            @RequestBody SavedSearchReq req
+    ) {
+        Member member = memberService.findById(user.getId());
+        SavedSearchDto savedSearch = new SavedSearchDto(savedSearchService.create(member, req));
+        return new ApiResponse<>(
+                "201-1",
+                "%d번 검색 조건이 저장되었습니다.".formatted(savedSearch.id()),
+                savedSearch
+        );
+    }
+
+    @DeleteMapping("/{id}")
+    public ApiResponse<Void> delete(
+            @AuthenticationPrincipal CustomUserDetails user,
+            @PathVariable long id
+    ) {
+        Member member = memberService.findById(user.getId());
+        savedSearchService.delete(member, id);
+        return new ApiResponse<>("200-1", "%d번 검색 조건이 삭제되었습니다.".formatted(id));
+    }
+}
@@ -0,0 +1,29 @@
+package com.back.domain.member.savedSearch.dto;
+
+import com.back.domain.member.savedSearch.entity.SavedSearch;
+import com.back.domain.project.project.constant.ProjectStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record SavedSearchDto(
+        Long id,
+        String keywordType,
+        String keyword,
+        List<Long> skillIds,
+        List<Long> interestIds,
+        ProjectStatus status,
+        LocalDateTime createDate
+) {
+    public SavedSearchDto(SavedSearch savedSearch) {
+        this(
+                savedSearch.getId(),
+                savedSearch.getKeywordType(),
+                savedSearch.getKeyword(),
+                savedSearch.getSkillIds(),
+                savedSearch.getInterestIds(),
+                savedSearch.getStatus(),
+                savedSearch.getCreateDate()
+        );
+    }
+}
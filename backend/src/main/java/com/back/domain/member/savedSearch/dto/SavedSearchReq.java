@@ -0,0 +1,20 @@
+package com.back.domain.member.savedSearch.dto;
+
+import com.back.domain.project.project.constant.ProjectStatus;
+
+import java.util.List;
+
+public record SavedSearchReq(
+        String keywordType,
+        String keyword,
+        List<Long> skillIds,
+        List<Long> interestIds,
+        ProjectStatus status
+) {
+    public boolean isEmpty() {
+        return (keyword == null || keyword.isBlank())
+                && (skillIds == null || skillIds.isEmpty())
+                && (interestIds == null || interestIds.isEmpty())
+                && status == null;
+    }
+}
@@ -0,0 +1,47 @@
+package com.back.domain.member.savedSearch.entity;
+
+import com.back.domain.member.member.entity.Member;
+import com.back.domain.project.project.constant.ProjectStatus;
+import com.back.global.jpa.entity.BaseEntity;
+import com.back.standard.converter.LongListConverter;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 프로젝트 검색 조건 저장 (ProjectSearchDto 와 같은 의미) – 새 프로젝트가 걸리면 알림
+@Entity
+@Getter
+@NoArgsConstructor
+public class SavedSearch extends BaseEntity {
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id", nullable = false)
+    private Member member;
+
+    private String keywordType;
+
+    private String keyword;
+
+    @Convert(converter = LongListConverter.class)
+    @Column(length = 1000)
+    private List<Long> skillIds = new ArrayList<>();
+
+    @Convert(converter = LongListConverter.class)
+    @Column(length = 1000)
+    private List<Long> interestIds = new ArrayList<>();
+
+    @Enumerated(EnumType.STRING)
+    private ProjectStatus status;
+
+    public SavedSearch(Member member, String keywordType, String keyword,
+                       List<Long> skillIds, List<Long> interestIds, ProjectStatus status) {
+        this.member = member;
+        this.keywordType = keywordType;
+        this.keyword = keyword;
+        this.skillIds = skillIds == null ? new ArrayList<>() : new ArrayList<>(skillIds);
+        this.interestIds = interestIds == null ? new ArrayList<>() : new ArrayList<>(interestIds);
+        this.status = status;
+    }
+}
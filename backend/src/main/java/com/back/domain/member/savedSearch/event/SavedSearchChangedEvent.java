@@ -0,0 +1,7 @@
+package com.back.domain.member.savedSearch.event;
+
+/**
+ * 저장된 검색 조건 추가/삭제 알림 – 커밋 후 역색인에 반영한다.
+ */
+public record SavedSearchChangedEvent(long savedSearchId, boolean removed) {
+}
@@ -0,0 +1,13 @@
+package com.back.domain.member.savedSearch.repository;
+
+import com.back.domain.member.member.entity.Member;
+import com.back.domain.member.savedSearch.entity.SavedSearch;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface SavedSearchRepository extends JpaRepository<SavedSearch, Long> {
+    List<SavedSearch> findAllByMemberOrderByIdDesc(Member member);
+
+    long countByMember(Member member);
+}
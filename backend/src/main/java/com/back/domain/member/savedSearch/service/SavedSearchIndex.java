@@ -0,0 +1,191 @@
+package com.back.domain.member.savedSearch.service;
+
+import com.back.domain.project.project.constant.ProjectStatus;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 저장된 검색 조건 역색인 (percolation) – 새 프로젝트 하나로 걸릴 수 있는 조건만 골라 검사한다.
+ *
+ * 조건마다 "반드시 만족해야 하는" 앵커 하나에만 등록한다.
+ * - 스킬 조건이 있으면 첫 스킬 id (스킬은 전부 포함이어야 하므로)
+ * - 없으면 키워드의 첫 글자쌍 (부분 문자열 일치면 키워드의 모든 글자쌍이 본문에 있다)
+ * - 없으면 첫 관심분야 id, 그것도 없으면 항상 검사하는 목록
+ * 후보를 뽑은 뒤에는 ProjectRepositoryImpl.searchProjects 와 같은 규칙으로 최종 확인한다.
+ */
+final class SavedSearchIndex {
+
+    record Query(long id, long memberId, String keywordType, String keyword,
+                 long[] skillIds, long[] interestIds, ProjectStatus status) {
+
+        static Query of(long id, long memberId, String keywordType, String keyword,
+                        Collection<Long> skillIds, Collection<Long> interestIds, ProjectStatus status) {
+            String field = keywordField(keywordType);
+            String normalized = field == null || keyword == null || keyword.isBlank()
+                    ? null : keyword.toLowerCase(Locale.ROOT);
+            return new Query(id, memberId, field, normalized, sorted(skillIds), sorted(interestIds), status);
+        }
+    }
+
+    record Doc(String title, String summary, String description, ProjectStatus status,
+               Set<Long> skillIds, Set<Long> interestIds) {
+    }
+
+    private final Map<Long, Query> queries = new HashMap<>();
+    private final Map<Long, Set<Long>> bySkill = new HashMap<>();
+    private final Map<String, Set<Long>> byBigram = new HashMap<>();
+    private final Map<Long, Set<Long>> byInterest = new HashMap<>();
+    private final Set<Long> unanchored = new HashSet<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    void replaceAll(List<Query> all) {
+        lock.writeLock().lock();
+        try {
+            queries.clear();
+            bySkill.clear();
+            byBigram.clear();
+            byInterest.clear();
+            unanchored.clear();
+            for (Query q : all) addLocked(q);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void put(Query q) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(q.id());
+            addLocked(q);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return queries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 새 프로젝트에 걸리는 조건들의 회원 id (중복 제거, 등록 순서 무관) */
+    Set<Long> match(Doc doc) {
+        String title = lower(doc.title());
+        String summary = lower(doc.summary());
+        String description = lower(doc.description());
+
+        Set<Long> members = new LinkedHashSet<>();
+        lock.readLock().lock();
+        try {
+            Set<Long> candidates = new HashSet<>(unanchored);
+            for (Long skill : doc.skillIds()) collect(bySkill.get(skill), candidates);
+            for (Long interest : doc.interestIds()) collect(byInterest.get(interest), candidates);
+            if (!byBigram.isEmpty()) {
+                for (String text : new String[]{title, summary, description}) {
+                    for (int i = 0; i + 2 <= text.length(); i++) collect(byBigram.get(text.substring(i, i + 2)), candidates);
+                }
+            }
+
+            for (Long id : candidates) {
+                Query q = queries.get(id);
+                if (q != null && !members.contains(q.memberId()) && matches(q, doc, title, summary, description)) {
+                    members.add(q.memberId());
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return members;
+    }
+
+    private static boolean matches(Query q, Doc doc, String title, String summary, String description) {
+        if (q.status() != null && q.status() != doc.status()) return false;
+        for (long skill : q.skillIds()) if (!doc.skillIds().contains(skill)) return false;
+        for (long interest : q.interestIds()) if (!doc.interestIds().contains(interest)) return false;
+        if (q.keyword() == null) return true;
+
+        return switch (q.keywordType()) {
+            case "title" -> title.contains(q.keyword());
+            case "summary" -> summary.contains(q.keyword());
+            case "description" -> description.contains(q.keyword());
+            default -> title.contains(q.keyword()) || summary.contains(q.keyword()) || description.contains(q.keyword());
+        };
+    }
+
+    private void addLocked(Query q) {
+        queries.put(q.id(), q);
+        if (q.skillIds().length > 0) {
+            bySkill.computeIfAbsent(q.skillIds()[0], k -> new HashSet<>()).add(q.id());
+        } else if (q.keyword() != null && q.keyword().length() >= 2) {
+            byBigram.computeIfAbsent(q.keyword().substring(0, 2), k -> new HashSet<>()).add(q.id());
+        } else if (q.interestIds().length > 0) {
+            byInterest.computeIfAbsent(q.interestIds()[0], k -> new HashSet<>()).add(q.id());
+        } else {
+            unanchored.add(q.id());
+        }
+    }
+
+    private void removeLocked(long id) {
+        Query q = queries.remove(id);
+        if (q == null) return;
+        if (q.skillIds().length > 0) {
+            detach(bySkill, q.skillIds()[0], id);
+        } else if (q.keyword() != null && q.keyword().length() >= 2) {
+            detach(byBigram, q.keyword().substring(0, 2), id);
+        } else if (q.interestIds().length > 0) {
+            detach(byInterest, q.interestIds()[0], id);
+        } else {
+            unanchored.remove(id);
+        }
+    }
+
+    private static <K> void detach(Map<K, Set<Long>> index, K key, long id) {
+        Set<Long> bucket = index.get(key);
+        if (bucket == null) return;
+        bucket.remove(id);
+        if (bucket.isEmpty()) index.remove(key);
+    }
+
+    private static void collect(Set<Long> bucket, Set<Long> into) {
+        if (bucket != null) into.addAll(bucket);
+    }
+
+    // 검색 API 와 같은 규칙: null/"all" 은 전체, 알 수 없는 값이면 키워드 조건 없음(null)
+    private static String keywordField(String keywordType) {
+        if (keywordType == null || keywordType.equals("all")) return "all";
+        String type = keywordType.toLowerCase(Locale.ROOT);
+        return switch (type) {
+            case "title", "summary", "description" -> type;
+            default -> null;
+        };
+    }
+
+    private static long[] sorted(Collection<Long> ids) {
+        if (ids == null) return new long[0];
+        return ids.stream().mapToLong(Long::longValue).distinct().sorted().toArray();
+    }
+
+    private static String lower(String s) {
+        return s == null ? "" : s.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,165 @@
+package com.back.domain.member.savedSearch.service;
+
+import com.back.domain.member.savedSearch.entity.SavedSearch;
+import com.back.domain.member.savedSearch.event.SavedSearchChangedEvent;
+import com.back.domain.member.savedSearch.repository.SavedSearchRepository;
+import com.back.domain.notification.notification.service.NotificationService;
+import com.back.domain.project.project.event.ProjectCreatedEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 새 프로젝트 등록 커밋 후 저장된 검색 조건과 역매칭해 알림을 만든다.
+ * 조건 목록은 부팅 시 한 번 읽고, 이후 추가/삭제는 SavedSearchChangedEvent 로 반영한다.
+ *
+ * 역색인은 노드마다 있고 프로젝트 등록 알림은 등록을 처리한 노드에서 한 번만 만든다.
+ * 그래서 조건 추가/삭제는 Redis 채널(savedSearch:changed)로 모든 노드의 역색인에 전달하고,
+ * 알림이 누락되지 않도록 주기적으로(reloadIntervalMs) 전체를 다시 읽는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SavedSearchPercolator {
+
+    public static final String CHANNEL = "savedSearch:changed";
+
+    private final SavedSearchRepository savedSearchRepository;
+    private final NotificationService notificationService;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    // 노드 간 변경 전달 (Redis pub/sub) – 단일 노드/테스트에서는 끌 수 있음
+    @Value("${custom.savedSearch.broadcast.enabled:true}")
+    private boolean broadcast;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final SavedSearchIndex index = new SavedSearchIndex();
+
+    // 전체 재적재 중 들어온 변경 {id, 삭제 여부} – 교체 후 다시 반영한다
+    private volatile Queue<long[]> pending;
+
+    @PostConstruct
+    public void subscribe() {
+        if (!broadcast) return;
+
+        try {
+            redisMessageListenerContainer.addMessageListener(
+                    (message, pattern) -> onBroadcast(new String(message.getBody(), StandardCharsets.UTF_8)),
+                    new ChannelTopic(CHANNEL));
+        } catch (RuntimeException e) {
+            log.warn("저장된 검색 조건 채널 구독 실패 – 다른 노드의 변경은 주기 재적재 때 반영됩니다.", e);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void init() {
+        reload();
+    }
+
+    @Scheduled(initialDelayString = "${custom.savedSearch.reloadIntervalMs:600000}",
+            fixedDelayString = "${custom.savedSearch.reloadIntervalMs:600000}")
+    @Transactional(readOnly = true)
+    public synchronized void reload() {
+        Queue<long[]> arrived = new ConcurrentLinkedQueue<>();
+        pending = arrived;
+        try {
+            List<SavedSearchIndex.Query> all = savedSearchRepository.findAll().stream()
+                    .map(SavedSearchPercolator::toQuery)
+                    .toList();
+            index.replaceAll(all);
+            log.info("저장된 검색 조건 역색인 적재: searches={}", all.size());
+        } finally {
+            pending = null;
+        }
+        // 적재 중에 들어온 변경은 교체된 색인에 다시 반영 (put/remove 는 여러 번 해도 같은 결과)
+        for (long[] change; (change = arrived.poll()) != null; ) apply(change[0], change[1] != 0);
+    }
+
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onSavedSearchChanged(SavedSearchChangedEvent event) {
+        apply(event.savedSearchId(), event.removed());
+        if (!broadcast) return;
+
+        try {
+            redisTemplate.convertAndSend(CHANNEL, nodeId + "|" + event.savedSearchId() + "|" + event.removed());
+        } catch (DataAccessException e) {
+            log.warn("저장된 검색 조건 변경 알림 발행 실패: savedSearchId={}", event.savedSearchId(), e);
+        }
+    }
+
+    private void onBroadcast(String message) {
+        String[] parts = message.split("\\|");
+        if (parts.length != 3) {
+            log.warn("알 수 없는 저장된 검색 조건 변경 알림: {}", message);
+            return;
+        }
+        if (nodeId.equals(parts[0])) return;
+
+        try {
+            apply(Long.parseLong(parts[1]), Boolean.parseBoolean(parts[2]));
+        } catch (RuntimeException e) {
+            log.warn("저장된 검색 조건 변경 반영 실패: {}, cause={}", message, e.getMessage());
+        }
+    }
+
+    private void apply(long savedSearchId, boolean removed) {
+        Queue<long[]> reloading = pending;
+        if (reloading != null) reloading.add(new long[]{savedSearchId, removed ? 1 : 0});
+
+        if (removed) {
+            index.remove(savedSearchId);
+            return;
+        }
+        savedSearchRepository.findById(savedSearchId)
+                .ifPresent(savedSearch -> index.put(toQuery(savedSearch)));
+    }
+
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onProjectCreated(ProjectCreatedEvent event) {
+        try {
+            Set<Long> members = index.match(new SavedSearchIndex.Doc(
+                    event.title(), event.summary(), event.description(), event.status(),
+                    new HashSet<>(event.skillIds()), new HashSet<>(event.interestIds())));
+            notificationService.notifySavedSearchMatch(members, event.projectId(), event.title());
+        } catch (RuntimeException e) {
+            // 알림 실패가 프로젝트 등록 응답을 깨뜨리지 않도록
+            log.warn("저장된 검색 조건 알림 실패. projectId={}, cause={}", event.projectId(), e.getMessage());
+        }
+    }
+
+    private static SavedSearchIndex.Query toQuery(SavedSearch savedSearch) {
+        return SavedSearchIndex.Query.of(
+                savedSearch.getId(),
+                savedSearch.getMember().getId(),
+                savedSearch.getKeywordType(),
+                savedSearch.getKeyword(),
+                savedSearch.getSkillIds(),
+                savedSearch.getInterestIds(),
+                savedSearch.getStatus()
+        );
+    }
+}
@@ -0,0 +1,62 @@
+package com.back.domain.member.savedSearch.service;
+
+import com.back.domain.member.member.entity.Member;
+import com.back.domain.member.savedSearch.dto.SavedSearchReq;
+import com.back.domain.member.savedSearch.entity.SavedSearch;
+import com.back.domain.member.savedSearch.event.SavedSearchChangedEvent;
+import com.back.domain.member.savedSearch.repository.SavedSearchRepository;
+import com.back.global.exception.ServiceException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class SavedSearchService {
+    private final SavedSearchRepository savedSearchRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 회원당 저장할 수 있는 검색 조건 수
+    @Value("${custom.savedSearch.maxPerMember:20}")
+    private int maxPerMember;
+
+    @Transactional(readOnly = true)
+    public List<SavedSearch> findMine(Member member) {
+        return savedSearchRepository.findAllByMemberOrderByIdDesc(member);
+    }
+
+    @Transactional
+    public SavedSearch create(Member member, SavedSearchReq req) {
+        if (!member.isFreelancer()) {
+            throw new ServiceException("403-1", "프리랜서만 검색 조건을 저장할 수 있습니다.");
+        }
+        if (req.isEmpty()) {
+            throw new ServiceException("400-1", "저장할 검색 조건이 없습니다.");
+        }
+        if (savedSearchRepository.countByMember(member) >= maxPerMember) {
+            throw new ServiceException("400-2", "검색 조건은 최대 %d개까지 저장할 수 있습니다.".formatted(maxPerMember));
+        }
+
+        SavedSearch savedSearch = savedSearchRepository.save(new SavedSearch(
+                member, req.keywordType(), req.keyword(), req.skillIds(), req.interestIds(), req.status()));
+        eventPublisher.publishEvent(new SavedSearchChangedEvent(savedSearch.getId(), false));
+        return savedSearch;
+    }
+
+    @Transactional
+    public void delete(Member member, long id) {
+        SavedSearch savedSearch = savedSearchRepository.findById(id).orElseThrow(
+                () -> new ServiceException("404-1", "해당 검색 조건이 존재하지 않습니다.")
+        );
+        if (!savedSearch.getMember().getId().equals(member.getId())) {
+            throw new ServiceException("403-2", "권한이 없습니다.");
+        }
+
+        savedSearchRepository.delete(savedSearch);
+        eventPublisher.publishEvent(new SavedSearchChangedEvent(id, true));
+    }
+}
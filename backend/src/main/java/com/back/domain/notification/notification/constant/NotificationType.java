@@ -0,0 +1,14 @@
+package com.back.domain.notification.notification.constant;
+
+import lombok.Getter;
+
+@Getter
+public enum NotificationType {
+    SAVED_SEARCH_MATCH("저장한 검색 조건과 일치하는 새 프로젝트");
+
+    private final String label;
+
+    NotificationType(String label) {
+        this.label = label;
+    }
+}
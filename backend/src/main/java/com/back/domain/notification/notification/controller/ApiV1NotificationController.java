@@ -0,0 +1,51 @@
+package com.back.domain.notification.notification.controller;
+
+import com.back.domain.member.member.entity.Member;
+import com.back.domain.member.member.service.MemberService;
+import com.back.domain.notification.notification.dto.NotificationDto;
+import com.back.domain.notification.notification.service.NotificationService;
+import com.back.global.response.ApiResponse;
+import com.back.global.security.CustomUserDetails;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/notifications")
+@RequiredArgsConstructor
+public class ApiV1NotificationController {
+    private final NotificationService notificationService;
+    private final MemberService memberService;
+
+    @GetMapping
+    public ApiResponse<Page<NotificationDto>> getMyNotifications(
+            @AuthenticationPrincipal CustomUserDetails user,
+            @PageableDefault(size = 20) Pageable pageable
+    ) {
+        Member member = memberService.findById(user.getId());
+        Page<NotificationDto> page = notificationService.findMine(member, pageable).map(NotificationDto::new);
+        return new ApiResponse<>("200-1", "알림 목록 조회 성공", page);
+    }
+
+    @GetMapping("/unread-count")
+    public ApiResponse<Long> getUnreadCount(@AuthenticationPrincipal CustomUserDetails user) {
+        Member member = memberService.findById(user.getId());
+        return new ApiResponse<>("200-1", "읽지 않은 알림 수 조회 성공", notificationService.countUnread(member));
+    }
+
+    @PatchMapping("/{id}/read")
+    public ApiResponse<NotificationDto> read(
+            @AuthenticationPrincipal CustomUserDetails user,
+            @PathVariable long id
+    ) {
+        Member member = memberService.findById(user.getId());
+        return new ApiResponse<>(
+                "200-1",
+                "%d번 알림을 읽음 처리했습니다.".formatted(id),
+                new NotificationDto(notificationService.markRead(member, id))
+        );
+    }
+}
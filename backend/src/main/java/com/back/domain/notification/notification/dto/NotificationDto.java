@@ -0,0 +1,26 @@
+package com.back.domain.notification.notification.dto;
+
+import com.back.domain.notification.notification.constant.NotificationType;
+import com.back.domain.notification.notification.entity.Notification;
+
+import java.time.LocalDateTime;
+
+public record NotificationDto(
+        Long id,
+        NotificationType type,
+        String message,
+        Long targetId,
+        boolean isRead,
+        LocalDateTime createDate
+) {
+    public NotificationDto(Notification notification) {
+        this(
+                notification.getId(),
+                notification.getType(),
+                notification.getMessage(),
+                notification.getTargetId(),
+                notification.isRead(),
+                notification.getCreateDate()
+        );
+    }
+}
@@ -0,0 +1,40 @@
+package com.back.domain.notification.notification.entity;
+
+import com.back.domain.member.member.entity.Member;
+import com.back.domain.notification.notification.constant.NotificationType;
+import com.back.global.jpa.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "notification", indexes = @Index(name = "idx_notification_receiver", columnList = "member_id, id"))
+public class Notification extends BaseEntity {
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id", nullable = false)
+    private Member receiver;
+
+    @Enumerated(EnumType.STRING)
+    private NotificationType type;
+
+    private String message;
+
+    // 알림 대상 id (SAVED_SEARCH_MATCH: 프로젝트 id)
+    private Long targetId;
+
+    private boolean isRead;
+
+    public Notification(Member receiver, NotificationType type, String message, Long targetId) {
+        this.receiver = receiver;
+        this.type = type;
+        this.message = message;
+        this.targetId = targetId;
+        this.isRead = false;
+    }
+
+    public void markRead() {
+        this.isRead = true;
+    }
+}
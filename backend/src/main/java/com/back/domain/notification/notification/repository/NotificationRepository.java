@@ -0,0 +1,13 @@
+package com.back.domain.notification.notification.repository;
+
+import com.back.domain.member.member.entity.Member;
+import com.back.domain.notification.notification.entity.Notification;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface NotificationRepository extends JpaRepository<Notification, Long> {
+    Page<Notification> findAllByReceiverOrderByIdDesc(Member receiver, Pageable pageable);
+
+    long countByReceiverAndIsReadFalse(Member receiver);
+}
@@ -0,0 +1,56 @@
+package com.back.domain.notification.notification.service;
+
+import com.back.domain.member.member.entity.Member;
+import com.back.domain.member.member.repository.MemberRepository;
+import com.back.domain.notification.notification.constant.NotificationType;
+import com.back.domain.notification.notification.entity.Notification;
+import com.back.domain.notification.notification.repository.NotificationRepository;
+import com.back.global.exception.ServiceException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+
+@Service
+@RequiredArgsConstructor
+public class NotificationService {
+    private final NotificationRepository notificationRepository;
+    private final MemberRepository memberRepository;
+
+    /** 저장된 검색 조건에 걸린 회원들에게 새 프로젝트 알림 (회원당 1건) */
+    @Transactional
+    public void notifySavedSearchMatch(Collection<Long> memberIds, long projectId, String projectTitle) {
+        if (memberIds.isEmpty()) return;
+
+        String message = "저장한 검색 조건과 일치하는 새 프로젝트가 등록되었습니다: %s".formatted(projectTitle);
+        notificationRepository.saveAll(memberIds.stream()
+                .map(memberRepository::getReferenceById)
+                .map(member -> new Notification(member, NotificationType.SAVED_SEARCH_MATCH, message, projectId))
+                .toList());
+    }
+
+    @Transactional(readOnly = true)
+    public Page<Notification> findMine(Member member, Pageable pageable) {
+        return notificationRepository.findAllByReceiverOrderByIdDesc(member, pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public long countUnread(Member member) {
+        return notificationRepository.countByReceiverAndIsReadFalse(member);
+    }
+
+    @Transactional
+    public Notification markRead(Member member, long id) {
+        Notification notification = notificationRepository.findById(id).orElseThrow(
+                () -> new ServiceException("404-1", "해당 알림이 존재하지 않습니다.")
+        );
+        if (!notification.getReceiver().getId().equals(member.getId())) {
+            throw new ServiceException("403-1", "권한이 없습니다.");
+        }
+        notification.markRead();
+        return notification;
+    }
+}
@@ -1,33 +1,41 @@
 package com.back.domain.project.project.controller;
 
 import com.back.domain.client.client.entity.Client;
-import com.back.domain.common.interest.dto.InterestDto;
-import com.back.domain.common.interest.service.InterestService;
-import com.back.domain.common.skill.dto.SkillDto;
-import com.back.domain.common.skill.service.SkillService;
 import com.back.domain.member.member.dto.ProfileResponseDto;
 import com.back.domain.member.member.entity.Member;
 import com.back.domain.member.member.service.MemberService;
 import com.back.domain.project.project.dto.*;
 import com.back.domain.project.project.entity.Project;
+import com.back.domain.project.project.service.ProjectDtoAssembler;
 import com.back.domain.project.project.service.ProjectService;
+import com.back.domain.recommendations.recommendations.service.RecommendationService;
+import com.back.domain.recommendations.recommendations.view.ProjectScoreView;
 import com.back.global.exception.ServiceException;
 import com.back.global.response.ApiResponse;
 import com.back.global.security.CustomUserDetails;
 import com.back.global.security.annotation.OnlyActiveMember;
+import com.back.standard.facet.FacetedPage;
+import com.back.standard.json.NdjsonWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
-import java.util.stream.Collectors;
 
+@Slf4j
 @RestController
 @RequestMapping("/api/v1/projects")
 @RequiredArgsConstructor
@@ -35,8 +43,9 @@ import java.util.stream.Collectors;
 public class ApiV1ProjectController {
     private final ProjectService projectService;
     private final MemberService memberService;
-    private final SkillService skillService;
-    private final InterestService interestService;
+    private final ProjectDtoAssembler projectDtoAssembler;
+    private final RecommendationService recommendationService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     @Transactional
@@ -63,15 +72,11 @@ public class ApiV1ProjectController {
                 reqBody.interests()
         );
 
-        // 저장된 Project의 skill, interest 정보 가져오기
-        List<SkillDto> skillDtoList = skillService.findByProjectId(project.getId());
-        List<InterestDto> interestDtoList = interestService.findByProjectId(project.getId());
-
         return new ApiResponse<>(
                 "201-1",
                 "%d번 프로젝트가 생성되었습니다.".formatted(project.getId()),
-                // skill, interest 데이터 넣기
-                new ProjectDto(project, skillDtoList, interestDtoList)
+                // 저장된 Project의 skill, interest 데이터 넣기
+                projectDtoAssembler.toDto(project)
         );
     }
 
@@ -129,50 +134,88 @@ public class ApiV1ProjectController {
                 reqBody.interests()
         );
 
-        // ProjectSkill, ProjectInterest 연관 데이터 DTO로 변환
-        List<SkillDto> skillDtoList = skillService.findByProjectId(project.getId());
-        List<InterestDto> interestDtoList = interestService.findByProjectId(project.getId());
-
         return new ApiResponse<>(
                 "200-1",
                 "%d번 프로젝트가 수정되었습니다.".formatted(project.getId()),
-                new ProjectDto(project, skillDtoList, interestDtoList)
+                // ProjectSkill, ProjectInterest 연관 데이터 DTO로 변환
+                projectDtoAssembler.toDto(project)
         );
     }
 
     @GetMapping("/{id}")
     @Transactional(readOnly = true)
     public ApiResponse<ProjectDto> getItem(@PathVariable long id) {
-        Project project = projectService.findById(id);
-        List<SkillDto> skillDtoList = skillService.findByProjectId(id);
-        List<InterestDto> interestDtoList = interestService.findByProjectId(id);
+        Project project = projectService.findByIdWithAuthor(id);
+        List<AlsoAppliedProjectDto> alsoApplied = projectService.findAlsoApplied(id);
         return new ApiResponse<>(
                 "200-1",
                 "%d번 프로젝트 조회 성공".formatted(id),
-                new ProjectDto(project, skillDtoList, interestDtoList)
+                projectDtoAssembler.toDto(project, alsoApplied)
+        );
+    }
+
+    @GetMapping("/{id}/similar")
+    public ApiResponse<List<ProjectScoreView>> getSimilar(
+            @PathVariable long id,
+            @RequestParam(defaultValue = "5") int size
+    ) {
+        return new ApiResponse<>(
+                "200-1",
+                "%d번 프로젝트와 비슷한 프로젝트 조회 성공".formatted(id),
+                recommendationService.similarProjects(id, size)
         );
     }
 
-    // 테스트용으로 만든 다건 조회이기에 임시로 "/all" 붙임 처리함 이후 삭제하거나 수정할 예정
+    // 전체 내보내기 – 한 줄에 프로젝트 하나씩 NDJSON 으로 흘려보낸다 (청크마다 flush)
+    // 중간에 실패하면 이미 보낸 줄/상태 코드를 되돌릴 수 없으므로 스트림 안에서 처리한다 – 에러 줄 하나를 쓰고 끝낸다
     @GetMapping("/all")
-    @Transactional(readOnly = true)
-    public List<ProjectDto> getItems() {
-        return projectService.getList().stream()
-                .map(project -> {
-                    List<SkillDto> skillDtoList = skillService.findByProjectId(project.getId());
-                    List<InterestDto> interestDtoList = interestService.findByProjectId(project.getId());
-                    return new ProjectDto(project, skillDtoList, interestDtoList);
-                })
-                .collect(Collectors.toList());
+    public void getItems(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        try (NdjsonWriter writer = new NdjsonWriter(objectMapper, response.getOutputStream())) {
+            try {
+                projectService.exportAll(chunk -> {
+                    try {
+                        for (ProjectDto dto : chunk) {
+                            writer.write(dto);
+                        }
+                        writer.flush();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                // 클라이언트가 연결을 끊음 – 더 쓸 곳이 없다
+                log.warn("프로젝트 내보내기 중 출력 실패. cause={}", e.getMessage());
+            } catch (RuntimeException e) {
+                log.error("프로젝트 내보내기 실패", e);
+                writeErrorLine(writer);
+            }
+        }
+    }
+
+    // 마지막 줄: 받는 쪽이 목록이 중간에 끊겼음을 알 수 있게 ApiResponse 형태의 에러 한 줄
+    private void writeErrorLine(NdjsonWriter writer) {
+        try {
+            writer.write(new ApiResponse<>("500-1", "프로젝트 내보내기 중 오류가 발생했습니다."));
+            writer.flush();
+        } catch (IOException | RuntimeException e) {
+            log.warn("내보내기 에러 줄 출력 실패. cause={}", e.getMessage());
+        }
     }
 
     @GetMapping
     @Transactional(readOnly = true)
     public ApiResponse<Page<ProjectSummaryDto>> searchProjects(
             @ModelAttribute ProjectSearchDto searchDto,
+            @RequestParam(defaultValue = "false") boolean facets,
             @PageableDefault(size = 10, sort = "createDate", direction = Sort.Direction.DESC) Pageable pageable
     ) {
         Page<ProjectSummaryDto> page = projectService.search(searchDto, pageable);
+        if (facets) {
+            page = new FacetedPage<>(page, projectService.findFacets(searchDto));
+        }
         return new ApiResponse<>("200-1", "조회 성공", page);
     }
 
@@ -0,0 +1,16 @@
+package com.back.domain.project.project.dto;
+
+import com.back.domain.project.project.constant.ProjectStatus;
+import com.back.domain.project.project.entity.Project;
+
+// 이 프로젝트 지원자들이 함께 지원한 프로젝트 (sharedApplicants: 겹치는 지원자 수)
+public record AlsoAppliedProjectDto(
+        Long id,
+        String title,
+        ProjectStatus status,
+        int sharedApplicants
+) {
+    public AlsoAppliedProjectDto(Project project, int sharedApplicants) {
+        this(project.getId(), project.getTitle(), project.getStatus(), sharedApplicants);
+    }
+}
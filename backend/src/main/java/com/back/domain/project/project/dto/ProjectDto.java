@@ -3,7 +3,6 @@ package com.back.domain.project.project.dto;
 import com.back.domain.common.interest.dto.InterestDto;
 import com.back.domain.common.skill.dto.SkillDto;
 import com.back.domain.freelancer.freelancer.dto.FreelancerSummary;
-import com.back.domain.project.participant.entity.ProjectParticipant;
 import com.back.domain.project.project.constant.ProjectStatus;
 import com.back.domain.project.project.entity.Project;
 
@@ -29,9 +28,12 @@ public record ProjectDto(
         String ownerName,
         List<SkillDto> skills,
         List<InterestDto> interests,
-        List<FreelancerSummary> participants
+        List<FreelancerSummary> participants,
+        List<AlsoAppliedProjectDto> alsoAppliedProjects
 ) {
-    public ProjectDto (Project project, List<SkillDto> skills, List<InterestDto> interests) {
+    // 스킬/관심분야/참여자는 ProjectDtoAssembler 가 여러 프로젝트 분을 한꺼번에 읽어 넘긴다 (client/member 는 fetch join 된 것)
+    public ProjectDto (Project project, List<SkillDto> skills, List<InterestDto> interests,
+                       List<FreelancerSummary> participants, List<AlsoAppliedProjectDto> alsoAppliedProjects) {
         this(
                 project.getId(),
                 project.getTitle(),
@@ -50,10 +52,8 @@ public record ProjectDto(
                 project.getClient().getMember().getName(),
                 skills,
                 interests,
-                project.getProjectParticipants().stream()
-                        .map(ProjectParticipant::getFreelancer)
-                        .map(FreelancerSummary::new)
-                        .toList()
+                participants,
+                alsoAppliedProjects
         );
     }
 }
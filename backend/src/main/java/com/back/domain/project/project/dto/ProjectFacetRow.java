@@ -0,0 +1,10 @@
+package com.back.domain.project.project.dto;
+
+import com.back.domain.project.project.constant.ProjectStatus;
+
+// 패싯 색인 적재용 프로젝트 행
+public record ProjectFacetRow(
+        Long id,
+        ProjectStatus status
+) {
+}
@@ -0,0 +1,15 @@
+package com.back.domain.project.project.dto;
+
+import com.back.domain.project.project.constant.ProjectStatus;
+import com.back.standard.facet.FacetCount;
+
+import java.util.List;
+import java.util.Map;
+
+// 프로젝트 목록 검색 패싯 (현재 검색 조건에 맞는 프로젝트 기준 건수)
+public record ProjectFacets(
+        List<FacetCount> skills,
+        List<FacetCount> interests,
+        Map<ProjectStatus, Integer> statuses
+) {
+}
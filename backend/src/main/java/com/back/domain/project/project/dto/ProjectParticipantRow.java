@@ -0,0 +1,12 @@
+package com.back.domain.project.project.dto;
+
+// 프로젝트 상세 DTO 조립용 참여 프리랜서 행 (여러 프로젝트를 IN 한 번으로)
+public record ProjectParticipantRow(
+        Long projectId,
+        Long freelancerId,
+        Long memberId,
+        String name,
+        Integer careerTotalYears,
+        double ratingAvg
+) {
+}
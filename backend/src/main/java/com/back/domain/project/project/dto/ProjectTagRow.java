@@ -0,0 +1,9 @@
+package com.back.domain.project.project.dto;
+
+// 패싯 색인 적재용 프로젝트-스킬 / 프로젝트-관심분야 행
+public record ProjectTagRow(
+        Long projectId,
+        Long id,
+        String name
+) {
+}
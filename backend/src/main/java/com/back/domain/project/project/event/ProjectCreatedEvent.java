@@ -0,0 +1,20 @@
+package com.back.domain.project.project.event;
+
+import com.back.domain.project.project.constant.ProjectStatus;
+
+import java.util.List;
+
+/**
+ * 새 프로젝트 등록 알림 (커밋 후 저장된 검색 조건 역매칭에 사용).
+ * 매칭에 필요한 필드를 함께 실어 리스너가 프로젝트를 다시 읽지 않게 한다.
+ */
+public record ProjectCreatedEvent(
+        long projectId,
+        String title,
+        String summary,
+        String description,
+        ProjectStatus status,
+        List<Long> skillIds,
+        List<Long> interestIds
+) {
+}
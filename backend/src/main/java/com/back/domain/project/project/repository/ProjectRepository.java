@@ -1,12 +1,17 @@
 package com.back.domain.project.project.repository;
 
 import com.back.domain.project.project.entity.Project;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -17,22 +22,31 @@ public interface ProjectRepository extends JpaRepository<Project, Long>, Project
     @Query("SELECT p FROM Project p JOIN FETCH p.client c JOIN FETCH c.member WHERE p.id = :id")
     Optional<Project> findByIdWithAuthor(Long id);
 
+    // 전체 내보내기용 전방 커서 – fetch size 만큼씩 끊어 읽는다 (MySQL 은 useCursorFetch=true 라야 서버 커서)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT p FROM Project p JOIN FETCH p.client c JOIN FETCH c.member ORDER BY p.id")
+    Stream<Project> streamAllWithOwner();
+
     List<Project> findAllByClientMemberIdOrderByIdDesc(Long memberId);
 
     @Query("select p from Project p where p.client.id = :clientId")
     Page<Project> findByClientId(@Param("clientId") Long clientId, Pageable pageable);
 
+    @Query("select p.id from Project p where p.client.id = :clientId and p.id in :ids")
+    List<Long> findIdsByClientIdAndIdIn(@Param("clientId") Long clientId, @Param("ids") Collection<Long> ids);
+
+    // 참여 프로젝트 – 작성자만 fetch join, 스킬/관심분야는 ProjectDtoAssembler 가 IN 으로 한꺼번에
     @Query(
             """
-                    SELECT DISTINCT p FROM Project p
-                    JOIN FETCH p.projectParticipants pp
-                    JOIN FETCH pp.freelancer f
-                    JOIN FETCH p.projectSkills ps
-                    JOIN FETCH ps.skill s
-                    JOIN FETCH p.projectInterests pi
-                    JOIN FETCH pi.interest i
-                    WHERE f.id = :freelancerId
+                    SELECT p FROM Project p
+                    JOIN FETCH p.client c
+                    JOIN FETCH c.member
+                    WHERE p.id IN (SELECT pp.project.id FROM ProjectParticipant pp WHERE pp.freelancer.id = :freelancerId)
+                    ORDER BY p.id DESC
             """
     )
-    List<Project> findParticipatedProjectsById(Long freelancerId);
+    List<Project> findParticipatedProjectsById(@Param("freelancerId") Long freelancerId);
 }
@@ -1,10 +1,14 @@
 package com.back.domain.project.project.repository;
 
 import com.back.domain.project.project.constant.ProjectStatus;
+import com.back.domain.project.project.dto.ProjectFacetRow;
+import com.back.domain.project.project.dto.ProjectParticipantRow;
+import com.back.domain.project.project.dto.ProjectTagRow;
 import com.back.domain.project.project.entity.Project;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ProjectRepositoryCustom {
@@ -16,4 +20,27 @@ public interface ProjectRepositoryCustom {
             ProjectStatus status,
             Pageable pageable
     );
+
+    // 검색 조건에 맞는 전체 id (패싯 건수용)
+    List<Long> searchProjectIds(
+            String keywordType,
+            String keyword,
+            List<Long> skillIds,
+            List<Long> interestIds,
+            ProjectStatus status
+    );
+
+    // 패싯 색인 적재용 (ids 가 null 이면 전체, 아니면 변경된 프로젝트만)
+    List<ProjectFacetRow> findFacetRows(Collection<Long> ids);
+
+    List<ProjectTagRow> findSkillTags();
+
+    List<ProjectTagRow> findInterestTags();
+
+    // 목록 DTO 조립용 – 여러 프로젝트의 스킬/관심분야를 IN 한 번으로
+    List<ProjectTagRow> findSkillTagsIn(Collection<Long> projectIds);
+
+    List<ProjectTagRow> findInterestTagsIn(Collection<Long> projectIds);
+
+    List<ProjectParticipantRow> findParticipantRowsIn(Collection<Long> projectIds);
 }
@@ -1,9 +1,14 @@
 package com.back.domain.project.project.repository;
 
 import com.back.domain.project.project.constant.ProjectStatus;
+import com.back.domain.project.project.dto.ProjectFacetRow;
+import com.back.domain.project.project.dto.ProjectParticipantRow;
+import com.back.domain.project.project.dto.ProjectTagRow;
 import com.back.domain.project.project.entity.Project;
+import com.back.domain.project.project.search.ProjectKeywordSearch;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.PathBuilder;
 import com.querydsl.jpa.impl.JPAQueryFactory;
@@ -12,8 +17,11 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
 
+import static com.back.domain.freelancer.freelancer.entity.QFreelancer.freelancer;
+import static com.back.domain.project.participant.entity.QProjectParticipant.projectParticipant;
 import static com.back.domain.project.project.entity.QProject.project;
 import static com.back.domain.project.project.entity.QProjectInterest.projectInterest;
 import static com.back.domain.project.project.entity.QProjectSkill.projectSkill;
@@ -22,6 +30,7 @@ import static com.back.domain.project.project.entity.QProjectSkill.projectSkill;
 @RequiredArgsConstructor
 public class ProjectRepositoryImpl implements ProjectRepositoryCustom{
     private final JPAQueryFactory queryFactory;
+    private final ProjectKeywordSearch keywordSearch;
 
     @Override
     public Page<Project> searchProjects(
@@ -38,9 +47,11 @@ public class ProjectRepositoryImpl implements ProjectRepositoryCustom{
         BooleanExpression interestCond = createInterestCondition(interestIds);
         BooleanExpression statusCond = (status != null) ? project.status.eq(status) : null;
 
-        // QueryDSL Query
+        // QueryDSL Query – 목록 DTO 가 작성자 이름을 읽으므로 client/member 를 같이 가져온다 (to-one 이라 페이징 영향 없음)
         var query = queryFactory
                 .selectFrom(project)
+                .join(project.client).fetchJoin()
+                .join(project.client.member).fetchJoin()
                 .where(keywordCond, skillCond, interestCond, statusCond);
 
         // Pageable Sort 반영
@@ -77,6 +88,94 @@ public class ProjectRepositoryImpl implements ProjectRepositoryCustom{
         return new PageImpl<>(content, pageable, total);
     }
 
+    @Override
+    public List<Long> searchProjectIds(
+            String keywordType,
+            String keyword,
+            List<Long> skillIds,
+            List<Long> interestIds,
+            ProjectStatus status
+    ) {
+        return queryFactory
+                .select(project.id)
+                .from(project)
+                .where(
+                        createKeywordCondition(keywordType, keyword),
+                        createSkillCondition(skillIds),
+                        createInterestCondition(interestIds),
+                        (status != null) ? project.status.eq(status) : null
+                )
+                .fetch();
+    }
+
+    @Override
+    public List<ProjectFacetRow> findFacetRows(Collection<Long> ids) {
+        return queryFactory
+                .select(Projections.constructor(ProjectFacetRow.class, project.id, project.status))
+                .from(project)
+                .where(ids == null ? null : project.id.in(ids))
+                .fetch();
+    }
+
+    @Override
+    public List<ProjectTagRow> findSkillTags() {
+        return queryFactory
+                .select(Projections.constructor(ProjectTagRow.class,
+                        projectSkill.project.id, projectSkill.skill.id, projectSkill.skill.name))
+                .from(projectSkill)
+                .fetch();
+    }
+
+    @Override
+    public List<ProjectTagRow> findInterestTags() {
+        return queryFactory
+                .select(Projections.constructor(ProjectTagRow.class,
+                        projectInterest.project.id, projectInterest.interest.id, projectInterest.interest.name))
+                .from(projectInterest)
+                .fetch();
+    }
+
+
+    @Override
+    public List<ProjectTagRow> findSkillTagsIn(Collection<Long> projectIds) {
+        return queryFactory
+                .select(Projections.constructor(ProjectTagRow.class,
+                        projectSkill.project.id, projectSkill.skill.id, projectSkill.skill.name))
+                .from(projectSkill)
+                .where(projectSkill.project.id.in(projectIds))
+                .orderBy(projectSkill.project.id.asc(), projectSkill.id.asc())
+                .fetch();
+    }
+
+    @Override
+    public List<ProjectTagRow> findInterestTagsIn(Collection<Long> projectIds) {
+        return queryFactory
+                .select(Projections.constructor(ProjectTagRow.class,
+                        projectInterest.project.id, projectInterest.interest.id, projectInterest.interest.name))
+                .from(projectInterest)
+                .where(projectInterest.project.id.in(projectIds))
+                .orderBy(projectInterest.project.id.asc(), projectInterest.id.asc())
+                .fetch();
+    }
+
+    @Override
+    public List<ProjectParticipantRow> findParticipantRowsIn(Collection<Long> projectIds) {
+        return queryFactory
+                .select(Projections.constructor(ProjectParticipantRow.class,
+                        projectParticipant.project.id,
+                        freelancer.id,
+                        freelancer.member.id,
+                        freelancer.member.name,
+                        freelancer.careerTotalYears,
+                        freelancer.ratingAvg))
+                .from(projectParticipant)
+                .join(projectParticipant.freelancer, freelancer)
+                .join(freelancer.member)
+                .where(projectParticipant.project.id.in(projectIds))
+                .orderBy(projectParticipant.project.id.asc(), projectParticipant.id.asc())
+                .fetch();
+    }
+
 
     // -----------------------------
     // 조건 생성 메서드
@@ -84,6 +183,12 @@ public class ProjectRepositoryImpl implements ProjectRepositoryCustom{
     private BooleanExpression createKeywordCondition(String keywordType, String keyword) {
         if (keyword == null || keyword.isBlank()) return null;
 
+        // FT 인덱스 검색 테이블 서브쿼리로 거르고, FT 를 쓰지 않는 환경이면 아래 LIKE
+        BooleanExpression fullText = keywordSearch.idCondition(keywordType, keyword);
+        if (fullText != null) {
+            return fullText;
+        }
+
         // keywordType이 null이거나 "all"인 경우 전체 검색
         if (keywordType == null || keywordType.equals("all")) {
             return project.title.containsIgnoreCase(keyword)
@@ -0,0 +1,202 @@
+package com.back.domain.project.project.search;
+
+import com.back.domain.project.project.constant.ProjectStatus;
+import com.back.domain.project.project.dto.ProjectFacetRow;
+import com.back.domain.project.project.dto.ProjectFacets;
+import com.back.domain.project.project.dto.ProjectSearchDto;
+import com.back.domain.project.project.dto.ProjectTagRow;
+import com.back.domain.project.project.repository.ProjectRepository;
+import com.back.domain.recommendations.recommendations.constant.SearchIndexTarget;
+import com.back.domain.recommendations.recommendations.event.SearchIndexChangedEvent;
+import com.back.standard.bitmap.IdBitmap;
+import com.back.standard.facet.AbstractFacetIndex;
+import com.back.standard.facet.FacetSource;
+import com.back.standard.facet.TagIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * 프로젝트 목록 검색 패싯 색인.
+ * 스킬별 / 관심분야별 / 상태별 문서 번호 비트맵으로 검색 조건에 맞는 프로젝트 집합을 만들고,
+ * 그 집합을 한 번 훑어 스킬/관심분야/상태별 건수를 센다. 패싯 값마다 COUNT 질의를 하지 않는다.
+ *
+ * 스킬/관심분야 조건은 목록 검색과 같이 "모두 포함"으로 거르고,
+ * 키워드 조건은 FT 일치 id 만 받아 나머지 조건의 비트맵과 교집합한다 (LIKE 환경이면 조건 전체를 SQL 로).
+ *
+ * 프로젝트 변경은 검색 테이블 outbox 반영 이벤트(SearchIndexChangedEvent PROJECT, 다른 노드 것 포함)로 들어와
+ * refreshDelayMs 주기마다 한 번에 반영된다 (AbstractFacetIndex).
+ */
+@Component
+@RequiredArgsConstructor
+public class ProjectFacetIndex extends AbstractFacetIndex<ProjectFacetIndex.Snapshot> {
+
+    private final ProjectRepository projectRepository;
+    private final ProjectKeywordSearch keywordSearch;
+
+    @Value("${custom.projectSearch.facetIndex.enabled:true}")
+    private boolean enabled;
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSearchIndexChanged(SearchIndexChangedEvent event) {
+        if (event.target() == SearchIndexTarget.PROJECT) onChanged(event.isFullRebuild(), event.ids());
+    }
+
+    @Override
+    @Scheduled(initialDelayString = "${custom.projectSearch.facetIndex.reconcileIntervalMs:600000}",
+            fixedDelayString = "${custom.projectSearch.facetIndex.reconcileIntervalMs:600000}")
+    public void reconcile() {
+        super.reconcile();
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${custom.projectSearch.facetIndex.refreshDelayMs:2000}")
+    public void refresh() {
+        super.refresh();
+    }
+
+    @Override
+    protected String indexName() {
+        return "프로젝트 패싯 색인";
+    }
+
+    @Override
+    protected Snapshot load() {
+        return Snapshot.build(projectRepository.findFacetRows(null),
+                projectRepository.findSkillTags(), projectRepository.findInterestTags());
+    }
+
+    @Override
+    protected Snapshot applyChanges(Snapshot current, List<Long> ids) {
+        return current.withChanges(ids, projectRepository.findFacetRows(ids),
+                projectRepository.findSkillTagsIn(ids), projectRepository.findInterestTagsIn(ids));
+    }
+
+    @Override
+    protected int size(Snapshot snapshot) {
+        return snapshot.ids.length;
+    }
+
+    /** 현재 검색 조건에 맞는 프로젝트 집합의 스킬/관심분야/상태별 건수. 색인이 없으면 null */
+    public ProjectFacets facets(ProjectSearchDto searchDto) {
+        Snapshot s = snapshot();
+        if (!enabled || s == null) return null;
+
+        BitSet filter = s.filter(searchDto);
+        if (searchDto.keyword() != null && !searchDto.keyword().isBlank()) {
+            List<Long> keywordIds = keywordSearch.findIds(searchDto.keywordType(), searchDto.keyword());
+            filter = keywordIds == null
+                    ? s.docsOf(projectRepository.searchProjectIds(
+                            searchDto.keywordType(),
+                            searchDto.keyword(),
+                            searchDto.skillIds(),
+                            searchDto.interestIds(),
+                            searchDto.status()))
+                    : Snapshot.and(filter, s.docsOf(keywordIds));
+        }
+        return s.facets(filter);
+    }
+
+    /** 불변 색인 – 문서 번호는 원본(FacetSource)의 id 오름차순 위치 */
+    static final class Snapshot {
+        final long[] ids;
+        final TagIndex skills;
+        final TagIndex interests;
+        final Map<ProjectStatus, IdBitmap> byStatus;
+
+        private final FacetSource<ProjectFacetRow, ProjectTagRow> source;
+
+        private Snapshot(FacetSource<ProjectFacetRow, ProjectTagRow> source) {
+            this.source = source;
+
+            List<ProjectFacetRow> rows = source.rows();
+            this.ids = source.ids();
+            ProjectStatus[] statuses = new ProjectStatus[rows.size()];
+            for (int doc = 0; doc < ids.length; doc++) {
+                statuses[doc] = rows.get(doc).status();
+            }
+
+            this.skills = TagIndex.build(ids, source.skillTags(),
+                    ProjectTagRow::projectId, ProjectTagRow::id, ProjectTagRow::name);
+            this.interests = TagIndex.build(ids, source.interestTags(),
+                    ProjectTagRow::projectId, ProjectTagRow::id, ProjectTagRow::name);
+
+            this.byStatus = new EnumMap<>(ProjectStatus.class);
+            for (ProjectStatus status : ProjectStatus.values()) {
+                byStatus.put(status, IdBitmap.of(IntStream.range(0, ids.length)
+                        .filter(doc -> statuses[doc] == status)
+                        .toArray()));
+            }
+        }
+
+        static Snapshot build(List<ProjectFacetRow> rows, List<ProjectTagRow> skillTags,
+                              List<ProjectTagRow> interestTags) {
+            return new Snapshot(FacetSource.of(rows, skillTags, interestTags,
+                    ProjectFacetRow::id, ProjectTagRow::projectId));
+        }
+
+        /** changedIds 의 행/태그를 새로 읽은 값으로 바꾼 색인 (changedRows 에 없는 id 는 삭제) */
+        Snapshot withChanges(Collection<Long> changedIds, List<ProjectFacetRow> changedRows,
+                             List<ProjectTagRow> changedSkillTags, List<ProjectTagRow> changedInterestTags) {
+            return new Snapshot(source.withChanges(changedIds, changedRows, changedSkillTags, changedInterestTags));
+        }
+
+        /** 키워드 외 조건에 맞는 문서 집합. 필터가 하나도 없으면 null (전체) */
+        BitSet filter(ProjectSearchDto searchDto) {
+            BitSet result = null;
+            if (searchDto.skillIds() != null && !searchDto.skillIds().isEmpty()) {
+                result = and(result, skills.allOf(searchDto.skillIds(), ids.length));
+            }
+            if (searchDto.interestIds() != null && !searchDto.interestIds().isEmpty()) {
+                result = and(result, interests.allOf(searchDto.interestIds(), ids.length));
+            }
+            if (searchDto.status() != null) {
+                BitSet status = new BitSet(ids.length);
+                byStatus.get(searchDto.status()).forEach(status::set);
+                result = and(result, status);
+            }
+            return result;
+        }
+
+        /** SQL 로 받은 프로젝트 id 를 문서 집합으로 (색인 적재 이후 생긴 id 는 빠진다) */
+        BitSet docsOf(List<Long> projectIds) {
+            return source.docsOf(projectIds);
+        }
+
+        ProjectFacets facets(BitSet filter) {
+            Map<ProjectStatus, Integer> statuses = new EnumMap<>(ProjectStatus.class);
+            byStatus.forEach((status, docs) -> {
+                int count = 0;
+                if (filter == null) {
+                    count = docs.cardinality();
+                } else {
+                    for (int doc : docs.toArray()) {
+                        if (filter.get(doc)) count++;
+                    }
+                }
+                statuses.put(status, count);
+            });
+            return new ProjectFacets(skills.count(filter), interests.count(filter), statuses);
+        }
+
+        private static BitSet and(BitSet acc, BitSet next) {
+            if (acc == null) return next;
+            acc.and(next);
+            return acc;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.back.domain.project.project.search;
+
+import com.back.domain.recommendations.recommendations.repository.ProjectsSearchRepository;
+import com.back.standard.fulltext.FullTextMatch;
+import com.back.standard.fulltext.FullTextPhrase;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+import static com.back.domain.project.project.entity.QProject.project;
+import static com.back.domain.recommendations.recommendations.entity.QProjectsSearch.projectsSearch;
+
+/**
+ * 프로젝트 목록 키워드 검색 – project_search 의 title / summary / description FT 인덱스로 일치 id 를 찾는다.
+ * 구문(phrase) 검색이라 기존 containsIgnoreCase(LIKE) 와 같은 부분 문자열 일치가 되고,
+ * NormalizerAuto 가 대소문자를 맞춰준다.
+ * 검색 테이블은 outbox 로 반영되므로 원본 변경이 키워드 검색에 보이기까지 약간의 지연이 있다.
+ *
+ * 목록 질의에는 일치 id 를 받아 IN 으로 넘기지 않고 검색 테이블 서브쿼리(semi-join) 조건을 붙인다 (idCondition).
+ * 일치 id 목록(findIds)은 메모리 색인과 교집합할 때만 쓴다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProjectKeywordSearch {
+
+    private final ProjectsSearchRepository projectsSearchRepository;
+
+    // H2 등 Mroonga 가 없는 환경에서는 false → 기존 LIKE 검색
+    @Value("${custom.projectSearch.keyword.fullText:true}")
+    private boolean fullText;
+
+    /**
+     * keywordType(null/all, title, summary, description)에 맞는 컬럼에서 키워드에 일치하는 프로젝트 id.
+     * FT 인덱스를 쓰지 않는 환경이거나 알 수 없는 keywordType 이면 null (호출자가 기존 방식으로 처리)
+     */
+    public List<Long> findIds(String keywordType, String keyword) {
+        if (!fullText) return null;
+
+        String phrase = FullTextPhrase.of(keyword);
+        if (phrase == null) return null;
+
+        if (keywordType == null || keywordType.equals("all")) {
+            return projectsSearchRepository.findProjectIdsByKeyword(phrase);
+        }
+        return switch (keywordType.toLowerCase()) {
+            case "title" -> projectsSearchRepository.findProjectIdsByTitle(phrase);
+            case "summary" -> projectsSearchRepository.findProjectIdsBySummary(phrase);
+            case "description" -> projectsSearchRepository.findProjectIdsByDescription(phrase);
+            default -> null;
+        };
+    }
+
+    /**
+     * project.id 가 키워드에 일치하는 검색 테이블 행에 있는지 – project_search 서브쿼리 조건.
+     * FT 인덱스를 쓰지 않는 환경이거나 알 수 없는 keywordType 이면 null (호출자가 기존 방식으로 처리)
+     */
+    public BooleanExpression idCondition(String keywordType, String keyword) {
+        if (!fullText) return null;
+
+        String phrase = FullTextPhrase.of(keyword);
+        if (phrase == null) return null;
+
+        BooleanExpression match;
+        if (keywordType == null || keywordType.equals("all")) {
+            match = FullTextMatch.matches(phrase, projectsSearch.title, projectsSearch.summary, projectsSearch.description);
+        } else {
+            match = switch (keywordType.toLowerCase()) {
+                case "title" -> FullTextMatch.matches(phrase, projectsSearch.title);
+                case "summary" -> FullTextMatch.matches(phrase, projectsSearch.summary);
+                case "description" -> FullTextMatch.matches(phrase, projectsSearch.description);
+                default -> null;
+            };
+        }
+        if (match == null) return null;
+
+        return project.id.in(JPAExpressions.select(projectsSearch.projectId).from(projectsSearch).where(match));
+    }
+}
@@ -0,0 +1,147 @@
+package com.back.domain.project.project.service;
+
+import com.back.domain.common.interest.dto.InterestDto;
+import com.back.domain.common.skill.dto.SkillDto;
+import com.back.domain.freelancer.freelancer.dto.FreelancerSummary;
+import com.back.domain.freelancer.freelancer.dto.FreelancerTagRow;
+import com.back.domain.freelancer.freelancer.repository.FreelancerRepository;
+import com.back.domain.project.project.dto.AlsoAppliedProjectDto;
+import com.back.domain.project.project.dto.ProjectDto;
+import com.back.domain.project.project.dto.ProjectParticipantRow;
+import com.back.domain.project.project.dto.ProjectSummaryDto;
+import com.back.domain.project.project.dto.ProjectTagRow;
+import com.back.domain.project.project.entity.Project;
+import com.back.domain.project.project.repository.ProjectRepository;
+import com.back.standard.collection.LongObjectHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 프로젝트 응답 DTO 조립.
+ * 여러 프로젝트의 스킬/관심분야를 id IN 질의 두 번으로 한꺼번에 읽고 (skill/interest 는 projection 이라 지연 로딩 없음)
+ * project id 를 키로 하는 long 맵에서 꺼내 붙인다. 행마다 조회하던 2N 질의를 2 질의로 줄인다.
+ * 상세 DTO 의 참여자도 같은 방식 – 참여자 행 1번 + 참여자 스킬/관심분야 2번.
+ * 작성자(client/member)는 호출하는 쪽 질의에서 fetch join 해 온다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProjectDtoAssembler {
+
+    private final ProjectRepository projectRepository;
+    private final FreelancerRepository freelancerRepository;
+
+    public ProjectDto toDto(Project project) {
+        return toDto(project, List.of());
+    }
+
+    public ProjectDto toDto(Project project, List<AlsoAppliedProjectDto> alsoApplied) {
+        List<Long> ids = List.of(project.getId());
+        Tags tags = loadTags(ids);
+        LongObjectHashMap<List<FreelancerSummary>> participants = loadParticipants(ids);
+        return new ProjectDto(project, tags.skillsOf(project.getId()), tags.interestsOf(project.getId()),
+                participantsOf(participants, project.getId()), alsoApplied);
+    }
+
+    public List<ProjectDto> toDtos(List<Project> projects) {
+        List<Long> ids = idsOf(projects);
+        Tags tags = loadTags(ids);
+        LongObjectHashMap<List<FreelancerSummary>> participants = loadParticipants(ids);
+        return projects.stream()
+                .map(project -> new ProjectDto(project, tags.skillsOf(project.getId()), tags.interestsOf(project.getId()),
+                        participantsOf(participants, project.getId()), List.of()))
+                .toList();
+    }
+
+    public List<ProjectSummaryDto> toSummaries(List<Project> projects) {
+        Tags tags = loadTags(idsOf(projects));
+        return projects.stream()
+                .map(project -> new ProjectSummaryDto(project, tags.skillsOf(project.getId()), tags.interestsOf(project.getId())))
+                .toList();
+    }
+
+    public Page<ProjectSummaryDto> toSummaries(Page<Project> page) {
+        Tags tags = loadTags(idsOf(page.getContent()));
+        return page.map(project -> new ProjectSummaryDto(project, tags.skillsOf(project.getId()), tags.interestsOf(project.getId())));
+    }
+
+    /** 프로젝트 id 묶음의 스킬/관심분야 (질의 2번) */
+    public Tags loadTags(Collection<Long> projectIds) {
+        if (projectIds.isEmpty()) return new Tags(new LongObjectHashMap<>(), new LongObjectHashMap<>());
+
+        LongObjectHashMap<List<SkillDto>> skills = new LongObjectHashMap<>(projectIds.size());
+        for (ProjectTagRow row : projectRepository.findSkillTagsIn(projectIds)) {
+            skills.computeIfAbsent(row.projectId(), k -> new ArrayList<>()).add(new SkillDto(row.id(), row.name()));
+        }
+
+        LongObjectHashMap<List<InterestDto>> interests = new LongObjectHashMap<>(projectIds.size());
+        for (ProjectTagRow row : projectRepository.findInterestTagsIn(projectIds)) {
+            interests.computeIfAbsent(row.projectId(), k -> new ArrayList<>()).add(new InterestDto(row.id(), row.name()));
+        }
+
+        return new Tags(skills, interests);
+    }
+
+    /** 프로젝트 id 묶음의 참여 프리랜서 요약 (질의 3번: 참여자, 참여자 스킬, 참여자 관심분야) */
+    private LongObjectHashMap<List<FreelancerSummary>> loadParticipants(Collection<Long> projectIds) {
+        LongObjectHashMap<List<FreelancerSummary>> byProject = new LongObjectHashMap<>(projectIds.size());
+        if (projectIds.isEmpty()) return byProject;
+
+        List<ProjectParticipantRow> rows = projectRepository.findParticipantRowsIn(projectIds);
+        if (rows.isEmpty()) return byProject;
+
+        Set<Long> freelancerIds = new HashSet<>();
+        for (ProjectParticipantRow row : rows) freelancerIds.add(row.freelancerId());
+
+        LongObjectHashMap<List<SkillDto>> skills = new LongObjectHashMap<>(freelancerIds.size());
+        for (FreelancerTagRow tag : freelancerRepository.findSkillTagsIn(freelancerIds)) {
+            skills.computeIfAbsent(tag.freelancerId(), k -> new ArrayList<>()).add(new SkillDto(tag.id(), tag.name()));
+        }
+        LongObjectHashMap<List<InterestDto>> interests = new LongObjectHashMap<>(freelancerIds.size());
+        for (FreelancerTagRow tag : freelancerRepository.findInterestTagsIn(freelancerIds)) {
+            interests.computeIfAbsent(tag.freelancerId(), k -> new ArrayList<>()).add(new InterestDto(tag.id(), tag.name()));
+        }
+
+        for (ProjectParticipantRow row : rows) {
+            List<SkillDto> rowSkills = skills.get(row.freelancerId());
+            List<InterestDto> rowInterests = interests.get(row.freelancerId());
+            byProject.computeIfAbsent(row.projectId(), k -> new ArrayList<>()).add(new FreelancerSummary(
+                    row.memberId(),
+                    row.name(),
+                    row.careerTotalYears(),
+                    row.ratingAvg(),
+                    rowSkills == null ? List.of() : rowSkills,
+                    rowInterests == null ? List.of() : rowInterests
+            ));
+        }
+        return byProject;
+    }
+
+    private static List<FreelancerSummary> participantsOf(LongObjectHashMap<List<FreelancerSummary>> participants, long projectId) {
+        List<FreelancerSummary> list = participants.get(projectId);
+        return list == null ? List.of() : list;
+    }
+
+    private static List<Long> idsOf(List<Project> projects) {
+        return projects.stream().map(Project::getId).toList();
+    }
+
+    public record Tags(LongObjectHashMap<List<SkillDto>> skills, LongObjectHashMap<List<InterestDto>> interests) {
+
+        public List<SkillDto> skillsOf(long projectId) {
+            List<SkillDto> list = skills.get(projectId);
+            return list == null ? List.of() : list;
+        }
+
+        public List<InterestDto> interestsOf(long projectId) {
+            List<InterestDto> list = interests.get(projectId);
+            return list == null ? List.of() : list;
+        }
+    }
+}
@@ -3,25 +3,33 @@ package com.back.domain.project.project.service;
 import com.back.domain.application.application.entity.Application;
 import com.back.domain.application.application.service.ApplicationService;
 import com.back.domain.client.client.entity.Client;
-import com.back.domain.common.interest.dto.InterestDto;
 import com.back.domain.common.interest.entity.Interest;
 import com.back.domain.common.interest.service.InterestService;
-import com.back.domain.common.skill.dto.SkillDto;
 import com.back.domain.common.skill.entity.Skill;
 import com.back.domain.common.skill.service.SkillService;
 import com.back.domain.member.member.entity.Member;
 import com.back.domain.project.project.constant.ProjectStatus;
+import com.back.domain.project.project.dto.AlsoAppliedProjectDto;
+import com.back.domain.project.project.dto.ProjectDto;
+import com.back.domain.project.project.dto.ProjectFacets;
 import com.back.domain.project.project.dto.ProjectSearchDto;
 import com.back.domain.project.project.dto.ProjectSummaryDto;
 import com.back.domain.project.project.entity.Project;
 import com.back.domain.project.project.entity.ProjectInterest;
 import com.back.domain.project.project.entity.ProjectSkill;
+import com.back.domain.project.project.event.ProjectCreatedEvent;
 import com.back.domain.project.project.repository.ProjectInterestRepository;
 import com.back.domain.project.project.repository.ProjectRepository;
 import com.back.domain.project.project.repository.ProjectSkillRepository;
+import com.back.domain.project.project.search.ProjectFacetIndex;
+import com.back.domain.recommendations.recommendations.engine.AlsoAppliedIndex;
+import com.back.domain.recommendations.recommendations.service.SearchIndexService;
 import com.back.global.exception.ServiceException;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -29,17 +37,37 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class ProjectService {
+    // 상세 화면 "함께 지원한 프로젝트" 블록 크기
+    private static final int ALSO_APPLIED_SIZE = 5;
+    // 전체 내보내기 청크 크기 (커서 fetch size 와 같게)
+    private static final int EXPORT_CHUNK_SIZE = 500;
+
+    @PersistenceContext
+    private final EntityManager em;
+
     private final ProjectRepository projectRepository;
 
     private final ApplicationService applicationService;
     private final InterestService interestService;
     private final SkillService skillService;
+    private final SearchIndexService searchIndexService;
+    private final AlsoAppliedIndex alsoAppliedIndex;
+    private final ProjectFacetIndex projectFacetIndex;
+    private final ProjectDtoAssembler projectDtoAssembler;
+    private final ApplicationEventPublisher eventPublisher;
 
     private final ProjectInterestRepository projectInterestRepository;
     private final ProjectSkillRepository projectSkillRepository;
@@ -90,6 +118,19 @@ public class ProjectService {
                         .toList()
         );
 
+        searchIndexService.enqueueProject(project.getId());
+
+        // 저장된 검색 조건 역매칭 (커밋 후 처리)
+        eventPublisher.publishEvent(new ProjectCreatedEvent(
+                project.getId(),
+                project.getTitle(),
+                project.getSummary(),
+                project.getDescription(),
+                project.getStatus(),
+                skillList.stream().map(Skill::getId).toList(),
+                interestList.stream().map(Interest::getId).toList()
+        ));
+
         return project;
     }
 
@@ -110,6 +151,7 @@ public class ProjectService {
         List<Application> applications = applicationService.findAllByProject(project);
         for(Application application: applications) applicationService.delete(application);
 
+        searchIndexService.enqueueProject(project.getId());
         projectRepository.delete(project);
     }
 
@@ -164,12 +206,42 @@ public class ProjectService {
         for (Interest interest : interestList) {
             projectInterestRepository.save(new ProjectInterest(project, interest));
         }
+
+        searchIndexService.enqueueProject(project.getId());
     }
 
     public List<Project> getList() {
         return projectRepository.findAll();
     }
 
+    /**
+     * 전체 프로젝트를 id 순 전방 커서로 읽어 청크 단위 DTO 로 넘긴다.
+     * 청크마다 스킬/관심분야는 IN 질의 2번으로 붙이고, 넘긴 뒤 영속성 컨텍스트를 비워
+     * 프로젝트 수와 상관없이 한 청크 분량만 메모리에 둔다.
+     */
+    @Transactional(readOnly = true)
+    public void exportAll(Consumer<List<ProjectDto>> sink) {
+        try (Stream<Project> projects = projectRepository.streamAllWithOwner()) {
+            List<Project> chunk = new ArrayList<>(EXPORT_CHUNK_SIZE);
+            Iterator<Project> it = projects.iterator();
+            while (it.hasNext()) {
+                chunk.add(it.next());
+                if (chunk.size() == EXPORT_CHUNK_SIZE) {
+                    exportChunk(chunk, sink);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                exportChunk(chunk, sink);
+            }
+        }
+    }
+
+    private void exportChunk(List<Project> chunk, Consumer<List<ProjectDto>> sink) {
+        sink.accept(projectDtoAssembler.toDtos(chunk));
+        chunk.clear();
+        em.clear();
+    }
+
     @Transactional(readOnly = true)
     public Page<ProjectSummaryDto> search(ProjectSearchDto searchDto, Pageable pageable) {
         // QueryDSL 기반 search 호출
@@ -182,12 +254,32 @@ public class ProjectService {
                 pageable
         );
 
-        // DTO 변환
-        return projects.map(project -> {
-            List<SkillDto> skills = skillService.findByProjectId(project.getId());
-            List<InterestDto> interests = interestService.findByProjectId(project.getId());
-            return new ProjectSummaryDto(project, skills, interests);
-        });
+        // DTO 변환 (페이지 전체의 스킬/관심분야를 한 번에)
+        return projectDtoAssembler.toSummaries(projects);
+    }
+
+    // 검색 조건 기준 스킬/관심분야/상태별 건수 (색인 미적재 시 null)
+    @Transactional(readOnly = true)
+    public ProjectFacets findFacets(ProjectSearchDto searchDto) {
+        return projectFacetIndex.facets(searchDto);
+    }
+
+    /** 이 프로젝트 지원자들이 함께 지원한 모집 중 프로젝트 (겹치는 지원자 수 내림차순) */
+    @Transactional(readOnly = true)
+    public List<AlsoAppliedProjectDto> findAlsoApplied(long projectId) {
+        // 마감/삭제된 프로젝트를 걸러낼 여유분까지 가져온다
+        Map<Long, Integer> related = alsoAppliedIndex.alsoApplied(projectId, ALSO_APPLIED_SIZE * 2);
+        if (related.isEmpty()) return List.of();
+
+        Map<Long, Project> projects = projectRepository.findAllById(related.keySet()).stream()
+                .collect(Collectors.toMap(Project::getId, Function.identity()));
+
+        return related.entrySet().stream()
+                .filter(e -> projects.containsKey(e.getKey()))
+                .filter(e -> projects.get(e.getKey()).getStatus() == ProjectStatus.OPEN)
+                .limit(ALSO_APPLIED_SIZE)
+                .map(e -> new AlsoAppliedProjectDto(projects.get(e.getKey()), e.getValue()))
+                .toList();
     }
 
     @Transactional(readOnly = true)
@@ -214,16 +306,7 @@ public class ProjectService {
 
         List<Project> myProjects = projectRepository.findParticipatedProjectsById(member.getId());
 
-        return myProjects.stream().map(project ->
-                new ProjectSummaryDto(
-                        project,
-                        project.getProjectSkills().stream()
-                                .map(ps -> new SkillDto(ps.getSkill()))
-                                .toList(),
-                        project.getProjectInterests().stream()
-                                .map(pi -> new InterestDto(pi.getInterest()))
-                                .toList()
-                )
-        ).toList();
+        // DTO 변환 (스킬/관심분야를 한 번에)
+        return projectDtoAssembler.toSummaries(myProjects);
     }
 }
@@ -9,11 +9,14 @@ import com.back.domain.proposal.proposal.constant.ProposalStatus;
 import com.back.domain.proposal.proposal.dto.ProposalDto;
 import com.back.domain.proposal.proposal.entity.Proposal;
 import com.back.domain.proposal.proposal.repository.ProposalRepository;
+import com.back.domain.recommendations.recommendations.event.MatchingInteractionAddedEvent;
+import com.back.domain.recommendations.recommendations.event.MatchingInteractionChangedEvent;
 import com.back.global.exception.ServiceException;
 import jakarta.persistence.EntityNotFoundException;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,6 +27,7 @@ public class ProposalService {
     private final ProposalRepository proposalRepository;
     private final ProjectService projectService;
     private final FreelancerService freelancerService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public List<ProposalDto> findAll(Long projectId) {
@@ -46,6 +50,7 @@ public class ProposalService {
         }
 
         Proposal proposal = new Proposal(project, freelancer, message);
+        publishInteractionChanged(proposal);
         return new ProposalDto(proposalRepository.save(proposal));
     }
 
@@ -107,6 +112,9 @@ public class ProposalService {
 
         if (state == ProposalStatus.ACCEPT) {
             project.addParticipant(proposal.getFreelancer());
+            publishInteractionChanged(proposal);
+            eventPublisher.publishEvent(new MatchingInteractionAddedEvent(
+                    proposal.getFreelancer().getId(), project.getId()));
         }
 
         return new ProposalDto(proposal);
@@ -126,6 +134,13 @@ public class ProposalService {
         }
 
         proposalRepository.delete(proposal);
+        publishInteractionChanged(proposal);
+    }
+
+    // 추천 제외 집합 무효화 (커밋 후 처리)
+    private void publishInteractionChanged(Proposal proposal) {
+        eventPublisher.publishEvent(new MatchingInteractionChangedEvent(
+                proposal.getFreelancer().getId(), proposal.getProject().getId()));
     }
 
     // 테스트를 위한 메소드
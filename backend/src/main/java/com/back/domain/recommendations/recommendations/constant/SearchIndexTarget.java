@@ -0,0 +1,6 @@
+package com.back.domain.recommendations.recommendations.constant;
+
+public enum SearchIndexTarget {
+    PROJECT, // project_search
+    FREELANCER, // freelancer_search
+}
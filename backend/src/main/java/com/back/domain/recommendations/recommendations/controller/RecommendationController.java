@@ -1,6 +1,8 @@
 package com.back.domain.recommendations.recommendations.controller;
 
 import com.back.domain.recommendations.recommendations.dto.ProjectOptionDto;
+import com.back.domain.recommendations.recommendations.dto.ProjectRecommendationDto;
+import com.back.domain.recommendations.recommendations.dto.RecommendationSliceDto;
 import com.back.domain.recommendations.recommendations.service.RecommendationService;
 import com.back.global.response.ApiResponse;
 import com.back.global.security.CustomUserDetails;
@@ -41,6 +43,39 @@ public class RecommendationController {
         return new ApiResponse<>("200-0", "OK", data);
     }
 
+    /**
+     * 커서 기반 추천 (무한 스크롤용) – 대상 규칙은 위와 동일
+     * - cursor 미전달: 첫 페이지
+     * - 응답의 nextCursor 를 다음 요청에 그대로 전달, hasNext=false 면 끝
+     */
+    @GetMapping("/slice")
+    public ApiResponse<RecommendationSliceDto<?>> recommendSlice(
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal CustomUserDetails user
+    ) {
+        RecommendationSliceDto<?> data =
+                recommendationService.recommendSliceForUser(user, projectId, cursor, size);
+        return new ApiResponse<>("200-0", "OK", data);
+    }
+
+    /**
+     * 클라이언트 대시보드: 내 프로젝트 여러 개의 추천 프리랜서를 한 번에 (프로젝트별 상위 size 명)
+     * - 예) /batch?projectIds=1,2,3&size=5
+     * - 내 프로젝트가 아닌 id 는 결과에서 제외
+     */
+    @GetMapping("/batch")
+    public ApiResponse<List<ProjectRecommendationDto>> recommendBatch(
+            @RequestParam List<Long> projectIds,
+            @RequestParam(defaultValue = "5") int size,
+            @AuthenticationPrincipal CustomUserDetails user
+    ) {
+        List<ProjectRecommendationDto> data =
+                recommendationService.recommendBatchForClient(user, projectIds, size);
+        return new ApiResponse<>("200-0", "OK", data);
+    }
+
     /**
      * 클라이언트: 콤보박스 채우기용 내 프로젝트 목록(최신순, 최소정보)
      */
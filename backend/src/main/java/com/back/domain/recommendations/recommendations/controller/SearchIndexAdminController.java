@@ -0,0 +1,27 @@
+package com.back.domain.recommendations.recommendations.controller;
+
+import com.back.domain.recommendations.recommendations.service.SearchIndexService;
+import com.back.global.response.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/admin/search-index")
+public class SearchIndexAdminController {
+
+    private final SearchIndexService searchIndexService;
+
+    /**
+     * 검색 테이블 전체 리빌드 (관리자)
+     * - 섀도 테이블을 채운 뒤 교체하므로 진행 중에도 검색/추천은 기존 테이블로 동작
+     * - 다른 노드에서 진행 중이면 409
+     */
+    @PostMapping("/rebuild")
+    public ApiResponse<Void> rebuild() {
+        searchIndexService.rebuildAll();
+        return new ApiResponse<>("200-1", "검색 테이블 리빌드가 완료되었습니다.");
+    }
+}
@@ -0,0 +1,9 @@
+package com.back.domain.recommendations.recommendations.dto;
+
+import com.back.domain.recommendations.recommendations.view.FreelancerScoreView;
+
+import java.util.List;
+
+/** 배치 추천 응답 – 프로젝트 하나와 그 프로젝트의 추천 프리랜서 상위 k 명 */
+public record ProjectRecommendationDto(Long projectId, List<FreelancerScoreView> freelancers) {
+}
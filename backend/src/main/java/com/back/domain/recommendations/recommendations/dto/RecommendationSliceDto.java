@@ -0,0 +1,15 @@
+package com.back.domain.recommendations.recommendations.dto;
+
+import java.util.List;
+
+/**
+ * 커서 기반 추천 응답 (COUNT 없음)
+ * - nextCursor: 다음 요청에 그대로 넘기는 불투명 문자열, 마지막 페이지면 null
+ */
+public record RecommendationSliceDto<T>(
+        List<T> content,
+        int size,
+        boolean hasNext,
+        String nextCursor
+) {
+}
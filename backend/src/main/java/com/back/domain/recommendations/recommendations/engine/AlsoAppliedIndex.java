@@ -0,0 +1,187 @@
+package com.back.domain.recommendations.recommendations.engine;
+
+import com.back.domain.recommendations.recommendations.event.MatchingInteractionAddedEvent;
+import com.back.domain.recommendations.recommendations.repository.AlsoAppliedRepository;
+import com.back.global.redis.RedisLeaseLock;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * "이 프로젝트에 지원한 프리랜서들이 함께 지원한 프로젝트" 색인.
+ * 부팅 시 지원/수락 이력 전체로 행렬을 만들고, 이후 새 지원·제안 수락은 커밋 후 한 쌍씩 더한다.
+ * 새 쌍은 Redis 채널(alsoApplied:added)로 다른 노드에도 전달한다 (같은 쌍은 두 번 세지 않으므로 자기 알림도 무해).
+ * 취소/삭제는 증분 반영하지 않고 주기적 재구성(rebuildIntervalMs)에서 정리된다.
+ * 재구성은 전체 이력 조회라 노드 간 잠금으로 한 번에 한 노드만 돌린다 (잠금을 못 잡으면 retryDelayMs 뒤 재시도).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AlsoAppliedIndex {
+
+    public static final String CHANNEL = "alsoApplied:added";
+    private static final String REBUILD_LOCK = "alsoApplied:rebuild";
+
+    private final AlsoAppliedRepository repo;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final RedisLeaseLock leaseLock;
+
+    @Value("${custom.recommendation.alsoApplied.enabled:true}")
+    private boolean enabled;
+
+    // 행(프로젝트)마다 유지할 이웃 수
+    @Value("${custom.recommendation.alsoApplied.rowLimit:50}")
+    private int rowLimit;
+
+    // 프리랜서별로 기억할 최근 프로젝트 수
+    @Value("${custom.recommendation.alsoApplied.historyLimit:100}")
+    private int historyLimit;
+
+    // 노드 간 증분 전달 (Redis pub/sub) – 단일 노드/테스트에서는 끌 수 있음
+    @Value("${custom.recommendation.alsoApplied.broadcast.enabled:true}")
+    private boolean broadcast;
+
+    @Value("${custom.recommendation.alsoApplied.rebuildLockLeaseSeconds:600}")
+    private long rebuildLockLeaseSeconds;
+
+    private final AtomicBoolean rebuildNeeded = new AtomicBoolean();
+
+    private volatile CoOccurrenceMatrix matrix = new CoOccurrenceMatrix(1, 1);
+
+    // 재구성 중 들어온 쌍 – 새 행렬에 다시 더한 뒤 교체한다
+    private volatile Queue<long[]> pending;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        if (!enabled || !broadcast) return;
+
+        try {
+            redisMessageListenerContainer.addMessageListener(
+                    (message, pattern) -> onBroadcast(new String(message.getBody(), StandardCharsets.UTF_8)),
+                    new ChannelTopic(CHANNEL));
+        } catch (RuntimeException e) {
+            log.warn("함께 지원 채널 구독 실패 – 다른 노드의 새 지원은 재구성 때 반영됩니다.", e);
+        }
+    }
+
+    // 부팅 시에는 잠금 없이 바로 적재 (빈 행렬로 서비스하지 않게)
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        rebuild();
+    }
+
+    @Scheduled(
+            initialDelayString = "${custom.recommendation.alsoApplied.rebuildIntervalMs:3600000}",
+            fixedDelayString = "${custom.recommendation.alsoApplied.rebuildIntervalMs:3600000}"
+    )
+    public void scheduleRebuild() {
+        rebuildNeeded.set(true);
+        rebuildIfNeeded();
+    }
+
+    /** 예약된 재구성을 잠금을 잡은 뒤 실행한다. 다른 노드가 재구성 중이면 다음 주기에 다시 시도 */
+    @Scheduled(fixedDelayString = "${custom.recommendation.alsoApplied.retryDelayMs:30000}")
+    public void rebuildIfNeeded() {
+        if (!enabled || !rebuildNeeded.get()) return;
+
+        String token;
+        try {
+            token = leaseLock.tryAcquire(REBUILD_LOCK, Duration.ofSeconds(rebuildLockLeaseSeconds));
+            if (token == null) return;
+        } catch (DataAccessException e) {
+            log.warn("함께 지원 재구성 잠금 실패 – 잠금 없이 재구성합니다. cause={}", e.getMessage());
+            rebuildNeeded.set(false);
+            rebuild();
+            return;
+        }
+
+        try {
+            rebuildNeeded.set(false);
+            rebuild();
+        } finally {
+            leaseLock.release(REBUILD_LOCK, token);
+        }
+    }
+
+    public synchronized void rebuild() {
+        if (!enabled) return;
+
+        Queue<long[]> arrived = new ConcurrentLinkedQueue<>();
+        pending = arrived;
+        try {
+            CoOccurrenceMatrix built = new CoOccurrenceMatrix(rowLimit, historyLimit);
+            List<Object[]> pairs = repo.findAllPairs();
+            for (Object[] row : pairs) {
+                built.add(((Number) row[0]).longValue(), ((Number) row[1]).longValue());
+            }
+            for (long[] pair; (pair = arrived.poll()) != null; ) built.add(pair[0], pair[1]);
+
+            matrix = built;
+            log.info("함께 지원 행렬 적재: pairs={}, rows={}", pairs.size(), built.rows());
+        } catch (Exception e) {
+            log.warn("함께 지원 행렬 적재 실패, 기존 행렬을 유지합니다. cause={}", e.getMessage());
+        } finally {
+            pending = null;
+        }
+        // 교체 직전에 들어와 새 행렬에 빠진 쌍 (add 는 같은 쌍을 두 번 세지 않는다)
+        for (long[] pair; (pair = arrived.poll()) != null; ) matrix.add(pair[0], pair[1]);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onInteractionAdded(MatchingInteractionAddedEvent event) {
+        if (!enabled) return;
+
+        add(event.freelancerId(), event.projectId());
+        if (!broadcast) return;
+
+        try {
+            redisTemplate.convertAndSend(CHANNEL, event.freelancerId() + ":" + event.projectId());
+        } catch (DataAccessException e) {
+            log.warn("함께 지원 알림 발행 실패: freelancerId={}, projectId={}", event.freelancerId(), event.projectId(), e);
+        }
+    }
+
+    private void onBroadcast(String message) {
+        int sep = message.indexOf(':');
+        try {
+            add(Long.parseLong(message.substring(0, sep)), Long.parseLong(message.substring(sep + 1)));
+        } catch (RuntimeException e) {
+            log.warn("알 수 없는 함께 지원 알림: {}", message);
+        }
+    }
+
+    private void add(long freelancerId, long projectId) {
+        Queue<long[]> building = pending;
+        if (building != null) building.add(new long[]{freelancerId, projectId});
+        matrix.add(freelancerId, projectId);
+    }
+
+    /** 함께 지원된 프로젝트 상위 n 개 (projectId → 함께 지원한 프리랜서 수), 순서 유지 */
+    public Map<Long, Integer> alsoApplied(long projectId, int n) {
+        if (!enabled) return Map.of();
+        return matrix.top(projectId, n);
+    }
+}
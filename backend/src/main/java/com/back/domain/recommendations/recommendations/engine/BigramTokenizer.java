@@ -0,0 +1,54 @@
+package com.back.domain.recommendations.recommendations.engine;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Mroonga TokenBigramSplitSymbolAlphaDigit + NormalizerAuto 근사 구현.
+ * - 정규화: NFKC(전각/반각 통일) + 소문자
+ * - 공백으로 나뉜 구간마다 2글자씩 겹쳐 자른다 (영문/숫자/기호도 묶지 않고 bigram)
+ * - 1글자 구간은 그대로 1글자 토큰
+ */
+public final class BigramTokenizer {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private BigramTokenizer() {
+    }
+
+    public static String normalize(String text) {
+        if (text == null) return "";
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    /** 문서 색인용 토큰 (중복 포함 – 빈도 계산에 사용) */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String run : WHITESPACE.split(normalize(text))) {
+            addBigrams(run, tokens);
+        }
+        return tokens;
+    }
+
+    /** 질의 단어 하나의 bigram (중복 제거) */
+    public static String[] bigrams(String word) {
+        List<String> bigrams = new ArrayList<>();
+        addBigrams(word, bigrams);
+        return bigrams.stream().distinct().toArray(String[]::new);
+    }
+
+    private static void addBigrams(String run, List<String> sink) {
+        if (run.isEmpty()) return;
+        int[] cps = run.codePoints().toArray();
+        if (cps.length == 1) {
+            sink.add(run);
+            return;
+        }
+        for (int i = 0; i + 1 < cps.length; i++) {
+            sink.add(new String(cps, i, 2));
+        }
+    }
+}
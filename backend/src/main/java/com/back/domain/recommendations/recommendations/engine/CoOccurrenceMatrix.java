@@ -0,0 +1,149 @@
+package com.back.domain.recommendations.recommendations.engine;
+
+import com.back.standard.collection.LongObjectHashMap;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 프로젝트×프로젝트 희소 동시 출현 행렬 – 같은 프리랜서가 두 프로젝트 모두에 지원(또는 참여)한 횟수.
+ * 행마다 rowLimit 의 2배까지 쌓이면 횟수 상위 rowLimit 개만 남기고 잘라낸다.
+ * 프리랜서별로는 최근 historyLimit 개 프로젝트만 기억한다 (헤비 유저 한 명이 O(m²) 로 행렬을 채우지 않도록).
+ */
+final class CoOccurrenceMatrix {
+
+    private final int rowLimit;
+    private final int historyLimit;
+
+    private final LongObjectHashMap<Row> rows = new LongObjectHashMap<>();
+    private final LongObjectHashMap<History> histories = new LongObjectHashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    CoOccurrenceMatrix(int rowLimit, int historyLimit) {
+        this.rowLimit = Math.max(1, rowLimit);
+        this.historyLimit = Math.max(1, historyLimit);
+    }
+
+    /** 프리랜서-프로젝트 쌍 추가. 이미 기억하는 쌍이면 false (같은 이벤트가 두 번 와도 한 번만 센다) */
+    boolean add(long freelancerId, long projectId) {
+        lock.writeLock().lock();
+        try {
+            History history = histories.computeIfAbsent(freelancerId, k -> new History());
+            if (history.contains(projectId)) return false;
+
+            for (int i = 0; i < history.size; i++) {
+                long other = history.projects[i];
+                increment(projectId, other);
+                increment(other, projectId);
+            }
+            history.append(projectId, historyLimit);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** 함께 지원된 프로젝트 상위 n 개 (projectId → 함께 지원한 프리랜서 수). 횟수 내림차순, 동점은 id 오름차순 */
+    Map<Long, Integer> top(long projectId, int n) {
+        long[] cols;
+        int[] counts;
+        lock.readLock().lock();
+        try {
+            Row row = rows.get(projectId);
+            if (row == null || n <= 0) return Map.of();
+            cols = Arrays.copyOf(row.cols, row.size);
+            counts = Arrays.copyOf(row.counts, row.size);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Integer[] order = rank(cols, counts);
+        Map<Long, Integer> top = new LinkedHashMap<>();
+        for (int i = 0; i < Math.min(n, order.length); i++) {
+            top.put(cols[order[i]], counts[order[i]]);
+        }
+        return top;
+    }
+
+    int rows() {
+        lock.readLock().lock();
+        try {
+            return rows.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void increment(long from, long to) {
+        Row row = rows.computeIfAbsent(from, k -> new Row());
+        for (int i = 0; i < row.size; i++) {
+            if (row.cols[i] == to) {
+                row.counts[i]++;
+                return;
+            }
+        }
+        row.append(to);
+        if (row.size > rowLimit * 2) row.prune(rowLimit);
+    }
+
+    private static Integer[] rank(long[] cols, int[] counts) {
+        Integer[] order = new Integer[cols.length];
+        for (int i = 0; i < order.length; i++) order[i] = i;
+        Arrays.sort(order, (a, b) -> counts[a] != counts[b]
+                ? Integer.compare(counts[b], counts[a])
+                : Long.compare(cols[a], cols[b]));
+        return order;
+    }
+
+    private static final class Row {
+        long[] cols = new long[4];
+        int[] counts = new int[4];
+        int size;
+
+        void append(long col) {
+            if (size == cols.length) {
+                cols = Arrays.copyOf(cols, size * 2);
+                counts = Arrays.copyOf(counts, size * 2);
+            }
+            cols[size] = col;
+            counts[size] = 1;
+            size++;
+        }
+
+        // 횟수 상위 keep 개만 남긴다 (잘린 이웃은 다음에 다시 1 부터 센다)
+        void prune(int keep) {
+            long[] liveCols = Arrays.copyOf(cols, size);
+            int[] liveCounts = Arrays.copyOf(counts, size);
+            Integer[] order = rank(liveCols, liveCounts);
+            for (int i = 0; i < keep; i++) {
+                cols[i] = liveCols[order[i]];
+                counts[i] = liveCounts[order[i]];
+            }
+            size = keep;
+        }
+    }
+
+    private static final class History {
+        long[] projects = new long[4];
+        int size;
+
+        boolean contains(long projectId) {
+            for (int i = 0; i < size; i++) {
+                if (projects[i] == projectId) return true;
+            }
+            return false;
+        }
+
+        // 가득 차면 가장 오래된 것을 밀어낸다
+        void append(long projectId, int limit) {
+            if (size == limit) {
+                System.arraycopy(projects, 1, projects, 0, size - 1);
+                size--;
+            }
+            if (size == projects.length) projects = Arrays.copyOf(projects, Math.min(limit, size * 2));
+            projects[size++] = projectId;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.back.domain.recommendations.recommendations.engine;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 정규화된 질의 단어 집합.
+ * - anyQuery: Mroonga BOOLEAN MODE OR 질의 (비면 "__noop__")
+ * - terms   : 인메모리 엔진용 단어별 bigram 배열
+ */
+public record CompiledQuery(String[] words, String anyQuery, List<String[]> terms) {
+
+    private static final String NOOP = "__noop__";
+
+    public static final CompiledQuery EMPTY = new CompiledQuery(new String[0], NOOP, List.of());
+
+    public boolean isEmpty() {
+        return words.length == 0;
+    }
+
+    public static CompiledQuery of(String text) {
+        if (text == null || text.isEmpty()) return EMPTY;
+        Set<String> words = new LinkedHashSet<>();
+        scan(BigramTokenizer.normalize(text), words);
+        return from(words);
+    }
+
+    /** career 키 목록처럼 이미 나뉜 값들 */
+    public static CompiledQuery ofAll(Collection<String> texts) {
+        if (texts == null || texts.isEmpty()) return EMPTY;
+        Set<String> words = new LinkedHashSet<>();
+        for (String text : texts) {
+            if (text != null) scan(BigramTokenizer.normalize(text), words);
+        }
+        return from(words);
+    }
+
+    /**
+     * 한 번의 순회로 구분자(공백, 제어문자, ASCII 구두점)를 기준으로 단어를 잘라낸다.
+     * ASCII 입력은 기존 replaceAll("[\\p{Cntrl}]+") / ("[\\p{Punct}]+") / split("[\\s,;/|]+") 와 같은 결과.
+     * 기존과 다른 점 (질의 단어가 달라질 수 있음):
+     * - 호출 전에 BigramTokenizer.normalize(NFKC + 소문자)를 거친다 – 전각 문자/호환 문자가 색인 토큰과 같은 형태가 된다.
+     * - 비 ASCII 공백(U+00A0, U+3000 등)도 구분자로 본다 – 기존 split 의 \s 는 ASCII 공백만 나눴다.
+     */
+    private static void scan(String text, Set<String> sink) {
+        int start = -1;
+        for (int i = 0, n = text.length(); i < n; i++) {
+            if (isSeparator(text.charAt(i))) {
+                if (start >= 0) sink.add(text.substring(start, i));
+                start = -1;
+            } else if (start < 0) {
+                start = i;
+            }
+        }
+        if (start >= 0) sink.add(text.substring(start));
+    }
+
+    private static boolean isSeparator(char c) {
+        if (c <= 0x20 || c == 0x7F) return true;                  // 공백 + \p{Cntrl}
+        if (c < 0x7F) return !Character.isLetterOrDigit(c);       // \p{Punct}
+        return Character.isWhitespace(c) || Character.isSpaceChar(c);
+    }
+
+    private static CompiledQuery from(Set<String> words) {
+        if (words.isEmpty()) return EMPTY;
+
+        String[] array = words.toArray(String[]::new);
+        List<String[]> terms = new ArrayList<>(array.length);
+        for (String word : array) {
+            terms.add(BigramTokenizer.bigrams(word));
+        }
+        return new CompiledQuery(array, String.join(" ", array), List.copyOf(terms));
+    }
+}
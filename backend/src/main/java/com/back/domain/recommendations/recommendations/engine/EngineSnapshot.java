@@ -0,0 +1,82 @@
+package com.back.domain.recommendations.recommendations.engine;
+
+import java.util.Arrays;
+
+/**
+ * 한쪽(프로젝트 / 프리랜서) 검색 테이블의 불변 스냅샷.
+ * 문서 번호 = ids 배열의 인덱스. 세그먼트별 색인은 이어 붙인 문서 번호 구간을 나눠 갖는다.
+ *
+ * - 기준: DB 전체 적재(힙) 또는 스냅샷 파일(매핑) 세그먼트 하나 (id 오름차순)
+ * - 기준 이후 바뀐 행: 힙 delta 세그먼트 하나로 덧붙이고, 기준 쪽 같은 id 문서는 eligible=false 로 가린다.
+ *   delta 는 매번 기준 위에 새로 만들므로 세그먼트는 최대 둘이다.
+ */
+final class EngineSnapshot {
+
+    final long[] ids;
+    final boolean[] eligible;           // 상태 필터 (OPEN / ACTIVE)
+    final FieldIndex[][] segments;      // [세그먼트][필드]
+    final int[] segmentStarts;          // 세그먼트 첫 문서 번호
+
+    // 이 스냅샷에 반영된 검색 행의 최대 modify_date(epoch micros, UTC 기준 naive) / 최대 행 id
+    final long highWaterMicros;
+    final long highWaterRowId;
+
+    EngineSnapshot(long[] ids, boolean[] eligible, FieldIndex[][] segments, int[] segmentStarts,
+                   long highWaterMicros, long highWaterRowId) {
+        this.ids = ids;
+        this.eligible = eligible;
+        this.segments = segments;
+        this.segmentStarts = segmentStarts;
+        this.highWaterMicros = highWaterMicros;
+        this.highWaterRowId = highWaterRowId;
+    }
+
+    /** 힙 세그먼트 하나짜리 스냅샷 */
+    static EngineSnapshot of(long[] ids, FieldIndex[] fields, boolean[] eligible,
+                             long highWaterMicros, long highWaterRowId) {
+        return new EngineSnapshot(ids, eligible, new FieldIndex[][]{fields}, new int[]{0},
+                highWaterMicros, highWaterRowId);
+    }
+
+    static EngineSnapshot empty(int fieldCount) {
+        FieldIndex[] fields = new FieldIndex[fieldCount];
+        Arrays.fill(fields, FieldIndex.build(new String[0]));
+        return of(new long[0], fields, new boolean[0], Long.MIN_VALUE, 0L);
+    }
+
+    /**
+     * 이 스냅샷(기준: 전체 적재 또는 스냅샷 파일, 세그먼트 하나, id 오름차순) 위에
+     * 다시 읽은 행을 힙 세그먼트로 덧붙인다.
+     * changedIds 의 기준 쪽 문서는 가린다 – 다시 읽혀 delta 에 들어왔거나, 사라진 행이다.
+     * 기준 문서를 id 로 이진 탐색하므로 비용은 바뀐 id 수에 비례한다 (배열 복사 제외).
+     */
+    EngineSnapshot withDelta(long[] deltaIds, boolean[] deltaEligible, FieldIndex[] deltaFields,
+                             long[] changedIds, long highWaterMicros, long highWaterRowId) {
+        if (segments.length != 1) throw new IllegalStateException("delta 는 기준 스냅샷에만 덧붙입니다.");
+
+        int base = ids.length;
+        long[] allIds = Arrays.copyOf(ids, base + deltaIds.length);
+        boolean[] allEligible = Arrays.copyOf(eligible, base + deltaIds.length);
+        for (long id : changedIds) {
+            int doc = Arrays.binarySearch(ids, id);
+            if (doc >= 0) allEligible[doc] = false;
+        }
+        System.arraycopy(deltaIds, 0, allIds, base, deltaIds.length);
+        System.arraycopy(deltaEligible, 0, allEligible, base, deltaEligible.length);
+
+        FieldIndex[][] allSegments = {segments[0], deltaFields};
+        int[] allStarts = {0, base};
+
+        return new EngineSnapshot(allIds, allEligible, allSegments, allStarts,
+                Math.max(this.highWaterMicros, highWaterMicros), Math.max(this.highWaterRowId, highWaterRowId));
+    }
+
+    int size() {
+        return ids.length;
+    }
+
+    /** 파일로 다시 쓸 수 있는지 (DB 전체 적재로 만든 힙 세그먼트 하나) */
+    boolean isPersistable() {
+        return segments.length == 1 && !segments[0][0].isMapped();
+    }
+}
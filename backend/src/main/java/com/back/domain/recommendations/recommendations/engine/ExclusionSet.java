@@ -0,0 +1,41 @@
+package com.back.domain.recommendations.recommendations.engine;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+
+/**
+ * 추천에서 빼야 할 상대편 id 집합 (이미 지원/제안/참여한 쌍).
+ * 정렬된 long 배열로 들고 있고 Redis 에는 [id(8) * n] 바이트를 Base64 로 저장한다.
+ */
+public record ExclusionSet(long[] ids) {
+
+    public static final ExclusionSet EMPTY = new ExclusionSet(new long[0]);
+
+    public static ExclusionSet of(Collection<? extends Number> ids) {
+        long[] sorted = ids.stream().mapToLong(Number::longValue).sorted().distinct().toArray();
+        return sorted.length == 0 ? EMPTY : new ExclusionSet(sorted);
+    }
+
+    public boolean isEmpty() {
+        return ids.length == 0;
+    }
+
+    public boolean contains(long id) {
+        return Arrays.binarySearch(ids, id) >= 0;
+    }
+
+    public String encode() {
+        ByteBuffer buf = ByteBuffer.allocate(Long.BYTES * ids.length);
+        for (long id : ids) buf.putLong(id);
+        return Base64.getEncoder().encodeToString(buf.array());
+    }
+
+    public static ExclusionSet decode(String encoded) {
+        ByteBuffer buf = ByteBuffer.wrap(Base64.getDecoder().decode(encoded));
+        long[] ids = new long[buf.remaining() / Long.BYTES];
+        for (int i = 0; i < ids.length; i++) ids[i] = buf.getLong();
+        return ids.length == 0 ? EMPTY : new ExclusionSet(ids);
+    }
+}
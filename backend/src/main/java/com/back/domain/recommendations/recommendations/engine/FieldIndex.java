@@ -0,0 +1,261 @@
+package com.back.domain.recommendations.recommendations.engine;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 한 필드(컬럼)의 역색인. 토큰 → (문서 번호 int[], 출현 빈도 int[]) 포스팅.
+ * 문서 번호는 세그먼트 내 순번이며 포스팅은 오름차순으로 정렬되어 있다.
+ *
+ * 힙(Map) 색인과, 스냅샷 파일을 매핑한 버퍼 위의 색인 두 가지 형태가 있다.
+ * 매핑 형태는 [tokenCount(4) | (tokenKey(8) + offset(4) + length(4)) * tokenCount] 사전을
+ * tokenKey 로 이진 탐색하고, offset 위치의 [docs(4) * length | freqs(4) * length] 를 읽는다.
+ */
+final class FieldIndex {
+
+    static final int DICT_ENTRY = Long.BYTES + Integer.BYTES + Integer.BYTES;
+
+    private final Map<String, Posting> postings;   // 힙 색인 (매핑 형태면 null)
+    private final ByteBuffer mapped;               // 매핑 형태 (읽기 전용, 절대 위치로만 읽는다)
+    private final int dictStart;
+    private final int tokenCount;
+
+    private FieldIndex(Map<String, Posting> postings) {
+        this.postings = postings;
+        this.mapped = null;
+        this.dictStart = 0;
+        this.tokenCount = postings.size();
+    }
+
+    private FieldIndex(ByteBuffer mapped, int dictStart, int tokenCount) {
+        this.postings = null;
+        this.mapped = mapped;
+        this.dictStart = dictStart;
+        this.tokenCount = tokenCount;
+    }
+
+    record Posting(int[] docs, int[] freqs) {
+        int size() {
+            return docs.length;
+        }
+    }
+
+    static FieldIndex build(String[] texts) {
+        Map<String, PostingBuilder> builders = new HashMap<>();
+        Map<String, Integer> tf = new HashMap<>();
+
+        for (int doc = 0; doc < texts.length; doc++) {
+            tf.clear();
+            for (String token : BigramTokenizer.tokenize(texts[doc])) {
+                tf.merge(token, 1, Integer::sum);
+            }
+            for (Map.Entry<String, Integer> e : tf.entrySet()) {
+                builders.computeIfAbsent(e.getKey(), k -> new PostingBuilder()).add(doc, e.getValue());
+            }
+        }
+
+        Map<String, Posting> postings = new HashMap<>(builders.size() * 2);
+        builders.forEach((token, b) -> postings.put(token, b.build()));
+        return new FieldIndex(postings);
+    }
+
+    /** buffer 의 dictStart 위치(tokenCount 부터)에 직렬화된 색인을 복사 없이 연다 */
+    static FieldIndex mapped(ByteBuffer buffer, int dictStart) {
+        return new FieldIndex(buffer, dictStart + Integer.BYTES, buffer.getInt(dictStart));
+    }
+
+    /**
+     * 토큰(최대 2 코드포인트) → 고정 길이 키. 매핑 사전의 정렬/탐색 키로 쓴다.
+     * [cp0(21bit) | cp1(21bit) | 2글자 여부(1bit)]
+     */
+    static long tokenKey(String token) {
+        int cp0 = token.codePointAt(0);
+        int next = Character.charCount(cp0);
+        if (next >= token.length()) return (long) cp0 << 22;
+        int cp1 = token.codePointAt(next);
+        return ((long) cp0 << 22) | ((long) cp1 << 1) | 1L;
+    }
+
+    /**
+     * 질의 단어(bigram 묶음)를 포함하는 문서에 weight * 빈도 만큼 점수를 더한다.
+     * 단어의 모든 bigram 을 포함해야 일치로 보고, 빈도는 bigram 빈도 중 최솟값.
+     * docOffset 은 이 세그먼트의 첫 문서가 scores 에서 차지하는 위치.
+     * 매핑 형태도 포스팅을 힙으로 복사하지 않고 버퍼에서 바로 읽는다 (교집합 작업 배열만 가장 짧은 포스팅 크기로 만든다).
+     */
+    void accumulate(String[] bigrams, double weight, double[] scores, int docOffset) {
+        PostingView[] lists = new PostingView[bigrams.length];
+        for (int i = 0; i < bigrams.length; i++) {
+            lists[i] = posting(bigrams[i]);
+            if (lists[i] == null) return;
+        }
+
+        if (lists.length == 1) {
+            PostingView only = lists[0];
+            for (int i = 0, n = only.size(); i < n; i++) {
+                scores[docOffset + only.doc(i)] += weight * only.freq(i);
+            }
+            return;
+        }
+
+        // 가장 짧은 포스팅부터 교집합
+        Arrays.sort(lists, Comparator.comparingInt(PostingView::size));
+
+        PostingView shortest = lists[0];
+        int size = shortest.size();
+        int[] docs = new int[size];
+        int[] freqs = new int[size];
+        for (int i = 0; i < size; i++) {
+            docs[i] = shortest.doc(i);
+            freqs[i] = shortest.freq(i);
+        }
+        for (int i = 1; i < lists.length && size > 0; i++) {
+            size = intersect(docs, freqs, size, lists[i]);
+        }
+
+        for (int i = 0; i < size; i++) {
+            scores[docOffset + docs[i]] += weight * freqs[i];
+        }
+    }
+
+    void accumulate(String[] bigrams, double weight, double[] scores) {
+        accumulate(bigrams, weight, scores, 0);
+    }
+
+    private PostingView posting(String token) {
+        if (postings != null) {
+            Posting p = postings.get(token);
+            return p == null ? null : new HeapPosting(p);
+        }
+
+        long key = tokenKey(token);
+        int lo = 0;
+        int hi = tokenCount - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            int entry = dictStart + mid * DICT_ENTRY;
+            long midKey = mapped.getLong(entry);
+            if (midKey < key) lo = mid + 1;
+            else if (midKey > key) hi = mid - 1;
+            else return new MappedPosting(mapped, mapped.getInt(entry + Long.BYTES),
+                    mapped.getInt(entry + Long.BYTES + Integer.BYTES));
+        }
+        return null;
+    }
+
+    /** docs/freqs(앞 size 개)와 other 의 교집합을 제자리에 남기고 새 길이를 반환 */
+    private static int intersect(int[] docs, int[] freqs, int size, PostingView other) {
+        int otherSize = other.size();
+        int out = 0;
+        int j = 0;
+        for (int i = 0; i < size && j < otherSize; i++) {
+            int doc = docs[i];
+            // 포스팅이 길 수 있어 이진 탐색으로 건너뛴다
+            int pos = other.search(j, doc);
+            if (pos >= 0) {
+                docs[out] = doc;
+                freqs[out] = Math.min(freqs[i], other.freq(pos));
+                out++;
+                j = pos + 1;
+            } else {
+                j = -pos - 1;
+            }
+        }
+        return out;
+    }
+
+    /** 포스팅 읽기 전용 뷰 – 힙 배열 또는 매핑 버퍼 구간 */
+    private interface PostingView {
+        int size();
+
+        int doc(int i);
+
+        int freq(int i);
+
+        /** [from, size) 에서 doc 위치 (없으면 -(삽입 위치) - 1, Arrays.binarySearch 와 같은 규칙) */
+        int search(int from, int doc);
+    }
+
+    private record HeapPosting(Posting posting) implements PostingView {
+        public int size() {
+            return posting.size();
+        }
+
+        public int doc(int i) {
+            return posting.docs()[i];
+        }
+
+        public int freq(int i) {
+            return posting.freqs()[i];
+        }
+
+        public int search(int from, int doc) {
+            return Arrays.binarySearch(posting.docs(), from, posting.size(), doc);
+        }
+    }
+
+    /** [docs(4) * length | freqs(4) * length] 구간을 절대 위치로 읽는다 */
+    private record MappedPosting(ByteBuffer buffer, int offset, int length) implements PostingView {
+        public int size() {
+            return length;
+        }
+
+        public int doc(int i) {
+            return buffer.getInt(offset + i * Integer.BYTES);
+        }
+
+        public int freq(int i) {
+            return buffer.getInt(offset + (length + i) * Integer.BYTES);
+        }
+
+        public int search(int from, int doc) {
+            int lo = from;
+            int hi = length - 1;
+            while (lo <= hi) {
+                int mid = (lo + hi) >>> 1;
+                int midDoc = doc(mid);
+                if (midDoc < doc) lo = mid + 1;
+                else if (midDoc > doc) hi = mid - 1;
+                else return mid;
+            }
+            return -(lo + 1);
+        }
+    }
+
+    boolean isMapped() {
+        return mapped != null;
+    }
+
+    /** 스냅샷 파일 작성용 – 힙 색인만 */
+    Map<String, Posting> postings() {
+        if (postings == null) throw new IllegalStateException("매핑된 색인은 다시 직렬화하지 않습니다.");
+        return postings;
+    }
+
+    /** 스냅샷 통계용 */
+    int tokenCount() {
+        return tokenCount;
+    }
+
+    private static final class PostingBuilder {
+        private int[] docs = new int[4];
+        private int[] freqs = new int[4];
+        private int size;
+
+        void add(int doc, int freq) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                freqs = Arrays.copyOf(freqs, size * 2);
+            }
+            docs[size] = doc;
+            freqs[size] = freq;
+            size++;
+        }
+
+        Posting build() {
+            return new Posting(Arrays.copyOf(docs, size), Arrays.copyOf(freqs, size));
+        }
+    }
+}
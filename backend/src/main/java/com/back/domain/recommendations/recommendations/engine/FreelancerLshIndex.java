@@ -0,0 +1,155 @@
+package com.back.domain.recommendations.recommendations.engine;
+
+import com.back.domain.member.member.constant.MemberStatus;
+import com.back.domain.recommendations.recommendations.constant.SearchIndexTarget;
+import com.back.domain.recommendations.recommendations.entity.FreelancersSearch;
+import com.back.domain.recommendations.recommendations.entity.ProjectsSearch;
+import com.back.domain.recommendations.recommendations.event.SearchIndexChangedEvent;
+import com.back.domain.recommendations.recommendations.repository.FreelancersSearchRepository;
+import com.back.domain.recommendations.recommendations.repository.SkillMatchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 프리랜서 MinHash/LSH 색인 – 프로젝트와 비슷한 프리랜서 후보를 전체 비교 없이(버킷 조회만으로) 뽑는다.
+ * 특성: 스킬 id, 관심분야 id, 정규화된 job / career 단어. 활성 프리랜서만 색인한다.
+ *
+ * 프리랜서 스킬/관심분야 변경(updateSkills / updateInterests)은 outbox 를 거쳐
+ * SearchIndexChangedEvent(FREELANCER, ids) 로 들어오고, 해당 id 의 서명만 다시 계산한다.
+ * custom.recommendation.lsh.enabled=true 일 때 스킬 겹침 전체 스캔 대신 후보 생성에 쓰인다.
+ *
+ * 기본값은 꺼짐: LSH 는 근사 후보라 겹침이 작은 프리랜서를 놓칠 수 있고(재현율 손실),
+ * 서명 테이블만큼 메모리를 더 쓴다. 스킬 겹침 포스팅 스캔(SkillMatchIndex.topByOverlap)이
+ * 프리랜서 수에 비례해 느려지는 규모에서 켠다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FreelancerLshIndex {
+
+    private final SkillMatchRepository skillRepo;
+    private final FreelancersSearchRepository freelancersSearchRepo;
+    private final SkillMatchIndex skillMatchIndex;
+
+    @Value("${custom.recommendation.lsh.enabled:false}")
+    private boolean enabled;
+
+    private final LshTable table = new LshTable();
+    private final AtomicBoolean dirty = new AtomicBoolean(true);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        refresh();
+    }
+
+    /** 프리랜서 검색 행 변경 커밋 후: 부분 변경은 해당 id 만, 리빌드는 전체 재구성 */
+    @Order(1)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSearchIndexChanged(SearchIndexChangedEvent event) {
+        if (!enabled || event.target() != SearchIndexTarget.FREELANCER) return;
+
+        if (event.isFullRebuild()) {
+            dirty.set(true);
+            refresh();
+            return;
+        }
+        try {
+            update(event.ids());
+        } catch (Exception e) {
+            dirty.set(true);
+            log.warn("LSH 색인 증분 갱신 실패, 전체 재구성 예약. cause={}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${custom.recommendation.memory.refreshDelayMs:2000}")
+    public synchronized void refresh() {
+        if (!enabled || !dirty.getAndSet(false)) return;
+
+        try {
+            Map<Long, List<Integer>> skills = TagPairs.group(skillRepo.findAllFreelancerSkills());
+            Map<Long, List<Integer>> interests = TagPairs.group(skillRepo.findAllFreelancerInterests());
+
+            Map<Long, int[]> signatures = new HashMap<>();
+            for (FreelancersSearch f : freelancersSearchRepo.findAll()) {
+                int[] sig = signatureOf(f, skills, interests);
+                if (sig != null) signatures.put(f.getFreelancerId(), sig);
+            }
+            table.replaceAll(signatures);
+            log.info("LSH 색인(프리랜서) 적재: docs={}", signatures.size());
+        } catch (Exception e) {
+            dirty.set(true);
+            log.warn("LSH 색인(프리랜서) 적재 실패. cause={}", e.getMessage());
+        }
+    }
+
+    /**
+     * 프로젝트(스킬/관심분야/제목 단어)와 서명이 가까운 활성 프리랜서 id 상위 n 개.
+     * 프로젝트 스킬/관심분야는 스킬 매칭 색인에서 읽고, 색인에 없을 때만 DB 에서 읽는다.
+     */
+    public long[] nearFreelancers(ProjectsSearch ps, int n) {
+        long projectId = ps.getProjectId();
+        int[] skills = skillMatchIndex.skillsOf(SearchIndexTarget.PROJECT, projectId);
+        int[] interests = skillMatchIndex.interestsOf(SearchIndexTarget.PROJECT, projectId);
+        if (skills == null || interests == null) {
+            List<Long> one = List.of(projectId);
+            skills = TagPairs.group(skillRepo.findProjectSkills(one)).getOrDefault(projectId, List.of())
+                    .stream().mapToInt(Integer::intValue).toArray();
+            interests = TagPairs.group(skillRepo.findProjectInterests(one)).getOrDefault(projectId, List.of())
+                    .stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        List<Long> features = new ArrayList<>();
+        for (int skill : skills) features.add(MinHash.skill(skill));
+        for (int interest : interests) features.add(MinHash.interest(interest));
+        for (String word : CompiledQuery.of(ps.getTitle()).words()) features.add(MinHash.word(word));
+
+        return table.query(MinHash.signature(features.stream().mapToLong(Long::longValue).toArray()), n);
+    }
+
+    private synchronized void update(Collection<Long> freelancerIds) {
+        Map<Long, FreelancersSearch> rows = freelancersSearchRepo.findAllByFreelancerIdIn(freelancerIds).stream()
+                .collect(Collectors.toMap(FreelancersSearch::getFreelancerId, Function.identity(), (a, b) -> a));
+        Map<Long, List<Integer>> skills = TagPairs.group(skillRepo.findFreelancerSkills(freelancerIds));
+        Map<Long, List<Integer>> interests = TagPairs.group(skillRepo.findFreelancerInterests(freelancerIds));
+
+        for (Long id : freelancerIds) {
+            FreelancersSearch f = rows.get(id);
+            table.put(id, f == null ? null : signatureOf(f, skills, interests));
+        }
+    }
+
+    /** 비활성이거나 특성이 없으면 null (색인에서 뺀다) */
+    private static int[] signatureOf(FreelancersSearch f, Map<Long, List<Integer>> skills,
+                                     Map<Long, List<Integer>> interests) {
+        if (f.getStatus() != MemberStatus.ACTIVE) return null;
+
+        List<Long> features = new ArrayList<>();
+        for (int skill : skills.getOrDefault(f.getFreelancerId(), List.of())) features.add(MinHash.skill(skill));
+        for (int interest : interests.getOrDefault(f.getFreelancerId(), List.of())) features.add(MinHash.interest(interest));
+        for (String word : CompiledQuery.of(f.getJob()).words()) features.add(MinHash.word(word));
+        if (f.getCareer() != null) {
+            for (String word : CompiledQuery.ofAll(f.getCareer().keySet()).words()) features.add(MinHash.word(word));
+        }
+        return MinHash.signature(features.stream().mapToLong(Long::longValue).toArray());
+    }
+}
@@ -0,0 +1,382 @@
+package com.back.domain.recommendations.recommendations.engine;
+
+import com.back.domain.member.member.constant.MemberStatus;
+import com.back.domain.project.project.constant.ProjectStatus;
+import com.back.domain.recommendations.recommendations.constant.SearchIndexTarget;
+import com.back.domain.recommendations.recommendations.entity.FreelancersSearch;
+import com.back.domain.recommendations.recommendations.entity.ProjectsSearch;
+import com.back.domain.recommendations.recommendations.event.SearchIndexChangedEvent;
+import com.back.domain.recommendations.recommendations.repository.FreelancersSearchRepository;
+import com.back.domain.recommendations.recommendations.repository.ProjectsSearchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Mroonga MATCH 대신 JVM 안에서 추천 점수를 계산하는 엔진.
+ * custom.recommendation.engine=memory 일 때만 색인을 적재한다.
+ *
+ * 추천 1단계(후보 생성)만 담당하며 점수식은 네이티브 쿼리와 동일:
+ *   텍스트 점수 = Σ 필드 일치 빈도 * W
+ * 평점·겹침·최신성 반영은 RecommendationReranker 에서 한다.
+ *
+ * 색인 = 기준(전체 적재 또는 스냅샷 파일) + 기준 이후 바뀐 id 의 delta 세그먼트.
+ * - 부팅: 스냅샷 파일이 있으면 mmap 하고 high-water mark 이후 바뀐 id 만 delta 로 읽는다 (없으면 전체 적재)
+ * - 검색 테이블 변경(SearchIndexChangedEvent, 다른 노드 것 포함): 바뀐 id 의 행만 다시 읽어 delta 를 새로 만든다
+ * - 전체 재적재는 부팅, 테이블 리빌드, 주기 재조정(reconcile)과 delta 가 커졌을 때만
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InMemoryRecommendationEngine {
+
+    private static final int FIELD_COUNT = 3;
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final int ROW_CHUNK = 1000;
+
+    // delta 가 기준 문서 수의 이 비율(최소 MIN_COMPACT 건)을 넘으면 다음 주기에 전체 재적재로 합친다
+    private static final int COMPACT_RATIO = 10;
+    private static final int MIN_COMPACT = 1000;
+
+    private final ProjectsSearchRepository projectsSearchRepo;
+    private final FreelancersSearchRepository freelancersSearchRepo;
+    private final IndexSnapshotStore snapshotStore;
+
+    @Value("${custom.recommendation.engine:mroonga}")
+    private String engineType;
+
+    private final Side projects = new Side(SearchIndexTarget.PROJECT);
+    private final Side freelancers = new Side(SearchIndexTarget.FREELANCER);
+
+    public boolean isEnabled() {
+        return "memory".equalsIgnoreCase(engineType);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        refresh();
+    }
+
+    /**
+     * 검색 테이블 변경 커밋 후 바뀐 id 만 색인에 반영한다 (outbox 워커 / 변경 알림 스레드에서 실행).
+     * 추천 목록 무효화(@Order 2)보다 먼저 실행되어야 재계산이 새 색인을 본다.
+     * 리빌드(ids 비어 있음)면 전체 재적재. 실패하면 전체 재적재로 표시해 주기 refresh 에서 재시도.
+     */
+    @Order(1)
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onSearchIndexChanged(SearchIndexChangedEvent event) {
+        if (!isEnabled()) return;
+
+        Side side = side(event.target());
+        if (event.isFullRebuild()) {
+            side.reloadNeeded.set(true);
+            refresh();
+            return;
+        }
+        if (!side.booted) return; // 부팅 적재가 곧 전체를 읽는다
+
+        try {
+            applyChanges(side, event.ids());
+        } catch (Exception e) {
+            side.reloadNeeded.set(true);
+            log.warn("인메모리 추천 색인({}) 증분 반영 실패. cause={}", event.target(), e.getMessage());
+        }
+    }
+
+    /** 부팅/전체 재적재가 필요한 쪽만 적재한다 (실패 시 다음 주기에 재시도) */
+    @Scheduled(fixedDelayString = "${custom.recommendation.memory.refreshDelayMs:2000}")
+    public synchronized void refresh() {
+        if (!isEnabled()) return;
+
+        for (Side side : List.of(projects, freelancers)) {
+            if (!side.reloadNeeded.getAndSet(false)) continue;
+            try {
+                if (side.booted) reload(side);
+                else boot(side);
+                side.booted = true;
+            } catch (Exception e) {
+                side.reloadNeeded.set(true);
+                log.warn("인메모리 추천 색인({}) 적재 실패. cause={}", side.target, e.getMessage());
+            }
+        }
+    }
+
+    /** 주기 재조정 – 누락된 변경 알림이 있어도 이 주기 안에 DB 와 맞춰지고, delta 도 기준으로 합쳐진다 */
+    @Scheduled(initialDelayString = "${custom.recommendation.memory.reconcileIntervalMs:600000}",
+            fixedDelayString = "${custom.recommendation.memory.reconcileIntervalMs:600000}")
+    public void reconcile() {
+        if (!isEnabled()) return;
+        projects.reloadNeeded.set(true);
+        freelancers.reloadNeeded.set(true);
+        refresh();
+    }
+
+    /**
+     * 주기적으로 스냅샷 파일을 갱신한다 (custom.recommendation.snapshot.enabled=true 일 때).
+     * DB 전체 적재로 만든 기준 색인만 파일로 쓴다 (이미 쓴 스냅샷은 건너뜀).
+     * 파일로 부팅한 색인은 다음 재조정에서 전체 적재된 뒤 쓰인다.
+     */
+    @Scheduled(initialDelayString = "${custom.recommendation.snapshot.writeIntervalMs:300000}",
+            fixedDelayString = "${custom.recommendation.snapshot.writeIntervalMs:300000}")
+    public void writeSnapshots() {
+        if (!isEnabled() || !snapshotStore.isEnabled()) return;
+
+        for (Side side : List.of(projects, freelancers)) {
+            EngineSnapshot base;
+            synchronized (this) {
+                base = side.base;
+            }
+            if (!side.booted || base == side.written || !base.isPersistable()) continue;
+            try {
+                snapshotStore.write(side.target, base);
+                side.written = base;
+            } catch (IOException | RuntimeException e) {
+                log.warn("추천 색인 스냅샷 저장 실패. target={}, cause={}", side.target, e.getMessage());
+            }
+        }
+    }
+
+    /** 프리랜서 → 프로젝트 후보 (job→title, career→preferred_condition, tech_stack→working_condition) */
+    public TextCandidates retrieveProjects(
+            CompiledQuery title, CompiledQuery pref, CompiledQuery work,
+            double wTitle, double wPref, double wWork,
+            int limit
+    ) {
+        EngineSnapshot snap = projects.current;
+        double[] scores = accumulate(snap,
+                new CompiledQuery[]{title, pref, work},
+                new double[]{wTitle, wPref, wWork});
+        return topCandidates(snap, scores, limit);
+    }
+
+    /** 프로젝트 → 프리랜서 후보 (title→job, preferred_condition→career, working_condition→tech_stack) */
+    public TextCandidates retrieveFreelancers(
+            CompiledQuery job, CompiledQuery career, CompiledQuery stack,
+            double wJob, double wCareer, double wStack,
+            int limit
+    ) {
+        EngineSnapshot snap = freelancers.current;
+        double[] scores = accumulate(snap,
+                new CompiledQuery[]{job, career, stack},
+                new double[]{wJob, wCareer, wStack});
+        return topCandidates(snap, scores, limit);
+    }
+
+    /* ===================== 내부 ===================== */
+
+    private static double[] accumulate(EngineSnapshot snap, CompiledQuery[] queries, double[] weights) {
+        double[] scores = new double[snap.size()];
+        for (int seg = 0; seg < snap.segments.length; seg++) {
+            for (int f = 0; f < FIELD_COUNT; f++) {
+                for (String[] term : queries[f].terms()) {
+                    snap.segments[seg][f].accumulate(term, weights[f], scores, snap.segmentStarts[seg]);
+                }
+            }
+        }
+        return scores;
+    }
+
+    private static TextCandidates topCandidates(EngineSnapshot snap, double[] scores, int limit) {
+        TopK top = new TopK(limit);
+        for (int doc = 0; doc < scores.length; doc++) {
+            if (scores[doc] <= 0 || !snap.eligible[doc]) continue;
+            top.offer(doc, scores[doc]);
+        }
+
+        int[] ranked = top.drainDescending();
+        long[] ids = new long[ranked.length];
+        double[] out = new double[ranked.length];
+        for (int i = 0; i < ranked.length; i++) {
+            ids[i] = snap.ids[ranked[i]];
+            out[i] = scores[ranked[i]];
+        }
+        return new TextCandidates(ids, out);
+    }
+
+    /** 한쪽(프로젝트/프리랜서) 색인 상태. current 외의 필드는 엔진 잠금 안에서만 바꾼다 */
+    private static final class Side {
+        final SearchIndexTarget target;
+        volatile EngineSnapshot current = EngineSnapshot.empty(FIELD_COUNT);
+        EngineSnapshot base = current;              // 전체 적재 또는 스냅샷 파일로 만든 기준
+        final Set<Long> changed = new HashSet<>();  // 기준 이후 바뀐 id – delta 로 다시 읽는 대상
+        final AtomicBoolean reloadNeeded = new AtomicBoolean(true);
+        volatile boolean booted;
+        volatile EngineSnapshot written;            // 마지막으로 파일에 쓴 기준
+
+        Side(SearchIndexTarget target) {
+            this.target = target;
+        }
+    }
+
+    private Side side(SearchIndexTarget target) {
+        return target == SearchIndexTarget.PROJECT ? projects : freelancers;
+    }
+
+    /** 전체 적재 – 새 기준, delta 없음 */
+    private void reload(Side side) {
+        Segment seg = side.target == SearchIndexTarget.PROJECT
+                ? projectSegment(projectsSearchRepo.findAll().stream()
+                        .sorted(Comparator.comparing(ProjectsSearch::getProjectId)).toList())
+                : freelancerSegment(freelancersSearchRepo.findAll().stream()
+                        .sorted(Comparator.comparing(FreelancersSearch::getFreelancerId)).toList());
+
+        side.base = EngineSnapshot.of(seg.ids(), seg.fields(), seg.eligible(), seg.highWaterMicros(), seg.highWaterRowId());
+        side.changed.clear();
+        side.current = side.base;
+        log.info("인메모리 추천 색인({}) 전체 적재: docs={}", side.target, seg.ids().length);
+    }
+
+    /** 스냅샷 파일 + high-water mark 이후 바뀐 id 만 delta 로 읽어 부팅 (파일이 없으면 전체 적재) */
+    private void boot(Side side) {
+        EngineSnapshot file = snapshotStore.isEnabled() ? snapshotStore.read(side.target, FIELD_COUNT) : null;
+        if (file == null) {
+            reload(side);
+            return;
+        }
+
+        boolean project = side.target == SearchIndexTarget.PROJECT;
+        LocalDateTime since = toDateTime(file.highWaterMicros);
+        List<Long> changedIds = project
+                ? projectsSearchRepo.findChangedIdsSince(since, file.highWaterRowId)
+                : freelancersSearchRepo.findChangedIdsSince(since, file.highWaterRowId);
+        long[] live = (project ? projectsSearchRepo.findAllProjectIds() : freelancersSearchRepo.findAllFreelancerIds())
+                .stream().mapToLong(Long::longValue).sorted().toArray();
+
+        Set<Long> changed = new HashSet<>(changedIds);
+        for (long id : file.ids) {
+            if (Arrays.binarySearch(live, id) < 0) changed.add(id); // 파일 이후 삭제된 행
+        }
+
+        side.base = file;
+        side.changed.clear();
+        side.current = file;
+        applyChanges(side, changed);
+        log.info("인메모리 추천 색인({}) 스냅샷 부팅: snapshotDocs={}, replayed={}", side.target, file.size(), changed.size());
+    }
+
+    /**
+     * 바뀐 id 를 delta 에 합쳐 기준 위에 다시 덧붙인다. 읽는 행은 기준 이후 바뀐 id 뿐이다.
+     * delta 가 커지면 다음 주기 refresh 에서 전체 재적재로 합친다.
+     */
+    private void applyChanges(Side side, Collection<Long> ids) {
+        if (ids.isEmpty()) return;
+        side.changed.addAll(ids);
+
+        List<Long> changed = new ArrayList<>(side.changed);
+        Segment delta = side.target == SearchIndexTarget.PROJECT
+                ? projectSegment(inChunks(changed, projectsSearchRepo::findAllByProjectIdIn))
+                : freelancerSegment(inChunks(changed, freelancersSearchRepo::findAllByFreelancerIdIn));
+
+        long[] changedIds = changed.stream().mapToLong(Long::longValue).toArray();
+        side.current = side.base.withDelta(delta.ids(), delta.eligible(), delta.fields(), changedIds,
+                delta.highWaterMicros(), delta.highWaterRowId());
+
+        if (side.changed.size() > Math.max(MIN_COMPACT, side.base.size() / COMPACT_RATIO)) {
+            side.reloadNeeded.set(true);
+        }
+    }
+
+    private static <T> List<T> inChunks(List<Long> ids, Function<List<Long>, List<T>> query) {
+        List<T> rows = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += ROW_CHUNK) {
+            rows.addAll(query.apply(ids.subList(from, Math.min(ids.size(), from + ROW_CHUNK))));
+        }
+        return rows;
+    }
+
+    private record Segment(long[] ids, boolean[] eligible, FieldIndex[] fields,
+                           long highWaterMicros, long highWaterRowId) {
+    }
+
+    private static Segment projectSegment(List<ProjectsSearch> rows) {
+        int n = rows.size();
+        long[] ids = new long[n];
+        boolean[] eligible = new boolean[n];
+        String[] titles = new String[n];
+        String[] prefs = new String[n];
+        String[] works = new String[n];
+        long highWater = Long.MIN_VALUE;
+        long highWaterRowId = 0L;
+
+        for (int i = 0; i < n; i++) {
+            ProjectsSearch p = rows.get(i);
+            ids[i] = p.getProjectId();
+            eligible[i] = p.getStatus() == ProjectStatus.OPEN;
+            titles[i] = p.getTitle();
+            prefs[i] = p.getPreferredCondition();
+            works[i] = p.getWorkingCondition();
+            highWater = Math.max(highWater, toMicros(p.getModifyDate()));
+            highWaterRowId = Math.max(highWaterRowId, p.getId());
+        }
+
+        FieldIndex[] fields = {FieldIndex.build(titles), FieldIndex.build(prefs), FieldIndex.build(works)};
+        return new Segment(ids, eligible, fields, highWater, highWaterRowId);
+    }
+
+    private static Segment freelancerSegment(List<FreelancersSearch> rows) {
+        int n = rows.size();
+        long[] ids = new long[n];
+        boolean[] eligible = new boolean[n];
+        String[] jobs = new String[n];
+        String[] careers = new String[n];
+        String[] stacks = new String[n];
+        long highWater = Long.MIN_VALUE;
+        long highWaterRowId = 0L;
+
+        for (int i = 0; i < n; i++) {
+            FreelancersSearch f = rows.get(i);
+            ids[i] = f.getFreelancerId();
+            eligible[i] = f.getStatus() == MemberStatus.ACTIVE;
+            jobs[i] = f.getJob();
+            careers[i] = flattenCareer(f.getCareer());
+            stacks[i] = f.getTechStack();
+            highWater = Math.max(highWater, toMicros(f.getModifyDate()));
+            highWaterRowId = Math.max(highWaterRowId, f.getId());
+        }
+
+        FieldIndex[] fields = {FieldIndex.build(jobs), FieldIndex.build(careers), FieldIndex.build(stacks)};
+        return new Segment(ids, eligible, fields, highWater, highWaterRowId);
+    }
+
+    // modify_date 는 DB 시각 그대로(naive) 비교하므로 UTC 로 고정해 변환한다
+    private static long toMicros(LocalDateTime t) {
+        if (t == null) return Long.MIN_VALUE;
+        Instant i = t.toInstant(ZoneOffset.UTC);
+        return i.getEpochSecond() * 1_000_000L + i.getNano() / 1_000;
+    }
+
+    private static LocalDateTime toDateTime(long micros) {
+        if (micros == Long.MIN_VALUE) return EPOCH;
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+
+    private static String flattenCareer(Map<String, Integer> career) {
+        if (career == null || career.isEmpty()) return "";
+        return career.keySet().stream()
+                .filter(k -> k != null && !k.isBlank())
+                .collect(Collectors.joining(" "));
+    }
+}
@@ -0,0 +1,183 @@
+package com.back.domain.recommendations.recommendations.engine;
+
+import com.back.domain.recommendations.recommendations.constant.SearchIndexTarget;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 인메모리 추천 색인 스냅샷 파일 (대상별 한 파일, 예: project.ridx).
+ * 새 노드는 DB 전체 적재 대신 이 파일을 읽기 전용으로 mmap 하고, high-water mark 이후 바뀐 행만 다시 읽는다.
+ *
+ * 형식 (big-endian):
+ *   magic(4) version(4) target(4) fieldCount(4) fileLength(8) highWaterMicros(8) highWaterRowId(8) docCount(4)
+ *   ids(8 * docCount) eligible(1 * docCount)
+ *   필드마다: fieldLength(4) + FieldIndex 매핑 형식 [tokenCount | 사전 | 포스팅]
+ *
+ * 쓰기는 임시 파일에 쓴 뒤 원자적 rename – 이미 매핑된 이전 파일은 그대로 유효하다.
+ *
+ * dir 은 노드 로컬 경로다. 여러 노드가 같은 파일로 부팅하려면 공유 볼륨(NFS/EFS 등)을 같은 경로에 마운트한다.
+ * 공유하지 않으면 노드마다 자기 파일을 쓰고 읽는다 – 파일이 없는 새 노드는 DB 전체 적재로 부팅한다.
+ * 파일이 오래됐어도 high-water mark 이후 바뀐 행을 다시 읽으므로 결과는 같고, 부팅 시간만 늘어난다.
+ */
+@Slf4j
+@Component
+public class IndexSnapshotStore {
+
+    private static final int MAGIC = 0x52494458; // "RIDX"
+    private static final int VERSION = 1;
+    private static final int HEADER = 4 * Integer.BYTES + 3 * Long.BYTES + Integer.BYTES;
+    private static final int WRITE_BUFFER = 1 << 16;
+
+    @Value("${custom.recommendation.snapshot.enabled:false}")
+    private boolean enabled;
+
+    @Value("${custom.recommendation.snapshot.dir:./data/recommend-index}")
+    private String dir;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /** 스냅샷을 매핑해 연다. 파일이 없거나 형식이 맞지 않으면 null (DB 전체 적재로 대체) */
+    EngineSnapshot read(SearchIndexTarget target, int fieldCount) {
+        Path path = pathOf(target);
+        if (!Files.isRegularFile(path)) return null;
+
+        try (FileChannel ch = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buf = ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size());
+
+            if (buf.capacity() < HEADER
+                    || buf.getInt(0) != MAGIC
+                    || buf.getInt(4) != VERSION
+                    || buf.getInt(8) != target.ordinal()
+                    || buf.getInt(12) != fieldCount
+                    || buf.getLong(16) != buf.capacity()) {
+                log.warn("추천 색인 스냅샷 형식이 맞지 않아 무시합니다. path={}", path);
+                return null;
+            }
+            long highWaterMicros = buf.getLong(24);
+            long highWaterRowId = buf.getLong(32);
+            int docCount = buf.getInt(40);
+
+            int pos = HEADER;
+            long[] ids = new long[docCount];
+            for (int i = 0; i < docCount; i++, pos += Long.BYTES) ids[i] = buf.getLong(pos);
+            boolean[] eligible = new boolean[docCount];
+            for (int i = 0; i < docCount; i++, pos++) eligible[i] = buf.get(pos) != 0;
+
+            FieldIndex[] fields = new FieldIndex[fieldCount];
+            for (int f = 0; f < fieldCount; f++) {
+                int fieldLength = buf.getInt(pos);
+                fields[f] = FieldIndex.mapped(buf, pos + Integer.BYTES);
+                pos += Integer.BYTES + fieldLength;
+            }
+
+            return new EngineSnapshot(ids, eligible, new FieldIndex[][]{fields}, new int[]{0},
+                    highWaterMicros, highWaterRowId);
+        } catch (IOException | RuntimeException e) {
+            log.warn("추천 색인 스냅샷 읽기 실패. path={}, cause={}", path, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 힙 세그먼트 하나짜리 스냅샷을 파일로 쓴다.
+     * 필드 길이를 먼저 계산해 두고 채널에 바로 흘려 쓴다 (파일 크기만큼의 힙 버퍼를 만들지 않음).
+     */
+    void write(SearchIndexTarget target, EngineSnapshot snap) throws IOException {
+        FieldIndex[] fields = snap.segments[0];
+        long[] fieldLengths = new long[fields.length];
+        long length = HEADER + (long) snap.size() * (Long.BYTES + 1);
+        for (int f = 0; f < fields.length; f++) {
+            fieldLengths[f] = encodedLength(fields[f]);
+            length += Integer.BYTES + fieldLengths[f];
+        }
+        if (length > Integer.MAX_VALUE) {
+            throw new IOException("스냅샷이 너무 큽니다: " + length + " bytes");
+        }
+
+        Path path = pathOf(target);
+        Files.createDirectories(path.getParent());
+        Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel ch = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(ch), WRITE_BUFFER));
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(target.ordinal());
+            out.writeInt(fields.length);
+            out.writeLong(length);
+            out.writeLong(snap.highWaterMicros);
+            out.writeLong(snap.highWaterRowId);
+            out.writeInt(snap.size());
+            for (long id : snap.ids) out.writeLong(id);
+            for (boolean e : snap.eligible) out.writeByte(e ? 1 : 0);
+
+            // 필드 내부 offset 은 파일 절대 위치
+            long pos = HEADER + (long) snap.size() * (Long.BYTES + 1);
+            for (int f = 0; f < fields.length; f++) {
+                out.writeInt((int) fieldLengths[f]);
+                writeField(out, fields[f], pos + Integer.BYTES);
+                pos += Integer.BYTES + fieldLengths[f];
+            }
+            out.flush();
+            ch.force(true);
+        }
+        Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        log.info("추천 색인 스냅샷 저장: target={}, docs={}, bytes={}", target, snap.size(), length);
+    }
+
+    private static long encodedLength(FieldIndex field) {
+        Map<String, FieldIndex.Posting> postings = field.postings();
+        long bytes = Integer.BYTES + (long) postings.size() * FieldIndex.DICT_ENTRY;
+        for (FieldIndex.Posting p : postings.values()) bytes += 2L * p.size() * Integer.BYTES;
+        return bytes;
+    }
+
+    /** [tokenCount | (tokenKey, offset, length) * n (tokenKey 오름차순) | docs/freqs ...] */
+    private static void writeField(DataOutputStream out, FieldIndex field, long start) throws IOException {
+        Map<String, FieldIndex.Posting> postings = field.postings();
+        String[] tokens = postings.keySet().toArray(String[]::new);
+        long[] keys = new long[tokens.length];
+        Integer[] order = new Integer[tokens.length];
+        for (int i = 0; i < tokens.length; i++) {
+            keys[i] = FieldIndex.tokenKey(tokens[i]);
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(keys[a], keys[b]));
+
+        out.writeInt(tokens.length);
+        long offset = start + Integer.BYTES + (long) tokens.length * FieldIndex.DICT_ENTRY;
+        for (int i : order) {
+            FieldIndex.Posting p = postings.get(tokens[i]);
+            out.writeLong(keys[i]);
+            out.writeInt((int) offset);
+            out.writeInt(p.size());
+            offset += 2L * p.size() * Integer.BYTES;
+        }
+        for (int i : order) {
+            FieldIndex.Posting p = postings.get(tokens[i]);
+            for (int doc : p.docs()) out.writeInt(doc);
+            for (int freq : p.freqs()) out.writeInt(freq);
+        }
+    }
+
+    private Path pathOf(SearchIndexTarget target) {
+        return Path.of(dir, target.name().toLowerCase(Locale.ROOT) + ".ridx");
+    }
+}
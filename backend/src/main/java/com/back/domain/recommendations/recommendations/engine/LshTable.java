@@ -0,0 +1,131 @@
+package com.back.domain.recommendations.recommendations.engine;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * MinHash 서명의 밴드별 버킷 (id 단위로 넣고 빼는 가변 색인).
+ * 질의는 서명의 밴드 키로 버킷만 훑으므로 전체 문서 수와 무관하게 후보를 모은다.
+ */
+final class LshTable {
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<Long, int[]> signatures = new HashMap<>();
+    private List<Map<Long, LongBag>> bands = emptyBands();
+
+    /** 전체 교체 (리빌드) */
+    void replaceAll(Map<Long, int[]> all) {
+        List<Map<Long, LongBag>> newBands = emptyBands();
+        all.forEach((id, sig) -> addToBuckets(newBands, id, sig));
+
+        lock.writeLock().lock();
+        try {
+            signatures = new HashMap<>(all);
+            bands = newBands;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** 한 건 갱신 – sig 가 null 이면 제거 */
+    void put(long id, int[] sig) {
+        lock.writeLock().lock();
+        try {
+            int[] old = signatures.remove(id);
+            if (old != null) {
+                for (int b = 0; b < MinHash.BANDS; b++) {
+                    LongBag bag = bands.get(b).get(MinHash.bandKey(old, b));
+                    if (bag != null && bag.remove(id) && bag.size == 0) bands.get(b).remove(MinHash.bandKey(old, b));
+                }
+            }
+            if (sig != null) {
+                signatures.put(id, sig);
+                addToBuckets(bands, id, sig);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 밴드가 하나라도 같은 후보를 모아 서명 일치 수(≈ Jaccard) 상위 n 개 id 를 돌려준다.
+     * 동점이면 id 오름차순.
+     */
+    long[] query(int[] sig, int n) {
+        if (sig == null || n <= 0) return new long[0];
+
+        long[] ids;
+        int[] agreements;
+        lock.readLock().lock();
+        try {
+            Set<Long> seen = new HashSet<>();
+            for (int b = 0; b < MinHash.BANDS; b++) {
+                LongBag bag = bands.get(b).get(MinHash.bandKey(sig, b));
+                if (bag == null) continue;
+                for (int i = 0; i < bag.size; i++) seen.add(bag.ids[i]);
+            }
+            ids = seen.stream().mapToLong(Long::longValue).sorted().toArray();
+            agreements = new int[ids.length];
+            for (int i = 0; i < ids.length; i++) {
+                agreements[i] = MinHash.agreement(sig, signatures.get(ids[i]));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        TopK top = new TopK(n);
+        for (int i = 0; i < ids.length; i++) top.offer(i, agreements[i]);
+        int[] ranked = top.drainDescending();
+        long[] out = new long[ranked.length];
+        for (int i = 0; i < ranked.length; i++) out[i] = ids[ranked[i]];
+        return out;
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return signatures.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static void addToBuckets(List<Map<Long, LongBag>> bands, long id, int[] sig) {
+        for (int b = 0; b < MinHash.BANDS; b++) {
+            bands.get(b).computeIfAbsent(MinHash.bandKey(sig, b), k -> new LongBag()).add(id);
+        }
+    }
+
+    private static List<Map<Long, LongBag>> emptyBands() {
+        List<Map<Long, LongBag>> bands = new ArrayList<>(MinHash.BANDS);
+        for (int b = 0; b < MinHash.BANDS; b++) bands.add(new HashMap<>());
+        return bands;
+    }
+
+    /** 순서 없는 long 묶음 (삭제는 마지막 원소와 교체) */
+    private static final class LongBag {
+        long[] ids = new long[2];
+        int size;
+
+        void add(long id) {
+            if (size == ids.length) ids = Arrays.copyOf(ids, size * 2);
+            ids[size++] = id;
+        }
+
+        boolean remove(long id) {
+            for (int i = 0; i < size; i++) {
+                if (ids[i] == id) {
+                    ids[i] = ids[--size];
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.back.domain.recommendations.recommendations.engine;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * MinHash 서명. 특성(스킬 id / 관심분야 id / 정규화 단어)을 long 으로 부호화해
+ * SIZE 개의 해시 함수별 최솟값을 서명으로 쓴다. 두 서명이 일치하는 비율 ≈ Jaccard 유사도.
+ * LSH 는 서명을 BANDS 개 밴드(밴드당 ROWS 개)로 잘라 밴드가 통째로 같은 쌍만 후보로 본다.
+ */
+final class MinHash {
+
+    // 밴드 32 x 2행: 유사도 약 0.18 부근부터 후보로 잡힌다 (프로젝트/프로필 특성 집합 크기가 달라 Jaccard 가 낮게 나온다)
+    static final int BANDS = 32;
+    static final int ROWS = 2;
+    static final int SIZE = BANDS * ROWS;
+
+    // 노드/재시작과 무관하게 같은 서명이 나오도록 고정 시드
+    private static final long[] SEEDS = new SplittableRandom(0x5EEDL).longs(SIZE).toArray();
+
+    private static final long SKILL = 1L << 56;
+    private static final long INTEREST = 2L << 56;
+    private static final long WORD = 3L << 56;
+
+    private MinHash() {
+    }
+
+    static long skill(int skillId) {
+        return SKILL | (skillId & 0xFFFFFFFFL);
+    }
+
+    static long interest(int interestId) {
+        return INTEREST | (interestId & 0xFFFFFFFFL);
+    }
+
+    /** String.hashCode 는 명세로 고정된 값이라 노드 간에 같다 */
+    static long word(String normalizedWord) {
+        return WORD | (normalizedWord.hashCode() & 0xFFFFFFFFL);
+    }
+
+    /** 특성이 없으면 null (모든 빈 프로필이 한 버킷에 몰리지 않도록 색인하지 않는다) */
+    static int[] signature(long[] features) {
+        if (features.length == 0) return null;
+        int[] sig = new int[SIZE];
+        Arrays.fill(sig, Integer.MAX_VALUE);
+        for (long feature : features) {
+            for (int i = 0; i < SIZE; i++) {
+                int h = (int) (mix(feature ^ SEEDS[i]) >>> 33);
+                if (h < sig[i]) sig[i] = h;
+            }
+        }
+        return sig;
+    }
+
+    static long bandKey(int[] sig, int band) {
+        long h = band;
+        for (int r = 0; r < ROWS; r++) {
+            h = h * 0x9E3779B97F4A7C15L + sig[band * ROWS + r];
+        }
+        return mix(h);
+    }
+
+    /** 일치하는 서명 칸 수 (0 ~ SIZE) */
+    static int agreement(int[] a, int[] b) {
+        int same = 0;
+        for (int i = 0; i < SIZE; i++) {
+            if (a[i] == b[i]) same++;
+        }
+        return same;
+    }
+
+    /** murmur3 fmix64 */
+    private static long mix(long z) {
+        z ^= z >>> 33;
+        z *= 0xFF51AFD7ED558CCDL;
+        z ^= z >>> 33;
+        z *= 0xC4CEB9FE1A85EC53L;
+        z ^= z >>> 33;
+        return z;
+    }
+}
@@ -0,0 +1,83 @@
+package com.back.domain.recommendations.recommendations.engine;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * 미리 계산된 추천 목록 (score 내림차순, 동점은 id 오름차순).
+ * Redis 에는 [generation(8) | (id(8) + score(4)) * n] 바이트를 Base64 로 저장한다.
+ */
+public record RankedList(long generation, long[] ids, float[] scores) {
+
+    private static final int HEADER = Long.BYTES;
+    private static final int ENTRY = Long.BYTES + Float.BYTES;
+
+    public static RankedList empty(long generation) {
+        return new RankedList(generation, new long[0], new float[0]);
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    /** 제외 집합에 든 id 를 뺀 목록 (순서 유지). 뺄 것이 없으면 자기 자신 */
+    public RankedList without(ExclusionSet excluded) {
+        if (excluded.isEmpty()) return this;
+
+        long[] keptIds = new long[ids.length];
+        float[] keptScores = new float[ids.length];
+        int n = 0;
+        for (int i = 0; i < ids.length; i++) {
+            if (excluded.contains(ids[i])) continue;
+            keptIds[n] = ids[i];
+            keptScores[n++] = scores[i];
+        }
+        if (n == ids.length) return this;
+        return new RankedList(generation, Arrays.copyOf(keptIds, n), Arrays.copyOf(keptScores, n));
+    }
+
+    /** 커서 (score, id) 바로 다음 위치 – 정렬 순서를 이용한 이진 탐색 */
+    public int indexAfter(RecommendationCursor cursor) {
+        int lo = 0;
+        int hi = ids.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (isAfter(mid, cursor)) hi = mid;
+            else lo = mid + 1;
+        }
+        return lo;
+    }
+
+    public RecommendationCursor cursorAt(int index) {
+        return new RecommendationCursor(scores[index], ids[index]);
+    }
+
+    private boolean isAfter(int index, RecommendationCursor cursor) {
+        int cmp = Float.compare(scores[index], cursor.score());
+        return cmp < 0 || (cmp == 0 && ids[index] > cursor.id());
+    }
+
+    public String encode() {
+        ByteBuffer buf = ByteBuffer.allocate(HEADER + ENTRY * ids.length);
+        buf.putLong(generation);
+        for (int i = 0; i < ids.length; i++) {
+            buf.putLong(ids[i]);
+            buf.putFloat(scores[i]);
+        }
+        return Base64.getEncoder().encodeToString(buf.array());
+    }
+
+    public static RankedList decode(String encoded) {
+        ByteBuffer buf = ByteBuffer.wrap(Base64.getDecoder().decode(encoded));
+        long generation = buf.getLong();
+        int n = buf.remaining() / ENTRY;
+        long[] ids = new long[n];
+        float[] scores = new float[n];
+        for (int i = 0; i < n; i++) {
+            ids[i] = buf.getLong();
+            scores[i] = buf.getFloat();
+        }
+        return new RankedList(generation, ids, scores);
+    }
+}
@@ -0,0 +1,28 @@
+package com.back.domain.recommendations.recommendations.engine;
+
+import com.back.global.exception.ServiceException;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+
+/**
+ * 추천 목록 커서 (마지막으로 내려준 항목의 score, id).
+ * 클라이언트에는 Base64(URL-safe) 문자열로만 노출한다.
+ */
+public record RecommendationCursor(float score, long id) {
+
+    public String encode() {
+        ByteBuffer buf = ByteBuffer.allocate(Float.BYTES + Long.BYTES);
+        buf.putFloat(score).putLong(id);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buf.array());
+    }
+
+    public static RecommendationCursor decode(String cursor) {
+        try {
+            ByteBuffer buf = ByteBuffer.wrap(Base64.getUrlDecoder().decode(cursor));
+            return new RecommendationCursor(buf.getFloat(), buf.getLong());
+        } catch (RuntimeException e) {
+            throw new ServiceException("400-1", "잘못된 커서입니다.");
+        }
+    }
+}
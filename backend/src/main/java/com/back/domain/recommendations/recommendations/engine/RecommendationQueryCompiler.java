@@ -0,0 +1,77 @@
+package com.back.domain.recommendations.recommendations.engine;
+
+import com.back.domain.recommendations.recommendations.constant.SearchIndexTarget;
+import com.back.domain.recommendations.recommendations.entity.FreelancersSearch;
+import com.back.domain.recommendations.recommendations.entity.ProjectsSearch;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * 검색 행(프로필/프로젝트) → 필드별 CompiledQuery 변환기.
+ * 결과는 (대상, id) 별로 modify_date 와 함께 캐시해 같은 버전이면 문자열 처리를 다시 하지 않는다.
+ */
+@Component
+public class RecommendationQueryCompiler {
+
+    /** 필드 3개에 대한 질의 (프리랜서: job/career/tech_stack, 프로젝트: title/preferred/working) */
+    public record ProfileQuery(CompiledQuery first, CompiledQuery second, CompiledQuery third) {
+    }
+
+    private record Key(SearchIndexTarget target, Long id) {
+    }
+
+    private record Entry(LocalDateTime version, ProfileQuery query) {
+    }
+
+    private final Map<Key, Entry> cache;
+
+    public RecommendationQueryCompiler(@Value("${custom.recommendation.queryCache.maxSize:10000}") int maxSize) {
+        // access-order LRU
+        this.cache = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public ProfileQuery compile(FreelancersSearch fs) {
+        return cached(new Key(SearchIndexTarget.FREELANCER, fs.getFreelancerId()), fs.getModifyDate(),
+                () -> new ProfileQuery(
+                        CompiledQuery.of(fs.getJob()),
+                        fs.getCareer() == null ? CompiledQuery.EMPTY : CompiledQuery.ofAll(fs.getCareer().keySet()),
+                        CompiledQuery.of(fs.getTechStack())
+                ));
+    }
+
+    public ProfileQuery compile(ProjectsSearch ps) {
+        return cached(new Key(SearchIndexTarget.PROJECT, ps.getProjectId()), ps.getModifyDate(),
+                () -> new ProfileQuery(
+                        CompiledQuery.of(ps.getTitle()),
+                        CompiledQuery.of(ps.getPreferredCondition()),
+                        CompiledQuery.of(ps.getWorkingCondition())
+                ));
+    }
+
+    private ProfileQuery cached(Key key, LocalDateTime version, Supplier<ProfileQuery> compiler) {
+        // 버전 정보가 없는 행(마이그레이션 이전 데이터)은 캐시하지 않음
+        if (version == null || key.id() == null) return compiler.get();
+
+        synchronized (cache) {
+            Entry entry = cache.get(key);
+            if (entry != null && Objects.equals(entry.version(), version)) return entry.query();
+        }
+
+        ProfileQuery query = compiler.get();
+        synchronized (cache) {
+            cache.put(key, new Entry(version, query));
+        }
+        return query;
+    }
+}
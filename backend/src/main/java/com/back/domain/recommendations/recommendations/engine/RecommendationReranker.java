@@ -0,0 +1,73 @@
+package com.back.domain.recommendations.recommendations.engine;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 추천 2단계: 후보 집합을 Java 에서 최종 점수로 다시 정렬한다.
+ *
+ *   score = text * ratingFactor
+ *         + W_SKILL * 스킬 겹침 + W_INTEREST * 관심분야 겹침
+ *         + W_RECENCY * 0.5^(경과일 / RECENCY_HALF_LIFE_DAYS)
+ *
+ *   ratingFactor = (RF_TOP - 0.5) + 0.1 * clamp(rating, 0, 5)   (평점 신호가 없으면 1.0)
+ *
+ * 신호를 추가할 때는 RerankCandidates 에 배열 하나, 여기 항 하나만 늘리면 된다 (DB 쿼리는 그대로).
+ */
+@Component
+public class RecommendationReranker {
+
+    // 구조적 매칭 (스킬/관심분야 id 겹침 1개당 가산점)
+    static final double W_SKILL    = 0.8;
+    static final double W_INTEREST = 0.4;
+
+    // 평점 배율 – 예전 SQL 식과 동일
+    static final double RF_TOP = 1.25;
+    public static final double DEFAULT_RATING = 2.5; // 미평가 시 1.00배(= 0.75 + 0.1*2.5)
+
+    // 최신성 (검색 행 갱신 시각 기준 반감기)
+    static final double W_RECENCY = 0.3;
+    static final double RECENCY_HALF_LIFE_DAYS = 30.0;
+
+    private static final double SECONDS_PER_DAY = 86_400.0;
+
+    public RankedList rerank(RerankCandidates c, int n, long generation) {
+        return rerank(c, n, generation, System.currentTimeMillis() / 1000);
+    }
+
+    RankedList rerank(RerankCandidates c, int n, long generation, long nowEpochSecond) {
+        TopK top = new TopK(Math.min(n, c.size()));
+        float[] finalScores = new float[c.size()];
+
+        for (int i = 0; i < c.size(); i++) {
+            double score = c.text[i] * ratingFactor(c.rating[i])
+                    + W_SKILL * c.skill[i]
+                    + W_INTEREST * c.interest[i];
+            // 최신성은 다른 신호가 하나라도 있는 후보에만 가산 (최신성만으로 추천되지 않도록)
+            if (score <= 0) continue;
+
+            // 저장 정밀도(float)로 비교해야 커서 이진 탐색의 정렬 불변식이 유지된다
+            finalScores[i] = (float) (score + W_RECENCY * recency(c.updatedAt[i], nowEpochSecond));
+            top.offer(i, finalScores[i]);
+        }
+
+        int[] ranked = top.drainDescending();
+        long[] ids = new long[ranked.length];
+        float[] scores = new float[ranked.length];
+        for (int r = 0; r < ranked.length; r++) {
+            ids[r] = c.ids[ranked[r]];
+            scores[r] = finalScores[ranked[r]];
+        }
+        return new RankedList(generation, ids, scores);
+    }
+
+    private static double ratingFactor(double rating) {
+        if (Double.isNaN(rating)) return 1.0;
+        return (RF_TOP - 0.5) + 0.1 * Math.min(Math.max(rating, 0.0), 5.0);
+    }
+
+    private static double recency(long updatedAt, long now) {
+        if (updatedAt <= 0) return 0;
+        double ageDays = Math.max(now - updatedAt, 0) / SECONDS_PER_DAY;
+        return Math.pow(0.5, ageDays / RECENCY_HALF_LIFE_DAYS);
+    }
+}
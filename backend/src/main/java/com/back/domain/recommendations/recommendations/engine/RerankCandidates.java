@@ -0,0 +1,56 @@
+package com.back.domain.recommendations.recommendations.engine;
+
+import java.util.Arrays;
+
+/**
+ * 2단계(재정렬) 입력. 후보 한 건당 객체를 만들지 않도록 신호별 primitive 배열로 들고 있다.
+ * ids 는 오름차순 – 인덱스 순서가 곧 동점 시 id 오름차순이 된다.
+ */
+public final class RerankCandidates {
+
+    public final long[] ids;
+    public final double[] text;
+    public final double[] rating;      // NaN = 평점 신호 없음 (프로젝트 쪽)
+    public final int[] skill;
+    public final int[] interest;
+    public final long[] updatedAt;     // epoch seconds, 0 = 알 수 없음
+
+    private RerankCandidates(long[] ids) {
+        int n = ids.length;
+        this.ids = ids;
+        this.text = new double[n];
+        this.rating = new double[n];
+        this.skill = new int[n];
+        this.interest = new int[n];
+        this.updatedAt = new long[n];
+        Arrays.fill(rating, Double.NaN);
+    }
+
+    /** 텍스트 후보 ∪ 구조적(스킬 겹침) 후보. 텍스트 일치가 없는 후보는 텍스트 점수 0 */
+    public static RerankCandidates union(TextCandidates textCandidates, long[] extraIds) {
+        long[] merged = Arrays.copyOf(textCandidates.ids(), textCandidates.size() + extraIds.length);
+        System.arraycopy(extraIds, 0, merged, textCandidates.size(), extraIds.length);
+        Arrays.sort(merged);
+
+        int size = 0;
+        for (int i = 0; i < merged.length; i++) {
+            if (size == 0 || merged[size - 1] != merged[i]) merged[size++] = merged[i];
+        }
+
+        RerankCandidates c = new RerankCandidates(Arrays.copyOf(merged, size));
+        for (int i = 0; i < textCandidates.size(); i++) {
+            c.text[c.indexOf(textCandidates.ids()[i])] = textCandidates.scores()[i];
+        }
+        return c;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    /** id → 후보 인덱스 (없으면 -1) */
+    public int indexOf(long id) {
+        int pos = Arrays.binarySearch(ids, id);
+        return pos >= 0 ? pos : -1;
+    }
+}
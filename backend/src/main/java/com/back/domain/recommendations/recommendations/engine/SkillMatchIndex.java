@@ -0,0 +1,390 @@
+package com.back.domain.recommendations.recommendations.engine;
+
+import com.back.domain.recommendations.recommendations.constant.SearchIndexTarget;
+import com.back.domain.recommendations.recommendations.event.SearchIndexChangedEvent;
+import com.back.domain.recommendations.recommendations.repository.SkillMatchRepository;
+import com.back.standard.bitmap.IdBitmap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 프리랜서/프로젝트별 스킬·관심분야 id 를 압축 비트맵으로 들고 있는 구조적 매칭 색인.
+ * - 겹침 수: 비트맵 AND + popcount
+ * - 후보 생성: 스킬/관심분야 → 문서 번호 포스팅으로 겹침이 큰 상대를 바로 뽑는다 (텍스트 점수 이전 단계)
+ * - 검색 테이블 변경 이벤트(다른 노드 것 포함)는 바뀐 id 의 태그/상태만 다시 읽어 반영한다.
+ *   조인 테이블 전체 적재는 부팅, 테이블 리빌드, 주기 재조정(reconcile) 때만.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SkillMatchIndex {
+
+    // 후보 생성 시 스킬 일치를 관심분야 일치보다 우선
+    private static final int SKILL_WEIGHT = 2;
+    private static final int INTEREST_WEIGHT = 1;
+
+    private final SkillMatchRepository repo;
+
+    @Value("${custom.recommendation.skillMatch.enabled:true}")
+    private boolean enabled;
+
+    private volatile Side freelancers = Side.EMPTY;
+    private volatile Side projects = Side.EMPTY;
+
+    private final AtomicBoolean freelancersDirty = new AtomicBoolean(true);
+    private final AtomicBoolean projectsDirty = new AtomicBoolean(true);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        refresh();
+    }
+
+    /**
+     * 검색 테이블 변경(프로필/프로젝트 수정) 커밋 후 바뀐 id 만 반영 – 목록 무효화(@Order 2)보다 먼저.
+     * 리빌드(ids 비어 있음)면 해당 쪽 전체 재적재, 증분 반영 실패 시 다음 주기에 전체 재적재.
+     */
+    @Order(1)
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onSearchIndexChanged(SearchIndexChangedEvent event) {
+        if (!enabled) return;
+
+        AtomicBoolean dirty = event.target() == SearchIndexTarget.FREELANCER ? freelancersDirty : projectsDirty;
+        if (event.isFullRebuild() || dirty.get()) {
+            dirty.set(true);
+            refresh();
+            return;
+        }
+
+        try {
+            List<Long> ids = List.copyOf(event.ids());
+            if (event.target() == SearchIndexTarget.FREELANCER) {
+                freelancers = freelancers.withChanges(ids, repo.findFreelancerSkills(ids),
+                        repo.findFreelancerInterests(ids), repo.findActiveFreelancerIds(ids));
+            } else {
+                projects = projects.withChanges(ids, repo.findProjectSkills(ids),
+                        repo.findProjectInterests(ids), repo.findOpenProjectIds(ids));
+            }
+        } catch (Exception e) {
+            dirty.set(true);
+            log.warn("스킬 매칭 색인({}) 증분 반영 실패. cause={}", event.target(), e.getMessage());
+        }
+    }
+
+    /** 주기 재조정 – 누락된 변경 알림이 있어도 이 주기 안에 DB 와 맞춰진다 */
+    @Scheduled(initialDelayString = "${custom.recommendation.memory.reconcileIntervalMs:600000}",
+            fixedDelayString = "${custom.recommendation.memory.reconcileIntervalMs:600000}")
+    public void reconcile() {
+        freelancersDirty.set(true);
+        projectsDirty.set(true);
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${custom.recommendation.memory.refreshDelayMs:2000}")
+    public synchronized void refresh() {
+        if (!enabled) return;
+
+        if (freelancersDirty.getAndSet(false)) {
+            try {
+                freelancers = Side.build(repo.findAllFreelancerSkills(), repo.findAllFreelancerInterests(),
+                        repo.findActiveFreelancerIds());
+            } catch (Exception e) {
+                freelancersDirty.set(true);
+                log.warn("스킬 매칭 색인(프리랜서) 적재 실패. cause={}", e.getMessage());
+            }
+        }
+        if (projectsDirty.getAndSet(false)) {
+            try {
+                projects = Side.build(repo.findAllProjectSkills(), repo.findAllProjectInterests(),
+                        repo.findOpenProjectIds());
+            } catch (Exception e) {
+                projectsDirty.set(true);
+                log.warn("스킬 매칭 색인(프로젝트) 적재 실패. cause={}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 기준 대상(subjectSide, subjectId) 과 상대편 후보들의 스킬/관심분야 겹침 수.
+     * 결과는 candidateIds 와 같은 순서로 skillOut / interestOut 에 채운다.
+     */
+    public void overlaps(SearchIndexTarget subjectSide, long subjectId, long[] candidateIds,
+                         int[] skillOut, int[] interestOut) {
+        Side subjects = side(subjectSide);
+        Side candidates = side(opposite(subjectSide));
+
+        int subjectDoc = subjects.docOf(subjectId);
+        if (subjectDoc < 0) return;
+        IdBitmap mySkills = subjects.skills[subjectDoc];
+        IdBitmap myInterests = subjects.interests[subjectDoc];
+
+        for (int i = 0; i < candidateIds.length; i++) {
+            int doc = candidates.docOf(candidateIds[i]);
+            if (doc < 0) continue;
+            skillOut[i] = mySkills.andCardinality(candidates.skills[doc]);
+            interestOut[i] = myInterests.andCardinality(candidates.interests[doc]);
+        }
+    }
+
+    /** 스킬/관심분야가 가장 많이 겹치는 상대편 후보 id 상위 n 개 (모집 중/활성만) */
+    public long[] topByOverlap(SearchIndexTarget subjectSide, long subjectId, int n) {
+        Side subjects = side(subjectSide);
+        Side candidates = side(opposite(subjectSide));
+
+        int subjectDoc = subjects.docOf(subjectId);
+        if (subjectDoc < 0 || candidates.ids.length == 0) return new long[0];
+
+        int[] counts = new int[candidates.ids.length];
+        subjects.skills[subjectDoc].forEach(skill -> addPosting(candidates.skillPostings.get(skill), SKILL_WEIGHT, counts));
+        subjects.interests[subjectDoc].forEach(interest -> addPosting(candidates.interestPostings.get(interest), INTEREST_WEIGHT, counts));
+
+        TopK top = new TopK(n);
+        for (int doc = 0; doc < counts.length; doc++) {
+            if (counts[doc] > 0 && candidates.eligible[doc]) top.offer(doc, counts[doc]);
+        }
+
+        int[] docs = top.drainDescending();
+        long[] ids = new long[docs.length];
+        for (int i = 0; i < docs.length; i++) ids[i] = candidates.ids[docs[i]];
+        return ids;
+    }
+
+    /** 대상의 스킬 id (색인이 꺼져 있거나 아직 모르는 대상이면 null) */
+    public int[] skillsOf(SearchIndexTarget target, long id) {
+        if (!enabled) return null;
+        Side s = side(target);
+        int doc = s.docOf(id);
+        return doc < 0 ? null : s.skills[doc].toArray();
+    }
+
+    /** 대상의 관심분야 id (색인이 꺼져 있거나 아직 모르는 대상이면 null) */
+    public int[] interestsOf(SearchIndexTarget target, long id) {
+        if (!enabled) return null;
+        Side s = side(target);
+        int doc = s.docOf(id);
+        return doc < 0 ? null : s.interests[doc].toArray();
+    }
+
+    private static void addPosting(int[] docs, int weight, int[] counts) {
+        if (docs == null) return;
+        for (int doc : docs) counts[doc] += weight;
+    }
+
+    private Side side(SearchIndexTarget target) {
+        return target == SearchIndexTarget.FREELANCER ? freelancers : projects;
+    }
+
+    private static SearchIndexTarget opposite(SearchIndexTarget target) {
+        return target == SearchIndexTarget.FREELANCER ? SearchIndexTarget.PROJECT : SearchIndexTarget.FREELANCER;
+    }
+
+    /**
+     * 한쪽(프리랜서 또는 프로젝트)의 구조 색인. 문서 번호 = ids 인덱스.
+     * 전체 적재 시 ids 는 오름차순이고, 증분으로 새로 생긴 id 는 뒤에 붙는다 (기존 문서 번호 유지).
+     * id → 문서 번호는 정렬된 사본(sortedIds/sortedDocs)으로 찾는다.
+     */
+    private static final class Side {
+
+        static final Side EMPTY = new Side(new long[0], new IdBitmap[0], new IdBitmap[0], new boolean[0], Map.of(), Map.of());
+
+        final long[] ids;
+        final IdBitmap[] skills;
+        final IdBitmap[] interests;
+        final boolean[] eligible;
+        final Map<Integer, int[]> skillPostings;     // 스킬 id → 문서 번호
+        final Map<Integer, int[]> interestPostings;  // 관심분야 id → 문서 번호
+        private final long[] sortedIds;
+        private final int[] sortedDocs;
+
+        private Side(long[] ids, IdBitmap[] skills, IdBitmap[] interests, boolean[] eligible,
+                     Map<Integer, int[]> skillPostings, Map<Integer, int[]> interestPostings) {
+            this(ids, skills, interests, eligible, skillPostings, interestPostings, ids, null);
+        }
+
+        private Side(long[] ids, IdBitmap[] skills, IdBitmap[] interests, boolean[] eligible,
+                     Map<Integer, int[]> skillPostings, Map<Integer, int[]> interestPostings,
+                     long[] sortedIds, int[] sortedDocs) {
+            this.ids = ids;
+            this.skills = skills;
+            this.interests = interests;
+            this.eligible = eligible;
+            this.skillPostings = skillPostings;
+            this.interestPostings = interestPostings;
+            this.sortedIds = sortedIds;
+            this.sortedDocs = sortedDocs;   // null 이면 문서 번호 = 정렬 위치
+        }
+
+        int docOf(long id) {
+            int pos = Arrays.binarySearch(sortedIds, id);
+            if (pos < 0) return -1;
+            return sortedDocs == null ? pos : sortedDocs[pos];
+        }
+
+        /**
+         * 바뀐 id 의 스킬/관심분야/후보 여부만 교체한 새 Side (복사 후 수정).
+         * 포스팅은 값이 바뀐 스킬/관심분야의 문서 목록만 다시 만든다.
+         * 사라진 대상은 빈 태그 + 후보 아님으로 남고, 다음 전체 적재 때 빠진다.
+         */
+        Side withChanges(Collection<Long> changedIds, List<Object[]> skillPairs, List<Object[]> interestPairs,
+                         List<Number> eligibleIds) {
+            Map<Long, List<Integer>> skillsById = TagPairs.group(skillPairs);
+            Map<Long, List<Integer>> interestsById = TagPairs.group(interestPairs);
+            Set<Long> eligibleSet = new HashSet<>();
+            for (Number id : eligibleIds) eligibleSet.add(id.longValue());
+
+            List<Long> added = new ArrayList<>();
+            for (Long id : changedIds) {
+                if (docOf(id) < 0 && !added.contains(id)
+                        && (skillsById.containsKey(id) || interestsById.containsKey(id) || eligibleSet.contains(id))) {
+                    added.add(id);
+                }
+            }
+
+            int base = ids.length;
+            int n = base + added.size();
+            long[] newIds = Arrays.copyOf(ids, n);
+            IdBitmap[] newSkills = Arrays.copyOf(skills, n);
+            IdBitmap[] newInterests = Arrays.copyOf(interests, n);
+            boolean[] newEligible = Arrays.copyOf(eligible, n);
+            for (int i = 0; i < added.size(); i++) {
+                newIds[base + i] = added.get(i);
+                newSkills[base + i] = IdBitmap.EMPTY;
+                newInterests[base + i] = IdBitmap.EMPTY;
+            }
+
+            PostingEdit skillEdit = new PostingEdit();
+            PostingEdit interestEdit = new PostingEdit();
+            Side lookup = added.isEmpty() ? this : withLookup(newIds);
+            for (Long id : changedIds) {
+                int doc = lookup.docOf(id);
+                if (doc < 0) continue;
+
+                IdBitmap nextSkills = IdBitmap.of(skillsById.getOrDefault(id, List.of()));
+                IdBitmap nextInterests = IdBitmap.of(interestsById.getOrDefault(id, List.of()));
+                skillEdit.replace(doc, newSkills[doc], nextSkills);
+                interestEdit.replace(doc, newInterests[doc], nextInterests);
+                newSkills[doc] = nextSkills;
+                newInterests[doc] = nextInterests;
+                newEligible[doc] = eligibleSet.contains(id);
+            }
+
+            return new Side(newIds, newSkills, newInterests, newEligible,
+                    skillEdit.applyTo(skillPostings), interestEdit.applyTo(interestPostings),
+                    lookup.sortedIds, lookup.sortedDocs);
+        }
+
+        /** newIds(뒤에 새 id 가 붙은) 기준 정렬 사본만 만든 조회용 Side */
+        private Side withLookup(long[] newIds) {
+            Integer[] order = new Integer[newIds.length];
+            for (int i = 0; i < order.length; i++) order[i] = i;
+            Arrays.sort(order, (a, b) -> Long.compare(newIds[a], newIds[b]));
+
+            long[] sorted = new long[newIds.length];
+            int[] docs = new int[newIds.length];
+            for (int i = 0; i < order.length; i++) {
+                sorted[i] = newIds[order[i]];
+                docs[i] = order[i];
+            }
+            return new Side(newIds, null, null, null, null, null, sorted, docs);
+        }
+
+        static Side build(List<Object[]> skillPairs, List<Object[]> interestPairs, List<Number> eligibleIds) {
+            TreeSet<Long> universe = new TreeSet<>();
+            Map<Long, List<Integer>> skillsById = TagPairs.group(skillPairs);
+            Map<Long, List<Integer>> interestsById = TagPairs.group(interestPairs);
+            universe.addAll(skillsById.keySet());
+            universe.addAll(interestsById.keySet());
+            for (Number id : eligibleIds) universe.add(id.longValue());
+
+            int n = universe.size();
+            long[] ids = new long[n];
+            IdBitmap[] skills = new IdBitmap[n];
+            IdBitmap[] interests = new IdBitmap[n];
+            boolean[] eligible = new boolean[n];
+
+            int doc = 0;
+            for (Long id : universe) {
+                ids[doc] = id;
+                skills[doc] = IdBitmap.of(skillsById.getOrDefault(id, List.of()));
+                interests[doc] = IdBitmap.of(interestsById.getOrDefault(id, List.of()));
+                doc++;
+            }
+            for (Number id : eligibleIds) {
+                eligible[Arrays.binarySearch(ids, id.longValue())] = true;
+            }
+
+            return new Side(ids, skills, interests, eligible, postings(skills), postings(interests));
+        }
+
+        private static Map<Integer, int[]> postings(IdBitmap[] sets) {
+            Map<Integer, List<Integer>> lists = new HashMap<>();
+            for (int doc = 0; doc < sets.length; doc++) {
+                int d = doc;
+                sets[doc].forEach(value -> lists.computeIfAbsent(value, k -> new ArrayList<>()).add(d));
+            }
+            Map<Integer, int[]> postings = new HashMap<>(lists.size() * 2);
+            lists.forEach((value, docs) -> postings.put(value, docs.stream().mapToInt(Integer::intValue).toArray()));
+            return postings;
+        }
+    }
+
+    /** 포스팅(값 → 문서 번호) 부분 수정: 바뀐 문서를 이전 값에서 빼고 새 값에 더한다 */
+    private static final class PostingEdit {
+        private final Map<Integer, Set<Integer>> removed = new HashMap<>();
+        private final Map<Integer, List<Integer>> added = new HashMap<>();
+
+        void replace(int doc, IdBitmap before, IdBitmap after) {
+            before.forEach(value -> {
+                if (!after.contains(value)) removed.computeIfAbsent(value, k -> new HashSet<>()).add(doc);
+            });
+            after.forEach(value -> {
+                if (!before.contains(value)) added.computeIfAbsent(value, k -> new ArrayList<>()).add(doc);
+            });
+        }
+
+        Map<Integer, int[]> applyTo(Map<Integer, int[]> postings) {
+            if (removed.isEmpty() && added.isEmpty()) return postings;
+
+            Map<Integer, int[]> next = new HashMap<>(postings);
+            Set<Integer> values = new HashSet<>(removed.keySet());
+            values.addAll(added.keySet());
+            for (Integer value : values) {
+                Set<Integer> drop = removed.getOrDefault(value, Set.of());
+                List<Integer> add = added.getOrDefault(value, List.of());
+                int[] docs = postings.getOrDefault(value, new int[0]);
+
+                int[] merged = new int[docs.length + add.size()];
+                int size = 0;
+                for (int doc : docs) {
+                    if (!drop.contains(doc)) merged[size++] = doc;
+                }
+                for (int doc : add) merged[size++] = doc;
+
+                if (size == 0) next.remove(value);
+                else next.put(value, Arrays.copyOf(merged, size));
+            }
+            return next;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.back.domain.recommendations.recommendations.engine;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SkillMatchRepository 의 (대상 id, 스킬/관심분야 id) 쌍 목록 처리.
+ */
+final class TagPairs {
+
+    private TagPairs() {
+    }
+
+    /** 대상 id → 스킬/관심분야 id 목록 */
+    static Map<Long, List<Integer>> group(List<Object[]> pairs) {
+        Map<Long, List<Integer>> grouped = new HashMap<>();
+        for (Object[] pair : pairs) {
+            grouped.computeIfAbsent(((Number) pair[0]).longValue(), k -> new ArrayList<>())
+                    .add(((Number) pair[1]).intValue());
+        }
+        return grouped;
+    }
+}
@@ -0,0 +1,14 @@
+package com.back.domain.recommendations.recommendations.engine;
+
+/**
+ * 1단계(후보 생성) 결과: 텍스트 일치 점수 상위 후보 (점수 내림차순).
+ * 평점·겹침·최신성은 반영하지 않은 순수 텍스트 점수다.
+ */
+public record TextCandidates(long[] ids, double[] scores) {
+
+    public static final TextCandidates EMPTY = new TextCandidates(new long[0], new double[0]);
+
+    public int size() {
+        return ids.length;
+    }
+}
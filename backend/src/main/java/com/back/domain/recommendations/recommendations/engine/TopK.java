@@ -0,0 +1,81 @@
+package com.back.domain.recommendations.recommendations.engine;
+
+/**
+ * 점수 상위 k 개만 유지하는 최소 힙 (primitive 배열).
+ * 동점이면 문서 번호가 작은 쪽을 우선한다.
+ */
+final class TopK {
+
+    private final int[] docs;
+    private final double[] scores;
+    private int size;
+
+    TopK(int k) {
+        this.docs = new int[Math.max(k, 0)];
+        this.scores = new double[Math.max(k, 0)];
+    }
+
+    void offer(int doc, double score) {
+        if (docs.length == 0) return;
+        if (size < docs.length) {
+            docs[size] = doc;
+            scores[size] = score;
+            siftUp(size++);
+            return;
+        }
+        // 루트(현재 k 번째)보다 나을 때만 교체
+        if (worse(doc, score, docs[0], scores[0])) return;
+        docs[0] = doc;
+        scores[0] = score;
+        siftDown(0);
+    }
+
+    /** 점수 내림차순으로 꺼낸다 (힙은 비워진다) */
+    int[] drainDescending() {
+        int[] out = new int[size];
+        for (int i = size - 1; i >= 0; i--) {
+            out[i] = docs[0];
+            size--;
+            docs[0] = docs[size];
+            scores[0] = scores[size];
+            siftDown(0);
+        }
+        return out;
+    }
+
+    private static boolean worse(int docA, double scoreA, int docB, double scoreB) {
+        if (scoreA != scoreB) return scoreA < scoreB;
+        return docA > docB;
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!worse(docs[i], scores[i], docs[parent], scores[parent])) break;
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i) {
+        while (true) {
+            int left = 2 * i + 1;
+            if (left >= size) break;
+            int worst = left;
+            int right = left + 1;
+            if (right < size && worse(docs[right], scores[right], docs[left], scores[left])) worst = right;
+            if (!worse(docs[worst], scores[worst], docs[i], scores[i])) break;
+            swap(i, worst);
+            i = worst;
+        }
+    }
+
+    private void swap(int a, int b) {
+        int d = docs[a];
+        docs[a] = docs[b];
+        docs[b] = d;
+        double s = scores[a];
+        scores[a] = scores[b];
+        scores[b] = s;
+    }
+}
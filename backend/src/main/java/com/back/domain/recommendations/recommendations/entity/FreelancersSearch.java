@@ -8,6 +8,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.Immutable;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -21,6 +22,7 @@ public class FreelancersSearch {
 
 
     @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY) // AUTO_INCREMENT – outbox/리빌드 INSERT 는 id 를 넣지 않는다
     @Column(name = "id")
     private Long id;
 
@@ -30,6 +32,9 @@ public class FreelancersSearch {
     @Enumerated(EnumType.STRING)
     private MemberStatus status;   // 새 컬럼
 
+    // 목록 키워드 검색용 (member.name)
+    private String name;
+
     private String job;
 
     @Column(name = "one_liner")
@@ -45,6 +50,10 @@ public class FreelancersSearch {
     @Column(name = "tech_stack", columnDefinition = "TEXT")
     private String techStack;
 
+    // 검색 행 갱신 시각 (upsert/리빌드 시 NOW(6)) – 컴파일된 질의 캐시 버전으로 사용
+    @Column(name = "modify_date")
+    private LocalDateTime modifyDate;
+
     @Transient
     private List<FreelancerSkill> skills = new ArrayList<>();
 }
\ No newline at end of file
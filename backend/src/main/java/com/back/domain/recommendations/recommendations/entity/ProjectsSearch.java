@@ -7,6 +7,7 @@ import lombok.NoArgsConstructor;
 import org.hibernate.annotations.Immutable;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
 @Getter
 @NoArgsConstructor
@@ -17,6 +18,7 @@ public class ProjectsSearch {
 
 
     @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY) // AUTO_INCREMENT – outbox/리빌드 INSERT 는 id 를 넣지 않는다
     @Column(name = "id")
     private Long id;
 
@@ -42,4 +44,8 @@ public class ProjectsSearch {
     @Column(name = "working_condition")
     private String workingCondition;
 
+    // 검색 행 갱신 시각 (upsert/리빌드 시 NOW(6)) – 컴파일된 질의 캐시 버전으로 사용
+    @Column(name = "modify_date")
+    private LocalDateTime modifyDate;
+
 }
\ No newline at end of file
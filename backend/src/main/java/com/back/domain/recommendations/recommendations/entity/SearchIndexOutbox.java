@@ -0,0 +1,30 @@
+package com.back.domain.recommendations.recommendations.entity;
+
+import com.back.domain.recommendations.recommendations.constant.SearchIndexTarget;
+import com.back.global.jpa.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 검색 테이블(project_search / freelancer_search)에 반영해야 할 변경 기록.
+ * 원본 쓰기와 같은 트랜잭션에서 적재되고, SearchIndexOutboxWorker 가 비동기로 반영 후 삭제한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "search_index_outbox")
+public class SearchIndexOutbox extends BaseEntity {
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private SearchIndexTarget target;
+
+    @Column(nullable = false)
+    private Long targetId;
+
+    public SearchIndexOutbox(SearchIndexTarget target, Long targetId) {
+        this.target = target;
+        this.targetId = targetId;
+    }
+}
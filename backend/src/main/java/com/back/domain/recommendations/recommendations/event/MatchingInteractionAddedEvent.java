@@ -0,0 +1,8 @@
+package com.back.domain.recommendations.recommendations.event;
+
+/**
+ * 프리랜서가 프로젝트에 지원했거나 제안을 수락해 새 쌍이 생겼다는 알림.
+ * "이 프로젝트에 지원한 사람들이 함께 지원한 프로젝트" 행렬을 증분 갱신하는 데 쓴다.
+ */
+public record MatchingInteractionAddedEvent(long freelancerId, long projectId) {
+}
@@ -0,0 +1,8 @@
+package com.back.domain.recommendations.recommendations.event;
+
+/**
+ * 프리랜서-프로젝트 쌍의 지원 / 제안 / 참여 상태 변경 알림.
+ * 두 쪽의 추천 제외 집합을 무효화하는 데 쓴다.
+ */
+public record MatchingInteractionChangedEvent(long freelancerId, long projectId) {
+}
@@ -0,0 +1,26 @@
+package com.back.domain.recommendations.recommendations.event;
+
+import com.back.domain.recommendations.recommendations.constant.SearchIndexTarget;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 검색 테이블(project_search / freelancer_search) 변경 알림.
+ * ids 가 비어 있으면 테이블 전체가 바뀐 것(리빌드)으로 본다.
+ * remote 는 다른 노드에서 반영된 변경을 Redis 채널로 전달받은 것 (노드별 메모리 색인만 갱신하면 된다).
+ */
+public record SearchIndexChangedEvent(SearchIndexTarget target, Collection<Long> ids, boolean remote) {
+
+    public SearchIndexChangedEvent(SearchIndexTarget target, Collection<Long> ids) {
+        this(target, ids, false);
+    }
+
+    public static SearchIndexChangedEvent all(SearchIndexTarget target) {
+        return new SearchIndexChangedEvent(target, List.of());
+    }
+
+    public boolean isFullRebuild() {
+        return ids.isEmpty();
+    }
+}
@@ -0,0 +1,33 @@
+package com.back.domain.recommendations.recommendations.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 함께 지원 행렬 전체 적재용 프리랜서-프로젝트 쌍 (지원 + 수락된 제안).
+ */
+@Repository
+@RequiredArgsConstructor
+public class AlsoAppliedRepository {
+
+    @PersistenceContext
+    private final EntityManager em;
+
+    /** [freelancerId, projectId] – 오래된 것부터 (프리랜서별 최근 이력 유지용) */
+    @SuppressWarnings("unchecked")
+    public List<Object[]> findAllPairs() {
+        return em.createNativeQuery("""
+                SELECT t.freelancer_id, t.project_id FROM (
+                    SELECT a.freelancer_id, a.project_id, a.create_date AS occurred_at FROM application a
+                    UNION ALL
+                    SELECT p.freelancer_id, p.project_id, p.modify_date AS occurred_at FROM proposal p WHERE p.status = 'ACCEPT'
+                ) t
+                ORDER BY t.occurred_at
+                """)
+                .getResultList();
+    }
+}
@@ -1,12 +1,14 @@
 package com.back.domain.recommendations.recommendations.repository;
 
 import com.back.domain.recommendations.recommendations.entity.FreelancersSearch;
-import com.back.domain.recommendations.recommendations.view.FreelancerScoreView;
-import org.springframework.data.domain.*;
+import com.back.domain.recommendations.recommendations.view.CandidateScoreView;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -14,34 +16,25 @@ public interface FreelancersSearchRepository extends JpaRepository<FreelancersSe
 
     Optional<FreelancersSearch> findFirstByFreelancerId(Long freelancerId);
 
+    List<FreelancersSearch> findAllByFreelancerIdIn(Collection<Long> freelancerIds);
+
+    /** 스냅샷 부팅 시 다시 읽을 id: high-water mark(modify_date / 행 id) 이후 바뀐 행 */
+    @Query("SELECT f.freelancerId FROM FreelancersSearch f WHERE f.modifyDate >= :since OR f.modifyDate IS NULL OR f.id > :afterRowId")
+    List<Long> findChangedIdsSince(@Param("since") LocalDateTime since, @Param("afterRowId") long afterRowId);
+
+    /** 스냅샷 부팅 시 사라진 행을 가리기 위한 현재 id 목록 */
+    @Query("SELECT f.freelancerId FROM FreelancersSearch f")
+    List<Long> findAllFreelancerIds();
+
+    /** 추천 1단계: 텍스트 일치 점수만으로 상위 후보를 뽑는다 (평점 배율은 Java 재정렬에서) */
     @Query(value = """
     SELECT
-      f.freelancer_id                                    AS freelancerId,
-      f.job                                              AS job,
-      f.one_liner                                        AS one_liner,
-      f.tech_stack                                       AS tech_stack,
-      f.rating_avg                                       AS ratingAvg,
+      f.freelancer_id                                    AS id,
       (
-        (  MATCH(f.job)            AGAINST (:qJobAny    IN BOOLEAN MODE) * :wJob
-         + MATCH(f.career)         AGAINST (:qCareerAny IN BOOLEAN MODE) * :wCareer
-         + MATCH(f.tech_stack)     AGAINST (:qStackAny  IN BOOLEAN MODE) * :wStack
-        )
-        *
-        (
-          (:rfTop - 0.5) + 0.1 * LEAST(GREATEST(COALESCE(f.rating_avg, :defaultRating), 0.0), 5.0)
-        )
-      ) AS textScore
-    FROM freelancer_search f
-    WHERE f.status = 'ACTIVE'
-      AND (
-            MATCH(f.job)        AGAINST (:qJobAny    IN BOOLEAN MODE)
-         OR MATCH(f.career)     AGAINST (:qCareerAny IN BOOLEAN MODE)
-         OR MATCH(f.tech_stack) AGAINST (:qStackAny  IN BOOLEAN MODE)
-      )
-    ORDER BY textScore DESC
-    """,
-            countQuery = """
-    SELECT COUNT(*)
+         MATCH(f.job)            AGAINST (:qJobAny    IN BOOLEAN MODE) * :wJob
+       + MATCH(f.career)         AGAINST (:qCareerAny IN BOOLEAN MODE) * :wCareer
+       + MATCH(f.tech_stack)     AGAINST (:qStackAny  IN BOOLEAN MODE) * :wStack
+      )                                                  AS textScore
     FROM freelancer_search f
     WHERE f.status = 'ACTIVE'
       AND (
@@ -49,17 +42,30 @@ public interface FreelancersSearchRepository extends JpaRepository<FreelancersSe
          OR MATCH(f.career)     AGAINST (:qCareerAny IN BOOLEAN MODE)
          OR MATCH(f.tech_stack) AGAINST (:qStackAny  IN BOOLEAN MODE)
       )
+    ORDER BY textScore DESC, f.freelancer_id ASC
+    LIMIT :limit
     """,
             nativeQuery = true)
-    Page<FreelancerScoreView> scoreFreelancers(
+    List<CandidateScoreView> retrieveFreelancers(
             @Param("qJobAny")      String qJobAny,
             @Param("qCareerAny")   String qCareerAny,
             @Param("qStackAny")    String qStackAny,
             @Param("wJob")         double wJob,
             @Param("wCareer")      double wCareer,
             @Param("wStack")       double wStack,
-            @Param("rfTop")        double rfTop,
-            @Param("defaultRating") double defaultRating,
-            Pageable pageable
+            @Param("limit")        int limit
     );
-}
\ No newline at end of file
+
+    /** 목록 키워드 검색: 이름/직무/한 줄 소개 FT 인덱스에 일치하는 프리랜서 id */
+    @Query(value = """
+    SELECT f.freelancer_id
+    FROM freelancer_search f
+    WHERE MATCH(f.name, f.job, f.one_liner) AGAINST (:query IN BOOLEAN MODE)
+    """,
+            nativeQuery = true)
+    List<Long> findFreelancerIdsByKeyword(@Param("query") String query);
+
+    /** 추천 2단계 재정렬 신호: [freelancerId, ratingAvg, modifyDate] */
+    @Query("SELECT f.freelancerId, f.ratingAvg, f.modifyDate FROM FreelancersSearch f WHERE f.freelancerId IN :ids")
+    List<Object[]> findRankingFeatures(@Param("ids") Collection<Long> ids);
+}
@@ -1,12 +1,14 @@
 package com.back.domain.recommendations.recommendations.repository;
 
 import com.back.domain.recommendations.recommendations.entity.ProjectsSearch;
-import com.back.domain.recommendations.recommendations.view.ProjectScoreView;
-import org.springframework.data.domain.*;
+import com.back.domain.recommendations.recommendations.view.CandidateScoreView;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -14,15 +16,20 @@ public interface ProjectsSearchRepository extends JpaRepository<ProjectsSearch,
 
     Optional<ProjectsSearch> findFirstByProjectId(Long projectId);
 
+    List<ProjectsSearch> findAllByProjectIdIn(Collection<Long> projectIds);
+
+    /** 스냅샷 부팅 시 다시 읽을 id: high-water mark(modify_date / 행 id) 이후 바뀐 행 */
+    @Query("SELECT p.projectId FROM ProjectsSearch p WHERE p.modifyDate >= :since OR p.modifyDate IS NULL OR p.id > :afterRowId")
+    List<Long> findChangedIdsSince(@Param("since") LocalDateTime since, @Param("afterRowId") long afterRowId);
+
+    /** 스냅샷 부팅 시 사라진 행을 가리기 위한 현재 id 목록 */
+    @Query("SELECT p.projectId FROM ProjectsSearch p")
+    List<Long> findAllProjectIds();
+
+    /** 추천 1단계: 텍스트 일치 점수만으로 상위 후보를 뽑는다 (재정렬은 Java 에서) */
     @Query(value = """
     SELECT
-      p.project_id                                        AS projectId,
-      p.title                                             AS title,
-      p.summary                                           AS summary,
-      p.price                                             AS price,
-      p.duration                                          AS duration,
-      p.status                                            AS status,
-      p.preferred_condition                               AS preferred_condition,
+      p.project_id                                        AS id,
       (
          MATCH(p.title)               AGAINST (:qTitleAny IN BOOLEAN MODE) * :wTitle
        + MATCH(p.preferred_condition)  AGAINST (:qPrefAny  IN BOOLEAN MODE) * :wPref
@@ -35,26 +42,39 @@ public interface ProjectsSearchRepository extends JpaRepository<ProjectsSearch,
          OR MATCH(p.preferred_condition) AGAINST (:qPrefAny  IN BOOLEAN MODE)
          OR MATCH(p.working_condition)   AGAINST (:qWorkAny  IN BOOLEAN MODE)
       )
-    ORDER BY textScore DESC
-    """,
-            countQuery = """
-    SELECT COUNT(*)
-    FROM project_search p
-    WHERE p.status = 'OPEN'
-      AND (
-            MATCH(p.title)               AGAINST (:qTitleAny IN BOOLEAN MODE)
-         OR MATCH(p.preferred_condition) AGAINST (:qPrefAny  IN BOOLEAN MODE)
-         OR MATCH(p.working_condition)   AGAINST (:qWorkAny  IN BOOLEAN MODE)
-      )
+    ORDER BY textScore DESC, p.project_id ASC
+    LIMIT :limit
     """,
             nativeQuery = true)
-    Page<ProjectScoreView> scoreProjects(
+    List<CandidateScoreView> retrieveProjects(
             @Param("qTitleAny") String qTitleAny,
             @Param("qPrefAny")  String qPrefAny,
             @Param("qWorkAny")  String qWorkAny,
             @Param("wTitle")    double wTitle,
             @Param("wPref")     double wPref,
             @Param("wWork")     double wWork,
-            Pageable pageable
+            @Param("limit")     int limit
     );
-}
\ No newline at end of file
+
+    /* ===================== 목록 키워드 검색 (FT 인덱스 일치 id) ===================== */
+
+    @Query(value = "SELECT p.project_id FROM project_search p WHERE MATCH(p.title) AGAINST (:query IN BOOLEAN MODE)",
+            nativeQuery = true)
+    List<Long> findProjectIdsByTitle(@Param("query") String query);
+
+    @Query(value = "SELECT p.project_id FROM project_search p WHERE MATCH(p.summary) AGAINST (:query IN BOOLEAN MODE)",
+            nativeQuery = true)
+    List<Long> findProjectIdsBySummary(@Param("query") String query);
+
+    @Query(value = "SELECT p.project_id FROM project_search p WHERE MATCH(p.description) AGAINST (:query IN BOOLEAN MODE)",
+            nativeQuery = true)
+    List<Long> findProjectIdsByDescription(@Param("query") String query);
+
+    @Query(value = "SELECT p.project_id FROM project_search p WHERE MATCH(p.title, p.summary, p.description) AGAINST (:query IN BOOLEAN MODE)",
+            nativeQuery = true)
+    List<Long> findProjectIdsByKeyword(@Param("query") String query);
+
+    /** 추천 2단계 재정렬 신호: [projectId, modifyDate] */
+    @Query("SELECT p.projectId, p.modifyDate FROM ProjectsSearch p WHERE p.projectId IN :ids")
+    List<Object[]> findRankingFeatures(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,63 @@
+package com.back.domain.recommendations.recommendations.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 이미 맺어진 프리랜서-프로젝트 쌍 (지원 / 제안 / 참여) 조회 – 추천 제외 집합 계산용.
+ * 세 테이블을 UNION 한 쿼리 한 번으로 가져온다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RecommendationExclusionRepository {
+
+    @PersistenceContext
+    private final EntityManager em;
+
+    /** 프리랜서가 지원했거나, 제안을 받았거나, 참여 중인 프로젝트 id */
+    @SuppressWarnings("unchecked")
+    public List<Number> findExcludedProjectIds(long freelancerId) {
+        return em.createNativeQuery("""
+                SELECT a.project_id FROM application a WHERE a.freelancer_id = :id
+                UNION
+                SELECT p.project_id FROM proposal p WHERE p.freelancer_id = :id
+                UNION
+                SELECT pp.project_id FROM project_participant pp WHERE pp.freelancer_id = :id
+                """)
+                .setParameter("id", freelancerId)
+                .getResultList();
+    }
+
+    /** 프로젝트에 지원했거나, 제안을 받았거나, 참여 중인 프리랜서 id */
+    @SuppressWarnings("unchecked")
+    public List<Number> findExcludedFreelancerIds(long projectId) {
+        return em.createNativeQuery("""
+                SELECT a.freelancer_id FROM application a WHERE a.project_id = :id
+                UNION
+                SELECT p.freelancer_id FROM proposal p WHERE p.project_id = :id
+                UNION
+                SELECT pp.freelancer_id FROM project_participant pp WHERE pp.project_id = :id
+                """)
+                .setParameter("id", projectId)
+                .getResultList();
+    }
+
+    /** 여러 프로젝트의 제외 쌍 [projectId, freelancerId] – 배치 추천용 */
+    @SuppressWarnings("unchecked")
+    public List<Object[]> findExcludedFreelancerPairs(Collection<Long> projectIds) {
+        return em.createNativeQuery("""
+                SELECT a.project_id, a.freelancer_id FROM application a WHERE a.project_id IN (:ids)
+                UNION
+                SELECT p.project_id, p.freelancer_id FROM proposal p WHERE p.project_id IN (:ids)
+                UNION
+                SELECT pp.project_id, pp.freelancer_id FROM project_participant pp WHERE pp.project_id IN (:ids)
+                """)
+                .setParameter("ids", projectIds)
+                .getResultList();
+    }
+}
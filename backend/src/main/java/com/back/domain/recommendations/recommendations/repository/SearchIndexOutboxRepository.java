@@ -0,0 +1,23 @@
+package com.back.domain.recommendations.recommendations.repository;
+
+import com.back.domain.recommendations.recommendations.entity.SearchIndexOutbox;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface SearchIndexOutboxRepository extends JpaRepository<SearchIndexOutbox, Long> {
+
+    // 여러 노드가 동시에 꺼내가도 같은 행을 중복 처리하지 않도록 SKIP LOCKED(-2)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM SearchIndexOutbox o ORDER BY o.id")
+    List<SearchIndexOutbox> findNextBatch(Pageable pageable);
+}
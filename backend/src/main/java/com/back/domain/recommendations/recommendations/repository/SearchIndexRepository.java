@@ -6,107 +6,205 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 @RequiredArgsConstructor
 public class SearchIndexRepository {
 
+    public static final String PROJECT_TABLE = "project_search";
+    public static final String FREELANCER_TABLE = "freelancer_search";
+
     @PersistenceContext
     private final EntityManager em;
 
     /** 프로젝트 1건 upsert  */
     public int upsertProjectSearch(Long projectId) {
+        return upsertProjectSearches(List.of(projectId));
+    }
+
+    /** 프리랜서 1건 upsert */
+    public int upsertFreelancerSearch(Long freelancerMemberId) {
+        return upsertFreelancerSearches(List.of(freelancerMemberId));
+    }
+
+    /**
+     * 프로젝트 여러 건 upsert – 기존 행 DELETE 후 원본에서 다시 INSERT.
+     * (project_id 에 유니크 키가 없어 REPLACE 로는 중복 행이 쌓이므로 삭제 후 삽입)
+     * 원본이 삭제된 프로젝트는 검색 테이블에서도 제거된다.
+     */
+    public int upsertProjectSearches(Collection<Long> projectIds) {
+        return upsertProjectSearches(PROJECT_TABLE, projectIds);
+    }
+
+    /** 프리랜서 여러 건 upsert – 프로젝트와 동일하게 DELETE 후 INSERT */
+    public int upsertFreelancerSearches(Collection<Long> freelancerMemberIds) {
+        return upsertFreelancerSearches(FREELANCER_TABLE, freelancerMemberIds);
+    }
+
+    private int upsertProjectSearches(String table, Collection<Long> projectIds) {
+        em.createNativeQuery("DELETE FROM " + table + " WHERE project_id IN (:projectIds)")
+                .setParameter("projectIds", projectIds)
+                .executeUpdate();
+
         String sql = """
-            REPLACE INTO project_search
+            INSERT INTO %s
             (project_id, title, summary, duration, price, status,
-             description, preferred_condition, working_condition)
+             description, preferred_condition, working_condition, modify_date)
             SELECT
                 p.id, p.title, p.summary, p.duration, p.price, p.status,
-                p.description, p.preferred_condition, p.working_condition
+                p.description, p.preferred_condition, p.working_condition, NOW(6)
             FROM project p
-            WHERE p.id = :projectId
-            """;
+            WHERE p.id IN (:projectIds)
+            """.formatted(table);
         return em.createNativeQuery(sql)
-                .setParameter("projectId", projectId)
+                .setParameter("projectIds", projectIds)
                 .executeUpdate();
     }
 
-    /** 프리랜서 1건 upsert */
-    public int upsertFreelancerSearch(Long freelancerMemberId) {
+    private int upsertFreelancerSearches(String table, Collection<Long> freelancerMemberIds) {
+        em.createNativeQuery("DELETE FROM " + table + " WHERE freelancer_id IN (:freelancerMemberIds)")
+                .setParameter("freelancerMemberIds", freelancerMemberIds)
+                .executeUpdate();
+
+        // 기술 스택은 대상 id 범위만 한 번에 GROUP BY (행마다 상관 서브쿼리 X)
         String sql = """
-            REPLACE INTO freelancer_search
-            (freelancer_id, job, one_liner, career, tech_stack, rating_avg, status)
+            INSERT INTO %s
+            (freelancer_id, name, job, one_liner, career, tech_stack, rating_avg, status, modify_date)
             SELECT
                 f.member_id AS freelancer_id,
+                m.name,
                 f.job,
                 f.comment,
                 f.career,
-                (
-                  SELECT GROUP_CONCAT(s.name ORDER BY s.name SEPARATOR ' ')
-                  FROM freelancer_skill fs
-                  JOIN skill s ON s.id = fs.skill_id
-                  WHERE fs.freelancer_id = f.member_id
-                ) AS tech_stack,
+                st.tech_stack,
                 f.rating_avg,
-                m.status
+                m.status,
+                NOW(6)
             FROM freelancer f
             JOIN member m ON m.id = f.member_id
-            WHERE f.member_id = :freelancerMemberId
-            """;
+            LEFT JOIN (
+                SELECT fs.freelancer_id,
+                       GROUP_CONCAT(s.name ORDER BY s.name SEPARATOR ' ') AS tech_stack
+                FROM freelancer_skill fs
+                JOIN skill s ON s.id = fs.skill_id
+                WHERE fs.freelancer_id IN (:freelancerMemberIds)
+                GROUP BY fs.freelancer_id
+            ) st ON st.freelancer_id = f.member_id
+            WHERE f.member_id IN (:freelancerMemberIds)
+            """.formatted(table);
         return em.createNativeQuery(sql)
-                .setParameter("freelancerMemberId", freelancerMemberId)
+                .setParameter("freelancerMemberIds", freelancerMemberIds)
                 .executeUpdate();
     }
 
-    /** 전체 리빌드(프로젝트) – DELETE + INSERT */
+    /* ===================== 섀도 테이블 리빌드 ===================== */
+
+    /** 섀도 테이블 이름 (라이브 테이블과 같은 스키마/FT 인덱스) */
+    public static String shadowOf(String table) {
+        return table + "_shadow";
+    }
+
+    /** 섀도 테이블 새로 생성 – 이전 실패로 남은 섀도는 버린다 */
     @Transactional
-    public int rebuildAllProjects() {
-        em.createNativeQuery("TRUNCATE TABLE project_search").executeUpdate();
+    public void createShadowTable(String table) {
+        em.createNativeQuery("DROP TABLE IF EXISTS " + shadowOf(table)).executeUpdate();
+        em.createNativeQuery("CREATE TABLE " + shadowOf(table) + " LIKE " + table).executeUpdate();
+    }
 
-        String sql = """
-        INSERT INTO project_search
-        (id, project_id, title, summary, duration, price, `status`,
-         description, preferred_condition, working_condition)
-        SELECT
-            ROW_NUMBER() OVER(),
-            p.id,
-            COALESCE(p.title, ''),
-            p.summary,
-            p.duration,
-            p.price,
-            p.status,
-            p.description,
-            p.preferred_condition,
-            p.working_condition
-        FROM project p
-        """;
-        return em.createNativeQuery(sql).executeUpdate();
-    }
-
-    /** 전체 리빌드(프리랜서) – DELETE + INSERT */
+    /**
+     * 섀도 테이블 존재 여부 – 리빌드 진행 중 표시로 쓴다.
+     * DB 에 있는 상태라 어느 노드의 outbox 반영이든 같은 값을 보고 섀도에도 같이 쓴다.
+     */
+    public boolean shadowExists(String table) {
+        Number count = (Number) em.createNativeQuery("""
+                SELECT COUNT(*) FROM information_schema.tables
+                WHERE table_schema = DATABASE() AND table_name = :name
+                """)
+                .setParameter("name", shadowOf(table))
+                .getSingleResult();
+        return count.longValue() > 0;
+    }
+
+    /** 라이브 테이블이 비어 있는지 (최초 적재 판단용) */
+    public boolean isEmpty(String table) {
+        return em.createNativeQuery("SELECT 1 FROM " + table)
+                .setMaxResults(1)
+                .getResultList()
+                .isEmpty();
+    }
+
+    /** 섀도 테이블 정리 (리빌드 실패 시) */
     @Transactional
-    public int rebuildAllFreelancers() {
-        em.createNativeQuery("TRUNCATE TABLE freelancer_search").executeUpdate();
+    public void dropShadowTable(String table) {
+        em.createNativeQuery("DROP TABLE IF EXISTS " + shadowOf(table)).executeUpdate();
+    }
 
-        String sql = """
-        INSERT INTO freelancer_search
-        (id, freelancer_id, job, one_liner, career, tech_stack, rating_avg, status)
-        SELECT
-            ROW_NUMBER() OVER(),
-            f.member_id AS freelancer_id,
-            f.job,
-            f.comment AS one_liner,
-            f.career,
-            (
-              SELECT GROUP_CONCAT(s.name ORDER BY s.name SEPARATOR ' ')
-              FROM freelancer_skill fs
-              JOIN skill s ON s.id = fs.skill_id
-              WHERE fs.freelancer_id = f.member_id
-            ) AS tech_stack,
-            f.rating_avg,
-            m.status
-        FROM freelancer f
-        JOIN member m ON m.id = f.member_id
-        """;
-        return em.createNativeQuery(sql).executeUpdate();
-    }
-}
\ No newline at end of file
+    /**
+     * 라이브 ↔ 섀도 교체. RENAME TABLE 은 여러 테이블을 원자적으로 바꾸므로
+     * 조회 쪽은 교체 전까지 기존 테이블, 교체 후에는 새 테이블만 보게 된다.
+     */
+    @Transactional
+    public void swapShadowTable(String table) {
+        String old = table + "_old";
+        em.createNativeQuery("DROP TABLE IF EXISTS " + old).executeUpdate();
+        em.createNativeQuery("RENAME TABLE " + table + " TO " + old + ", " + shadowOf(table) + " TO " + table)
+                .executeUpdate();
+        em.createNativeQuery("DROP TABLE " + old).executeUpdate();
+    }
+
+    /** 원본 프로젝트 수 (진행률 계산용) */
+    public long countProjects() {
+        return ((Number) em.createNativeQuery("SELECT COUNT(*) FROM project").getSingleResult()).longValue();
+    }
+
+    /** 원본 프리랜서 수 (진행률 계산용) */
+    public long countFreelancers() {
+        return ((Number) em.createNativeQuery("SELECT COUNT(*) FROM freelancer").getSingleResult()).longValue();
+    }
+
+    /** id 기준 keyset 페이지: afterId 다음부터 limit 건 */
+    @SuppressWarnings("unchecked")
+    public List<Long> findProjectIdsAfter(long afterId, int limit) {
+        List<Number> ids = em.createNativeQuery("SELECT p.id FROM project p WHERE p.id > :afterId ORDER BY p.id")
+                .setParameter("afterId", afterId)
+                .setMaxResults(limit)
+                .getResultList();
+        return ids.stream().map(Number::longValue).toList();
+    }
+
+    /** member_id 기준 keyset 페이지: afterId 다음부터 limit 건 */
+    @SuppressWarnings("unchecked")
+    public List<Long> findFreelancerIdsAfter(long afterId, int limit) {
+        List<Number> ids = em.createNativeQuery("SELECT f.member_id FROM freelancer f WHERE f.member_id > :afterId ORDER BY f.member_id")
+                .setParameter("afterId", afterId)
+                .setMaxResults(limit)
+                .getResultList();
+        return ids.stream().map(Number::longValue).toList();
+    }
+
+    /** 라이브 테이블에 프로젝트 청크 반영 – 빈 테이블 최초 적재용 (청크마다 개별 트랜잭션) */
+    @Transactional
+    public int upsertProjectChunk(Collection<Long> projectIds) {
+        return upsertProjectSearches(PROJECT_TABLE, projectIds);
+    }
+
+    /** 라이브 테이블에 프리랜서 청크 반영 – 빈 테이블 최초 적재용 (청크마다 개별 트랜잭션) */
+    @Transactional
+    public int upsertFreelancerChunk(Collection<Long> freelancerMemberIds) {
+        return upsertFreelancerSearches(FREELANCER_TABLE, freelancerMemberIds);
+    }
+
+    /** 섀도 테이블에 프로젝트 청크 반영 (청크마다 개별 트랜잭션) */
+    @Transactional
+    public int upsertProjectShadow(Collection<Long> projectIds) {
+        return upsertProjectSearches(shadowOf(PROJECT_TABLE), projectIds);
+    }
+
+    /** 섀도 테이블에 프리랜서 청크 반영 (청크마다 개별 트랜잭션) */
+    @Transactional
+    public int upsertFreelancerShadow(Collection<Long> freelancerMemberIds) {
+        return upsertFreelancerSearches(shadowOf(FREELANCER_TABLE), freelancerMemberIds);
+    }
+}
@@ -0,0 +1,101 @@
+package com.back.domain.recommendations.recommendations.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 스킬/관심분야 조인 테이블 조회 (구조적 매칭 / LSH 색인 적재용).
+ * 각 쿼리는 (대상 id, 스킬/관심분야 id) 쌍을 대상 id 순으로 반환한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SkillMatchRepository {
+
+    @PersistenceContext
+    private final EntityManager em;
+
+    public List<Object[]> findAllFreelancerSkills() {
+        return pairs("SELECT fs.freelancer_id, fs.skill_id FROM freelancer_skill fs ORDER BY fs.freelancer_id");
+    }
+
+    public List<Object[]> findAllFreelancerInterests() {
+        return pairs("SELECT fi.freelancer_id, fi.interest_id FROM freelancer_interest fi ORDER BY fi.freelancer_id");
+    }
+
+    public List<Object[]> findAllProjectSkills() {
+        return pairs("SELECT ps.project_id, ps.skill_id FROM project_skill ps ORDER BY ps.project_id");
+    }
+
+    public List<Object[]> findAllProjectInterests() {
+        return pairs("SELECT pi.project_id, pi.interest_id FROM project_interest pi ORDER BY pi.project_id");
+    }
+
+    /** 일부 프리랜서의 (프리랜서 id, 스킬 id) 쌍 – 증분 갱신용 */
+    public List<Object[]> findFreelancerSkills(Collection<Long> freelancerIds) {
+        return pairs("SELECT fs.freelancer_id, fs.skill_id FROM freelancer_skill fs WHERE fs.freelancer_id IN (:ids) ORDER BY fs.freelancer_id",
+                freelancerIds);
+    }
+
+    public List<Object[]> findFreelancerInterests(Collection<Long> freelancerIds) {
+        return pairs("SELECT fi.freelancer_id, fi.interest_id FROM freelancer_interest fi WHERE fi.freelancer_id IN (:ids) ORDER BY fi.freelancer_id",
+                freelancerIds);
+    }
+
+    public List<Object[]> findProjectSkills(Collection<Long> projectIds) {
+        return pairs("SELECT ps.project_id, ps.skill_id FROM project_skill ps WHERE ps.project_id IN (:ids) ORDER BY ps.project_id",
+                projectIds);
+    }
+
+    public List<Object[]> findProjectInterests(Collection<Long> projectIds) {
+        return pairs("SELECT pi.project_id, pi.interest_id FROM project_interest pi WHERE pi.project_id IN (:ids) ORDER BY pi.project_id",
+                projectIds);
+    }
+
+    /** 추천 후보가 될 수 있는 프리랜서 (활성 회원) */
+    @SuppressWarnings("unchecked")
+    public List<Number> findActiveFreelancerIds() {
+        return em.createNativeQuery("""
+                SELECT f.member_id FROM freelancer f
+                JOIN member m ON m.id = f.member_id
+                WHERE m.status = 'ACTIVE'
+                """).getResultList();
+    }
+
+    /** 추천 후보가 될 수 있는 프로젝트 (모집 중) */
+    @SuppressWarnings("unchecked")
+    public List<Number> findOpenProjectIds() {
+        return em.createNativeQuery("SELECT p.id FROM project p WHERE p.status = 'OPEN'").getResultList();
+    }
+
+    /** 일부 프리랜서 중 활성 회원 – 증분 갱신용 */
+    @SuppressWarnings("unchecked")
+    public List<Number> findActiveFreelancerIds(Collection<Long> freelancerIds) {
+        return em.createNativeQuery("""
+                SELECT f.member_id FROM freelancer f
+                JOIN member m ON m.id = f.member_id
+                WHERE m.status = 'ACTIVE' AND f.member_id IN (:ids)
+                """).setParameter("ids", freelancerIds).getResultList();
+    }
+
+    /** 일부 프로젝트 중 모집 중인 것 – 증분 갱신용 */
+    @SuppressWarnings("unchecked")
+    public List<Number> findOpenProjectIds(Collection<Long> projectIds) {
+        return em.createNativeQuery("SELECT p.id FROM project p WHERE p.status = 'OPEN' AND p.id IN (:ids)")
+                .setParameter("ids", projectIds).getResultList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> pairs(String sql) {
+        return em.createNativeQuery(sql).getResultList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> pairs(String sql, Collection<Long> ids) {
+        return em.createNativeQuery(sql).setParameter("ids", ids).getResultList();
+    }
+}
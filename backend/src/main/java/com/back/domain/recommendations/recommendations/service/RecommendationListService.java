@@ -0,0 +1,583 @@
+package com.back.domain.recommendations.recommendations.service;
+
+import com.back.domain.member.member.constant.MemberStatus;
+import com.back.domain.project.project.constant.ProjectStatus;
+import com.back.domain.recommendations.recommendations.constant.SearchIndexTarget;
+import com.back.domain.recommendations.recommendations.dto.ProjectRecommendationDto;
+import com.back.domain.recommendations.recommendations.dto.RecommendationSliceDto;
+import com.back.domain.recommendations.recommendations.engine.ExclusionSet;
+import com.back.domain.recommendations.recommendations.engine.RankedList;
+import com.back.domain.recommendations.recommendations.engine.RecommendationCursor;
+import com.back.domain.recommendations.recommendations.engine.SkillMatchIndex;
+import com.back.domain.recommendations.recommendations.entity.FreelancersSearch;
+import com.back.domain.recommendations.recommendations.entity.ProjectsSearch;
+import com.back.domain.recommendations.recommendations.event.MatchingInteractionChangedEvent;
+import com.back.domain.recommendations.recommendations.event.SearchIndexChangedEvent;
+import com.back.domain.recommendations.recommendations.repository.FreelancersSearchRepository;
+import com.back.domain.recommendations.recommendations.repository.ProjectsSearchRepository;
+import com.back.domain.recommendations.recommendations.repository.RecommendationExclusionRepository;
+import com.back.domain.recommendations.recommendations.view.FreelancerScoreRow;
+import com.back.domain.recommendations.recommendations.view.FreelancerScoreView;
+import com.back.domain.recommendations.recommendations.view.ProjectScoreRow;
+import com.back.domain.recommendations.recommendations.view.ProjectScoreView;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 프리랜서별 추천 프로젝트 / 프로젝트별 추천 프리랜서 상위 N개를 미리 계산해 Redis 에 보관한다.
+ *
+ * - 목록에는 계산 시점의 후보 세대(generation)를 함께 저장
+ * - 목록의 세대 = 전체 세대 + 기준 대상이 가진 스킬 구간 세대의 합.
+ *   후보 행이 바뀌면 전체 세대와 그 후보의 현재 스킬 구간 세대를 함께 올린다.
+ *   목록에는 텍스트만 일치한 후보도 들어가고, 스킬이 빠진 후보는 옛 구간을 알 수 없으므로
+ *   구간 세대만으로는 영향받는 목록을 다 가릴 수 없다.
+ * - 기준 행이 바뀌면 해당 목록을 삭제
+ * - 세대가 지난 목록은 그대로 내려주고 백그라운드에서 다시 계산 (stale-while-revalidate).
+ *   내려주는 행은 검색 테이블에서 다시 읽으므로 그사이 마감/비활성된 후보는 빠진다.
+ *   페이지 조회는 목록 전체 행을 읽어 걸러낸 뒤 자르므로, 페이지 크기와 총 개수가 맞는다.
+ * - 이미 지원/제안/참여한 상대는 조회 시점에 제외 집합(정렬된 id 배열)으로 걸러낸다.
+ *   제외 집합은 목록·세대와 같은 multiGet 으로 읽으므로 요청당 추가 왕복이 없고, 페이지는 꽉 채워진다.
+ * - 비슷한 프로젝트/프리랜서 목록은 키에 기준 행 버전(modify_date)을 넣어, 검색 행이 바뀌면 새 키로 다시 계산된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecommendationListService {
+
+    private static final String PROJECTS_FOR = "RECOMMEND:PROJECTS_FOR:";       // + freelancerId
+    private static final String FREELANCERS_FOR = "RECOMMEND:FREELANCERS_FOR:"; // + projectId
+    private static final String GEN_PROJECTS = "RECOMMEND:GEN:PROJECT";         // 프로젝트 후보 전체 세대
+    private static final String GEN_FREELANCERS = "RECOMMEND:GEN:FREELANCER";   // 프리랜서 후보 전체 세대
+    private static final String GEN_SKILL = ":SKILL:";                          // 전체 세대 키 + GEN_SKILL + skillId
+    private static final String EXCLUDE_PROJECTS_FOR = "RECOMMEND:EXCLUDE:PROJECTS_FOR:";       // + freelancerId
+    private static final String EXCLUDE_FREELANCERS_FOR = "RECOMMEND:EXCLUDE:FREELANCERS_FOR:"; // + projectId
+    private static final String SIMILAR_PROJECTS = "RECOMMEND:SIMILAR:PROJECT:";       // + projectId:version
+    private static final String SIMILAR_FREELANCERS = "RECOMMEND:SIMILAR:FREELANCER:"; // + freelancerId:version
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RecommendationScorer scorer;
+    private final ProjectsSearchRepository projectsSearchRepo;
+    private final FreelancersSearchRepository freelancersSearchRepo;
+    private final RecommendationExclusionRepository exclusionRepo;
+    private final SkillMatchIndex skillMatchIndex;
+
+    @Value("${custom.recommendation.list.size:200}")
+    private int listSize;
+
+    @Value("${custom.recommendation.list.ttlHours:24}")
+    private long ttlHours;
+
+    // 비슷한 항목 목록 길이
+    @Value("${custom.recommendation.similar.size:20}")
+    private int similarSize;
+
+    // 배치 추천에서 목록을 동시에 계산할 스레드 수 (DB 커넥션 풀보다 작게)
+    @Value("${custom.recommendation.batch.parallelism:4}")
+    private int batchParallelism;
+
+    private final ExecutorService refresher = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "recommend-list-refresher");
+        t.setDaemon(true);
+        return t;
+    });
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    private ExecutorService batchScorer;
+
+    @PostConstruct
+    public void init() {
+        // 고정 크기 + 유한 큐, 넘치면 호출 스레드에서 계산 (요청 수만큼 스레드가 늘지 않게)
+        int threads = Math.max(batchParallelism, 1);
+        AtomicInteger seq = new AtomicInteger();
+        batchScorer = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(threads * 4),
+                r -> {
+                    Thread t = new Thread(r, "recommend-batch-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+        batchScorer.shutdownNow();
+    }
+
+    /** 프리랜서에게 추천할 프로젝트 페이지 */
+    public Page<ProjectScoreView> pageProjectsFor(Long freelancerId, Pageable pageable) {
+        return hydrateProjects(projectsFor(freelancerId), pageable);
+    }
+
+    /** 프로젝트에 추천할 프리랜서 페이지 */
+    public Page<FreelancerScoreView> pageFreelancersFor(Long projectId, Pageable pageable) {
+        return hydrateFreelancers(freelancersFor(projectId), pageable);
+    }
+
+    /** 프리랜서에게 추천할 프로젝트 – 커서 기반 (COUNT/OFFSET 없음) */
+    public RecommendationSliceDto<ProjectScoreView> sliceProjectsFor(Long freelancerId, String cursor, int size) {
+        return slice(projectsFor(freelancerId), cursor, size, this::projectRows);
+    }
+
+    /** 프로젝트에 추천할 프리랜서 – 커서 기반 (COUNT/OFFSET 없음) */
+    public RecommendationSliceDto<FreelancerScoreView> sliceFreelancersFor(Long projectId, String cursor, int size) {
+        return slice(freelancersFor(projectId), cursor, size, this::freelancerRows);
+    }
+
+    /** 프리랜서에게 추천할 프로젝트 목록 (이미 지원/제안/참여한 프로젝트 제외) */
+    public RankedList projectsFor(Long freelancerId) {
+        return load(PROJECTS_FOR + freelancerId, genKeys(GEN_PROJECTS, SearchIndexTarget.FREELANCER, freelancerId),
+                gen -> computeProjectsFor(freelancerId, gen),
+                EXCLUDE_PROJECTS_FOR + freelancerId, () -> exclusionRepo.findExcludedProjectIds(freelancerId));
+    }
+
+    /** 프로젝트에 추천할 프리랜서 목록 (이미 지원/제안/참여한 프리랜서 제외) */
+    public RankedList freelancersFor(Long projectId) {
+        return load(FREELANCERS_FOR + projectId, genKeys(GEN_FREELANCERS, SearchIndexTarget.PROJECT, projectId),
+                gen -> computeFreelancersFor(projectId, gen),
+                EXCLUDE_FREELANCERS_FOR + projectId, () -> exclusionRepo.findExcludedFreelancerIds(projectId));
+    }
+
+    /** 비슷한 프로젝트 상위 size 개 (모집 중만, 자기 자신 제외) */
+    public List<ProjectScoreView> similarProjects(Long projectId, int size) {
+        var psOpt = projectsSearchRepo.findFirstByProjectId(projectId);
+        if (psOpt.isEmpty()) return List.of();
+
+        ProjectsSearch ps = psOpt.get();
+        RankedList list = load(SIMILAR_PROJECTS + projectId + ":" + version(ps.getModifyDate()),
+                genKeys(GEN_PROJECTS, SearchIndexTarget.PROJECT, projectId),
+                gen -> scorer.similarProjects(ps, similarSize, gen), null, null);
+        List<ProjectScoreView> rows = projectRows(list, 0, list.size());
+        return rows.subList(0, Math.min(size, rows.size()));
+    }
+
+    /** 비슷한 프리랜서 상위 size 명 (활성만, 자기 자신 제외) */
+    public List<FreelancerScoreView> similarFreelancers(Long freelancerId, int size) {
+        var fsOpt = freelancersSearchRepo.findFirstByFreelancerId(freelancerId);
+        if (fsOpt.isEmpty()) return List.of();
+
+        FreelancersSearch fs = fsOpt.get();
+        RankedList list = load(SIMILAR_FREELANCERS + freelancerId + ":" + version(fs.getModifyDate()),
+                genKeys(GEN_FREELANCERS, SearchIndexTarget.FREELANCER, freelancerId),
+                gen -> scorer.similarFreelancers(fs, similarSize, gen), null, null);
+        List<FreelancerScoreView> rows = freelancerRows(list, 0, list.size());
+        return rows.subList(0, Math.min(size, rows.size()));
+    }
+
+    /**
+     * 여러 프로젝트의 추천 프리랜서 상위 k 명.
+     * 프로젝트 수와 무관하게 Redis multiGet 1회, 미스난 기준 행 조회 1회, 제외 쌍 조회 1회,
+     * 결과 행 조회 1회로 처리하고, 목록 계산만 제한된 스레드 풀에서 동시에 돌린다.
+     */
+    public List<ProjectRecommendationDto> topFreelancersFor(List<Long> projectIds, int k) {
+        if (projectIds.isEmpty()) return List.of();
+        Map<Long, RankedList> lists = freelancersForAll(projectIds);
+
+        Set<Long> freelancerIds = new LinkedHashSet<>();
+        for (RankedList list : lists.values()) {
+            for (int i = 0; i < Math.min(k, list.size()); i++) freelancerIds.add(list.ids()[i]);
+        }
+        Map<Long, FreelancersSearch> rows = freelancerIds.isEmpty() ? Map.of()
+                : freelancersSearchRepo.findAllByFreelancerIdIn(freelancerIds).stream()
+                .collect(Collectors.toMap(FreelancersSearch::getFreelancerId, Function.identity(), (a, b) -> a));
+
+        List<ProjectRecommendationDto> result = new ArrayList<>(projectIds.size());
+        for (Long projectId : projectIds) {
+            RankedList list = lists.get(projectId);
+            List<FreelancerScoreView> content = new ArrayList<>(k);
+            for (int i = 0; i < list.size() && content.size() < k; i++) {
+                FreelancersSearch row = rows.get(list.ids()[i]);
+                if (isActive(row)) content.add(FreelancerScoreRow.of(row, list.scores()[i]));
+            }
+            result.add(new ProjectRecommendationDto(projectId, content));
+        }
+        return result;
+    }
+
+    /**
+     * 검색 테이블 변경 커밋 후 목록 무효화.
+     * 인메모리 엔진 재적재(@Order 1) 이후에 실행되도록 순서를 둔다.
+     * 목록/세대는 Redis 에 공유되므로 반영한 노드만 처리하고, 다른 노드에서 전달된(remote) 알림은 건너뛴다.
+     */
+    @Order(2)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSearchIndexChanged(SearchIndexChangedEvent event) {
+        if (event.remote()) return;
+
+        try {
+            if (event.isFullRebuild()) {
+                redisTemplate.opsForValue().increment(GEN_PROJECTS);
+                redisTemplate.opsForValue().increment(GEN_FREELANCERS);
+                return;
+            }
+            switch (event.target()) {
+                case PROJECT -> {
+                    // 후보(프로젝트) 변경 → 전체 + 그 프로젝트 스킬 구간의 세대 증가, 기준 프로젝트 목록은 삭제
+                    for (String genKey : changedGenKeys(GEN_PROJECTS, SearchIndexTarget.PROJECT, event.ids())) {
+                        redisTemplate.opsForValue().increment(genKey);
+                    }
+                    redisTemplate.delete(keys(FREELANCERS_FOR, event.ids()));
+                }
+                case FREELANCER -> {
+                    for (String genKey : changedGenKeys(GEN_FREELANCERS, SearchIndexTarget.FREELANCER, event.ids())) {
+                        redisTemplate.opsForValue().increment(genKey);
+                    }
+                    redisTemplate.delete(keys(PROJECTS_FOR, event.ids()));
+                }
+            }
+        } catch (DataAccessException | IllegalStateException e) {
+            log.warn("Redis unavailable while invalidating recommendation lists. cause={}", e.getMessage());
+        }
+    }
+
+    /** 지원/제안/참여 변경 커밋 후 양쪽 제외 집합 삭제 (다음 조회 때 다시 계산) */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMatchingInteractionChanged(MatchingInteractionChangedEvent event) {
+        try {
+            redisTemplate.delete(List.of(
+                    EXCLUDE_PROJECTS_FOR + event.freelancerId(),
+                    EXCLUDE_FREELANCERS_FOR + event.projectId()
+            ));
+        } catch (DataAccessException | IllegalStateException e) {
+            log.warn("Redis unavailable while invalidating recommendation exclusions. cause={}", e.getMessage());
+        }
+    }
+
+    /* ===================== 내부 ===================== */
+
+    // excludeKey 가 null 이면 제외 집합 없이 목록만 읽는다
+    private RankedList load(String key, List<String> genKeys, LongFunction<RankedList> compute,
+                            String excludeKey, Supplier<List<Number>> excluded) {
+        List<String> keys = new ArrayList<>(genKeys.size() + 2);
+        keys.add(key);
+        keys.add(excludeKey == null ? key : excludeKey);
+        keys.addAll(genKeys);
+
+        List<String> values;
+        try {
+            values = redisTemplate.opsForValue().multiGet(keys);
+        } catch (DataAccessException | IllegalStateException e) {
+            // Redis 가 없으면 매 요청 계산 (기존 동작)
+            log.warn("Redis unavailable while loading recommendation list. Computing directly. cause={}", e.getMessage());
+            RankedList list = compute.apply(0L);
+            return excludeKey == null ? list : list.without(ExclusionSet.of(excluded.get()));
+        }
+
+        long generation = values == null ? 0L : generation(values, 2, genKeys.size());
+        String cached = values == null ? null : values.get(0);
+        String cachedExclusion = values == null || excludeKey == null ? null : values.get(1);
+
+        ExclusionSet exclusion;
+        if (excludeKey == null) {
+            exclusion = ExclusionSet.EMPTY;
+        } else if (cachedExclusion != null) {
+            exclusion = ExclusionSet.decode(cachedExclusion);
+        } else {
+            exclusion = ExclusionSet.of(excluded.get());
+            storeValue(excludeKey, exclusion.encode());
+        }
+
+        if (cached != null) {
+            RankedList list = RankedList.decode(cached);
+            if (list.generation() != generation) refreshAsync(key, generation, compute);
+            return list.without(exclusion);
+        }
+
+        RankedList list = compute.apply(generation);
+        store(key, list);
+        return list.without(exclusion);
+    }
+
+    /** load() 의 배치판 – 같은 캐시 키/세대 규칙을 따른다 */
+    private Map<Long, RankedList> freelancersForAll(List<Long> projectIds) {
+        List<String> keys = new ArrayList<>(projectIds.size() * 2 + 1);
+        for (Long projectId : projectIds) {
+            keys.add(FREELANCERS_FOR + projectId);
+            keys.add(EXCLUDE_FREELANCERS_FOR + projectId);
+        }
+        // 프로젝트별 세대 키는 겹치는 스킬 구간이 많으므로 중복 없이 한 번만 읽는다
+        Map<Long, List<String>> genKeysByProject = new HashMap<>();
+        Map<String, Integer> genKeyIndex = new LinkedHashMap<>();
+        for (Long projectId : projectIds) {
+            List<String> genKeys = genKeys(GEN_FREELANCERS, SearchIndexTarget.PROJECT, projectId);
+            genKeysByProject.put(projectId, genKeys);
+            for (String genKey : genKeys) genKeyIndex.computeIfAbsent(genKey, k -> keys.size() + genKeyIndex.size());
+        }
+        keys.addAll(genKeyIndex.keySet());
+
+        List<String> values;
+        try {
+            values = redisTemplate.opsForValue().multiGet(keys);
+        } catch (DataAccessException | IllegalStateException e) {
+            log.warn("Redis unavailable while loading recommendation lists. Computing directly. cause={}", e.getMessage());
+            values = null;
+        }
+        boolean cacheable = values != null;
+
+        Map<Long, Long> generations = new HashMap<>();
+        for (Long projectId : projectIds) {
+            long generation = 0L;
+            if (values != null) {
+                for (String genKey : genKeysByProject.get(projectId)) {
+                    generation += parseGeneration(values.get(genKeyIndex.get(genKey)));
+                }
+            }
+            generations.put(projectId, generation);
+        }
+
+        Map<Long, RankedList> lists = new HashMap<>();
+        Map<Long, ExclusionSet> exclusions = new HashMap<>();
+        List<Long> listMisses = new ArrayList<>();
+        List<Long> exclusionMisses = new ArrayList<>();
+
+        for (int i = 0; i < projectIds.size(); i++) {
+            Long projectId = projectIds.get(i);
+            long generation = generations.get(projectId);
+            String cached = values == null ? null : values.get(i * 2);
+            String cachedExclusion = values == null ? null : values.get(1 + i * 2);
+
+            if (cached != null) {
+                RankedList list = RankedList.decode(cached);
+                if (list.generation() != generation) {
+                    refreshAsync(FREELANCERS_FOR + projectId, generation, gen -> computeFreelancersFor(projectId, gen));
+                }
+                lists.put(projectId, list);
+            } else {
+                listMisses.add(projectId);
+            }
+
+            if (cachedExclusion != null) exclusions.put(projectId, ExclusionSet.decode(cachedExclusion));
+            else exclusionMisses.add(projectId);
+        }
+
+        if (!listMisses.isEmpty()) {
+            lists.putAll(computeFreelancersForAll(listMisses, generations));
+            if (cacheable) listMisses.forEach(id -> store(FREELANCERS_FOR + id, lists.get(id)));
+        }
+
+        if (!exclusionMisses.isEmpty()) {
+            Map<Long, List<Number>> pairs = new HashMap<>();
+            for (Object[] row : exclusionRepo.findExcludedFreelancerPairs(exclusionMisses)) {
+                pairs.computeIfAbsent(((Number) row[0]).longValue(), id -> new ArrayList<>()).add((Number) row[1]);
+            }
+            for (Long projectId : exclusionMisses) {
+                ExclusionSet exclusion = ExclusionSet.of(pairs.getOrDefault(projectId, List.of()));
+                exclusions.put(projectId, exclusion);
+                if (cacheable) storeValue(EXCLUDE_FREELANCERS_FOR + projectId, exclusion.encode());
+            }
+        }
+
+        Map<Long, RankedList> result = new HashMap<>();
+        for (Long projectId : projectIds) {
+            result.put(projectId, lists.get(projectId).without(exclusions.get(projectId)));
+        }
+        return result;
+    }
+
+    /** 기준 행은 한 번에 읽고, 목록 계산은 batchScorer 에서 동시에 */
+    private Map<Long, RankedList> computeFreelancersForAll(List<Long> projectIds, Map<Long, Long> generations) {
+        Map<Long, ProjectsSearch> subjects = projectsSearchRepo.findAllByProjectIdIn(projectIds).stream()
+                .collect(Collectors.toMap(ProjectsSearch::getProjectId, Function.identity(), (a, b) -> a));
+
+        Map<Long, CompletableFuture<RankedList>> futures = new LinkedHashMap<>();
+        for (Long projectId : projectIds) {
+            ProjectsSearch ps = subjects.get(projectId);
+            long generation = generations.get(projectId);
+            futures.put(projectId, ps == null
+                    ? CompletableFuture.completedFuture(RankedList.empty(generation))
+                    : CompletableFuture.supplyAsync(() -> scorer.rankFreelancers(ps, listSize, generation), batchScorer));
+        }
+
+        Map<Long, RankedList> lists = new HashMap<>();
+        futures.forEach((projectId, future) -> lists.put(projectId, future.join()));
+        return lists;
+    }
+
+    private void refreshAsync(String key, long generation, LongFunction<RankedList> compute) {
+        if (!refreshing.add(key)) return;
+        refresher.execute(() -> {
+            try {
+                store(key, compute.apply(generation));
+            } catch (Exception e) {
+                log.warn("추천 목록 재계산 실패. key={}, cause={}", key, e.getMessage());
+            } finally {
+                refreshing.remove(key);
+            }
+        });
+    }
+
+    private void store(String key, RankedList list) {
+        storeValue(key, list.encode());
+    }
+
+    private void storeValue(String key, String value) {
+        try {
+            redisTemplate.opsForValue().set(key, value, ttlHours, TimeUnit.HOURS);
+        } catch (DataAccessException | IllegalStateException e) {
+            log.warn("Redis unavailable while storing recommendation list. cause={}", e.getMessage());
+        }
+    }
+
+    private RankedList computeProjectsFor(Long freelancerId, long generation) {
+        var fsOpt = freelancersSearchRepo.findFirstByFreelancerId(freelancerId);
+        if (fsOpt.isEmpty()) return RankedList.empty(generation);
+
+        return scorer.rankProjects(fsOpt.get(), listSize, generation);
+    }
+
+    private RankedList computeFreelancersFor(Long projectId, long generation) {
+        var psOpt = projectsSearchRepo.findFirstByProjectId(projectId);
+        if (psOpt.isEmpty()) return RankedList.empty(generation);
+
+        return scorer.rankFreelancers(psOpt.get(), listSize, generation);
+    }
+
+    // 마감/비활성 후보를 먼저 걸러낸 뒤 자른다 (목록은 listSize 이하라 IN 조회 1회)
+    private Page<ProjectScoreView> hydrateProjects(RankedList list, Pageable pageable) {
+        return page(projectRows(list, 0, list.size()), pageable);
+    }
+
+    private Page<FreelancerScoreView> hydrateFreelancers(RankedList list, Pageable pageable) {
+        return page(freelancerRows(list, 0, list.size()), pageable);
+    }
+
+    private static <V> Page<V> page(List<V> rows, Pageable pageable) {
+        int from = (int) Math.min(pageable.getOffset(), rows.size());
+        int to = Math.min(from + pageable.getPageSize(), rows.size());
+        return new PageImpl<>(rows.subList(from, to), pageable, rows.size());
+    }
+
+    private <V> RecommendationSliceDto<V> slice(
+            RankedList list, String cursor, int size, RowLoader<V> rows
+    ) {
+        size = Math.max(size, 1);
+        int from = cursor == null || cursor.isBlank() ? 0 : list.indexAfter(RecommendationCursor.decode(cursor));
+        int to = Math.min(from + size, list.size());
+        boolean hasNext = to < list.size();
+        String nextCursor = hasNext && to > from ? list.cursorAt(to - 1).encode() : null;
+        return new RecommendationSliceDto<>(rows.load(list, from, to), size, hasNext, nextCursor);
+    }
+
+    @FunctionalInterface
+    private interface RowLoader<V> {
+        List<V> load(RankedList list, int from, int to);
+    }
+
+    /** list[from, to) 구간의 id 만 검색 테이블에서 조회해 순서대로 채운다 */
+    private List<ProjectScoreView> projectRows(RankedList list, int from, int to) {
+        List<Long> ids = Arrays.stream(list.ids(), from, to).boxed().toList();
+        Map<Long, ProjectsSearch> rows = ids.isEmpty() ? Map.of()
+                : projectsSearchRepo.findAllByProjectIdIn(ids).stream()
+                .collect(Collectors.toMap(ProjectsSearch::getProjectId, Function.identity(), (a, b) -> a));
+
+        List<ProjectScoreView> content = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            ProjectsSearch row = rows.get(list.ids()[i]);
+            if (isOpen(row)) content.add(ProjectScoreRow.of(row, list.scores()[i]));
+        }
+        return content;
+    }
+
+    private List<FreelancerScoreView> freelancerRows(RankedList list, int from, int to) {
+        List<Long> ids = Arrays.stream(list.ids(), from, to).boxed().toList();
+        Map<Long, FreelancersSearch> rows = ids.isEmpty() ? Map.of()
+                : freelancersSearchRepo.findAllByFreelancerIdIn(ids).stream()
+                .collect(Collectors.toMap(FreelancersSearch::getFreelancerId, Function.identity(), (a, b) -> a));
+
+        List<FreelancerScoreView> content = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            FreelancersSearch row = rows.get(list.ids()[i]);
+            if (isActive(row)) content.add(FreelancerScoreRow.of(row, list.scores()[i]));
+        }
+        return content;
+    }
+
+    // 세대가 지난 목록이라도 마감/비활성 후보는 내려주지 않는다 (행은 매번 검색 테이블에서 읽음)
+    private static boolean isOpen(ProjectsSearch row) {
+        return row != null && row.getStatus() == ProjectStatus.OPEN;
+    }
+
+    private static boolean isActive(FreelancersSearch row) {
+        return row != null && row.getStatus() == MemberStatus.ACTIVE;
+    }
+
+    /** 기준 대상의 스킬 구간 세대 키 + 전체 세대 키 */
+    private List<String> genKeys(String globalKey, SearchIndexTarget subjectSide, long subjectId) {
+        int[] skills = skillMatchIndex.skillsOf(subjectSide, subjectId);
+        if (skills == null || skills.length == 0) return List.of(globalKey);
+
+        List<String> genKeys = new ArrayList<>(skills.length + 1);
+        genKeys.add(globalKey);
+        for (int skill : skills) genKeys.add(globalKey + GEN_SKILL + skill);
+        return genKeys;
+    }
+
+    /**
+     * 후보 변경 시 올릴 세대 키 – 전체 세대 키 + 바뀐 후보들의 현재 스킬 구간 세대 키.
+     * 전체 세대는 항상 올린다 (텍스트만 일치한 목록, 빠진 스킬의 옛 구간도 무효화되도록).
+     */
+    private Set<String> changedGenKeys(String globalKey, SearchIndexTarget candidateSide, Collection<Long> ids) {
+        Set<String> genKeys = new LinkedHashSet<>();
+        genKeys.add(globalKey);
+        for (Long id : ids) {
+            int[] skills = skillMatchIndex.skillsOf(candidateSide, id);
+            if (skills == null) continue;
+            for (int skill : skills) genKeys.add(globalKey + GEN_SKILL + skill);
+        }
+        return genKeys;
+    }
+
+    private static long generation(List<String> values, int from, int count) {
+        long generation = 0L;
+        for (int i = from; i < from + count; i++) generation += parseGeneration(values.get(i));
+        return generation;
+    }
+
+    private static long parseGeneration(String value) {
+        return value == null ? 0L : Long.parseLong(value);
+    }
+
+    private static long version(LocalDateTime modifyDate) {
+        return modifyDate == null ? 0L : modifyDate.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static List<String> keys(String prefix, Collection<Long> ids) {
+        return ids.stream().map(id -> prefix + id).toList();
+    }
+}
@@ -0,0 +1,177 @@
+package com.back.domain.recommendations.recommendations.service;
+
+import com.back.domain.recommendations.recommendations.constant.SearchIndexTarget;
+import com.back.domain.recommendations.recommendations.engine.ExclusionSet;
+import com.back.domain.recommendations.recommendations.engine.FreelancerLshIndex;
+import com.back.domain.recommendations.recommendations.engine.InMemoryRecommendationEngine;
+import com.back.domain.recommendations.recommendations.engine.RankedList;
+import com.back.domain.recommendations.recommendations.engine.RecommendationQueryCompiler;
+import com.back.domain.recommendations.recommendations.engine.RecommendationQueryCompiler.ProfileQuery;
+import com.back.domain.recommendations.recommendations.engine.RecommendationReranker;
+import com.back.domain.recommendations.recommendations.engine.RerankCandidates;
+import com.back.domain.recommendations.recommendations.engine.SkillMatchIndex;
+import com.back.domain.recommendations.recommendations.engine.TextCandidates;
+import com.back.domain.recommendations.recommendations.entity.FreelancersSearch;
+import com.back.domain.recommendations.recommendations.entity.ProjectsSearch;
+import com.back.domain.recommendations.recommendations.repository.FreelancersSearchRepository;
+import com.back.domain.recommendations.recommendations.repository.ProjectsSearchRepository;
+import com.back.domain.recommendations.recommendations.view.CandidateScoreView;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 검색 테이블 한 행(나의 프로필/프로젝트)을 기준으로 상대편 추천 목록을 계산한다.
+ * 후보 생성은 custom.recommendation.engine 설정에 따라 인메모리 엔진 또는 Mroonga 네이티브 쿼리를,
+ * 최종 점수는 RecommendationReranker 를 사용.
+ */
+@Component
+@RequiredArgsConstructor
+public class RecommendationScorer {
+
+    private final ProjectsSearchRepository projectsSearchRepo;
+    private final FreelancersSearchRepository freelancersSearchRepo;
+    private final InMemoryRecommendationEngine memoryEngine;
+    private final RecommendationQueryCompiler queryCompiler;
+    private final SkillMatchIndex skillMatchIndex;
+    private final FreelancerLshIndex lshIndex;
+    private final RecommendationReranker reranker;
+
+    // ===== 텍스트 가중치 (매칭 페어별) =====
+    // 프리랜서 -> 프로젝트 (job -> title, career -> preferred_condition, tech_stack -> working_condition)
+    private static final double W_TITLE = 1.2;
+    private static final double W_PREF  = 1.0;
+    private static final double W_WORK  = 1.6;
+
+    // 프로젝트 -> 프리랜서 (title -> job, preferred_condition -> career, working_condition -> tech_stack)
+    private static final double W_JOB     = 1.3;
+    private static final double W_CAREER  = 0.9;
+    private static final double W_FSTACK  = 1.5;
+
+    /**
+     * 프리랜서 프로필 기준 추천 목록.
+     * 1단계: 텍스트 상위 n 개 ∪ 스킬/관심분야 겹침 상위 n 개를 후보로 모은다.
+     * 2단계: 텍스트·겹침·최신성을 Java 에서 합산해 다시 정렬한다.
+     */
+    public RankedList rankProjects(FreelancersSearch fs, int n, long generation) {
+        ProfileQuery q = queryCompiler.compile(fs);
+        TextCandidates text = memoryEngine.isEnabled()
+                ? memoryEngine.retrieveProjects(q.first(), q.second(), q.third(), W_TITLE, W_PREF, W_WORK, n)
+                : toCandidates(projectsSearchRepo.retrieveProjects(
+                        q.first().anyQuery(), q.second().anyQuery(), q.third().anyQuery(),
+                        W_TITLE, W_PREF, W_WORK, n));
+
+        RerankCandidates c = collect(SearchIndexTarget.FREELANCER, fs.getFreelancerId(), text, null, n);
+        if (c.size() > 0) {
+            for (Object[] row : projectsSearchRepo.findRankingFeatures(idList(c))) {
+                int i = c.indexOf(((Number) row[0]).longValue());
+                if (i >= 0) c.updatedAt[i] = epochSecond(row[1]);
+            }
+        }
+        return reranker.rerank(c, n, generation);
+    }
+
+    /**
+     * 프로젝트 기준 추천 목록 (평점 배율은 재정렬 단계에서 텍스트 점수에만 적용).
+     * LSH 색인이 켜져 있으면 스킬/관심분야 후보를 겹침 전체 스캔 대신 LSH 버킷에서 가져온다.
+     */
+    public RankedList rankFreelancers(ProjectsSearch ps, int n, long generation) {
+        ProfileQuery q = queryCompiler.compile(ps);
+        TextCandidates text = memoryEngine.isEnabled()
+                ? memoryEngine.retrieveFreelancers(q.first(), q.second(), q.third(), W_JOB, W_CAREER, W_FSTACK, n)
+                : toCandidates(freelancersSearchRepo.retrieveFreelancers(
+                        q.first().anyQuery(), q.second().anyQuery(), q.third().anyQuery(),
+                        W_JOB, W_CAREER, W_FSTACK, n));
+
+        long[] near = lshIndex.isEnabled() ? lshIndex.nearFreelancers(ps, n) : null;
+        RerankCandidates c = collect(SearchIndexTarget.PROJECT, ps.getProjectId(), text, near, n);
+        if (c.size() > 0) {
+            for (Object[] row : freelancersSearchRepo.findRankingFeatures(idList(c))) {
+                int i = c.indexOf(((Number) row[0]).longValue());
+                if (i < 0) continue;
+                c.rating[i] = row[1] == null ? RecommendationReranker.DEFAULT_RATING : ((Number) row[1]).doubleValue();
+                c.updatedAt[i] = epochSecond(row[2]);
+            }
+        }
+        return reranker.rerank(c, n, generation);
+    }
+
+    /**
+     * 비슷한 프로젝트 – 프로젝트 자신의 title / preferred / working 질의를 같은 필드에 걸어
+     * 추천과 같은 필드 가중치로 점수를 매긴다. 자기 자신은 뺀다.
+     */
+    public RankedList similarProjects(ProjectsSearch ps, int n, long generation) {
+        ProfileQuery q = queryCompiler.compile(ps);
+        TextCandidates text = memoryEngine.isEnabled()
+                ? memoryEngine.retrieveProjects(q.first(), q.second(), q.third(), W_TITLE, W_PREF, W_WORK, n + 1)
+                : toCandidates(projectsSearchRepo.retrieveProjects(
+                        q.first().anyQuery(), q.second().anyQuery(), q.third().anyQuery(),
+                        W_TITLE, W_PREF, W_WORK, n + 1));
+
+        RerankCandidates c = RerankCandidates.union(text, new long[0]);
+        if (c.size() > 0) {
+            for (Object[] row : projectsSearchRepo.findRankingFeatures(idList(c))) {
+                int i = c.indexOf(((Number) row[0]).longValue());
+                if (i >= 0) c.updatedAt[i] = epochSecond(row[1]);
+            }
+        }
+        return reranker.rerank(c, n + 1, generation).without(ExclusionSet.of(List.of(ps.getProjectId())));
+    }
+
+    /** 비슷한 프리랜서 – job / career / tech_stack 을 같은 필드에 건다 (평점 배율 포함). 자기 자신은 뺀다 */
+    public RankedList similarFreelancers(FreelancersSearch fs, int n, long generation) {
+        ProfileQuery q = queryCompiler.compile(fs);
+        TextCandidates text = memoryEngine.isEnabled()
+                ? memoryEngine.retrieveFreelancers(q.first(), q.second(), q.third(), W_JOB, W_CAREER, W_FSTACK, n + 1)
+                : toCandidates(freelancersSearchRepo.retrieveFreelancers(
+                        q.first().anyQuery(), q.second().anyQuery(), q.third().anyQuery(),
+                        W_JOB, W_CAREER, W_FSTACK, n + 1));
+
+        RerankCandidates c = RerankCandidates.union(text, new long[0]);
+        if (c.size() > 0) {
+            for (Object[] row : freelancersSearchRepo.findRankingFeatures(idList(c))) {
+                int i = c.indexOf(((Number) row[0]).longValue());
+                if (i < 0) continue;
+                c.rating[i] = row[1] == null ? RecommendationReranker.DEFAULT_RATING : ((Number) row[1]).doubleValue();
+                c.updatedAt[i] = epochSecond(row[2]);
+            }
+        }
+        return reranker.rerank(c, n + 1, generation).without(ExclusionSet.of(List.of(fs.getFreelancerId())));
+    }
+
+    // near: 미리 뽑아둔 구조적 후보 (없으면 null → 스킬 겹침 상위 n 개)
+    private RerankCandidates collect(SearchIndexTarget subjectSide, long subjectId, TextCandidates text, long[] near, int n) {
+        if (!skillMatchIndex.isEnabled()) {
+            return RerankCandidates.union(text, near == null ? new long[0] : near);
+        }
+        long[] extra = near != null ? near : skillMatchIndex.topByOverlap(subjectSide, subjectId, n);
+        RerankCandidates c = RerankCandidates.union(text, extra);
+        skillMatchIndex.overlaps(subjectSide, subjectId, c.ids, c.skill, c.interest);
+        return c;
+    }
+
+    private static TextCandidates toCandidates(List<CandidateScoreView> rows) {
+        long[] ids = new long[rows.size()];
+        double[] scores = new double[rows.size()];
+        for (int i = 0; i < ids.length; i++) {
+            CandidateScoreView row = rows.get(i);
+            ids[i] = row.getId();
+            scores[i] = row.getTextScore() == null ? 0 : row.getTextScore();
+        }
+        return new TextCandidates(ids, scores);
+    }
+
+    private static List<Long> idList(RerankCandidates c) {
+        List<Long> ids = new ArrayList<>(c.size());
+        for (long id : c.ids) ids.add(id);
+        return ids;
+    }
+
+    private static long epochSecond(Object modifyDate) {
+        return modifyDate instanceof LocalDateTime t ? t.atZone(ZoneId.systemDefault()).toEpochSecond() : 0L;
+    }
+}
@@ -6,11 +6,14 @@ import com.back.domain.member.member.repository.MemberRepository;
 import com.back.domain.project.project.entity.Project;
 import com.back.domain.project.project.repository.ProjectRepository;
 import com.back.domain.recommendations.recommendations.dto.ProjectOptionDto;
-import com.back.domain.recommendations.recommendations.repository.FreelancersSearchRepository;
-import com.back.domain.recommendations.recommendations.repository.ProjectsSearchRepository;
+import com.back.domain.recommendations.recommendations.dto.ProjectRecommendationDto;
+import com.back.domain.recommendations.recommendations.dto.RecommendationSliceDto;
+import com.back.domain.recommendations.recommendations.view.FreelancerScoreView;
+import com.back.domain.recommendations.recommendations.view.ProjectScoreView;
 import com.back.global.exception.ServiceException;
 import com.back.global.security.CustomUserDetails;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -21,10 +24,10 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.Objects;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -32,22 +35,11 @@ public class RecommendationService {
 
     private final MemberRepository memberRepo;
     private final ProjectRepository projectRepo;
-    private final ProjectsSearchRepository projectsSearchRepo;
-    private final FreelancersSearchRepository freelancersSearchRepo;
+    private final RecommendationListService recommendationListService;
 
-    // ===== 가중치 (매칭 페어별) =====
-    // 프리랜서 -> 프로젝트 (job -> title, career -> preferred_condition, tech_stack -> working_condition)
-    private static final double W_TITLE = 1.2;
-    private static final double W_PREF  = 1.0;
-    private static final double W_WORK  = 1.6;
-
-    // 프로젝트 -> 프리랜서 (title -> job, preferred_condition -> career, working_condition -> tech_stack)
-    private static final double W_JOB     = 1.3;
-    private static final double W_CAREER  = 0.9;
-    private static final double W_FSTACK  = 1.5;
-
-    private static final double RF_TOP = 1.25;
-    private static final double DEFAULT_RATING = 2.5; // 미평가 시 1.00배(= 0.75 + 0.1*2.5)
+    // 배치 추천 한 번에 받을 수 있는 프로젝트 수
+    @Value("${custom.recommendation.batch.maxProjects:20}")
+    private int batchMaxProjects;
 
     public Page<?> recommendForUser(CustomUserDetails user, Long projectIdOrNull, int page, int size) {
         Member me = memberRepo.findById(user.getId())
@@ -56,46 +48,81 @@ public class RecommendationService {
         Pageable pageable = PageRequest.of(page, size);
 
         if (me.getRole() == Role.FREELANCER) {
-            var fsOpt = freelancersSearchRepo.findFirstByFreelancerId(me.getId());
-            if (fsOpt.isEmpty()) return Page.empty(pageable);
-            var fs = fsOpt.get();
-
-            String qTitleAny = toAnyBooleanQuery(fs.getJob());
-            String qPrefAny  = toAnyBooleanQuery(flattenCareer(fs.getCareer()));
-            String qWorkAny  = toAnyBooleanQuery(fs.getTechStack());
-
-            return projectsSearchRepo.scoreProjects(
-                    qTitleAny, qPrefAny, qWorkAny,
-                    W_TITLE, W_PREF, W_WORK,
-                    pageable
-            );
+            // 미리 계산된 상위 목록에서 페이지만 잘라 온다
+            return recommendationListService.pageProjectsFor(me.getId(), pageable);
+        }
+
+        if (me.getRole() == Role.CLIENT) {
+            Long targetProjectId = resolveTargetProjectId(me, projectIdOrNull);
+            if (targetProjectId == null) return Page.empty(pageable);
+
+            return recommendationListService.pageFreelancersFor(targetProjectId, pageable);
+        }
+        return Page.empty(pageable);
+    }
+
+    /** 커서 기반 추천 – 역할별 대상은 recommendForUser 와 동일 */
+    public RecommendationSliceDto<?> recommendSliceForUser(CustomUserDetails user, Long projectIdOrNull, String cursor, int size) {
+        Member me = memberRepo.findById(user.getId())
+                .orElseThrow(() -> new ServiceException("401-2", "사용자 정보를 찾을 수 없습니다"));
+
+        if (me.getRole() == Role.FREELANCER) {
+            return recommendationListService.sliceProjectsFor(me.getId(), cursor, size);
         }
 
         if (me.getRole() == Role.CLIENT) {
-            Long targetProjectId = projectIdOrNull;
-            if (targetProjectId == null) {
-                // 최근 프로젝트(예: author 기준) 가져오는 기존 로직 유지
-                var lastProjectOpt = projectRepo.findByIdWithAuthor(me.getId());
-                if (lastProjectOpt.isEmpty()) return Page.empty(pageable);
-                targetProjectId = lastProjectOpt.get().getId();
+            Long targetProjectId = resolveTargetProjectId(me, projectIdOrNull);
+            if (targetProjectId != null) {
+                return recommendationListService.sliceFreelancersFor(targetProjectId, cursor, size);
             }
+        }
+        return new RecommendationSliceDto<>(List.of(), size, false, null);
+    }
 
-            var psOpt = projectsSearchRepo.findFirstByProjectId(targetProjectId);
-            if (psOpt.isEmpty()) return Page.empty(pageable);
-            var ps = psOpt.get();
+    /**
+     * 클라이언트 대시보드용 배치 추천: 내 프로젝트 여러 개의 추천 프리랜서 상위 size 명.
+     * 요청 순서를 유지하고, 내 프로젝트가 아닌 id 는 결과에서 뺀다.
+     */
+    public List<ProjectRecommendationDto> recommendBatchForClient(CustomUserDetails user, List<Long> projectIds, int size) {
+        Member me = memberRepo.findById(user.getId())
+                .orElseThrow(() -> new ServiceException("401-2", "사용자 정보를 찾을 수 없습니다"));
 
-            String qJobAny    = toAnyBooleanQuery(ps.getTitle());
-            String qCareerAny = toAnyBooleanQuery(ps.getPreferredCondition());
-            String qStackAny  = toAnyBooleanQuery(ps.getWorkingCondition());
+        if (me.getRole() != Role.CLIENT) return Collections.emptyList();
 
-            return freelancersSearchRepo.scoreFreelancers(
-                    qJobAny, qCareerAny, qStackAny,
-                    W_JOB, W_CAREER, W_FSTACK,
-                    RF_TOP, DEFAULT_RATING,
-                    pageable
-            );
+        List<Long> requested = projectIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (requested.size() > batchMaxProjects) {
+            throw new ServiceException("400-1", "한 번에 최대 %d개 프로젝트까지 조회할 수 있습니다.".formatted(batchMaxProjects));
         }
-        return Page.empty(pageable);
+        if (requested.isEmpty()) return Collections.emptyList();
+
+        Set<Long> owned = new HashSet<>(projectRepo.findIdsByClientIdAndIdIn(me.getId(), requested));
+        List<Long> targets = requested.stream().filter(owned::contains).toList();
+
+        int k = Math.max(1, Math.min(size, 50));
+        return recommendationListService.topFreelancersFor(targets, k);
+    }
+
+    /** 프로젝트 상세의 비슷한 프로젝트 (size 는 1~20) */
+    public List<ProjectScoreView> similarProjects(long projectId, int size) {
+        return recommendationListService.similarProjects(projectId, clampSimilarSize(size));
+    }
+
+    /** 프리랜서 프로필의 비슷한 프리랜서 (size 는 1~20) */
+    public List<FreelancerScoreView> similarFreelancers(long freelancerId, int size) {
+        return recommendationListService.similarFreelancers(freelancerId, clampSimilarSize(size));
+    }
+
+    private static int clampSimilarSize(int size) {
+        return Math.max(1, Math.min(size, 20));
+    }
+
+    private Long resolveTargetProjectId(Member me, Long projectIdOrNull) {
+        if (projectIdOrNull != null) return projectIdOrNull;
+
+        // 최근 프로젝트(예: author 기준) 가져오는 기존 로직 유지
+        return projectRepo.findByIdWithAuthor(me.getId())
+                .map(Project::getId)
+                .orElse(null);
     }
 
     public List<ProjectOptionDto> getMyProjectOptions(CustomUserDetails user, int limit) {
@@ -128,57 +155,4 @@ public class RecommendationService {
         return memberRepo.findByUsername(username)
                 .orElseThrow(() -> new ServiceException("401-2", "사용자 정보를 찾을 수 없습니다"));
     }
-
-    /** 텍스트 → Mroonga Boolean(+토큰) 질의 변환기 */
-    private String toBooleanQuery(String text) {
-        if (text == null) return "";
-        String cleaned = text
-                .replaceAll("[\\p{Cntrl}]+", " ")
-                .replaceAll("[\\p{Punct}]+", " ")
-                .replaceAll("\\s+", " ")
-                .trim();
-
-        if (cleaned.isBlank()) return "";
-
-        String[] split = cleaned.split("[\\s,;/|]+");
-        List<String> tokens = Stream.of(split)
-                .filter(s -> s != null && !s.isBlank())
-                .map(String::trim)
-                .distinct()
-                .toList();
-
-        if (tokens.isEmpty()) return "";
-        return tokens.stream()
-                .map(t -> "+" + t)
-                .collect(Collectors.joining(" "));
-    }
-
-    /** career(Map<String,Integer>) -> "java spring backend ..." */
-    private String flattenCareer(Map<String, Integer> career) {
-        if (career == null || career.isEmpty()) return "";
-        return career.keySet().stream()
-                .filter(k -> k != null && !k.isBlank())
-                .map(String::trim)
-                .distinct()
-                .collect(Collectors.joining(" "));
-    }
-
-    /** 부분 일치용 불리언 쿼리(OR): '+토큰' 없이 공백 구분.
-     *  비거나 전부 제거되면 더미 토큰을 넣어 AGAINST 에러 방지. */
-    private String toAnyBooleanQuery(String text) {
-        if (text == null) return "__noop__";
-        String cleaned = text
-                .replaceAll("[\\p{Cntrl}]+", " ")
-                .replaceAll("[\\p{Punct}]+", " ")
-                .replaceAll("\\s+", " ")
-                .trim();
-        if (cleaned.isBlank()) return "__noop__";
-        String[] split = cleaned.split("[\\s,;/|]+");
-        String q = Stream.of(split)
-                .filter(s -> s != null && !s.isBlank())
-                .map(String::trim)
-                .distinct()
-                .collect(Collectors.joining(" "));
-        return q.isBlank() ? "__noop__" : q;
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,91 @@
+package com.back.domain.recommendations.recommendations.service;
+
+import com.back.domain.recommendations.recommendations.constant.SearchIndexTarget;
+import com.back.domain.recommendations.recommendations.event.SearchIndexChangedEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 검색 테이블 변경 알림을 노드 간에 전달한다 (Redis pub/sub).
+ *
+ * - outbox 반영/리빌드는 한 노드에서만 일어나므로, 그 노드의 변경 이벤트를 커밋 후 채널로 발행한다.
+ * - 다른 노드는 받은 알림을 remote 이벤트로 다시 발행 → 각 노드의 메모리 색인(엔진, 스킬 매칭, 패싯, LSH)이 같은 id 만 반영.
+ * - 자기가 보낸 알림은 무시한다. 메시지: "노드id|대상|id,id,..." (id 가 비면 전체 리빌드)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchIndexChangeBroadcaster {
+
+    public static final String CHANNEL = "searchIndex:changed";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    // 단일 노드/테스트에서는 끌 수 있음 (꺼져 있어도 주기 재조정으로 결국 맞춰진다)
+    @Value("${custom.searchIndex.broadcast.enabled:true}")
+    private boolean broadcast;
+
+    @PostConstruct
+    public void subscribe() {
+        if (!broadcast) return;
+
+        try {
+            redisMessageListenerContainer.addMessageListener(
+                    (message, pattern) -> onBroadcast(new String(message.getBody(), StandardCharsets.UTF_8)),
+                    new ChannelTopic(CHANNEL));
+        } catch (RuntimeException e) {
+            log.warn("검색 인덱스 변경 채널 구독 실패 – 다른 노드의 변경은 주기 재조정 때 반영됩니다.", e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChanged(SearchIndexChangedEvent event) {
+        if (!broadcast || event.remote()) return;
+
+        String ids = event.ids().stream().map(String::valueOf).collect(Collectors.joining(","));
+        try {
+            redisTemplate.convertAndSend(CHANNEL, nodeId + "|" + event.target().name() + "|" + ids);
+        } catch (DataAccessException e) {
+            log.warn("검색 인덱스 변경 알림 발행 실패: {}", event.target(), e);
+        }
+    }
+
+    private void onBroadcast(String message) {
+        String[] parts = message.split("\\|", -1);
+        if (parts.length != 3) {
+            log.warn("알 수 없는 검색 인덱스 변경 알림: {}", message);
+            return;
+        }
+        if (nodeId.equals(parts[0])) return;
+
+        try {
+            SearchIndexTarget target = SearchIndexTarget.valueOf(parts[1]);
+            List<Long> ids = new ArrayList<>();
+            if (!parts[2].isEmpty()) {
+                for (String id : parts[2].split(",")) ids.add(Long.parseLong(id));
+            }
+            eventPublisher.publishEvent(new SearchIndexChangedEvent(target, ids, true));
+        } catch (IllegalArgumentException e) {
+            log.warn("알 수 없는 검색 인덱스 변경 알림: {}", message);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.back.domain.recommendations.recommendations.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * search_index_outbox 를 주기적으로 비워 검색 테이블을 최신 상태로 유지한다.
+ * 한 주기에 쌓인 만큼 batchSize 단위로 반복 처리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchIndexOutboxWorker {
+
+    private final SearchIndexService searchIndexService;
+
+    @Value("${custom.searchIndex.outbox.batchSize:500}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${custom.searchIndex.outbox.fixedDelayMs:1000}")
+    public void drain() {
+        try {
+            int drained;
+            do {
+                drained = searchIndexService.drainOutbox(batchSize);
+            } while (drained == batchSize);
+        } catch (Exception e) {
+            // 실패한 배치는 롤백되어 outbox 에 남아 있으므로 다음 주기에 재시도
+            log.warn("검색 인덱스 outbox 반영 실패. 다음 주기에 재시도합니다. cause={}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.back.domain.recommendations.recommendations.service;
+
+import com.back.domain.recommendations.recommendations.constant.SearchIndexTarget;
+import com.back.domain.recommendations.recommendations.event.SearchIndexChangedEvent;
+import com.back.domain.recommendations.recommendations.repository.SearchIndexRepository;
+import com.back.global.exception.ServiceException;
+import com.back.global.redis.RedisLeaseLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * 무중단 리빌드: 섀도 테이블을 keyset 청크 단위로 채운 뒤 RENAME TABLE 로 교체한다.
+ * 리빌드 중에도 추천 조회는 기존 테이블을 그대로 사용한다.
+ *
+ * - 진행 중 표시는 섀도 테이블 자체(DB)다. 어느 노드의 outbox 반영이든 섀도가 있으면 같이 쓰므로 교체 시 유실이 없다.
+ * - 리빌드는 Redis 임대 잠금으로 클러스터에서 한 번에 하나만 돈다 (섀도를 서로 지우고 만드는 것 방지).
+ *   Redis 장애 시에는 노드 안에서만 막는다.
+ * - 라이브 테이블이 비어 있으면(최초 적재) 섀도 없이 바로 채운다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchIndexRebuildService {
+
+    private final SearchIndexRepository repo;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RedisLeaseLock leaseLock;
+
+    @Value("${custom.searchIndex.rebuild.chunkSize:1000}")
+    private int chunkSize;
+
+    // 청크 사이 대기 시간 (DB 부하 조절)
+    @Value("${custom.searchIndex.rebuild.throttleMs:50}")
+    private long throttleMs;
+
+    // 리빌드 잠금 임대 시간 – 청크마다 연장한다
+    @Value("${custom.searchIndex.rebuild.lockLeaseSeconds:300}")
+    private long lockLeaseSeconds;
+
+    // 이 노드에서 돌고 있는 리빌드 (Redis 장애 시 최소한의 중복 방지)
+    private final Set<SearchIndexTarget> running = ConcurrentHashMap.newKeySet();
+
+    /** 섀도 테이블이 있으면 리빌드 중 – outbox 반영 시 섀도에도 같이 써준다 */
+    public boolean isRebuilding(SearchIndexTarget target) {
+        return repo.shadowExists(tableOf(target));
+    }
+
+    public void rebuildAll() {
+        rebuildProjects();
+        rebuildFreelancers();
+    }
+
+    public void rebuildProjects() {
+        rebuild(SearchIndexTarget.PROJECT, SearchIndexRepository.PROJECT_TABLE,
+                repo.countProjects(), repo::findProjectIdsAfter, repo::upsertProjectShadow, repo::upsertProjectChunk);
+    }
+
+    public void rebuildFreelancers() {
+        rebuild(SearchIndexTarget.FREELANCER, SearchIndexRepository.FREELANCER_TABLE,
+                repo.countFreelancers(), repo::findFreelancerIdsAfter, repo::upsertFreelancerShadow, repo::upsertFreelancerChunk);
+    }
+
+    private void rebuild(
+            SearchIndexTarget target,
+            String table,
+            long total,
+            BiFunction<Long, Integer, List<Long>> nextIds,
+            Function<List<Long>, Integer> copyShadowChunk,
+            Function<List<Long>, Integer> copyLiveChunk
+    ) {
+        if (!running.add(target)) {
+            throw new ServiceException("409-1", "이미 리빌드가 진행 중입니다: " + table);
+        }
+
+        String lockName = "searchIndex:rebuild:" + target.name();
+        Duration lease = Duration.ofSeconds(lockLeaseSeconds);
+        String lockToken = null;
+        try {
+            try {
+                lockToken = leaseLock.tryAcquire(lockName, lease);
+                if (lockToken == null) {
+                    throw new ServiceException("409-1", "다른 노드에서 리빌드가 진행 중입니다: " + table);
+                }
+            } catch (DataAccessException e) {
+                log.warn("리빌드 잠금 획득 실패 – 이 노드 안에서만 중복을 막습니다. table={}", table, e);
+            }
+
+            String lock = lockToken;
+            Runnable renew = () -> {
+                if (lock != null && !leaseLock.renew(lockName, lock, lease)) {
+                    throw new IllegalStateException("리빌드 잠금을 잃었습니다: " + table);
+                }
+            };
+
+            if (repo.isEmpty(table)) {
+                // 최초 적재 – 읽는 쪽이 볼 기존 데이터가 없으므로 라이브 테이블에 바로 채운다
+                copyAll(table, total, nextIds, copyLiveChunk, renew);
+                eventPublisher.publishEvent(SearchIndexChangedEvent.all(target));
+            } else {
+                rebuildShadow(target, table, total, nextIds, copyShadowChunk, renew);
+            }
+        } finally {
+            if (lockToken != null) leaseLock.release(lockName, lockToken);
+            running.remove(target);
+        }
+    }
+
+    private void rebuildShadow(
+            SearchIndexTarget target,
+            String table,
+            long total,
+            BiFunction<Long, Integer, List<Long>> nextIds,
+            Function<List<Long>, Integer> copyChunk,
+            Runnable renew
+    ) {
+        long startedAt = System.currentTimeMillis();
+        try {
+            // 섀도가 생기는 순간부터 모든 노드의 outbox 반영이 섀도에도 쓴다.
+            // 그 전에 반영된 변경은 원본 테이블에 이미 커밋되어 있으므로 청크 복사가 읽어 간다.
+            repo.createShadowTable(table);
+
+            long processed = copyAll(table, total, nextIds, copyChunk, renew);
+
+            // RENAME 은 섀도/라이브에 쓰고 있는 outbox 트랜잭션이 끝날 때까지 기다린다
+            repo.swapShadowTable(table);
+            eventPublisher.publishEvent(SearchIndexChangedEvent.all(target));
+            log.info("검색 테이블 리빌드 완료: table={}, rows={}, elapsedMs={}",
+                    table, processed, System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            log.warn("검색 테이블 리빌드 실패, 기존 테이블을 유지합니다. table={}, cause={}", table, e.getMessage());
+            try {
+                repo.dropShadowTable(table);
+            } catch (RuntimeException ignore) {
+            }
+            throw e;
+        }
+    }
+
+    private long copyAll(
+            String table,
+            long total,
+            BiFunction<Long, Integer, List<Long>> nextIds,
+            Function<List<Long>, Integer> copyChunk,
+            Runnable renew
+    ) {
+        long lastId = 0L;
+        long processed = 0L;
+        while (true) {
+            List<Long> ids = nextIds.apply(lastId, chunkSize);
+            if (ids.isEmpty()) break;
+
+            copyChunk.apply(ids);
+            processed += ids.size();
+            lastId = ids.get(ids.size() - 1);
+
+            log.info("검색 테이블 리빌드 진행: table={}, {}/{} ({}%), lastId={}",
+                    table, processed, total, total == 0 ? 100 : processed * 100 / total, lastId);
+
+            if (ids.size() < chunkSize) break;
+            renew.run();
+            throttle();
+        }
+        return processed;
+    }
+
+    private static String tableOf(SearchIndexTarget target) {
+        return switch (target) {
+            case PROJECT -> SearchIndexRepository.PROJECT_TABLE;
+            case FREELANCER -> SearchIndexRepository.FREELANCER_TABLE;
+        };
+    }
+
+    private void throttle() {
+        if (throttleMs <= 0) return;
+        try {
+            Thread.sleep(throttleMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("리빌드가 중단되었습니다.", e);
+        }
+    }
+}
@@ -1,15 +1,28 @@
 package com.back.domain.recommendations.recommendations.service;
 
+import com.back.domain.recommendations.recommendations.constant.SearchIndexTarget;
+import com.back.domain.recommendations.recommendations.entity.SearchIndexOutbox;
+import com.back.domain.recommendations.recommendations.event.SearchIndexChangedEvent;
+import com.back.domain.recommendations.recommendations.repository.SearchIndexOutboxRepository;
 import com.back.domain.recommendations.recommendations.repository.SearchIndexRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
 @Service
 @RequiredArgsConstructor
 public class SearchIndexService {
 
     private final SearchIndexRepository repo;
+    private final SearchIndexOutboxRepository outboxRepo;
+    private final SearchIndexRebuildService rebuildService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /** 프로젝트 저장/수정 직후 호출 */
     @Transactional
@@ -23,10 +36,57 @@ public class SearchIndexService {
         repo.upsertFreelancerSearch(freelancerId);
     }
 
-    /** 관리자용: 전체 리빌드 */
+    /** 프로젝트 변경 기록 – 호출한 쓰기 트랜잭션과 함께 커밋/롤백된다 */
+    @Transactional
+    public void enqueueProject(Long projectId) {
+        if (projectId == null) return;
+        outboxRepo.save(new SearchIndexOutbox(SearchIndexTarget.PROJECT, projectId));
+    }
+
+    /** 프리랜서 변경 기록 – 호출한 쓰기 트랜잭션과 함께 커밋/롤백된다 */
+    @Transactional
+    public void enqueueFreelancer(Long freelancerId) {
+        if (freelancerId == null) return;
+        outboxRepo.save(new SearchIndexOutbox(SearchIndexTarget.FREELANCER, freelancerId));
+    }
+
+    /**
+     * outbox 에서 최대 batchSize 건을 꺼내 검색 테이블에 반영한다.
+     * 같은 대상이 여러 번 쌓여 있어도 한 번만 upsert 한다.
+     * @return 처리한 outbox 행 수
+     */
     @Transactional
+    public int drainOutbox(int batchSize) {
+        List<SearchIndexOutbox> batch = outboxRepo.findNextBatch(PageRequest.of(0, batchSize));
+        if (batch.isEmpty()) return 0;
+
+        Set<Long> projectIds = new LinkedHashSet<>();
+        Set<Long> freelancerIds = new LinkedHashSet<>();
+        for (SearchIndexOutbox outbox : batch) {
+            switch (outbox.getTarget()) {
+                case PROJECT -> projectIds.add(outbox.getTargetId());
+                case FREELANCER -> freelancerIds.add(outbox.getTargetId());
+            }
+        }
+
+        if (!projectIds.isEmpty()) {
+            repo.upsertProjectSearches(projectIds);
+            // 리빌드 중(섀도 테이블 존재)이면 섀도에도 반영 (교체 후 변경분 유실 방지, 어느 노드에서든)
+            if (rebuildService.isRebuilding(SearchIndexTarget.PROJECT)) repo.upsertProjectShadow(projectIds);
+            eventPublisher.publishEvent(new SearchIndexChangedEvent(SearchIndexTarget.PROJECT, projectIds));
+        }
+        if (!freelancerIds.isEmpty()) {
+            repo.upsertFreelancerSearches(freelancerIds);
+            if (rebuildService.isRebuilding(SearchIndexTarget.FREELANCER)) repo.upsertFreelancerShadow(freelancerIds);
+            eventPublisher.publishEvent(new SearchIndexChangedEvent(SearchIndexTarget.FREELANCER, freelancerIds));
+        }
+
+        outboxRepo.deleteAllByIdInBatch(batch.stream().map(SearchIndexOutbox::getId).toList());
+        return batch.size();
+    }
+
+    /** 전체 리빌드 – 섀도 테이블을 채운 뒤 교체 (무중단, 부팅 동기화/관리자 API) */
     public void rebuildAll() {
-        repo.rebuildAllProjects();
-        repo.rebuildAllFreelancers();
+        rebuildService.rebuildAll();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,7 @@
+package com.back.domain.recommendations.recommendations.view;
+
+/** 추천 1단계 후보 (id + 텍스트 일치 점수) */
+public interface CandidateScoreView {
+    Long getId();
+    Double getTextScore();
+}
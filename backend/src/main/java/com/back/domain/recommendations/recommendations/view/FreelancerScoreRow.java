@@ -0,0 +1,22 @@
+package com.back.domain.recommendations.recommendations.view;
+
+import com.back.domain.recommendations.recommendations.entity.FreelancersSearch;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/** 추천 목록 응답 행 – 검색 테이블 행 + 재정렬 점수 (네이티브 쿼리 projection 과 같은 JSON 형태) */
+@Getter
+@AllArgsConstructor
+public class FreelancerScoreRow implements FreelancerScoreView {
+    private final Long freelancerId;
+    private final String job;
+    private final String one_liner;
+    private final String tech_stack;
+    private final Double ratingAvg;
+    private final Double textScore;
+
+    public static FreelancerScoreRow of(FreelancersSearch f, double textScore) {
+        return new FreelancerScoreRow(f.getFreelancerId(), f.getJob(), f.getComment(), f.getTechStack(),
+                (double) f.getRatingAvg(), textScore);
+    }
+}
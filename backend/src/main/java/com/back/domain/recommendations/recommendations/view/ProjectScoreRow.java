@@ -0,0 +1,26 @@
+package com.back.domain.recommendations.recommendations.view;
+
+import com.back.domain.recommendations.recommendations.entity.ProjectsSearch;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/** 추천 목록 응답 행 – 검색 테이블 행 + 재정렬 점수 (네이티브 쿼리 projection 과 같은 JSON 형태) */
+@Getter
+@AllArgsConstructor
+public class ProjectScoreRow implements ProjectScoreView {
+    private final Long projectId;
+    private final String title;
+    private final String summary;
+    private final BigDecimal price;
+    private final String duration;
+    private final String status;
+    private final String preferred_condition;
+    private final Double textScore;
+
+    public static ProjectScoreRow of(ProjectsSearch p, double textScore) {
+        return new ProjectScoreRow(p.getProjectId(), p.getTitle(), p.getSummary(), p.getPrice(), p.getDuration(),
+                p.getStatus() == null ? null : p.getStatus().name(), p.getPreferredCondition(), textScore);
+    }
+}
@@ -16,9 +16,11 @@ import com.back.domain.member.member.service.MemberService;
 import com.back.domain.project.project.entity.Project;
 import com.back.domain.project.project.service.ProjectService;
 import com.back.domain.proposal.proposal.service.ProposalService;
+import com.back.domain.recommendations.recommendations.service.SearchIndexOutboxWorker;
 import com.back.domain.recommendations.recommendations.service.SearchIndexService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -52,6 +54,11 @@ public class BaseInitData {
     private final ProposalService proposalService;
     private final EvaluationService evaluationService;
     private final SearchIndexService searchIndexService;
+    private final SearchIndexOutboxWorker searchIndexOutboxWorker;
+
+    // 부팅 시 검색 테이블 무중단 리빌드 (CREATE TABLE LIKE / RENAME TABLE 이 없는 DB 에서는 끈다)
+    @Value("${custom.searchIndex.rebuild.onBoot:true}")
+    private boolean rebuildOnBoot;
 
     @Bean
     @Order(1)
@@ -655,6 +662,9 @@ public class BaseInitData {
 
     // ========================= Rebuild Search Index =========================
     public void synchronization() {
+        // 초기 데이터 변경분을 바로 반영한 뒤, 전체를 섀도 테이블로 다시 맞춘다 (조회는 중단 없이 기존 테이블 사용)
+        searchIndexOutboxWorker.drain();
+        if (!rebuildOnBoot) return;
         try { searchIndexService.rebuildAll(); } catch (Exception ignore) {}
     }
 }
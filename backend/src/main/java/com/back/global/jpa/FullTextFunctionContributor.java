@@ -0,0 +1,33 @@
+package com.back.global.jpa;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * JPQL/QueryDSL 에서 MATCH ... AGAINST (... IN BOOLEAN MODE) 를 쓰기 위한 함수 등록.
+ * ft_match1(컬럼, 질의) ~ ft_match3(컬럼, 컬럼, 컬럼, 질의) – 컬럼 묶음은 FT 인덱스 정의와 같아야 한다.
+ * (META-INF/services 로 등록, MySQL/Mroonga 에서만 호출한다)
+ */
+public class FullTextFunctionContributor implements FunctionContributor {
+
+    public static final int MAX_COLUMNS = 3;
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicType<Double> score = functionContributions.getTypeConfiguration()
+                .getBasicTypeRegistry().resolve(StandardBasicTypes.DOUBLE);
+
+        for (int columns = 1; columns <= MAX_COLUMNS; columns++) {
+            StringBuilder pattern = new StringBuilder("match(");
+            for (int i = 1; i <= columns; i++) {
+                if (i > 1) pattern.append(", ");
+                pattern.append('?').append(i);
+            }
+            pattern.append(") against (?").append(columns + 1).append(" in boolean mode)");
+
+            functionContributions.getFunctionRegistry().registerPattern("ft_match" + columns, pattern.toString(), score);
+        }
+    }
+}
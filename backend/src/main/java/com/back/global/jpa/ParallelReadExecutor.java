@@ -0,0 +1,89 @@
+package com.back.global.jpa;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * 서로 독립적인 읽기 질의를 가상 스레드에서 동시에 실행한다.
+ * 각 질의는 자기 스레드의 읽기 전용 트랜잭션(= 별도 EntityManager, 별도 커넥션)에서 돈다.
+ *
+ * 호출한 요청은 이미 커넥션 하나(읽기 트랜잭션/OSIV)를 쥐고 있으므로, 추가 커넥션은 애플리케이션 전체 허가 수
+ * (maxConnections, 커넥션 풀 maximum-pool-size 보다 충분히 작게)로 제한한다.
+ * 허가가 없으면 기다리지 않고 호출 스레드에서 바로 실행한다 – 커넥션을 쥔 채 다른 커넥션을 기다리다 풀이 고갈되는 일이 없다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ParallelReadExecutor {
+
+    private final PlatformTransactionManager transactionManager;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private TransactionTemplate readOnly;
+
+    // 병렬 조회가 동시에 추가로 잡을 수 있는 커넥션 수 (전체 요청 합계)
+    @Value("${custom.parallelRead.maxConnections:4}")
+    private int maxConnections;
+
+    private Semaphore permits;
+
+    @PostConstruct
+    public void init() {
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readOnly.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        permits = new Semaphore(Math.max(maxConnections, 1));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /** 남는 허가가 있으면 별도 커넥션에서 동시에, 없으면 호출 스레드에서 바로 실행한 결과 */
+    public <T> CompletableFuture<T> submit(Supplier<T> query) {
+        if (!permits.tryAcquire()) {
+            try {
+                return CompletableFuture.completedFuture(query.get());
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return readOnly.execute(status -> query.get());
+                } finally {
+                    permits.release();
+                }
+            }, executor);
+        } catch (RuntimeException e) {
+            // 실행기에 넘기지 못했으면 허가를 돌려준다
+            permits.release();
+            throw e;
+        }
+    }
+
+    /** 질의에서 난 예외를 CompletionException 으로 감싸지 않고 그대로 던진다 */
+    public static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+}
@@ -1,41 +1,47 @@
 package com.back.global.jwt;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
-import java.security.Key;
 import java.util.Date;
 import java.util.Map;
 
 @Component
 public class JwtProvider {
 
-    private final String accessSecret;
+    // 키/파서는 기동 시 한 번만 만든다 (JwtParser 는 불변이라 스레드 간 공유 가능)
+    private final SecretKey accessKey;
+    private final JwtParser accessParser;
     private final long accessExpireMillis;
 
-    private final String refreshSecret;
+    private final SecretKey refreshKey;
+    private final JwtParser refreshParser;
     private final long refreshExpireMillis;
 
+    // 검증된 AccessToken Claims 캐시 – 같은 토큰의 반복 요청은 서명 검증/파싱 생략
+    private final VerifiedClaimsCache accessClaimsCache;
+
     public JwtProvider(
             @Value("${custom.jwt.accessToken.secretKey}") String accessSecret,
             @Value("${custom.jwt.accessToken.expireSeconds}") long accessExpireSeconds,
             @Value("${custom.jwt.refreshToken.secretKey}") String refreshSecret,
-            @Value("${custom.jwt.refreshToken.expireSeconds}") long refreshExpireSeconds
+            @Value("${custom.jwt.refreshToken.expireSeconds}") long refreshExpireSeconds,
+            @Value("${custom.jwt.accessToken.verifiedCache.maxSize:10000}") int verifiedCacheMaxSize,
+            @Value("${custom.jwt.accessToken.verifiedCache.ttlSeconds:60}") long verifiedCacheTtlSeconds
     ) {
-        this.accessSecret = accessSecret;
+        this.accessKey = Keys.hmacShaKeyFor(accessSecret.getBytes(StandardCharsets.UTF_8));
+        this.accessParser = Jwts.parser().verifyWith(accessKey).build();
         this.accessExpireMillis = accessExpireSeconds * 1000L;
-        this.refreshSecret = refreshSecret;
+        this.refreshKey = Keys.hmacShaKeyFor(refreshSecret.getBytes(StandardCharsets.UTF_8));
+        this.refreshParser = Jwts.parser().verifyWith(refreshKey).build();
         this.refreshExpireMillis = refreshExpireSeconds * 1000L;
-    }
-
-    // Key 가져오는 helper
-    private Key getKey(boolean isAccessToken) {
-        String secret = isAccessToken ? accessSecret : refreshSecret;
-        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.accessClaimsCache = new VerifiedClaimsCache(verifiedCacheMaxSize, verifiedCacheTtlSeconds * 1000L);
     }
 
     // AccessToken 생성
@@ -44,10 +50,10 @@ public class JwtProvider {
         Date expiration = new Date(issuedAt.getTime() + accessExpireMillis);
 
         return Jwts.builder()
-                .setClaims(claims)
-                .setIssuedAt(issuedAt)
-                .setExpiration(expiration)
-                .signWith(getKey(true))
+                .claims(claims)
+                .issuedAt(issuedAt)
+                .expiration(expiration)
+                .signWith(accessKey)
                 .compact();
     }
 
@@ -57,37 +63,23 @@ public class JwtProvider {
         Date expiration = new Date(issuedAt.getTime() + refreshExpireMillis);
 
         return Jwts.builder()
-                .setClaims(claims)
-                .setIssuedAt(issuedAt)
-                .setExpiration(expiration)
-                .signWith(getKey(false))
+                .claims(claims)
+                .issuedAt(issuedAt)
+                .expiration(expiration)
+                .signWith(refreshKey)
                 .compact();
     }
 
-    // Claims 추출
+    // Claims 추출 (AccessToken 은 검증 캐시를 거친다)
     public Claims getClaims(String token, boolean isAccessToken) {
-        try {
-            return Jwts.parser()
-                    .setSigningKey(getKey(isAccessToken))  // Key 타입 필요
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-        } catch (Exception e) {
-            return null; // 만료, 변조 등 실패 시 null
-        }
+        if (token == null || token.isBlank()) return null;
+        if (!isAccessToken) return parse(refreshParser, token);
+        return accessClaimsCache.get(token, () -> parse(accessParser, token));
     }
 
     // 토큰 유효성 검증
     public boolean validateToken(String token, boolean isAccessToken) {
-        try {
-            Jwts.parser()
-                    .setSigningKey(getKey(isAccessToken))
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
+        return getClaims(token, isAccessToken) != null;
     }
 
     //남은 만료 시간
@@ -97,4 +89,18 @@ public class JwtProvider {
         long remainingMillis = claims.getExpiration().getTime() - new Date().getTime();
         return remainingMillis / 1000;
     }
-}
\ No newline at end of file
+
+    // 검증 캐시에서 제거 (로그아웃/블랙리스트 등록 시)
+    public void evict(String token) {
+        if (token == null) return;
+        accessClaimsCache.evict(token);
+    }
+
+    private static Claims parse(JwtParser parser, String token) {
+        try {
+            return parser.parseSignedClaims(token).getPayload();
+        } catch (Exception e) {
+            return null; // 만료, 변조 등 실패 시 null
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.back.global.jwt;
+
+import io.jsonwebtoken.Claims;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 서명 검증을 통과한 토큰의 Claims 캐시 (토큰 SHA-256 다이제스트 → Claims).
+ *
+ * - 적중하면 서명 검증/JSON 파싱을 건너뛰므로 키는 충돌 저항성이 있는 해시 전체(256bit)를 쓴다.
+ * - 항목 만료는 min(저장 시각 + ttl, 토큰 exp) – 만료된 토큰이 캐시로 살아남지 않는다.
+ * - 검증 실패(null)는 캐시하지 않는다.
+ * - 크기 상한에 닿으면 저장하지 않는다 (매번 검증으로 동작). 만료 항목 정리(전체 훑기)는 가득 찬 동안에도
+ *   최대 PURGE_INTERVAL_MILLIS 에 한 번, 한 스레드만 한다 – 미스마다 O(maxSize) 를 치르지 않는다.
+ */
+class VerifiedClaimsCache {
+
+    private record Digest(long a, long b, long c, long d) {
+    }
+
+    private record Entry(Claims claims, long expiresAt) {
+    }
+
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private static final long PURGE_INTERVAL_MILLIS = 1_000;
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final Map<Digest, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong nextPurgeAt = new AtomicLong();
+
+    VerifiedClaimsCache(int maxSize, long ttlMillis) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+    }
+
+    Claims get(String token, Supplier<Claims> verifier) {
+        if (maxSize <= 0) return verifier.get();
+
+        Digest key = digest(token);
+        long now = System.currentTimeMillis();
+
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            if (entry.expiresAt() > now) return entry.claims();
+            entries.remove(key, entry);
+        }
+
+        Claims claims = verifier.get();
+        if (claims != null) put(key, claims, now);
+        return claims;
+    }
+
+    void evict(String token) {
+        if (maxSize <= 0) return;
+        entries.remove(digest(token));
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void put(Digest key, Claims claims, long now) {
+        long expiresAt = now + ttlMillis;
+        Date exp = claims.getExpiration();
+        if (exp != null) expiresAt = Math.min(expiresAt, exp.getTime());
+        if (expiresAt <= now) return;
+
+        if (entries.size() >= maxSize && (!purgeExpired(now) || entries.size() >= maxSize)) return;
+        entries.put(key, new Entry(claims, expiresAt));
+    }
+
+    // 정리 차례가 아니거나 다른 스레드가 정리 중이면 false
+    private boolean purgeExpired(long now) {
+        long next = nextPurgeAt.get();
+        if (now < next || !nextPurgeAt.compareAndSet(next, now + PURGE_INTERVAL_MILLIS)) return false;
+
+        entries.values().removeIf(e -> e.expiresAt() <= now);
+        return true;
+    }
+
+    private static Digest digest(String token) {
+        MessageDigest md = SHA256.get();
+        ByteBuffer hash = ByteBuffer.wrap(md.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        return new Digest(hash.getLong(), hash.getLong(), hash.getLong(), hash.getLong());
+    }
+}
@@ -0,0 +1,65 @@
+package com.back.global.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 노드 간 배타 실행용 Redis 임대 잠금 (SET NX PX + 토큰 비교 해제/연장).
+ *
+ * - 임대 시간이 지나면 잠금이 풀리므로, 긴 작업은 진행 중에 renew 로 연장한다.
+ * - 해제/연장은 내가 건 토큰일 때만 동작한다 (만료 후 다른 노드가 잡은 잠금을 건드리지 않음).
+ * - 획득 시 Redis 장애는 DataAccessException 으로 그대로 던진다 – 대체 동작은 호출한 쪽이 정한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisLeaseLock {
+
+    private static final String KEY_PREFIX = "lock:";
+
+    private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private static final RedisScript<Long> RENEW = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /** 잠금을 잡으면 해제용 토큰, 다른 노드가 쥐고 있으면 null */
+    public String tryAcquire(String name, Duration lease) {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + name, token, lease);
+        return Boolean.TRUE.equals(acquired) ? token : null;
+    }
+
+    /** 임대 연장 – 이미 잃은 잠금이면 false */
+    public boolean renew(String name, String token, Duration lease) {
+        try {
+            Long renewed = redisTemplate.execute(RENEW, List.of(KEY_PREFIX + name), token, String.valueOf(lease.toMillis()));
+            return renewed != null && renewed == 1L;
+        } catch (DataAccessException e) {
+            log.warn("잠금 연장 실패 name={}", name, e);
+            return false;
+        }
+    }
+
+    public void release(String name, String token) {
+        try {
+            redisTemplate.execute(RELEASE, List.of(KEY_PREFIX + name), token);
+        } catch (DataAccessException e) {
+            // 해제 실패 시 임대 시간이 지나면 풀린다
+            log.warn("잠금 해제 실패 name={}", name, e);
+        }
+    }
+}
@@ -53,6 +53,8 @@ public class SecurityConfig {
                         .requestMatchers("/api/v1/members/me/withdraw").authenticated() // 회원 탈퇴
                         .requestMatchers("/api/v1/members/me/withdraw").authenticated() // 내 프로필 수정
                         .requestMatchers("/api/*/members/me/favorites/**").authenticated() // 내 즐겨찾기 목록 조회
+                        .requestMatchers("/api/*/members/me/saved-searches/**").authenticated() // 저장된 검색 조건
+                        .requestMatchers("/api/v1/notifications/**").authenticated() // 내 알림
                         .requestMatchers(HttpMethod.GET,"/api/v1/proposals").authenticated() // 나의 제안서 조회
                         .requestMatchers("/api/v1/recommendations").authenticated() // 맞춤 추천 조회
                         .requestMatchers("/api/v1/members/me/social").authenticated() // 맞춤 추천 조회
@@ -81,6 +83,7 @@ public class SecurityConfig {
 
                         //관리자만 접근 가능
                         .requestMatchers("/api/*/test/auth/admin").hasRole("ADMIN")
+                        .requestMatchers("/api/*/admin/**").hasRole("ADMIN") // 검색 테이블 리빌드 등 운영 작업
 
                         //그 외 요청은 모두 허용
                         .anyRequest().permitAll()
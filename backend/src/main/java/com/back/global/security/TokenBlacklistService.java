@@ -21,6 +21,7 @@ public class TokenBlacklistService {
     public void addBlacklistToken(String token) {
         try {
             long ttl = jwtProvider.getRemainingSeconds(token, true);
+            jwtProvider.evict(token); // 검증 캐시에 남은 Claims 제거
             if (ttl <= 0) return; // 이미 만료된 토큰은 등록 불필요
             redisTemplate.opsForValue().set(ACCESS_PREFIX + token, "true", ttl, TimeUnit.SECONDS);
         } catch (DataAccessException | IllegalStateException e) {
@@ -0,0 +1,171 @@
+package com.back.standard.bitmap;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.IntConsumer;
+
+/**
+ * 정수 id 집합용 불변 압축 비트맵 (Roaring 방식 축약판).
+ * 상위 16비트마다 컨테이너 하나:
+ * - 원소 4096개 이하: 정렬된 char[] (하위 16비트)
+ * - 그 이상: long[1024] 비트맵
+ * 교집합 크기는 비트맵끼리면 word AND + popcount 로 계산한다.
+ */
+public final class IdBitmap {
+
+    private static final int ARRAY_MAX = 4096;
+    private static final int BITMAP_WORDS = 1 << 10; // 65536 bits
+
+    public static final IdBitmap EMPTY = new IdBitmap(new char[0], new Object[0], 0);
+
+    private final char[] keys;          // 상위 16비트 (오름차순)
+    private final Object[] containers;  // char[] 또는 long[]
+    private final int cardinality;
+
+    private IdBitmap(char[] keys, Object[] containers, int cardinality) {
+        this.keys = keys;
+        this.containers = containers;
+        this.cardinality = cardinality;
+    }
+
+    public static IdBitmap of(Collection<? extends Number> ids) {
+        if (ids == null || ids.isEmpty()) return EMPTY;
+        int[] values = new int[ids.size()];
+        int i = 0;
+        for (Number id : ids) values[i++] = id.intValue();
+        return of(values);
+    }
+
+    /** 음수가 아닌 id 배열로 생성 (정렬/중복 제거는 내부에서 처리) */
+    public static IdBitmap of(int... ids) {
+        if (ids.length == 0) return EMPTY;
+        int[] values = Arrays.stream(ids).filter(v -> v >= 0).sorted().distinct().toArray();
+        if (values.length == 0) return EMPTY;
+
+        // 상위 16비트 그룹 수 계산
+        int groups = 1;
+        for (int i = 1; i < values.length; i++) {
+            if ((values[i] >>> 16) != (values[i - 1] >>> 16)) groups++;
+        }
+
+        char[] keys = new char[groups];
+        Object[] containers = new Object[groups];
+        int g = 0;
+        int start = 0;
+        for (int i = 1; i <= values.length; i++) {
+            if (i == values.length || (values[i] >>> 16) != (values[start] >>> 16)) {
+                keys[g] = (char) (values[start] >>> 16);
+                containers[g] = container(values, start, i);
+                g++;
+                start = i;
+            }
+        }
+        return new IdBitmap(keys, containers, values.length);
+    }
+
+    private static Object container(int[] values, int from, int to) {
+        int size = to - from;
+        if (size <= ARRAY_MAX) {
+            char[] array = new char[size];
+            for (int i = 0; i < size; i++) array[i] = (char) values[from + i];
+            return array;
+        }
+        long[] bitmap = new long[BITMAP_WORDS];
+        for (int i = from; i < to; i++) {
+            int low = values[i] & 0xFFFF;
+            bitmap[low >>> 6] |= 1L << low;
+        }
+        return bitmap;
+    }
+
+    public int cardinality() {
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return cardinality == 0;
+    }
+
+    public boolean contains(int value) {
+        if (value < 0) return false;
+        int idx = Arrays.binarySearch(keys, (char) (value >>> 16));
+        if (idx < 0) return false;
+        return containerContains(containers[idx], (char) value);
+    }
+
+    /** |this ∩ other| */
+    public int andCardinality(IdBitmap other) {
+        if (cardinality == 0 || other.cardinality == 0) return 0;
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < keys.length && j < other.keys.length) {
+            if (keys[i] < other.keys[j]) i++;
+            else if (keys[i] > other.keys[j]) j++;
+            else count += andCardinality(containers[i++], other.containers[j++]);
+        }
+        return count;
+    }
+
+    public void forEach(IntConsumer action) {
+        for (int k = 0; k < keys.length; k++) {
+            int high = keys[k] << 16;
+            if (containers[k] instanceof char[] array) {
+                for (char low : array) action.accept(high | low);
+            } else {
+                long[] bitmap = (long[]) containers[k];
+                for (int w = 0; w < bitmap.length; w++) {
+                    long word = bitmap[w];
+                    while (word != 0) {
+                        action.accept(high | (w << 6) | Long.numberOfTrailingZeros(word));
+                        word &= word - 1;
+                    }
+                }
+            }
+        }
+    }
+
+    public int[] toArray() {
+        int[] out = new int[cardinality];
+        int[] pos = {0};
+        forEach(v -> out[pos[0]++] = v);
+        return out;
+    }
+
+    private static boolean containerContains(Object container, char low) {
+        if (container instanceof char[] array) return Arrays.binarySearch(array, low) >= 0;
+        long[] bitmap = (long[]) container;
+        return (bitmap[low >>> 6] & (1L << low)) != 0;
+    }
+
+    private static int andCardinality(Object a, Object b) {
+        if (a instanceof long[] wa && b instanceof long[] wb) {
+            int count = 0;
+            for (int w = 0; w < BITMAP_WORDS; w++) count += Long.bitCount(wa[w] & wb[w]);
+            return count;
+        }
+        if (a instanceof char[] ca && b instanceof char[] cb) {
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < ca.length && j < cb.length) {
+                if (ca[i] < cb[j]) i++;
+                else if (ca[i] > cb[j]) j++;
+                else {
+                    count++;
+                    i++;
+                    j++;
+                }
+            }
+            return count;
+        }
+        // 배열 ∩ 비트맵: 배열 원소마다 비트 확인
+        char[] array = a instanceof char[] ca ? ca : (char[]) b;
+        long[] bitmap = a instanceof long[] wa ? wa : (long[]) b;
+        int count = 0;
+        for (char low : array) {
+            if ((bitmap[low >>> 6] & (1L << low)) != 0) count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,37 @@
+package com.back.standard.converter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Converter
+public class LongListConverter implements AttributeConverter<List<Long>, String> {
+
+    private static final TypeReference<List<Long>> TYPE = new TypeReference<>() {
+    };
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Override
+    public String convertToDatabaseColumn(List<Long> attribute) {
+        try {
+            return attribute == null ? null : objectMapper.writeValueAsString(attribute);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Error converting List to JSON", e);
+        }
+    }
+
+    @Override
+    public List<Long> convertToEntityAttribute(String dbData) {
+        try {
+            return dbData == null ? new ArrayList<>() : objectMapper.readValue(dbData, TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Error converting JSON to List", e);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.back.standard.facet;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 검색 테이블 변경 알림으로 갱신되는 패싯 색인의 공통 수명주기.
+ *
+ * - 변경 알림은 id 만 모아 두고 바로 반환한다 (이벤트 스레드에서 DB 조회/색인 재구성을 하지 않는다).
+ * - refresh 주기마다 모인 id 의 행/태그만 읽어 스냅샷을 한 번 다시 만든다.
+ *   스냅샷 재구성은 O(n log n) 이므로 outbox 배치가 여러 번 와도 주기당 한 번으로 묶는다.
+ * - 전체 적재는 부팅, 테이블 리빌드, 주기 재조정, 증분 실패 후에만.
+ *
+ * 주기 설정 키가 색인마다 달라서 @Scheduled 는 하위 클래스에서 refresh() / reconcile() 에 붙인다.
+ *
+ * @param <S> 불변 스냅샷
+ */
+@Slf4j
+public abstract class AbstractFacetIndex<S> {
+
+    private volatile S snapshot;
+    private final AtomicBoolean dirty = new AtomicBoolean(true);
+    // refresh 주기에 반영할 변경 id
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+
+    public abstract boolean isEnabled();
+
+    /** 로그용 색인 이름 */
+    protected abstract String indexName();
+
+    /** DB 전체 적재 */
+    protected abstract S load();
+
+    /** ids 의 행/태그만 DB 에서 읽어 current 에 반영한 새 스냅샷 */
+    protected abstract S applyChanges(S current, List<Long> ids);
+
+    protected abstract int size(S snapshot);
+
+    /** 현재 스냅샷 (아직 적재 전이면 null) */
+    protected final S snapshot() {
+        return snapshot;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        refresh();
+    }
+
+    /** 변경 알림 – 리빌드(fullRebuild)면 전체 적재 예약, 아니면 id 만 모은다 */
+    protected void onChanged(boolean fullRebuild, Collection<Long> ids) {
+        if (!isEnabled()) return;
+
+        if (fullRebuild) dirty.set(true);
+        else pending.addAll(ids);
+    }
+
+    /** 주기 재조정 – 누락된 변경 알림이 있어도 이 주기 안에 DB 와 맞춰진다 */
+    public void reconcile() {
+        dirty.set(true);
+        refresh();
+    }
+
+    /** 전체 적재가 필요하면 전체 적재, 아니면 모아 둔 변경 id 반영 */
+    public synchronized void refresh() {
+        if (!isEnabled()) return;
+
+        S current = snapshot;
+        if (dirty.getAndSet(false) || current == null) {
+            // 이 시점 이후에 들어온 id 는 다음 주기에 반영 (그 전 커밋은 전체 적재가 읽는다)
+            pending.clear();
+            try {
+                S built = load();
+                snapshot = built;
+                log.info("{} 적재: docs={}", indexName(), size(built));
+            } catch (Exception e) {
+                dirty.set(true);
+                log.warn("{} 적재 실패. cause={}", indexName(), e.getMessage());
+            }
+            return;
+        }
+        if (pending.isEmpty()) return;
+
+        List<Long> ids = List.copyOf(pending);
+        pending.removeAll(ids);
+        try {
+            snapshot = applyChanges(current, ids);
+        } catch (Exception e) {
+            dirty.set(true);
+            log.warn("{} 증분 반영 실패. cause={}", indexName(), e.getMessage());
+        }
+    }
+}
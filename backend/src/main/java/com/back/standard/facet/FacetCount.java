@@ -0,0 +1,9 @@
+package com.back.standard.facet;
+
+// 패싯 값 하나 (스킬/관심분야 id, 이름, 현재 검색 조건에서의 건수)
+public record FacetCount(
+        Long id,
+        String name,
+        int count
+) {
+}
@@ -0,0 +1,123 @@
+package com.back.standard.facet;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ToLongFunction;
+
+/**
+ * 패싯 색인 스냅샷의 원본 – id 오름차순 행과 소유자별 스킬/관심분야 태그(행 순서 유지).
+ * 문서 번호는 ids() 의 위치이고, 증분 반영은 바뀐 id 의 행/태그만 갈아 끼운 새 원본으로 스냅샷을 다시 만든다.
+ *
+ * @param <R> 문서 행 (프리랜서/프로젝트 패싯 행)
+ * @param <T> 태그 행 (소유자 id, 태그 id, 이름)
+ */
+public final class FacetSource<R, T> {
+
+    private final List<R> rows;
+    private final long[] ids;
+    private final Map<Long, List<T>> skillTagsById;
+    private final Map<Long, List<T>> interestTagsById;
+    private final ToLongFunction<R> rowId;
+    private final ToLongFunction<T> owner;
+
+    private FacetSource(List<R> rows, Map<Long, List<T>> skillTagsById, Map<Long, List<T>> interestTagsById,
+                        ToLongFunction<R> rowId, ToLongFunction<T> owner) {
+        this.rows = rows;
+        this.ids = rows.stream().mapToLong(rowId).toArray();
+        this.skillTagsById = skillTagsById;
+        this.interestTagsById = interestTagsById;
+        this.rowId = rowId;
+        this.owner = owner;
+    }
+
+    public static <R, T> FacetSource<R, T> of(List<R> rows, List<T> skillTags, List<T> interestTags,
+                                              ToLongFunction<R> rowId, ToLongFunction<T> owner) {
+        List<R> sorted = new ArrayList<>(rows);
+        sorted.sort(Comparator.comparingLong(rowId));
+        return new FacetSource<>(sorted, groupByOwner(skillTags, owner), groupByOwner(interestTags, owner), rowId, owner);
+    }
+
+    /**
+     * changedIds 의 행/태그를 새로 읽은 값으로 바꾼 원본 (DB 는 바뀐 id 만 읽는다).
+     * changedRows 에 없는 id 는 삭제된 것으로 본다.
+     */
+    public FacetSource<R, T> withChanges(Collection<Long> changedIds, List<R> changedRows,
+                                         List<T> changedSkillTags, List<T> changedInterestTags) {
+        Set<Long> changed = new HashSet<>(changedIds);
+
+        List<R> merged = new ArrayList<>(rows.size() + changedRows.size());
+        for (R row : rows) {
+            if (!changed.contains(rowId.applyAsLong(row))) merged.add(row);
+        }
+        merged.addAll(changedRows);
+        merged.sort(Comparator.comparingLong(rowId));
+
+        return new FacetSource<>(merged,
+                replaceTags(skillTagsById, changed, changedSkillTags),
+                replaceTags(interestTagsById, changed, changedInterestTags),
+                rowId, owner);
+    }
+
+    /** id 오름차순 행 */
+    public List<R> rows() {
+        return rows;
+    }
+
+    /** 문서 번호 → id (오름차순). 호출자는 수정하지 않는다 */
+    public long[] ids() {
+        return ids;
+    }
+
+    /** 문서 순서대로 펼친 스킬 태그 (TagIndex.build 입력) */
+    public List<T> skillTags() {
+        return flatten(skillTagsById);
+    }
+
+    /** 문서 순서대로 펼친 관심분야 태그 (TagIndex.build 입력) */
+    public List<T> interestTags() {
+        return flatten(interestTagsById);
+    }
+
+    /** id 목록을 문서 집합으로 (원본에 없는 id 는 빠진다) */
+    public BitSet docsOf(Collection<Long> targetIds) {
+        BitSet bits = new BitSet(ids.length);
+        for (Long id : targetIds) {
+            int doc = Arrays.binarySearch(ids, id);
+            if (doc >= 0) bits.set(doc);
+        }
+        return bits;
+    }
+
+    private List<T> flatten(Map<Long, List<T>> tagsById) {
+        List<T> flat = new ArrayList<>();
+        for (long id : ids) {
+            List<T> tags = tagsById.get(id);
+            if (tags != null) flat.addAll(tags);
+        }
+        return flat;
+    }
+
+    private Map<Long, List<T>> replaceTags(Map<Long, List<T>> tagsById, Set<Long> changed, List<T> changedTags) {
+        Map<Long, List<T>> next = new HashMap<>(tagsById);
+        next.keySet().removeAll(changed);
+        next.putAll(groupByOwner(changedTags, owner));
+        return next;
+    }
+
+    // 소유자별 태그 (행 순서 유지)
+    private static <T> Map<Long, List<T>> groupByOwner(List<T> tags, ToLongFunction<T> owner) {
+        Map<Long, List<T>> grouped = new HashMap<>();
+        for (T tag : tags) {
+            grouped.computeIfAbsent(owner.applyAsLong(tag), k -> new ArrayList<>()).add(tag);
+        }
+        return grouped;
+    }
+}
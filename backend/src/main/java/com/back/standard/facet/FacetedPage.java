@@ -0,0 +1,24 @@
+package com.back.standard.facet;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+
+/**
+ * 패싯 건수를 함께 내려주는 페이지.
+ * 기존 Page 응답 필드(content, totalElements ...)는 그대로 두고 facets 만 덧붙인다.
+ */
+public class FacetedPage<T, F> extends PageImpl<T> {
+
+    private final F facets;
+
+    public FacetedPage(Page<T> page, F facets) {
+        super(page.getContent(), page.getPageable(), page.getTotalElements());
+        this.facets = facets;
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public F getFacets() {
+        return facets;
+    }
+}
@@ -0,0 +1,142 @@
+package com.back.standard.facet;
+
+import com.back.standard.bitmap.IdBitmap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * 문서 ↔ 태그(스킬, 관심분야) 양방향 색인.
+ * 문서 번호는 호출자가 정한 id 오름차순 배열의 위치이고, 태그는 id 오름차순 서수(ord)로 관리한다.
+ * 태그별 문서 비트맵으로 필터를 만들고, 문서별 태그 서수로 패싯 건수를 한 번에 센다.
+ */
+public final class TagIndex {
+
+    private final long[] tagIds;
+    private final String[] names;
+    private final IdBitmap[] docsOf;
+    private final int[][] ordsOfDoc;
+    private final Map<Long, Integer> ordOf;
+
+    private TagIndex(long[] tagIds, String[] names, IdBitmap[] docsOf, int[][] ordsOfDoc) {
+        this.tagIds = tagIds;
+        this.names = names;
+        this.docsOf = docsOf;
+        this.ordsOfDoc = ordsOfDoc;
+        this.ordOf = new HashMap<>(tagIds.length * 2);
+        for (int ord = 0; ord < tagIds.length; ord++) ordOf.put(tagIds[ord], ord);
+    }
+
+    /** docIds 는 오름차순 정렬되어 있어야 한다. docIds 에 없는 소유자의 행은 버린다. */
+    public static <T> TagIndex build(long[] docIds, List<T> rows, ToLongFunction<T> owner,
+                                     ToLongFunction<T> tag, Function<T, String> name) {
+        TreeMap<Long, String> tagNames = new TreeMap<>();
+        List<long[]> pairs = new ArrayList<>(rows.size());
+        for (T row : rows) {
+            int doc = Arrays.binarySearch(docIds, owner.applyAsLong(row));
+            if (doc < 0) continue;
+            long tagId = tag.applyAsLong(row);
+            tagNames.put(tagId, name.apply(row));
+            pairs.add(new long[]{doc, tagId});
+        }
+
+        long[] tagIds = tagNames.keySet().stream().mapToLong(Long::longValue).toArray();
+        String[] names = tagNames.values().toArray(String[]::new);
+
+        // 문서별 태그는 원래 행 순서를 유지한다 (목록 응답의 스킬 순서)
+        List<List<Integer>> docsByOrd = new ArrayList<>(tagIds.length);
+        for (int i = 0; i < tagIds.length; i++) docsByOrd.add(new ArrayList<>());
+        List<List<Integer>> ordsByDoc = new ArrayList<>(docIds.length);
+        for (int i = 0; i < docIds.length; i++) ordsByDoc.add(null);
+
+        for (long[] pair : pairs) {
+            int doc = (int) pair[0];
+            int ord = Arrays.binarySearch(tagIds, pair[1]);
+            docsByOrd.get(ord).add(doc);
+            if (ordsByDoc.get(doc) == null) ordsByDoc.set(doc, new ArrayList<>());
+            ordsByDoc.get(doc).add(ord);
+        }
+
+        IdBitmap[] docsOf = docsByOrd.stream().map(IdBitmap::of).toArray(IdBitmap[]::new);
+        int[][] ordsOfDoc = ordsByDoc.stream()
+                .map(ords -> ords == null ? null : ords.stream().mapToInt(Integer::intValue).toArray())
+                .toArray(int[][]::new);
+
+        return new TagIndex(tagIds, names, docsOf, ordsOfDoc);
+    }
+
+    /** 태그 중 하나라도 가진 문서 */
+    public BitSet anyOf(Collection<Long> tags, int docCount) {
+        BitSet bits = new BitSet(docCount);
+        for (Long tag : tags) {
+            Integer ord = ordOf.get(tag);
+            if (ord != null) docsOf[ord].forEach(bits::set);
+        }
+        return bits;
+    }
+
+    /** 태그를 모두 가진 문서 */
+    public BitSet allOf(Collection<Long> tags, int docCount) {
+        BitSet result = null;
+        for (Long tag : tags) {
+            Integer ord = ordOf.get(tag);
+            if (ord == null) return new BitSet(docCount);
+            BitSet bits = new BitSet(docCount);
+            docsOf[ord].forEach(bits::set);
+            if (result == null) {
+                result = bits;
+            } else {
+                result.and(bits);
+            }
+        }
+        return result == null ? new BitSet(docCount) : result;
+    }
+
+    /** 문서의 태그 (id, 이름). 태그가 없으면 null */
+    public <R> List<R> tagsOf(int doc, TagMapper<R> mapper) {
+        int[] ords = ordsOfDoc[doc];
+        if (ords == null) return null;
+        List<R> tags = new ArrayList<>(ords.length);
+        for (int ord : ords) tags.add(mapper.map(tagIds[ord], names[ord]));
+        return tags;
+    }
+
+    /**
+     * 필터에 든 문서의 태그별 건수 (건수 내림차순, 동점은 id 오름차순).
+     * 필터가 null(전체)이면 태그 비트맵 크기를 그대로 쓰고, 아니면 필터 문서를 한 번 훑어 센다.
+     */
+    public List<FacetCount> count(BitSet filter) {
+        int[] counts = new int[tagIds.length];
+        if (filter == null) {
+            for (int ord = 0; ord < counts.length; ord++) counts[ord] = docsOf[ord].cardinality();
+        } else {
+            for (int doc = filter.nextSetBit(0); doc >= 0 && doc < ordsOfDoc.length; doc = filter.nextSetBit(doc + 1)) {
+                int[] ords = ordsOfDoc[doc];
+                if (ords == null) continue;
+                for (int ord : ords) counts[ord]++;
+            }
+        }
+
+        List<FacetCount> facets = new ArrayList<>();
+        for (int ord = 0; ord < counts.length; ord++) {
+            if (counts[ord] > 0) facets.add(new FacetCount(tagIds[ord], names[ord], counts[ord]));
+        }
+        facets.sort(Comparator.comparingInt(FacetCount::count).reversed()
+                .thenComparing(FacetCount::id));
+        return facets;
+    }
+
+    @FunctionalInterface
+    public interface TagMapper<R> {
+        R map(long id, String name);
+    }
+}
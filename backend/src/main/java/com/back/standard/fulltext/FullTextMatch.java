@@ -0,0 +1,29 @@
+package com.back.standard.fulltext;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.StringPath;
+
+/**
+ * QueryDSL 용 FT 일치 조건 (FullTextFunctionContributor 의 ft_matchN 함수).
+ * 검색 테이블 서브쿼리의 WHERE 에 넣어, 일치 id 를 애플리케이션으로 받아 IN 으로 다시 보내지 않게 한다.
+ */
+public final class FullTextMatch {
+
+    private FullTextMatch() {
+    }
+
+    /** columns 가 phrase 에 일치하면 참. columns 는 FT 인덱스 하나의 컬럼 묶음과 같아야 한다 */
+    public static BooleanExpression matches(String phrase, StringPath... columns) {
+        Object[] args = new Object[columns.length + 1];
+        StringBuilder template = new StringBuilder("function('ft_match").append(columns.length).append("'");
+        for (int i = 0; i < columns.length; i++) {
+            args[i] = columns[i];
+            template.append(", {").append(i).append('}');
+        }
+        args[columns.length] = Expressions.constant(phrase);
+        template.append(", {").append(columns.length).append("})");
+
+        return Expressions.numberTemplate(Double.class, template.toString(), args).gt(0.0);
+    }
+}
@@ -0,0 +1,20 @@
+package com.back.standard.fulltext;
+
+/**
+ * MATCH ... AGAINST (... IN BOOLEAN MODE) 용 구문 질의.
+ * 키워드 전체를 큰따옴표로 감싸 연산자(+, -, *, ~ ...)로 해석되지 않게 하고,
+ * bigram 토크나이저 위에서 '%키워드%' LIKE 와 같은 부분 문자열 일치가 되게 한다.
+ */
+public final class FullTextPhrase {
+
+    private FullTextPhrase() {
+    }
+
+    /** 구문 질의 문자열. 따옴표/역슬래시를 빼고 남는 글자가 없으면 null */
+    public static String of(String keyword) {
+        if (keyword == null) return null;
+        String cleaned = keyword.replace("\"", " ").replace("\\", " ").trim();
+        if (cleaned.isEmpty()) return null;
+        return "\"" + cleaned + "\"";
+    }
+}
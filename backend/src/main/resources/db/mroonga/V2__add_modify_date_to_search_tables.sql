@@ -0,0 +1,6 @@
+-- 검색 행 갱신 시각 (추천 질의 캐시 버전 키)
+ALTER TABLE project_search
+    ADD COLUMN modify_date DATETIME(6) NULL;
+
+ALTER TABLE freelancer_search
+    ADD COLUMN modify_date DATETIME(6) NULL;
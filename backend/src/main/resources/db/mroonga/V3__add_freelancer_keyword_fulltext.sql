@@ -0,0 +1,12 @@
+-- 프리랜서 목록 키워드 검색 (이름 / 직무 / 한 줄 소개) FT 인덱스
+ALTER TABLE freelancer_search
+    ADD COLUMN name VARCHAR(100) NULL AFTER freelancer_id;
+
+ALTER TABLE freelancer_search
+    ADD FULLTEXT INDEX ft_keyword (name, job, one_liner)
+      COMMENT 'tokenizer "TokenBigramSplitSymbolAlphaDigit", normalizer "NormalizerAuto"';
+
+-- 기존 행 이름 채우기 (이후에는 outbox upsert / 리빌드가 채운다)
+UPDATE freelancer_search fs
+    JOIN member m ON m.id = fs.freelancer_id
+SET fs.name = m.name;
@@ -0,0 +1,9 @@
+-- 프로젝트 목록 키워드 검색 FT 인덱스 (keywordType: title / summary / description / all)
+-- title 은 V1 의 ft_title 을 그대로 쓴다
+ALTER TABLE project_search
+    ADD FULLTEXT INDEX ft_summary (summary)
+      COMMENT 'tokenizer "TokenBigramSplitSymbolAlphaDigit", normalizer "NormalizerAuto"',
+    ADD FULLTEXT INDEX ft_description (description)
+      COMMENT 'tokenizer "TokenBigramSplitSymbolAlphaDigit", normalizer "NormalizerAuto"',
+    ADD FULLTEXT INDEX ft_keyword (title, summary, description)
+      COMMENT 'tokenizer "TokenBigramSplitSymbolAlphaDigit", normalizer "NormalizerAuto"';
@@ -0,0 +1,51 @@
+package com.back.domain.common.catalog.dto;
+
+import com.back.domain.common.skill.dto.SkillDto;
+import java.util.List;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class CatalogSnapshotTest {
+
+    private final CatalogSnapshot<SkillDto> snapshot = CatalogSnapshot.of(
+            List.of(new SkillDto(1L, "Java"), new SkillDto(2L, "Spring Boot"), new SkillDto(5L, "React")),
+            SkillDto::id, SkillDto::name
+    );
+
+    @Test
+    @DisplayName("id 검증 - 없는 id, 중복 id 는 불일치 / existing 은 있는 id 만 한 번씩")
+    void t1() {
+        Assertions.assertThat(snapshot.containsAll(List.of(1L, 2L, 5L))).isTrue();
+        Assertions.assertThat(snapshot.containsAll(List.of(1L, 3L))).isFalse();
+        Assertions.assertThat(snapshot.containsAll(List.of(1L, 1L))).isFalse();
+        Assertions.assertThat(snapshot.containsAll(List.of(99L))).isFalse();
+
+        Assertions.assertThat(snapshot.existing(List.of(5L, 3L, 1L, 5L))).containsExactly(5L, 1L);
+    }
+
+    @Test
+    @DisplayName("이름 → id - 대소문자 무시")
+    void t2() {
+        Assertions.assertThat(snapshot.idOf("Spring Boot")).isEqualTo(2L);
+        Assertions.assertThat(snapshot.idOf("spring boot")).isEqualTo(2L);
+        Assertions.assertThat(snapshot.idOf("JAVA")).isEqualTo(1L);
+        Assertions.assertThat(snapshot.idOf("Kotlin")).isNull();
+        Assertions.assertThat(snapshot.idOf(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("etag - 같은 내용이면 같고 이름이 바뀌면 달라진다")
+    void t3() {
+        CatalogSnapshot<SkillDto> same = CatalogSnapshot.of(
+                List.of(new SkillDto(1L, "Java"), new SkillDto(2L, "Spring Boot"), new SkillDto(5L, "React")),
+                SkillDto::id, SkillDto::name);
+        CatalogSnapshot<SkillDto> renamed = CatalogSnapshot.of(
+                List.of(new SkillDto(1L, "Java"), new SkillDto(2L, "Spring"), new SkillDto(5L, "React")),
+                SkillDto::id, SkillDto::name);
+
+        Assertions.assertThat(same.etag()).isEqualTo(snapshot.etag());
+        Assertions.assertThat(renamed.etag()).isNotEqualTo(snapshot.etag());
+        Assertions.assertThat(snapshot.etag()).startsWith("\"").endsWith("\"");
+    }
+}
@@ -0,0 +1,37 @@
+package com.back.domain.freelancer.freelancer.repository;
+
+import com.back.domain.freelancer.freelancer.dto.FreelancerSearchCondition;
+import com.back.domain.freelancer.freelancer.dto.FreelancerSummary;
+import java.util.List;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "custom.freelancerSearch.parallel.enabled=true",
+        "custom.parallelRead.maxConnections=2"
+})
+public class FreelancerRepositoryParallelTest {
+
+    @Autowired
+    private FreelancerRepository repository;
+
+    @Test
+    @DisplayName("병렬 조회 - 스킬/관심분야/총 개수를 따로 조회해도 결과는 같다")
+    void t1() {
+        FreelancerSearchCondition condition = new FreelancerSearchCondition(null, null, List.of(1L, 2L));
+
+        Page<FreelancerSummary> findAll = repository.findAll(condition, PageRequest.of(0, 2));
+
+        Assertions.assertThat(findAll.getContent()).hasSize(2);
+        Assertions.assertThat(findAll.getTotalElements()).isEqualTo(3);
+        Assertions.assertThat(findAll.getContent()).allSatisfy(summary ->
+                Assertions.assertThat(summary.skills()).isNotEmpty());
+    }
+}
@@ -0,0 +1,66 @@
+package com.back.domain.freelancer.freelancer.search;
+
+import com.back.domain.freelancer.freelancer.constant.CareerLevel;
+import com.back.domain.freelancer.freelancer.dto.FreelancerSearchCondition;
+import com.back.domain.freelancer.freelancer.dto.FreelancerSummary;
+import com.back.domain.freelancer.freelancer.repository.FreelancerRepository;
+import java.util.List;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("test")
+@SpringBootTest
+public class FreelancerFacetIndexParityTest {
+
+    @Autowired
+    private FreelancerFacetIndex freelancerFacetIndex;
+
+    @Autowired
+    private FreelancerRepository freelancerRepository;
+
+    private static final List<FreelancerSearchCondition> CONDITIONS = List.of(
+            new FreelancerSearchCondition(null, null, null),
+            new FreelancerSearchCondition(CareerLevel.JUNIOR, null, null),
+            new FreelancerSearchCondition(null, 4.0f, null),
+            new FreelancerSearchCondition(null, null, List.of(1L, 2L)),
+            new FreelancerSearchCondition(null, null, null, List.of(), List.of(1L))
+    );
+
+    private static final List<Sort> SORTS = List.of(
+            Sort.unsorted(),
+            Sort.by(Sort.Direction.DESC, "ratingAvg"),
+            Sort.by(Sort.Direction.ASC, "ratingAvg"),
+            Sort.by(Sort.Direction.DESC, "careerTotalYears"),
+            Sort.by(Sort.Direction.ASC, "name"),
+            Sort.by(Sort.Direction.DESC, "name"),
+            Sort.by(Sort.Direction.ASC, "id")
+    );
+
+    @Test
+    @DisplayName("색인 검색 - 조건/정렬/페이지별 결과 id 순서와 총 개수가 SQL 경로와 같다")
+    void t1() {
+        for (FreelancerSearchCondition condition : CONDITIONS) {
+            for (Sort sort : SORTS) {
+                for (int page = 0; page < 3; page++) {
+                    Pageable pageable = PageRequest.of(page, 7, sort);
+
+                    FreelancerFacetIndex.Hits hits = freelancerFacetIndex.search(condition, pageable);
+                    Page<FreelancerSummary> sql = freelancerRepository.findAll(condition, pageable);
+
+                    Assertions.assertThat(hits).as("%s %s", condition, sort).isNotNull();
+                    Assertions.assertThat(hits.total()).as("%s %s", condition, sort).isEqualTo(sql.getTotalElements());
+                    Assertions.assertThat(hits.ids()).as("%s %s page=%d", condition, sort, page)
+                            .containsExactlyElementsOf(sql.getContent().stream().map(FreelancerSummary::id).toList());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.back.domain.freelancer.freelancer.search;
+
+import com.back.domain.freelancer.freelancer.constant.CareerLevel;
+import com.back.domain.freelancer.freelancer.dto.FreelancerFacetRow;
+import com.back.domain.freelancer.freelancer.dto.FreelancerFacets;
+import com.back.domain.freelancer.freelancer.dto.FreelancerSearchCondition;
+import com.back.domain.freelancer.freelancer.dto.FreelancerTagRow;
+import java.util.BitSet;
+import java.util.List;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class FreelancerFacetIndexTest {
+
+    private final FreelancerFacetIndex.Snapshot snapshot = FreelancerFacetIndex.Snapshot.build(
+            List.of(
+                    new FreelancerFacetRow(3L, "다", 8, 4.5),
+                    new FreelancerFacetRow(1L, "가", 0, 3.0),
+                    new FreelancerFacetRow(2L, "나", 2, 4.5),
+                    new FreelancerFacetRow(4L, "라", null, 0.0)
+            ),
+            List.of(
+                    new FreelancerTagRow(1L, 10L, "Java"),
+                    new FreelancerTagRow(2L, 10L, "Java"),
+                    new FreelancerTagRow(2L, 11L, "Spring"),
+                    new FreelancerTagRow(3L, 12L, "React")
+            ),
+            List.of(new FreelancerTagRow(2L, 20L, "핀테크"))
+    );
+
+    @Test
+    @DisplayName("필터 - 스킬은 OR, 다른 조건과는 AND, 조건이 없으면 전체(null)")
+    void t1() {
+        Assertions.assertThat(snapshot.filter(new FreelancerSearchCondition(null, null, List.of()))).isNull();
+
+        BitSet skills = snapshot.filter(new FreelancerSearchCondition(null, null, List.of(10L, 12L)));
+        Assertions.assertThat(skills.cardinality()).isEqualTo(3);
+
+        BitSet junior = snapshot.filter(new FreelancerSearchCondition(CareerLevel.JUNIOR, 4.0f, List.of(10L, 12L)));
+        Assertions.assertThat(snapshot.page(junior, null, false, 0, 10))
+                .extracting(doc -> snapshot.ids[doc]).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("정렬 - 평점 내림차순 동점은 id 내림차순, offset 적용, 태그는 문서별로 복원")
+    void t2() {
+        List<Integer> docs = snapshot.page(null, snapshot.byRating, true, 1, 2);
+
+        Assertions.assertThat(docs).extracting(doc -> snapshot.ids[doc]).containsExactly(2L, 1L);
+        Assertions.assertThat(snapshot.skillsOf(docs.get(0))).extracting("name").containsExactly("Java", "Spring");
+        Assertions.assertThat(snapshot.interestsOf(docs.get(1))).isNull();
+    }
+
+    @Test
+    @DisplayName("패싯 - 필터에 든 문서의 스킬/경력 구간 건수, 건수 내림차순")
+    void t3() {
+        FreelancerFacets all = snapshot.facets(null);
+        Assertions.assertThat(all.skills()).extracting("id", "count")
+                .containsExactly(Assertions.tuple(10L, 2), Assertions.tuple(11L, 1), Assertions.tuple(12L, 1));
+        Assertions.assertThat(all.careerLevels()).containsEntry(CareerLevel.SENIOR, 1).containsEntry(CareerLevel.MID, 0);
+
+        FreelancerFacets rated = snapshot.facets(snapshot.filter(new FreelancerSearchCondition(null, 4.0f, List.of())));
+        Assertions.assertThat(rated.skills()).extracting("id").containsExactly(10L, 11L, 12L);
+        Assertions.assertThat(rated.interests()).extracting("name").containsExactly("핀테크");
+        Assertions.assertThat(rated.careerLevels()).containsEntry(CareerLevel.NEWBIE, 0).containsEntry(CareerLevel.JUNIOR, 1);
+    }
+
+    @Test
+    @DisplayName("증분 반영 - 바뀐 id 만 교체/삭제/추가, 나머지 행과 태그는 그대로")
+    void t4() {
+        FreelancerFacetIndex.Snapshot changed = snapshot.withChanges(
+                List.of(2L, 4L, 5L),
+                List.of(new FreelancerFacetRow(2L, "나", 2, 1.0), new FreelancerFacetRow(5L, "마", 12, 5.0)),
+                List.of(new FreelancerTagRow(5L, 12L, "React")),
+                List.of()
+        );
+
+        Assertions.assertThat(changed.ids).containsExactly(1L, 2L, 3L, 5L);
+        Assertions.assertThat(changed.page(null, changed.byRating, true, 0, 4))
+                .extracting(doc -> changed.ids[doc]).containsExactly(5L, 3L, 1L, 2L);
+        Assertions.assertThat(changed.facets(null).skills()).extracting("id", "count")
+                .containsExactly(Assertions.tuple(12L, 2), Assertions.tuple(10L, 1));
+        Assertions.assertThat(changed.facets(null).interests()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이름 정렬 - 대소문자/악센트 무시(DB 정렬 규칙), 동점은 id 순")
+    void t5() {
+        FreelancerFacetIndex.Snapshot named = FreelancerFacetIndex.Snapshot.build(
+                List.of(
+                        new FreelancerFacetRow(1L, "bob", 0, 0.0),
+                        new FreelancerFacetRow(2L, "Alice", 0, 0.0),
+                        new FreelancerFacetRow(3L, "Émile", 0, 0.0),
+                        new FreelancerFacetRow(4L, "alice", 0, 0.0)
+                ),
+                List.of(),
+                List.of()
+        );
+
+        Assertions.assertThat(named.page(null, named.byName, false, 0, 4))
+                .extracting(doc -> named.ids[doc]).containsExactly(2L, 4L, 1L, 3L);
+    }
+}
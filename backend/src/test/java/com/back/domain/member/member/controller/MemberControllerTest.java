@@ -4,6 +4,7 @@ import com.back.domain.application.application.dto.ApplicationWriteReqBody;
 import com.back.domain.application.application.service.ApplicationService;
 import com.back.domain.client.client.entity.Client;
 import com.back.domain.freelancer.freelancer.entity.Freelancer;
+import com.back.domain.member.member.constant.ProfileScope;
 import com.back.domain.member.member.entity.Member;
 import com.back.domain.member.member.service.MemberService;
 import com.back.domain.project.project.entity.Project;
@@ -379,6 +380,48 @@ public class MemberControllerTest {
         resultActions.andExpect(status().isOk()).andExpect(handler().handlerType(MemberController.class)).andExpect(handler().methodName("getProfile")).andExpect(jsonPath("$.resultCode").value("200-7")).andExpect(jsonPath("$.msg").value("프로필 조회 성공")).andExpect(jsonPath("$.data.username").value("client1"));
     }
 
+    @Test
+    @DisplayName("비공개 프리랜서 프로필 - 비로그인 조회는 401")
+    void t14_1_getPrivateFreelancerProfile_unauthorized() throws Exception {
+        // GIVEN
+        Member freelancerMember = memberService.findByUsername("freelancer1").get();
+        freelancerMember.updateProfileScope(ProfileScope.PRIVATE);
+
+        // WHEN
+        ResultActions resultActions = mvc.perform(get("/api/v1/members/{userId}/profile", freelancerMember.getId())).andDo(print());
+
+        // THEN
+        resultActions.andExpect(status().isUnauthorized()).andExpect(jsonPath("$.resultCode").value("401-1"));
+    }
+
+    @Test
+    @DisplayName("비공개 프리랜서 프로필 - 지원받은 클라이언트는 스킬까지 조회")
+    @WithUserDetails("client1")
+    void t14_2_getPrivateFreelancerProfile_appliedClient() throws Exception {
+        // GIVEN
+        Member freelancerMember = memberService.findByUsername("freelancer1").get();
+        freelancerMember.updateProfileScope(ProfileScope.PRIVATE);
+        Freelancer freelancer = freelancerMember.getFreelancer();
+
+        Member clientMember = memberService.findByUsername("client1").get();
+        Project project = projectService.findAllByMemberId(clientMember.getId()).get(0);
+        applicationService.create(new ApplicationWriteReqBody(
+                new BigDecimal("500000"),
+                "1 month",
+                "Work plan details",
+                "Additional request details"
+        ), freelancer, project);
+
+        // WHEN
+        ResultActions resultActions = mvc.perform(get("/api/v1/members/{userId}/profile", freelancerMember.getId())).andDo(print());
+
+        // THEN
+        resultActions.andExpect(status().isOk()).andExpect(handler().methodName("getProfile")).andExpect(jsonPath("$.data.username").value("freelancer1"));
+        if (!freelancer.getSkills().isEmpty()) {
+            resultActions.andExpect(jsonPath("$.data.skills", Matchers.hasSize(freelancer.getSkills().size())));
+        }
+    }
+
     @Test
     @DisplayName("프리랜서 프로필 수정 - 클라이언트 필드는 무시됨")
     @WithUserDetails("freelancer1")
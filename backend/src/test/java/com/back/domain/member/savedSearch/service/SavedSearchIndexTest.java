@@ -0,0 +1,46 @@
+package com.back.domain.member.savedSearch.service;
+
+import com.back.domain.project.project.constant.ProjectStatus;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+public class SavedSearchIndexTest {
+
+    private static SavedSearchIndex.Doc doc(String title, Set<Long> skills, Set<Long> interests) {
+        return new SavedSearchIndex.Doc(title, "요약", null, ProjectStatus.OPEN, skills, interests);
+    }
+
+    @Test
+    @DisplayName("역매칭 - 스킬은 모두 포함, 키워드는 대소문자 무시 부분 일치, 회원당 한 번")
+    void t1() {
+        SavedSearchIndex index = new SavedSearchIndex();
+        index.replaceAll(List.of(
+                SavedSearchIndex.Query.of(1L, 10L, null, null, List.of(1L, 2L), List.of(), null),
+                SavedSearchIndex.Query.of(2L, 20L, "title", "Spring", List.of(), List.of(), ProjectStatus.OPEN),
+                SavedSearchIndex.Query.of(3L, 20L, "all", "boot", List.of(), List.of(), null),
+                SavedSearchIndex.Query.of(4L, 30L, null, null, List.of(), List.of(7L), null),
+                SavedSearchIndex.Query.of(5L, 40L, "summary", "spring", List.of(), List.of(), null)
+        ));
+
+        Assertions.assertThat(index.match(doc("SpringBoot 백엔드", Set.of(1L, 2L, 3L), Set.of())))
+                .containsExactlyInAnyOrder(10L, 20L);
+        Assertions.assertThat(index.match(doc("자바", Set.of(1L), Set.of(7L))))
+                .containsExactly(30L);
+    }
+
+    @Test
+    @DisplayName("역매칭 - 삭제된 조건은 더 이상 걸리지 않는다")
+    void t2() {
+        SavedSearchIndex index = new SavedSearchIndex();
+        index.put(SavedSearchIndex.Query.of(1L, 10L, null, "java", List.of(), List.of(), null));
+        Assertions.assertThat(index.match(doc("javascript", Set.of(), Set.of()))).containsExactly(10L);
+
+        index.remove(1L);
+        Assertions.assertThat(index.match(doc("javascript", Set.of(), Set.of()))).isEmpty();
+        Assertions.assertThat(index.size()).isZero();
+    }
+}
@@ -7,6 +7,8 @@ import com.back.domain.project.project.entity.ProjectInterest;
 import com.back.domain.project.project.entity.ProjectSkill;
 import com.back.domain.project.project.service.ProjectService;
 import com.back.global.exception.ServiceException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,6 +22,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Comparator;
 import java.util.List;
 
@@ -39,6 +42,8 @@ class ApiV1ProjectControllerTest {
     ProjectService projectService;
     @Autowired
     private MemberService memberService;
+    @Autowired
+    private ObjectMapper objectMapper;
 
     @Test
     @DisplayName("프로젝트 생성")
@@ -419,63 +424,69 @@ class ApiV1ProjectControllerTest {
     }
 
     @Test
-    @DisplayName("프로젝트 다건조회")
+    @DisplayName("프로젝트 다건조회 – NDJSON 내보내기")
     void t5() throws Exception {
         // API 호출
         ResultActions resultActions = mvc
                 .perform(get("/api/v1/projects/all"))
                 .andDo(print());
 
-        // DB에서 실제 프로젝트 리스트 조회
-        List<Project> projectList = projectService.getList();
-
         // 기본 상태 코드 및 핸들러 검증
         resultActions
                 .andExpect(status().isOk())
                 .andExpect(handler().handlerType(ApiV1ProjectController.class))
                 .andExpect(handler().methodName("getItems"))
-                .andExpect(jsonPath("$", Matchers.hasSize(projectList.size()))); // 최상위 배열 길이 검증
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON));
+
+        // 한 줄에 프로젝트 하나, id 오름차순
+        String body = resultActions.andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        List<String> lines = body.lines().filter(line -> !line.isBlank()).toList();
+
+        List<Project> projectList = projectService.getList().stream()
+                .sorted(Comparator.comparing(Project::getId))
+                .toList();
+        assertThat(lines).hasSize(projectList.size());
+        // 줄 앞에 구분자(공백 등)가 붙지 않는다
+        assertThat(lines).allMatch(line -> line.startsWith("{") && line.endsWith("}"));
 
         // 각 프로젝트별 상세 검증
         for (int i = 0; i < projectList.size(); i++) {
             Project project = projectList.get(i);
-
-            resultActions
-                    .andExpect(jsonPath(String.format("$[%d].id", i)).value(project.getId()))
-                    .andExpect(jsonPath(String.format("$[%d].title", i)).value(project.getTitle()))
-                    .andExpect(jsonPath(String.format("$[%d].summary", i)).value(project.getSummary()))
-                    .andExpect(jsonPath(String.format("$[%d].duration", i)).value(project.getDuration()))
-                    .andExpect(jsonPath(String.format("$[%d].price", i)).value(project.getPrice().doubleValue()))
-                    .andExpect(jsonPath(String.format("$[%d].preferredCondition", i)).value(project.getPreferredCondition()))
-                    .andExpect(jsonPath(String.format("$[%d].payCondition", i)).value(project.getPayCondition()))
-                    .andExpect(jsonPath(String.format("$[%d].workingCondition", i)).value(project.getWorkingCondition()))
-                    .andExpect(jsonPath(String.format("$[%d].description", i)).value(project.getDescription()))
-                    .andExpect(jsonPath(String.format("$[%d].deadline", i), Matchers.startsWith(project.getDeadline().toString().substring(0, 20))))
-                    .andExpect(jsonPath(String.format("$[%d].ownerName", i)).value(project.getClient().getMember().getName()))
-                    .andExpect(jsonPath(String.format("$[%d].status", i)).value(project.getStatus().toString()))
-                    .andExpect(jsonPath(String.format("$[%d].createDate", i), Matchers.startsWith(project.getCreateDate().toString().substring(0, 20))))
-                    .andExpect(jsonPath(String.format("$[%d].modifyDate", i), Matchers.startsWith(project.getModifyDate().toString().substring(0, 20))));
+            JsonNode row = objectMapper.readTree(lines.get(i));
+
+            assertThat(row.get("id").asLong()).isEqualTo(project.getId());
+            assertThat(row.get("title").asText()).isEqualTo(project.getTitle());
+            assertThat(row.get("summary").asText()).isEqualTo(project.getSummary());
+            assertThat(row.get("duration").asText()).isEqualTo(project.getDuration());
+            assertThat(row.get("price").decimalValue()).isEqualByComparingTo(project.getPrice());
+            assertThat(row.get("description").asText()).isEqualTo(project.getDescription());
+            assertThat(row.get("ownerName").asText()).isEqualTo(project.getClient().getMember().getName());
+            assertThat(row.get("status").asText()).isEqualTo(project.getStatus().toString());
+            assertThat(row.get("preferredCondition").asText()).isEqualTo(project.getPreferredCondition());
+            assertThat(row.get("payCondition").asText()).isEqualTo(project.getPayCondition());
+            assertThat(row.get("workingCondition").asText()).isEqualTo(project.getWorkingCondition());
+
+            assertThat(row.get("deadline").asText()).startsWith(project.getDeadline().toString().substring(0, 20));
+            assertThat(row.get("createDate").asText()).startsWith(project.getCreateDate().toString().substring(0, 20));
+            assertThat(row.get("modifyDate").asText()).startsWith(project.getModifyDate().toString().substring(0, 20));
 
             // 각 프로젝트의 스킬, 관심사 리스트 검증
             List<ProjectSkill> dbSkills = projectService.findProjectSkillAllByProject(project);
             List<ProjectInterest> dbInterests = projectService.findProjectInterestAllByProject(project);
 
-            resultActions
-                    .andExpect(jsonPath(String.format("$[%d].skills", i), Matchers.hasSize(dbSkills.size())))
-                    .andExpect(jsonPath(String.format("$[%d].interests", i), Matchers.hasSize(dbInterests.size())));
+            assertThat(row.get("skills")).hasSize(dbSkills.size());
+            assertThat(row.get("interests")).hasSize(dbInterests.size());
 
             for (int j = 0; j < dbSkills.size(); j++) {
                 ProjectSkill ps = dbSkills.get(j);
-                resultActions
-                        .andExpect(jsonPath(String.format("$[%d].skills[%d].id", i, j)).value(ps.getSkill().getId()))
-                        .andExpect(jsonPath(String.format("$[%d].skills[%d].name", i, j)).value(ps.getSkill().getName()));
+                assertThat(row.get("skills").get(j).get("id").asLong()).isEqualTo(ps.getSkill().getId());
+                assertThat(row.get("skills").get(j).get("name").asText()).isEqualTo(ps.getSkill().getName());
             }
 
             for (int j = 0; j < dbInterests.size(); j++) {
                 ProjectInterest pi = dbInterests.get(j);
-                resultActions
-                        .andExpect(jsonPath(String.format("$[%d].interests[%d].id", i, j)).value(pi.getInterest().getId()))
-                        .andExpect(jsonPath(String.format("$[%d].interests[%d].name", i, j)).value(pi.getInterest().getName()));
+                assertThat(row.get("interests").get(j).get("id").asLong()).isEqualTo(pi.getInterest().getId());
+                assertThat(row.get("interests").get(j).get("name").asText()).isEqualTo(pi.getInterest().getName());
             }
         }
     }
@@ -650,4 +661,19 @@ class ApiV1ProjectControllerTest {
                 .andExpect(jsonPath("$.data.content.length()").value(10)) // 프로젝트 2, 3
                 .andExpect(jsonPath("$.data.content[0].interests[*].id").value(Matchers.hasItem(3)));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("프로젝트 검색 / 패싯 건수 - 상태 조건을 건 집합 기준으로 센다")
+    void t6_8() throws Exception {
+        mvc.perform(get("/api/v1/projects")
+                        .param("status", ProjectStatus.OPEN.name())
+                        .param("facets", "true")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content").isArray())
+                .andExpect(jsonPath("$.data.facets.skills").isArray())
+                .andExpect(jsonPath("$.data.facets.interests").isArray())
+                .andExpect(jsonPath("$.data.facets.statuses.OPEN").value(Matchers.greaterThan(0)))
+                .andExpect(jsonPath("$.data.facets.statuses.IN_PROGRESS").value(0));
+    }
+}
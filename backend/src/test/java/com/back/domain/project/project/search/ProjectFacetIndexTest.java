@@ -0,0 +1,59 @@
+package com.back.domain.project.project.search;
+
+import com.back.domain.project.project.constant.ProjectStatus;
+import com.back.domain.project.project.dto.ProjectFacetRow;
+import com.back.domain.project.project.dto.ProjectFacets;
+import com.back.domain.project.project.dto.ProjectSearchDto;
+import com.back.domain.project.project.dto.ProjectTagRow;
+import java.util.List;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class ProjectFacetIndexTest {
+
+    private final ProjectFacetIndex.Snapshot snapshot = ProjectFacetIndex.Snapshot.build(
+            List.of(
+                    new ProjectFacetRow(2L, ProjectStatus.OPEN),
+                    new ProjectFacetRow(1L, ProjectStatus.OPEN),
+                    new ProjectFacetRow(3L, ProjectStatus.COMPLETED)
+            ),
+            List.of(
+                    new ProjectTagRow(1L, 10L, "Java"),
+                    new ProjectTagRow(1L, 11L, "Spring"),
+                    new ProjectTagRow(2L, 10L, "Java"),
+                    new ProjectTagRow(3L, 11L, "Spring")
+            ),
+            List.of(new ProjectTagRow(3L, 20L, "핀테크"))
+    );
+
+    @Test
+    @DisplayName("필터 - 스킬은 모두 포함, 상태와 AND")
+    void t1() {
+        ProjectFacets facets = snapshot.facets(snapshot.filter(
+                new ProjectSearchDto(null, null, List.of(10L, 11L), null, ProjectStatus.OPEN)));
+
+        Assertions.assertThat(facets.statuses()).containsEntry(ProjectStatus.OPEN, 1).containsEntry(ProjectStatus.COMPLETED, 0);
+        Assertions.assertThat(facets.skills()).extracting("id", "count")
+                .containsExactly(Assertions.tuple(10L, 1), Assertions.tuple(11L, 1));
+    }
+
+    @Test
+    @DisplayName("증분 반영 - 바뀐 id 만 교체/삭제/추가, 나머지 행과 태그는 그대로")
+    void t2() {
+        ProjectFacetIndex.Snapshot changed = snapshot.withChanges(
+                List.of(1L, 3L, 4L),
+                List.of(new ProjectFacetRow(1L, ProjectStatus.CLOSED), new ProjectFacetRow(4L, ProjectStatus.OPEN)),
+                List.of(new ProjectTagRow(4L, 10L, "Java")),
+                List.of(new ProjectTagRow(4L, 20L, "핀테크"))
+        );
+
+        Assertions.assertThat(changed.ids).containsExactly(1L, 2L, 4L);
+
+        ProjectFacets all = changed.facets(null);
+        Assertions.assertThat(all.statuses()).containsEntry(ProjectStatus.OPEN, 2)
+                .containsEntry(ProjectStatus.CLOSED, 1).containsEntry(ProjectStatus.COMPLETED, 0);
+        Assertions.assertThat(all.skills()).extracting("id", "count").containsExactly(Assertions.tuple(10L, 2));
+        Assertions.assertThat(all.interests()).extracting("id", "count").containsExactly(Assertions.tuple(20L, 1));
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
@@ -18,6 +19,7 @@ import java.util.List;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -82,4 +84,33 @@ class RecommendationFlowTest {
                 "프론트엔드 React Next.js 대개편"
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("client1 로그인 → 배치 추천, 내 프로젝트가 아닌 id 는 제외")
+    @WithUserDetails("client1")
+    void test3() throws Exception {
+        mvc.perform(get("/api/v1/recommendations/batch")
+                        .param("projectIds", "1", "2", "999999")
+                        .param("size", "3")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(handler().handlerType(RecommendationController.class))
+                .andExpect(handler().methodName("recommendBatch"))
+                .andExpect(jsonPath("$.resultCode").value("200-0"))
+                .andExpect(jsonPath("$.data").isArray())
+                .andExpect(jsonPath("$.data[?(@.projectId == 999999)]").isEmpty());
+    }
+
+    @Test
+    @DisplayName("비슷한 프로젝트 - 자기 자신은 빠지고 size 이하로 내려온다")
+    void test4() throws Exception {
+        mvc.perform(get("/api/v1/projects/1/similar")
+                        .param("size", "3")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.resultCode").value("200-1"))
+                .andExpect(jsonPath("$.data").isArray())
+                .andExpect(jsonPath("$.data.length()").value(lessThanOrEqualTo(3)))
+                .andExpect(jsonPath("$.data[?(@.projectId == 1)]").isEmpty());
+    }
+}
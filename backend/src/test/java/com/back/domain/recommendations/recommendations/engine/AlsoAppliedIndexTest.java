@@ -0,0 +1,72 @@
+package com.back.domain.recommendations.recommendations.engine;
+
+import com.back.domain.recommendations.recommendations.event.MatchingInteractionAddedEvent;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+
+public class AlsoAppliedIndexTest {
+
+    @Test
+    @DisplayName("동시 출현 행렬 - 행이 rowLimit 의 2배를 넘으면 횟수 상위 rowLimit 개만 남는다")
+    void t1() {
+        CoOccurrenceMatrix matrix = new CoOccurrenceMatrix(2, 10);
+        // 100 행: 200 x3, 300 x2
+        for (long f = 1; f <= 3; f++) {
+            matrix.add(f, 100L);
+            matrix.add(f, 200L);
+        }
+        for (long f = 4; f <= 5; f++) {
+            matrix.add(f, 100L);
+            matrix.add(f, 300L);
+        }
+        // 400, 500 x1 → 4칸 (2배까지는 그대로)
+        matrix.add(6L, 100L);
+        matrix.add(6L, 400L);
+        matrix.add(6L, 500L);
+        Assertions.assertThat(matrix.top(100L, 10)).hasSize(4);
+
+        // 5번째 이웃이 들어오는 순간 상위 2개만 남는다
+        matrix.add(7L, 100L);
+        matrix.add(7L, 600L);
+        Assertions.assertThat(matrix.top(100L, 10))
+                .hasSizeLessThanOrEqualTo(2)
+                .containsExactly(Map.entry(200L, 3), Map.entry(300L, 2));
+    }
+
+    @Test
+    @DisplayName("동시 출현 행렬 - 프리랜서별 최근 historyLimit 개 프로젝트만 짝을 짓는다")
+    void t2() {
+        CoOccurrenceMatrix matrix = new CoOccurrenceMatrix(10, 2);
+        matrix.add(1L, 100L);
+        matrix.add(1L, 200L);
+        matrix.add(1L, 300L);
+        matrix.add(1L, 400L); // 300 을 넣을 때 100 이 밀려났으므로 400 은 200, 300 과만 짝이 된다
+
+        Assertions.assertThat(matrix.top(400L, 10)).containsExactly(Map.entry(200L, 1), Map.entry(300L, 1));
+        Assertions.assertThat(matrix.top(100L, 10)).doesNotContainKey(400L);
+    }
+
+    @Test
+    @DisplayName("함께 지원 색인 - 두 프로젝트에 지원/수락하면 서로의 함께 지원 목록에 나타나고, 같은 알림은 한 번만 센다")
+    void t3() {
+        AlsoAppliedIndex index = new AlsoAppliedIndex(null, null, null, null);
+        ReflectionTestUtils.setField(index, "enabled", true);
+        ReflectionTestUtils.setField(index, "broadcast", false);
+        ReflectionTestUtils.setField(index, "matrix", new CoOccurrenceMatrix(50, 100));
+
+        index.onInteractionAdded(new MatchingInteractionAddedEvent(1L, 100L));
+        index.onInteractionAdded(new MatchingInteractionAddedEvent(1L, 200L));
+        index.onInteractionAdded(new MatchingInteractionAddedEvent(1L, 200L));
+
+        Assertions.assertThat(index.alsoApplied(100L, 5)).containsExactly(Map.entry(200L, 1));
+        Assertions.assertThat(index.alsoApplied(200L, 5)).containsExactly(Map.entry(100L, 1));
+        Assertions.assertThat(index.alsoApplied(300L, 5)).isEmpty();
+
+        ReflectionTestUtils.setField(index, "enabled", false);
+        Assertions.assertThat(index.alsoApplied(100L, 5)).isEmpty();
+    }
+}
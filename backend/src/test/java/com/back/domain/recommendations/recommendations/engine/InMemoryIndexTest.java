@@ -0,0 +1,157 @@
+package com.back.domain.recommendations.recommendations.engine;
+
+import com.back.domain.recommendations.recommendations.constant.SearchIndexTarget;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+public class InMemoryIndexTest {
+
+    @Test
+    @DisplayName("토크나이저 - 정규화 후 공백 구간별 bigram")
+    void t1() {
+        Assertions.assertThat(BigramTokenizer.tokenize("Ｊava 백엔드"))
+                .containsExactly("ja", "av", "va", "백엔", "엔드");
+        Assertions.assertThat(BigramTokenizer.tokenize("C #")).containsExactly("c", "#");
+    }
+
+    @Test
+    @DisplayName("역색인 - 단어의 모든 bigram 을 포함한 문서만 빈도만큼 가산")
+    void t2() {
+        FieldIndex index = FieldIndex.build(new String[]{"spring java", "javascript", "java java kotlin", null});
+        double[] scores = new double[4];
+
+        for (String[] term : CompiledQuery.of("Java, kotlin!").terms()) {
+            index.accumulate(term, 1.5, scores);
+        }
+
+        Assertions.assertThat(scores).containsExactly(1.5, 1.5, 4.5, 0.0);
+    }
+
+    @Test
+    @DisplayName("TopK - 점수 내림차순, 동점은 문서 번호 오름차순")
+    void t3() {
+        TopK top = new TopK(3);
+        double[] scores = {1.0, 3.0, 2.0, 3.0, 0.5};
+        for (int doc = 0; doc < scores.length; doc++) top.offer(doc, scores[doc]);
+
+        Assertions.assertThat(top.drainDescending()).containsExactly(1, 3, 2);
+    }
+
+    @Test
+    @DisplayName("RankedList - 직렬화 왕복 및 커서 다음 위치 탐색")
+    void t4() {
+        RankedList list = new RankedList(7L, new long[]{10, 3, 5, 8}, new float[]{9f, 4f, 4f, 1f});
+        RankedList decoded = RankedList.decode(list.encode());
+
+        Assertions.assertThat(decoded.generation()).isEqualTo(7L);
+        Assertions.assertThat(decoded.ids()).containsExactly(10, 3, 5, 8);
+        Assertions.assertThat(decoded.indexAfter(decoded.cursorAt(1))).isEqualTo(2);
+        Assertions.assertThat(decoded.indexAfter(new RecommendationCursor(4f, 4L))).isEqualTo(2);
+        Assertions.assertThat(decoded.indexAfter(RecommendationCursor.decode(decoded.cursorAt(3).encode()))).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("질의 컴파일 - 구두점/제어문자/구분자 제거, 중복 제거, 빈 질의는 __noop__")
+    void t5() {
+        Assertions.assertThat(CompiledQuery.of("Spring,Boot / JPA|spring\t백엔드!").anyQuery())
+                .isEqualTo("spring boot jpa 백엔드");
+        Assertions.assertThat(CompiledQuery.ofAll(List.of("Java", "spring-boot")).words())
+                .containsExactly("java", "spring", "boot");
+        Assertions.assertThat(CompiledQuery.of(" ;;; ").anyQuery()).isEqualTo("__noop__");
+    }
+
+    @Test
+    @DisplayName("재정렬 - 텍스트∪스킬 후보 합집합, 평점 배율은 텍스트 점수에만, 동점은 id 오름차순")
+    void t6() {
+        TextCandidates text = new TextCandidates(new long[]{7, 3, 9}, new double[]{3.0, 2.0, 2.0});
+        RerankCandidates c = RerankCandidates.union(text, new long[]{3, 11});
+        Assertions.assertThat(c.ids).containsExactly(3, 7, 9, 11);
+
+        c.rating[c.indexOf(7)] = 5.0;   // 3.0 * 1.25
+        c.skill[c.indexOf(11)] = 3;     // 0.8 * 3
+
+        RankedList list = new RecommendationReranker().rerank(c, 3, 1L, 0L);
+        Assertions.assertThat(list.ids()).containsExactly(7, 11, 3);
+        Assertions.assertThat(list.scores()[0]).isEqualTo(3.75f);
+    }
+
+    @Test
+    @DisplayName("제외 집합 - 인코딩 왕복 후 순서를 유지한 채 제외 id 만 빠진다")
+    void t7() {
+        ExclusionSet excluded = ExclusionSet.decode(ExclusionSet.of(List.of(8L, 3, 3L)).encode());
+        Assertions.assertThat(excluded.ids()).containsExactly(3, 8);
+
+        RankedList list = new RankedList(2L, new long[]{10, 3, 5, 8}, new float[]{9f, 4f, 4f, 1f});
+        RankedList kept = list.without(excluded);
+        Assertions.assertThat(kept.ids()).containsExactly(10, 5);
+        Assertions.assertThat(kept.scores()).containsExactly(9f, 4f);
+        Assertions.assertThat(list.without(ExclusionSet.EMPTY)).isSameAs(list);
+    }
+
+    @Test
+    @DisplayName("스냅샷 파일 - 쓰고 mmap 으로 다시 읽으면 같은 점수, 바뀐/사라진 문서는 delta 로 가려진다")
+    void t8(@TempDir Path dir) throws Exception {
+        IndexSnapshotStore store = new IndexSnapshotStore();
+        ReflectionTestUtils.setField(store, "enabled", true);
+        ReflectionTestUtils.setField(store, "dir", dir.toString());
+
+        String[] texts = {"spring java", "javascript", "java java kotlin"};
+        FieldIndex[] fields = {FieldIndex.build(texts), FieldIndex.build(new String[3]), FieldIndex.build(new String[3])};
+        store.write(SearchIndexTarget.PROJECT, EngineSnapshot.of(new long[]{1, 2, 3}, fields, new boolean[]{true, true, true}, 100L, 3L));
+
+        EngineSnapshot mapped = store.read(SearchIndexTarget.PROJECT, 3);
+        Assertions.assertThat(mapped.highWaterRowId).isEqualTo(3L);
+        double[] scores = new double[3];
+        for (String[] term : CompiledQuery.of("java kotlin").terms()) mapped.segments[0][0].accumulate(term, 1.0, scores, 0);
+        Assertions.assertThat(scores).containsExactly(1.0, 1.0, 3.0);
+
+        // 3번은 다시 읽힘, 2번은 삭제됨
+        FieldIndex[] delta = {FieldIndex.build(new String[]{"kotlin"}), FieldIndex.build(new String[1]), FieldIndex.build(new String[1])};
+        EngineSnapshot booted = mapped.withDelta(new long[]{3}, new boolean[]{true}, delta, new long[]{2, 3}, 200L, 4L);
+        Assertions.assertThat(booted.ids).containsExactly(1, 2, 3, 3);
+        Assertions.assertThat(booted.eligible).containsExactly(true, false, false, true);
+        Assertions.assertThat(store.read(SearchIndexTarget.FREELANCER, 3)).isNull();
+    }
+
+    @Test
+    @DisplayName("LSH - 같은 특성 집합은 후보로, 겹치지 않는 집합은 제외, 서명 null 이면 색인에서 삭제")
+    void t9() {
+        long[] backend = {MinHash.skill(1), MinHash.skill(2), MinHash.interest(3), MinHash.word("spring")};
+        LshTable table = new LshTable();
+        table.put(10L, MinHash.signature(backend));
+        table.put(20L, MinHash.signature(new long[]{MinHash.skill(7), MinHash.word("figma")}));
+
+        Assertions.assertThat(table.query(MinHash.signature(backend), 5)).containsExactly(10L);
+        Assertions.assertThat(MinHash.signature(new long[0])).isNull();
+
+        table.put(10L, null);
+        Assertions.assertThat(table.query(MinHash.signature(backend), 5)).isEmpty();
+        Assertions.assertThat(table.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("함께 지원 행렬 - 같은 프리랜서의 지원 쌍만 세고, 중복 쌍은 무시, 행 크기 초과 시 상위만 유지")
+    void t10() {
+        CoOccurrenceMatrix matrix = new CoOccurrenceMatrix(2, 10);
+        matrix.add(1L, 100L);
+        matrix.add(1L, 200L);
+        matrix.add(2L, 100L);
+        matrix.add(2L, 200L);
+        matrix.add(2L, 300L);
+        Assertions.assertThat(matrix.add(2L, 300L)).isFalse();
+
+        Assertions.assertThat(matrix.top(100L, 5)).containsExactly(Map.entry(200L, 2), Map.entry(300L, 1));
+
+        for (long p = 400; p < 410; p++) matrix.add(3L, p);
+        matrix.add(3L, 100L);
+        Assertions.assertThat(matrix.top(100L, 10)).hasSizeLessThanOrEqualTo(4).containsKey(200L);
+        Assertions.assertThat(matrix.top(999L, 5)).isEmpty();
+    }
+}
@@ -0,0 +1,131 @@
+package com.back.domain.recommendations.recommendations.engine;
+
+import com.back.domain.member.member.constant.MemberStatus;
+import com.back.domain.recommendations.recommendations.constant.SearchIndexTarget;
+import com.back.domain.recommendations.recommendations.entity.FreelancersSearch;
+import com.back.domain.recommendations.recommendations.entity.ProjectsSearch;
+import com.back.domain.recommendations.recommendations.event.SearchIndexChangedEvent;
+import com.back.domain.recommendations.recommendations.repository.FreelancersSearchRepository;
+import com.back.domain.recommendations.recommendations.repository.SkillMatchRepository;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class LshIndexTest {
+
+    private static final long[] BACKEND = {
+            MinHash.skill(1), MinHash.skill(2), MinHash.skill(3), MinHash.skill(4),
+            MinHash.interest(10), MinHash.interest(11),
+            MinHash.word("backend"), MinHash.word("spring"), MinHash.word("java"), MinHash.word("jpa")
+    };
+
+    @Test
+    @DisplayName("MinHash - 같은 특성은 같은 서명, 서명 일치 비율은 Jaccard 에 가깝다")
+    void t1() {
+        // 특성 10개 중 1개만 다름 → Jaccard 9/11
+        long[] nearly = BACKEND.clone();
+        nearly[9] = MinHash.word("kotlin");
+
+        int[] a = MinHash.signature(BACKEND);
+        Assertions.assertThat(MinHash.signature(BACKEND.clone())).containsExactly(a);
+        Assertions.assertThat(MinHash.agreement(a, MinHash.signature(nearly)) / (double) MinHash.SIZE)
+                .isCloseTo(9.0 / 11, Assertions.within(0.2));
+        Assertions.assertThat(MinHash.skill(5)).isNotEqualTo(MinHash.interest(5));
+    }
+
+    @Test
+    @DisplayName("LSH - 거의 같은 프로필은 같은 버킷을 공유해 후보 1순위, 겹치지 않는 프로필은 후보가 아니다")
+    void t2() {
+        long[] nearly = BACKEND.clone();
+        nearly[9] = MinHash.word("kotlin");
+        long[] designer = {MinHash.skill(7), MinHash.interest(20), MinHash.word("figma")};
+
+        int[] sig = MinHash.signature(BACKEND);
+        int[] nearSig = MinHash.signature(nearly);
+        Assertions.assertThat(IntStream.range(0, MinHash.BANDS)
+                        .anyMatch(b -> MinHash.bandKey(sig, b) == MinHash.bandKey(nearSig, b)))
+                .isTrue();
+
+        LshTable table = new LshTable();
+        table.put(1L, nearSig);
+        table.put(2L, MinHash.signature(designer));
+
+        Assertions.assertThat(table.query(sig, 5)).containsExactly(1L);
+
+        // 같은 id 를 다른 서명으로 갱신하면 이전 버킷에서 빠진다
+        table.put(1L, MinHash.signature(designer));
+        Assertions.assertThat(table.query(sig, 5)).isEmpty();
+        Assertions.assertThat(table.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("프리랜서 LSH 색인 - 활성 프리랜서만 색인, 변경 이벤트로 바뀐 id 의 서명만 다시 계산")
+    void t3() {
+        SkillMatchRepository skillRepo = mock(SkillMatchRepository.class);
+        FreelancersSearchRepository freelancersSearchRepo = mock(FreelancersSearchRepository.class);
+
+        List<FreelancersSearch> rows = new ArrayList<>(List.of(
+                freelancer(1L, MemberStatus.ACTIVE, "backend spring"),
+                freelancer(2L, MemberStatus.ACTIVE, "designer"),
+                freelancer(3L, MemberStatus.INACTIVE, "backend spring")
+        ));
+        when(freelancersSearchRepo.findAll()).thenReturn(rows);
+        when(skillRepo.findAllFreelancerSkills()).thenReturn(pairs(1L, 1, 2, 3, 2L, 7, 8, 3L, 1, 2, 3));
+        when(skillRepo.findAllFreelancerInterests()).thenReturn(pairs(1L, 10, 2L, 20, 3L, 10));
+        when(skillRepo.findProjectSkills(any())).thenReturn(pairs(100L, 1, 2, 3));
+        when(skillRepo.findProjectInterests(any())).thenReturn(pairs(100L, 10));
+
+        // 스킬 매칭 색인이 꺼져 있으면 프로젝트 태그는 DB 에서 읽는다
+        FreelancerLshIndex index = new FreelancerLshIndex(skillRepo, freelancersSearchRepo, new SkillMatchIndex(skillRepo));
+        ReflectionTestUtils.setField(index, "enabled", true);
+        index.refresh();
+
+        ProjectsSearch project = project(100L, "backend spring");
+        Assertions.assertThat(index.nearFreelancers(project, 5)).containsExactly(1L);
+
+        // 2번이 백엔드 프로필로 바뀜
+        FreelancersSearch changed = freelancer(2L, MemberStatus.ACTIVE, "backend spring");
+        when(freelancersSearchRepo.findAllByFreelancerIdIn(any())).thenReturn(List.of(changed));
+        when(skillRepo.findFreelancerSkills(any())).thenReturn(pairs(2L, 1, 2, 3));
+        when(skillRepo.findFreelancerInterests(any())).thenReturn(pairs(2L, 10));
+
+        index.onSearchIndexChanged(new SearchIndexChangedEvent(SearchIndexTarget.FREELANCER, List.of(2L)));
+
+        Assertions.assertThat(index.nearFreelancers(project, 5)).containsExactly(1L, 2L);
+    }
+
+    private static FreelancersSearch freelancer(long id, MemberStatus status, String job) {
+        FreelancersSearch row = new FreelancersSearch();
+        ReflectionTestUtils.setField(row, "freelancerId", id);
+        ReflectionTestUtils.setField(row, "status", status);
+        ReflectionTestUtils.setField(row, "job", job);
+        return row;
+    }
+
+    private static ProjectsSearch project(long id, String title) {
+        ProjectsSearch row = new ProjectsSearch();
+        ReflectionTestUtils.setField(row, "projectId", id);
+        ReflectionTestUtils.setField(row, "title", title);
+        return row;
+    }
+
+    /** SkillMatchRepository 의 (대상 id, 태그 id) 쌍 – Long 은 대상 id, 뒤따르는 int 는 그 대상의 태그 id */
+    private static List<Object[]> pairs(Object... values) {
+        List<Object[]> pairs = new ArrayList<>();
+        Long owner = null;
+        for (Object value : values) {
+            if (value instanceof Long id) owner = id;
+            else pairs.add(new Object[]{owner, value});
+        }
+        return pairs;
+    }
+}
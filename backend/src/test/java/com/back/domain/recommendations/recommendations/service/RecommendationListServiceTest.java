@@ -0,0 +1,147 @@
+package com.back.domain.recommendations.recommendations.service;
+
+import com.back.domain.project.project.entity.ProjectSkill;
+import com.back.domain.project.project.repository.ProjectSkillRepository;
+import com.back.domain.recommendations.recommendations.constant.SearchIndexTarget;
+import com.back.domain.recommendations.recommendations.engine.SkillMatchIndex;
+import com.back.domain.recommendations.recommendations.entity.FreelancersSearch;
+import com.back.domain.recommendations.recommendations.entity.ProjectsSearch;
+import com.back.domain.recommendations.recommendations.event.SearchIndexChangedEvent;
+import com.back.domain.recommendations.recommendations.repository.FreelancersSearchRepository;
+import com.back.domain.recommendations.recommendations.repository.ProjectsSearchRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.transaction.AfterTransaction;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@Transactional
+public class RecommendationListServiceTest {
+
+    @Autowired
+    private RecommendationListService listService;
+
+    @Autowired
+    private SkillMatchIndex skillMatchIndex;
+
+    @Autowired
+    private FreelancersSearchRepository freelancersSearchRepo;
+
+    @Autowired
+    private ProjectsSearchRepository projectsSearchRepo;
+
+    @Autowired
+    private ProjectSkillRepository projectSkillRepository;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    // 스킬 삭제는 롤백되므로 메모리 색인도 DB 에 다시 맞춘다
+    @AfterTransaction
+    void restoreIndex() {
+        skillMatchIndex.reconcile();
+    }
+
+    @Test
+    @DisplayName("스킬이 겹치지 않는(텍스트만 일치할 수 있는) 후보가 바뀌어도 목록 세대가 바뀐다")
+    void t1() {
+        long freelancerId = freelancerWithSkills();
+        Set<Integer> subjectSkills = skillSet(skillMatchIndex.skillsOf(SearchIndexTarget.FREELANCER, freelancerId));
+        long projectId = projectWith(subjectSkills, false);
+
+        long before = freshGeneration(freelancerId);
+        listService.onSearchIndexChanged(new SearchIndexChangedEvent(SearchIndexTarget.PROJECT, List.of(projectId)));
+
+        assertThat(awaitGenerationChange(freelancerId, before)).isNotEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("후보에서 겹치던 스킬이 빠져도 목록 세대가 바뀐다")
+    void t2() {
+        long freelancerId = freelancerWithSkills();
+        Set<Integer> subjectSkills = skillSet(skillMatchIndex.skillsOf(SearchIndexTarget.FREELANCER, freelancerId));
+        long projectId = projectWith(subjectSkills, true);
+
+        long before = freshGeneration(freelancerId);
+
+        // 겹치는 스킬만 지운 뒤 색인 → 목록 순서로 변경 알림 (outbox 반영과 같은 순서)
+        List<ProjectSkill> shared = projectSkillRepository.findAllByProject_Id(projectId).stream()
+                .filter(ps -> subjectSkills.contains(ps.getProjectSkillId().getSkillId().intValue()))
+                .toList();
+        projectSkillRepository.deleteAll(shared);
+        projectSkillRepository.flush();
+
+        SearchIndexChangedEvent event = new SearchIndexChangedEvent(SearchIndexTarget.PROJECT, List.of(projectId));
+        skillMatchIndex.onSearchIndexChanged(event);
+        int[] remaining = skillMatchIndex.skillsOf(SearchIndexTarget.PROJECT, projectId);
+        assertThat(remaining == null ? new int[0] : remaining)
+                .noneMatch(subjectSkills::contains);
+
+        listService.onSearchIndexChanged(event);
+
+        assertThat(awaitGenerationChange(freelancerId, before)).isNotEqualTo(before);
+    }
+
+    private long freelancerWithSkills() {
+        return freelancersSearchRepo.findAll().stream()
+                .map(FreelancersSearch::getFreelancerId)
+                .filter(id -> {
+                    int[] skills = skillMatchIndex.skillsOf(SearchIndexTarget.FREELANCER, id);
+                    return skills != null && skills.length > 0;
+                })
+                .findFirst()
+                .orElseThrow();
+    }
+
+    /** 스킬이 있고 조건(전부 겹치지 않음 / 하나라도 겹침)에 맞는 프로젝트 */
+    private long projectWith(Set<Integer> subjectSkills, boolean sharing) {
+        return projectsSearchRepo.findAll().stream()
+                .map(ProjectsSearch::getProjectId)
+                .filter(id -> {
+                    int[] skills = skillMatchIndex.skillsOf(SearchIndexTarget.PROJECT, id);
+                    if (skills == null || skills.length == 0) return false;
+                    return sharing == Arrays.stream(skills).anyMatch(subjectSkills::contains);
+                })
+                .findFirst()
+                .orElseThrow();
+    }
+
+    // 캐시를 지우고 다시 계산해 현재 세대로 저장된 목록의 세대
+    private long freshGeneration(long freelancerId) {
+        redisTemplate.delete("RECOMMEND:PROJECTS_FOR:" + freelancerId);
+        return listService.projectsFor(freelancerId).generation();
+    }
+
+    // 세대가 지난 목록은 백그라운드에서 다시 계산되므로 바뀔 때까지 기다린다
+    private long awaitGenerationChange(long freelancerId, long before) {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (System.currentTimeMillis() < deadline) {
+            long generation = listService.projectsFor(freelancerId).generation();
+            if (generation != before) return generation;
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return fail("목록 세대가 바뀌지 않았습니다. before=" + before);
+    }
+
+    private static Set<Integer> skillSet(int[] skills) {
+        return Arrays.stream(skills).boxed().collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,82 @@
+package com.back.domain.recommendations.recommendations.service;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * H2 에는 CREATE TABLE LIKE / RENAME TABLE 이 없으므로 섀도 교체 대신
+ * 빈 라이브 테이블을 청크로 채우는 경로(최초 적재)를 검증한다.
+ * 청크 크기를 작게 두어 keyset 페이지가 여러 번 돌게 하고, 끝나면 롤백한다.
+ */
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "custom.searchIndex.outbox.fixedDelayMs=3600000",
+        "custom.searchIndex.rebuild.chunkSize=3",
+        "custom.searchIndex.rebuild.throttleMs=0"
+})
+public class SearchIndexRebuildServiceTest {
+
+    @Autowired
+    private SearchIndexRebuildService rebuildService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManager em;
+
+    @Test
+    @DisplayName("프로젝트 리빌드 후 검색 테이블 행이 원본 행과 같다")
+    void t1() {
+        transactionTemplate.executeWithoutResult(status -> {
+            em.createNativeQuery("DELETE FROM project_search").executeUpdate();
+
+            rebuildService.rebuildProjects();
+
+            assertThat(rows("SELECT project_id, title, summary, price, status FROM project_search ORDER BY project_id"))
+                    .isNotEmpty()
+                    .containsExactlyElementsOf(rows("SELECT id, title, summary, price, status FROM project ORDER BY id"));
+            status.setRollbackOnly();
+        });
+    }
+
+    @Test
+    @DisplayName("프리랜서 리빌드 후 검색 테이블 행이 원본 행과 같다")
+    void t2() {
+        transactionTemplate.executeWithoutResult(status -> {
+            em.createNativeQuery("DELETE FROM freelancer_search").executeUpdate();
+
+            rebuildService.rebuildFreelancers();
+
+            assertThat(rows("SELECT freelancer_id, name, job, status FROM freelancer_search ORDER BY freelancer_id"))
+                    .isNotEmpty()
+                    .containsExactlyElementsOf(rows("""
+                            SELECT f.member_id, m.name, f.job, m.status
+                            FROM freelancer f JOIN member m ON m.id = f.member_id
+                            ORDER BY f.member_id
+                            """));
+            status.setRollbackOnly();
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<Object>> rows(String sql) {
+        List<Object[]> rows = em.createNativeQuery(sql).getResultList();
+        return rows.stream().map(row -> Arrays.stream(row).map(this::normalize).toList()).toList();
+    }
+
+    // 숫자 컬럼은 테이블마다 타입(Long/Integer/BigDecimal)이 다를 수 있어 문자열로 비교
+    private Object normalize(Object value) {
+        return value instanceof Number number ? number.toString() : value;
+    }
+}
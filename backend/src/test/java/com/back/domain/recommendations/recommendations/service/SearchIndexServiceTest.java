@@ -0,0 +1,81 @@
+package com.back.domain.recommendations.recommendations.service;
+
+import com.back.domain.recommendations.recommendations.constant.SearchIndexTarget;
+import com.back.domain.recommendations.recommendations.repository.SearchIndexOutboxRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 주기 반영(worker)이 끼어들지 않게 사실상 끄고 drainOutbox 를 직접 호출한다
+@ActiveProfiles("test")
+@SpringBootTest(properties = "custom.searchIndex.outbox.fixedDelayMs=3600000")
+public class SearchIndexServiceTest {
+
+    @Autowired
+    private SearchIndexService searchIndexService;
+
+    @Autowired
+    private SearchIndexOutboxRepository outboxRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManager em;
+
+    @Test
+    @DisplayName("쓰기 트랜잭션이 롤백되면 outbox 행도 남지 않는다")
+    void t1() {
+        long projectId = number("SELECT MIN(id) FROM project");
+
+        transactionTemplate.executeWithoutResult(status -> {
+            searchIndexService.enqueueProject(projectId);
+            assertThat(pending(SearchIndexTarget.PROJECT, projectId)).isEqualTo(1);
+            status.setRollbackOnly();
+        });
+
+        assertThat(pending(SearchIndexTarget.PROJECT, projectId)).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 대상이 여러 번 쌓여도 반영 후 검색 테이블에는 대상당 한 행, outbox 는 비워진다")
+    void t2() {
+        long projectId = number("SELECT MIN(id) FROM project");
+        long freelancerId = number("SELECT MIN(member_id) FROM freelancer");
+
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < 3; i++) searchIndexService.enqueueProject(projectId);
+            for (int i = 0; i < 2; i++) searchIndexService.enqueueFreelancer(freelancerId);
+        });
+
+        int drained = searchIndexService.drainOutbox(500);
+
+        assertThat(drained).isGreaterThanOrEqualTo(5);
+        assertThat(pending(SearchIndexTarget.PROJECT, projectId)).isZero();
+        assertThat(pending(SearchIndexTarget.FREELANCER, freelancerId)).isZero();
+        assertThat(number("SELECT COUNT(*) FROM project_search WHERE project_id = " + projectId)).isEqualTo(1);
+        assertThat(number("SELECT COUNT(*) FROM freelancer_search WHERE freelancer_id = " + freelancerId)).isEqualTo(1);
+        assertThat(string("SELECT title FROM project_search WHERE project_id = " + projectId))
+                .isEqualTo(string("SELECT title FROM project WHERE id = " + projectId));
+    }
+
+    private long pending(SearchIndexTarget target, long targetId) {
+        return outboxRepository.findAll().stream()
+                .filter(row -> row.getTarget() == target && row.getTargetId() == targetId)
+                .count();
+    }
+
+    private long number(String sql) {
+        return ((Number) em.createNativeQuery(sql).getSingleResult()).longValue();
+    }
+
+    private String string(String sql) {
+        return (String) em.createNativeQuery(sql).getSingleResult();
+    }
+}
@@ -0,0 +1,71 @@
+package com.back.global.jwt;
+
+import io.jsonwebtoken.Claims;
+import java.util.Map;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class JwtProviderTest {
+
+    private static final String ACCESS_SECRET = "test-access-secret-key-test-access-secret-key-0123";
+    private static final String REFRESH_SECRET = "test-refresh-secret-key-test-refresh-secret-key-0123";
+
+    private static JwtProvider provider(long accessExpireSeconds, int cacheMaxSize) {
+        return new JwtProvider(ACCESS_SECRET, accessExpireSeconds, REFRESH_SECRET, 3600, cacheMaxSize, 60);
+    }
+
+    @Test
+    @DisplayName("같은 AccessToken 재검증 - 캐시된 Claims 반환, evict 후에는 다시 검증")
+    void t1() {
+        JwtProvider jwtProvider = provider(3600, 100);
+        String token = jwtProvider.genAccessToken(Map.of("id", 1, "name", "user1"));
+
+        Claims first = jwtProvider.getClaims(token, true);
+        Claims second = jwtProvider.getClaims(token, true);
+
+        Assertions.assertThat(first.get("name")).isEqualTo("user1");
+        Assertions.assertThat(second).isSameAs(first);
+
+        jwtProvider.evict(token);
+        Claims third = jwtProvider.getClaims(token, true);
+        Assertions.assertThat(third).isNotSameAs(first);
+        Assertions.assertThat(third.get("id", Integer.class)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("변조/만료/다른 키로 서명된 토큰은 캐시와 무관하게 null")
+    void t2() {
+        JwtProvider jwtProvider = provider(3600, 100);
+        String token = jwtProvider.genAccessToken(Map.of("id", 1));
+        Assertions.assertThat(jwtProvider.getClaims(token, true)).isNotNull();
+
+        int sig = token.lastIndexOf('.') + 1;
+        String tampered = token.substring(0, sig) + (token.charAt(sig) == 'A' ? 'B' : 'A') + token.substring(sig + 1);
+        Assertions.assertThat(jwtProvider.getClaims(tampered, true)).isNull();
+
+        String refreshToken = jwtProvider.genRefreshToken(Map.of("id", 1));
+        Assertions.assertThat(jwtProvider.getClaims(refreshToken, true)).isNull();
+        Assertions.assertThat(jwtProvider.getClaims(refreshToken, false)).isNotNull();
+
+        JwtProvider expiring = provider(-1, 100);
+        String expired = expiring.genAccessToken(Map.of("id", 1));
+        Assertions.assertThat(expiring.getClaims(expired, true)).isNull();
+        Assertions.assertThat(expiring.validateToken(expired, true)).isFalse();
+    }
+
+    @Test
+    @DisplayName("캐시 상한 - 가득 차면 저장하지 않고 검증만 한다")
+    void t3() {
+        VerifiedClaimsCache cache = new VerifiedClaimsCache(1, 60_000);
+        JwtProvider jwtProvider = provider(3600, 0);
+        String token1 = jwtProvider.genAccessToken(Map.of("id", 1));
+        String token2 = jwtProvider.genAccessToken(Map.of("id", 2));
+
+        cache.get(token1, () -> jwtProvider.getClaims(token1, true));
+        Claims claims2 = cache.get(token2, () -> jwtProvider.getClaims(token2, true));
+
+        Assertions.assertThat(claims2.get("id", Integer.class)).isEqualTo(2);
+        Assertions.assertThat(cache.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,38 @@
+package com.back.standard.bitmap;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class IdBitmapTest {
+
+    @Test
+    @DisplayName("배열 컨테이너 - 교집합 크기, 포함 여부, 정렬/중복 제거")
+    void t1() {
+        IdBitmap a = IdBitmap.of(3, 1, 2, 2, 70_000, 70_001);
+        IdBitmap b = IdBitmap.of(2, 3, 4, 70_001);
+
+        Assertions.assertThat(a.cardinality()).isEqualTo(5);
+        Assertions.assertThat(a.andCardinality(b)).isEqualTo(3);
+        Assertions.assertThat(a.contains(70_000)).isTrue();
+        Assertions.assertThat(a.contains(4)).isFalse();
+        Assertions.assertThat(a.toArray()).containsExactly(1, 2, 3, 70_000, 70_001);
+    }
+
+    @Test
+    @DisplayName("비트맵 컨테이너 - word AND popcount 및 배열과의 교집합")
+    void t2() {
+        int[] evens = new int[6000];
+        for (int i = 0; i < evens.length; i++) evens[i] = i * 2;
+        int[] triples = new int[5000];
+        for (int i = 0; i < triples.length; i++) triples[i] = i * 3;
+
+        IdBitmap even = IdBitmap.of(evens);
+        IdBitmap triple = IdBitmap.of(triples);
+
+        Assertions.assertThat(even.andCardinality(even)).isEqualTo(6000);
+        Assertions.assertThat(even.andCardinality(triple)).isEqualTo(2000);
+        Assertions.assertThat(even.andCardinality(IdBitmap.of(1, 2, 3, 4))).isEqualTo(2);
+        Assertions.assertThat(even.andCardinality(IdBitmap.EMPTY)).isZero();
+    }
+}
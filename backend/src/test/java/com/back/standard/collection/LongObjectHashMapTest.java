@@ -0,0 +1,32 @@
+package com.back.standard.collection;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class LongObjectHashMapTest {
+
+    @Test
+    @DisplayName("put/get - 덮어쓰기, 없는 키는 null, 확장 후에도 모든 키 유지")
+    void t1() {
+        LongObjectHashMap<String> map = new LongObjectHashMap<>(2);
+        for (long key = 1; key <= 1000; key++) map.put(key, "v" + key);
+
+        Assertions.assertThat(map.size()).isEqualTo(1000);
+        Assertions.assertThat(map.get(777L)).isEqualTo("v777");
+        Assertions.assertThat(map.put(777L, "x")).isEqualTo("v777");
+        Assertions.assertThat(map.get(777L)).isEqualTo("x");
+        Assertions.assertThat(map.get(1001L)).isNull();
+        Assertions.assertThat(map.computeIfAbsent(5000L, k -> "new")).isEqualTo("new");
+        Assertions.assertThat(map.size()).isEqualTo(1001);
+    }
+
+    @Test
+    @DisplayName("키 0 은 빈 칸 표시라 넣을 수 없다")
+    void t2() {
+        LongObjectHashMap<String> map = new LongObjectHashMap<>();
+
+        Assertions.assertThat(map.get(0L)).isNull();
+        Assertions.assertThatThrownBy(() -> map.put(0L, "x")).isInstanceOf(IllegalArgumentException.class);
+    }
+}